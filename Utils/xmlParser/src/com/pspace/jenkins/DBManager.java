@@ -33,11 +33,25 @@ public class DBManager {
 				+ "system_out longtext DEFAULT NULL,"
 				+ "system_err longtext DEFAULT NULL,"
 				+ "times float NOT NULL,"
+				+ "requests bigint DEFAULT NULL,"
+				+ "bytes_sent bigint DEFAULT NULL,"
+				+ "bytes_received bigint DEFAULT NULL,"
+				+ "connections int(11) DEFAULT NULL,"
+				+ "tls_handshakes int(11) DEFAULT NULL,"
 				+ "PRIMARY KEY (id)"
 				+ ")";
-		
+
+		// 자원 사용량 컬럼이 없던 기존 테이블에 추가
+		var alterTableQuery = "ALTER TABLE `" + tableName + "`"
+				+ " ADD COLUMN IF NOT EXISTS requests bigint DEFAULT NULL,"
+				+ " ADD COLUMN IF NOT EXISTS bytes_sent bigint DEFAULT NULL,"
+				+ " ADD COLUMN IF NOT EXISTS bytes_received bigint DEFAULT NULL,"
+				+ " ADD COLUMN IF NOT EXISTS connections int(11) DEFAULT NULL,"
+				+ " ADD COLUMN IF NOT EXISTS tls_handshakes int(11) DEFAULT NULL";
+
 		try (var stmt = connection.createStatement()) {
 			stmt.execute(createTableQuery);
+			stmt.execute(alterTableQuery);
 			return true;
 		}
 	}
@@ -78,8 +92,9 @@ public class DBManager {
 
 			// Insert test details
 			var detailQuery = "INSERT INTO `" + tableName
-					+ "` (build_id, class_name, case_name, result, error_type, message, content, system_out, system_err, times)"
-					+ " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+					+ "` (build_id, class_name, case_name, result, error_type, message, content, system_out, system_err, times,"
+					+ " requests, bytes_sent, bytes_received, connections, tls_handshakes)"
+					+ " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
 			try (var stmt = connection.prepareStatement(detailQuery)) {
 				// Set loop-invariant values
@@ -95,6 +110,11 @@ public class DBManager {
 					stmt.setString(8, testCase.getSystemOut());
 					stmt.setString(9, testCase.getSystemErr());
 					stmt.setFloat(10, testCase.getTimeAsFloat());
+					setLong(stmt, 11, testCase.getRequests());
+					setLong(stmt, 12, testCase.getBytesSent());
+					setLong(stmt, 13, testCase.getBytesReceived());
+					setLong(stmt, 14, testCase.getConnections());
+					setLong(stmt, 15, testCase.getTlsHandshakes());
 					stmt.addBatch();
 				}
 				stmt.executeBatch();
@@ -106,4 +126,11 @@ public class DBManager {
 			return false;
 		}
 	}
+
+	private static void setLong(PreparedStatement stmt, int index, Long value) throws SQLException {
+		if (value == null)
+			stmt.setNull(index, Types.BIGINT);
+		else
+			stmt.setLong(index, value);
+	}
 }
\ No newline at end of file
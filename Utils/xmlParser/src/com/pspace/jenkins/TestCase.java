@@ -29,6 +29,9 @@ public class TestCase {
 	@XmlElement(name = "system-err")
 	private String systemErr;
 
+	@XmlElement(name = "properties")
+	private Properties properties;
+
 	// DB 저장을 위한 메서드들
 	public String getResult() {
 		if (error != null) return "error";
@@ -54,4 +57,40 @@ public class TestCase {
 	public float getTimeAsFloat() {
 		return (float) time;
 	}
+
+	// 테스트별 자원 사용량 (java 테스트의 s3tests.* 속성). 없으면 null
+	public Long getRequests() {
+		return getPropertyAsLong("s3tests.requests");
+	}
+
+	public Long getBytesSent() {
+		return getPropertyAsLong("s3tests.bytes.sent");
+	}
+
+	public Long getBytesReceived() {
+		return getPropertyAsLong("s3tests.bytes.received");
+	}
+
+	public Long getConnections() {
+		return getPropertyAsLong("s3tests.connections");
+	}
+
+	public Long getTlsHandshakes() {
+		return getPropertyAsLong("s3tests.tls.handshakes");
+	}
+
+	private Long getPropertyAsLong(String name) {
+		if (properties == null || properties.getProperties() == null)
+			return null;
+		for (Property prop : properties.getProperties()) {
+			if (name.equals(prop.getName())) {
+				try {
+					return Long.parseLong(prop.getValue().trim());
+				} catch (NumberFormatException | NullPointerException e) {
+					return null;
+				}
+			}
+		}
+		return null;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+#!/bin/bash
+
+if [ -z "$1" ]; then
+	echo "Usage: merge-shards.sh <result-dir>"
+	echo "  ./merge-shards.sh ./shards"
+	exit 1
+fi
+
+cd "$(dirname "$0")" || exit 1
+
+RESULT_DIR="$1"
+if ! ls "$RESULT_DIR"/*.xml > /dev/null 2>&1; then
+	echo "No results found: $RESULT_DIR"
+	exit 1
+fi
+
+python ../scripts/merge_junit_results.py "$RESULT_DIR"/*.xml > ../xunit-to-html/Result_java.xml || exit 1
+cd ../xunit-to-html || exit 1
+java -jar saxon9he.jar -o:Result_java.html -s:Result_java.xml -xsl:xunit_to_html.xsl
+exit $?
@@ -0,0 +1,58 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.Data.AES256;
+import org.example.Utility.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * CSE 테스트의 클라이언트 측 암복호화 비용. 키 유도(PBKDF2)가 대부분을 차지한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AES256Benchmark {
+	private static final String KEY = "aes256-bench-key";
+
+	private String plain;
+	private String encrypted;
+
+	@Setup
+	public void setup() throws Exception {
+		plain = Utils.randomTextToLong(1024);
+		encrypted = AES256.encrypt(plain, KEY);
+	}
+
+	@Benchmark
+	public String encrypt() throws Exception {
+		return AES256.encrypt(plain, KEY);
+	}
+
+	@Benchmark
+	public String decrypt() throws Exception {
+		return AES256.decrypt(encrypted, KEY);
+	}
+}
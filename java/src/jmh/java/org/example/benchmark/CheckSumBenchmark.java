@@ -0,0 +1,65 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.Utility.CheckSum;
+import org.example.Utility.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+/**
+ * 알고리즘별 체크섬 계산 처리량. 알고리즘 목록은 {@link CheckSum#ALL_ALGORITHMS}와 같다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckSumBenchmark {
+
+	@Param({ "CRC32", "CRC32_C", "CRC64_NVME", "SHA1", "SHA256", "MD5", "SHA512", "XXHASH64", "XXHASH3",
+			"XXHASH128" })
+	public String algorithm;
+
+	/** 본문 크기 (1KB, 1MB) */
+	@Param({ "1024", "1048576" })
+	public int size;
+
+	private ChecksumAlgorithm type;
+	private String content;
+
+	@Setup
+	public void setup() {
+		type = ChecksumAlgorithm.valueOf(algorithm);
+		if (!CheckSum.ALL_ALGORITHMS.contains(type))
+			throw new IllegalArgumentException("Not in CheckSum.ALL_ALGORITHMS : " + algorithm);
+		content = Utils.randomTextToLong(size);
+	}
+
+	@Benchmark
+	public String calculateChecksum() {
+		return CheckSum.calculateChecksum(type, content);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.example.Utility.CrcCombine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+/**
+ * CRC 결합 비용. FULL_OBJECT 체크섬 검증 시 파트 수만큼 호출된다. (combineAll은 10,000개 파트를 한 번에 결합)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrcCombineBenchmark {
+
+	@Param({ "CRC32", "CRC32_C", "CRC64_NVME" })
+	public String algorithm;
+
+	/** 두 번째 블록의 길이 (기본 파트 크기 5MB) */
+	@Param({ "5242880" })
+	public long partSize;
+
+	private ChecksumAlgorithm type;
+	private long crc1;
+	private long crc2;
+	private byte[] bytes1;
+	private byte[] bytes2;
+	private long[] partCrcs;
+	private long[] partLengths;
+
+	@Setup
+	public void setup() {
+		type = ChecksumAlgorithm.valueOf(algorithm);
+		crc1 = 0x1234_5678_9ABC_DEF0L;
+		crc2 = 0x0FED_CBA9_8765_4321L;
+		if (type == ChecksumAlgorithm.CRC64_NVME) {
+			bytes1 = CrcCombine.longToByte(crc1);
+			bytes2 = CrcCombine.longToByte(crc2);
+		} else {
+			crc1 &= 0xFFFF_FFFFL;
+			crc2 &= 0xFFFF_FFFFL;
+			bytes1 = CrcCombine.getChecksumBytes(crc1);
+			bytes2 = CrcCombine.getChecksumBytes(crc2);
+		}
+
+		// 최대 파트 수(10,000)의 멀티파트 업로드, 마지막 파트만 작음
+		var random = new Random(0);
+		partCrcs = new long[10_000];
+		partLengths = new long[partCrcs.length];
+		for (int i = 0; i < partCrcs.length; i++) {
+			partCrcs[i] = type == ChecksumAlgorithm.CRC64_NVME ? random.nextLong() : random.nextInt() & 0xFFFF_FFFFL;
+			partLengths[i] = partSize;
+		}
+		partLengths[partLengths.length - 1] = partSize / 3;
+	}
+
+	@Benchmark
+	public byte[] combineBytes() {
+		return CrcCombine.combinebytes(bytes1, bytes2, partSize, type);
+	}
+
+	@Benchmark
+	public byte[] combineLongs() {
+		return CrcCombine.combinebytes(crc1, crc2, partSize, type);
+	}
+
+	@Benchmark
+	public long combineAll() {
+		return CrcCombine.combineAll(partCrcs, partLengths, type);
+	}
+
+	@Benchmark
+	public long crc64combine() {
+		return CrcCombine.crc64combine(crc1, crc2, partSize);
+	}
+}
@@ -0,0 +1,62 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.example.Utility.NetUtils;
+import org.example.Utility.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 테스트 데이터 생성과 URL 인코딩 비용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilsBenchmark {
+	private static final String PATH = "/bench-bucket/dir 1/sub+dir/한글 키/object~name.txt";
+
+	/** URL 인코딩 벤치마크에는 크기가 의미 없으므로 생성 길이는 별도 State로 둔다 */
+	@State(Scope.Thread)
+	public static class Text {
+		/** 생성할 문자열 길이 (1KB, 1MB) */
+		@Param({ "1024", "1048576" })
+		public int size;
+	}
+
+	@Benchmark
+	public String randomTextToLong(Text text) {
+		return Utils.randomTextToLong(text.size);
+	}
+
+	@Benchmark
+	public String urlEncodePath() {
+		return NetUtils.urlEncode(PATH, true);
+	}
+
+	@Benchmark
+	public String urlEncodeQuery() {
+		return NetUtils.urlEncode(PATH, false);
+	}
+}
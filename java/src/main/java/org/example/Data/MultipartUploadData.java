@@ -19,6 +19,8 @@ public class MultipartUploadData {
 	public String uploadId;
 	public List<PartETag> parts;
 	public StringBuilder body;
+	/** {@link #appendPart(long)}로 추가한 파트 정보 */
+	public final PayloadParts payloadParts = new PayloadParts();
 
 	public MultipartUploadData() {
 		uploadId = "";
@@ -30,7 +32,12 @@ public class MultipartUploadData {
 		return parts.size() + 1;
 	}
 
+	/**
+	 * 업로드한 전체 내용. 파트 정보만 기록한 경우 생성기로 다시 만든다.
+	 */
 	public String getBody() {
+		if (isTracking())
+			return payloadParts.getPayload().getString();
 		return body.toString();
 	}
 
@@ -43,6 +50,31 @@ public class MultipartUploadData {
 	}
 
 	public void appendBody(String data) {
+		// 파트 정보만 기록하던 중이면 지금까지의 내용을 먼저 옮겨 둔다
+		if (isTracking())
+			body.append(payloadParts.getPayload().getString());
 		body.append(data);
 	}
+
+	/**
+	 * 내용을 보관하지 않고 파트 정보만 기록하는 상태인지 여부.
+	 * {@link #appendPart(long)}로만 파트를 추가한 경우 true
+	 */
+	public boolean isTracking() {
+		return body.isEmpty() && !payloadParts.isEmpty();
+	}
+
+	/**
+	 * 생성기로 만든 다음 파트를 추가한다. 파트 내용은 보관하지 않는다.
+	 *
+	 * @param length 파트 크기
+	 * @return 파트 정보. 업로드 본문은 {@code payload()}로 생성한다.
+	 */
+	public PartDescriptor appendPart(long length) {
+		var part = payloadParts.append(length);
+		// 이미 문자열로 보관 중이면 그대로 이어서 보관
+		if (!body.isEmpty())
+			body.append(part.payload().getString());
+		return part;
+	}
 }
\ No newline at end of file
@@ -12,8 +12,10 @@ package org.example.Data;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.example.Utility.CheckSum;
+import org.example.Utility.ContentVerifier.Expected;
 
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
@@ -25,6 +27,8 @@ public class MultipartUploadV2Data {
 	public String uploadId;
 	public List<CompletedPart> parts;
 	public StringBuilder body;
+	/** {@link #appendPart(long)}로 추가한 파트 정보 */
+	public final PayloadParts payloadParts = new PayloadParts();
 	public int partSize;
 
 	public MultipartUploadV2Data() {
@@ -38,10 +42,31 @@ public class MultipartUploadV2Data {
 		return parts.size() + 1;
 	}
 
+	/**
+	 * 업로드한 전체 내용. 파트 정보만 기록한 경우 생성기로 다시 만든다.
+	 */
 	public String getBody() {
+		if (isTracking())
+			return payloadParts.getPayload().getString();
 		return body.toString();
 	}
 
+	/**
+	 * 업로드한 전체 내용을 알고 있는지 여부. UploadPartCopy로만 파트를 만든 경우 false
+	 */
+	public boolean hasBody() {
+		return isTracking() || !body.isEmpty();
+	}
+
+	/**
+	 * 업로드한 전체 내용의 기대값. 파트 정보만 기록한 경우 문자열로 만들지 않고 생성기로 읽는다.
+	 */
+	public Expected getExpected() {
+		if (isTracking())
+			return Expected.of(payloadParts.getPayload());
+		return Expected.of(body.toString());
+	}
+
 	public void addPart(int partNumber, String eTag) {
 		parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
 	}
@@ -50,6 +75,18 @@ public class MultipartUploadV2Data {
 		addPart(algorithm, response.eTag(), CheckSum.getChecksum(response, algorithm));
 	}
 
+	public void addPart(int partNumber, ChecksumAlgorithm algorithm, UploadPartResponse response) {
+		var builder = CompletedPart.builder().partNumber(partNumber).eTag(response.eTag());
+		CheckSum.setChecksum(builder, algorithm, CheckSum.getChecksum(response, algorithm));
+		parts.add(builder.build());
+	}
+
+	public void addPart(int partNumber, ChecksumAlgorithm algorithm, UploadPartCopyResponse response) {
+		var builder = CompletedPart.builder().partNumber(partNumber).eTag(response.copyPartResult().eTag());
+		CheckSum.setChecksum(builder, algorithm, CheckSum.getChecksum(response.copyPartResult(), algorithm));
+		parts.add(builder.build());
+	}
+
 	public void addPart(ChecksumAlgorithm algorithm, UploadPartCopyResponse response) {
 		addPart(algorithm, response.copyPartResult().eTag(),
 				CheckSum.getChecksum(response.copyPartResult(), algorithm));
@@ -66,9 +103,55 @@ public class MultipartUploadV2Data {
 	}
 
 	public void appendBody(String data) {
+		// 파트 정보만 기록하던 중이면 지금까지의 내용을 먼저 옮겨 둔다
+		if (isTracking())
+			body.append(payloadParts.getPayload().getString());
 		body.append(data);
 	}
 
+	/**
+	 * 내용을 보관하지 않고 파트 정보만 기록하는 상태인지 여부.
+	 * {@link #appendPart(long)}로만 파트를 추가한 경우 true
+	 */
+	public boolean isTracking() {
+		return body.isEmpty() && !payloadParts.isEmpty();
+	}
+
+	/**
+	 * 생성기로 만든 다음 파트를 추가한다. 파트 내용은 보관하지 않는다.
+	 *
+	 * @param length 파트 크기
+	 * @return 파트 정보. 업로드 본문은 {@code payload()}로 생성한다.
+	 */
+	public PartDescriptor appendPart(long length) {
+		var part = payloadParts.append(length);
+		// 이미 문자열로 보관 중이면 그대로 이어서 보관
+		if (!body.isEmpty())
+			body.append(part.payload().getString());
+		return part;
+	}
+
+	/**
+	 * 파트별 크기. 파트 정보를 기록한 경우 기록한 크기를, 아니면 마지막 파트만 남은 크기인
+	 * partSize 단위 파트로 본다. (FULL_OBJECT 체크섬 결합에 사용)
+	 */
+	public long[] getPartLengths() {
+		var lengths = new long[parts.size()];
+		if (isTracking() && payloadParts.getParts().size() == lengths.length) {
+			for (int i = 0; i < lengths.length; i++)
+				lengths[i] = payloadParts.getParts().get(i).length();
+			return lengths;
+		}
+
+		Arrays.fill(lengths, partSize);
+		if (lengths.length > 0) {
+			var last = body.length() - (long) partSize * (lengths.length - 1);
+			if (last > 0 && last < partSize)
+				lengths[lengths.length - 1] = last;
+		}
+		return lengths;
+	}
+
 	public CompletedMultipartUpload completedMultipartUpload() {
 		return CompletedMultipartUpload.builder().parts(parts).build();
 	}
@@ -0,0 +1,30 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Data;
+
+import org.example.Utility.RandomPayload;
+
+/**
+ * 업로드한 파트 하나의 정보. 내용 대신 생성 정보와 체크섬만 보관한다.
+ *
+ * @param partNumber 파트 번호
+ * @param offset     오브젝트 안에서의 시작 위치
+ * @param payload    파트 내용을 생성하는 데이터 (seed, 위치, 길이)
+ * @param md5        파트 MD5 (Base64)
+ * @param crc32      파트 CRC32
+ */
+public record PartDescriptor(int partNumber, long offset, RandomPayload payload, String md5, long crc32) {
+
+	/** 파트 길이 */
+	public long length() {
+		return payload.getLength();
+	}
+}
@@ -0,0 +1,117 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Data;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+import org.example.Utility.RandomPayload;
+
+/**
+ * 하나의 seed로 생성한 데이터를 순서대로 잘라 업로드한 파트 목록.
+ * <p>
+ * 파트 내용은 보관하지 않고 파트별 정보({@link PartDescriptor})와 오브젝트 전체의 MD5/CRC32만 누적하므로,
+ * 오브젝트 크기와 관계없이 일정한 메모리만 사용한다.
+ */
+public class PayloadParts {
+	private final RandomPayload source;
+	private final List<PartDescriptor> parts = new ArrayList<>();
+	private final MessageDigest md5;
+	private final CRC32 crc32 = new CRC32();
+	private long size;
+
+	public PayloadParts() {
+		this(ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * @param seed 내용을 결정하는 값
+	 */
+	public PayloadParts(long seed) {
+		source = new RandomPayload(seed, Long.MAX_VALUE);
+		md5 = newMD5();
+	}
+
+	/**
+	 * 다음 파트를 추가한다. 파트 번호는 1부터 순서대로 붙는다.
+	 *
+	 * @param length 파트 크기
+	 * @return 추가한 파트 정보. 업로드 본문은 {@code payload()}로 생성한다.
+	 */
+	public synchronized PartDescriptor append(long length) {
+		var payload = source.slice(size, length);
+		var partMd5 = newMD5();
+		var partCrc = new CRC32();
+
+		var buffer = new byte[(int) Math.min(RandomPayload.CHUNK_SIZE, Math.max(length, 1))];
+		for (long position = 0; position < length; position += buffer.length) {
+			var len = (int) Math.min(buffer.length, length - position);
+			payload.read(position, buffer, 0, len);
+			partMd5.update(buffer, 0, len);
+			partCrc.update(buffer, 0, len);
+			md5.update(buffer, 0, len);
+			crc32.update(buffer, 0, len);
+		}
+
+		var part = new PartDescriptor(parts.size() + 1, size, payload,
+				Base64.getEncoder().encodeToString(partMd5.digest()), partCrc.getValue());
+		parts.add(part);
+		size += length;
+		return part;
+	}
+
+	public boolean isEmpty() {
+		return parts.isEmpty();
+	}
+
+	/** 추가한 파트 목록 */
+	public List<PartDescriptor> getParts() {
+		return Collections.unmodifiableList(parts);
+	}
+
+	/** 지금까지 추가한 파트 전체 크기 */
+	public long getSize() {
+		return size;
+	}
+
+	/** 지금까지 추가한 파트 전체의 내용 */
+	public RandomPayload getPayload() {
+		return source.slice(0, size);
+	}
+
+	/** 지금까지 추가한 파트 전체의 MD5 (Base64) */
+	public synchronized String getMD5() {
+		try {
+			return Base64.getEncoder().encodeToString(((MessageDigest) md5.clone()).digest());
+		} catch (CloneNotSupportedException e) {
+			return getPayload().getMD5();
+		}
+	}
+
+	/** 지금까지 추가한 파트 전체의 CRC32 */
+	public synchronized long getCrc32() {
+		return crc32.getValue();
+	}
+
+	private static MessageDigest newMD5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
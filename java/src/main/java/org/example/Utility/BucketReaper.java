@@ -0,0 +1,132 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 테스트가 끝난 버킷을 백그라운드에서 정리하는 서비스.
+ * <p>
+ * {@code @AfterEach}는 버킷을 넣기만 하고 바로 끝나며, 정리는 {@link Teardown#BUCKETS}개의 작업 스레드가
+ * 다음 테스트와 동시에 진행한다. 테스트 실행이 끝나면 {@link #awaitIdle()}로 남은 버킷이 모두
+ * 정리될 때까지 기다린다. {@value #PROPERTY_ASYNC}=false이면 기존처럼 그 자리에서 정리한다.
+ */
+public final class BucketReaper {
+	/** 백그라운드 정리 사용 여부 속성 */
+	public static final String PROPERTY_ASYNC = "s3tests.teardown.async";
+	/** 정리 대기 중 진행 상황을 출력하는 간격 (초) */
+	static final int PROGRESS_INTERVAL = 30;
+
+	private static final BucketReaper instance = new BucketReaper();
+
+	private final boolean async = !"false".equalsIgnoreCase(System.getProperty(PROPERTY_ASYNC, "true").trim());
+	/** 정리를 기다리거나 정리 중인 버킷 */
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final LongAdder cleared = new LongAdder();
+	private final LongAdder clearTime = new LongAdder();
+	private final Object lock = new Object();
+	private final AtomicInteger threadCount = new AtomicInteger();
+	private final ExecutorService executor = Executors.newFixedThreadPool(Teardown.BUCKETS, runnable -> {
+		var thread = new Thread(runnable, "bucket-reaper-" + threadCount.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private BucketReaper() {
+	}
+
+	public static BucketReaper getInstance() {
+		return instance;
+	}
+
+	public boolean isAsync() {
+		return async;
+	}
+
+	/**
+	 * 버킷 정리를 예약한다. 백그라운드 정리를 사용하지 않으면 모두 정리한 뒤 반환한다.
+	 *
+	 * @param bucketNames 정리할 버킷 목록
+	 * @param cleaner     버킷 하나를 정리하고 삭제하는 함수
+	 */
+	public void enqueue(Collection<String> bucketNames, Consumer<String> cleaner) {
+		if (!async) {
+			Teardown.forEach(bucketNames, Teardown.BUCKETS, bucketName -> clear(bucketName, cleaner));
+			return;
+		}
+		for (var bucketName : bucketNames)
+			if (pending.add(bucketName))
+				executor.execute(() -> clear(bucketName, cleaner));
+	}
+
+	private void clear(String bucketName, Consumer<String> cleaner) {
+		var start = System.nanoTime();
+		try {
+			cleaner.accept(bucketName);
+		} catch (RuntimeException e) {
+			System.out.printf("Error : Bucket(%s) Clear Failed(%s)%n", bucketName, e);
+		} finally {
+			clearTime.add(System.nanoTime() - start);
+			cleared.increment();
+			synchronized (lock) {
+				pending.remove(bucketName);
+				lock.notifyAll();
+			}
+		}
+	}
+
+	/** 정리를 기다리거나 정리 중인 버킷 수 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * 예약된 버킷이 모두 정리될 때까지 기다린다.
+	 */
+	public void awaitIdle() {
+		synchronized (lock) {
+			if (pending.isEmpty())
+				return;
+			System.out.printf("Bucket Reaper : waiting for %d buckets%n", pending.size());
+			var next = System.nanoTime() + TimeUnit.SECONDS.toNanos(PROGRESS_INTERVAL);
+			while (!pending.isEmpty()) {
+				try {
+					lock.wait(TimeUnit.SECONDS.toMillis(1));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				if (System.nanoTime() > next && !pending.isEmpty()) {
+					System.out.printf("Bucket Reaper : %d buckets left%n", pending.size());
+					next = System.nanoTime() + TimeUnit.SECONDS.toNanos(PROGRESS_INTERVAL);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 정리 통계
+	 */
+	public String report() {
+		var count = cleared.sum();
+		return String.format("Bucket Reaper : %d buckets cleared (%s, %.1fs total, %.0fms avg)%n", count,
+				async ? "background" : "inline", clearTime.sum() / 1e9,
+				count == 0 ? 0.0 : clearTime.sum() / 1e6 / count);
+	}
+}
@@ -1,11 +1,13 @@
 package org.example.Utility;
 
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
-import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
@@ -52,6 +54,14 @@ public class CheckSum {
 			ChecksumAlgorithm.XXHASH3,
 			ChecksumAlgorithm.XXHASH128);
 
+	private static final String ALGORITHM_MEMBER = "ChecksumAlgorithm";
+
+	/**
+	 * SDK 클래스별 체크섬 필드 목록. 클래스마다 처음 사용할 때 한 번 만들어 모든 스레드가 공유한다.
+	 * 같은 클래스의 인스턴스는 sdkFields()가 같으므로 (클래스, 알고리즘)으로 필드가 정해진다.
+	 */
+	private static final Map<Class<?>, ChecksumFields> CHECKSUM_FIELDS = new ConcurrentHashMap<>();
+
 	/**
 	 * 문자열에 대한 체크섬 계산
 	 */
@@ -70,20 +80,18 @@ public class CheckSum {
 	 * 문자열에 대한 체크섬 bytes 반환
 	 */
 	public static byte[] calculateChecksumBytes(ChecksumAlgorithm algorithm, String content) {
-		SdkChecksum hasher = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.fromValue(algorithm.toString()));
-		hasher.update(content.getBytes(StandardCharsets.UTF_8));
-		return hasher.getChecksumBytes();
+		return MultiChecksum.of(algorithm).update(content).getBytes(algorithm);
 	}
 
 	/**
 	 * List<byte[]>에 대한 체크섬 bytes 반환
 	 */
 	public static byte[] calculateChecksumBytes(ChecksumAlgorithm algorithm, List<byte[]> contents) {
-		SdkChecksum hasher = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.fromValue(algorithm.toString()));
+		var checksum = MultiChecksum.of(algorithm);
 		for (byte[] content : contents) {
-			hasher.update(content);
+			checksum.update(content);
 		}
-		return hasher.getChecksumBytes();
+		return checksum.getBytes(algorithm);
 	}
 
 	/**
@@ -97,13 +105,22 @@ public class CheckSum {
 	 * List<String>에 대한 체크섬 계산
 	 */
 	public static String combineChecksumByBase64(ChecksumAlgorithm algorithm, long partSize, List<String> contents) {
-		byte[] crc1 = Base64.getDecoder().decode(contents.get(0));
+		var partLengths = new long[contents.size()];
+		Arrays.fill(partLengths, partSize);
+		return combineChecksumByBase64(algorithm, partLengths, contents);
+	}
 
-		for (var index = 1; index < contents.size(); index++) {
-			byte[] crc2 = Base64.getDecoder().decode(contents.get(index));
-			crc1 = CrcCombine.combinebytes(crc1, crc2, partSize, algorithm);
+	/**
+	 * 파트별 CRC 체크섬(Base64)을 FULL_OBJECT 체크섬으로 결합. 파트 크기가 서로 달라도 된다.
+	 */
+	public static String combineChecksumByBase64(ChecksumAlgorithm algorithm, long[] partLengths,
+			List<String> contents) {
+		var crcs = new long[contents.size()];
+		for (var index = 0; index < crcs.length; index++) {
+			crcs[index] = CrcCombine.fromChecksumBytes(Base64.getDecoder().decode(contents.get(index)), algorithm);
 		}
-		return Base64.getEncoder().encodeToString(crc1);
+		var combined = CrcCombine.combineAll(crcs, partLengths, algorithm);
+		return Base64.getEncoder().encodeToString(CrcCombine.toChecksumBytes(combined, algorithm));
 	}
 
 	/**
@@ -132,21 +149,29 @@ public class CheckSum {
 		if (algorithm == ChecksumAlgorithm.MD5) {
 			setChecksum(builder, algorithm, calculateChecksum(algorithm, content));
 		} else {
-			findField(builder, "ChecksumAlgorithm").set(builder, algorithm.toString());
+			algorithmField(builder).set(builder, algorithm.toString());
 		}
 	}
 
 	private static SdkField<?> checksumField(SdkPojo pojo, ChecksumAlgorithm algorithm) {
-		return findField(pojo, "Checksum" + algorithm);
+		var field = fieldsOf(pojo).checksums.get(algorithm);
+		if (field == null)
+			throw new IllegalArgumentException("Field not found: Checksum" + algorithm);
+		return field;
 	}
 
-	private static SdkField<?> findField(SdkPojo pojo, String memberName) {
-		for (SdkField<?> field : pojo.sdkFields()) {
-			if (field.memberName().equals(memberName)) {
-				return field;
-			}
-		}
-		throw new IllegalArgumentException("Field not found: " + memberName);
+	private static SdkField<?> algorithmField(SdkPojo pojo) {
+		var field = fieldsOf(pojo).algorithm;
+		if (field == null)
+			throw new IllegalArgumentException("Field not found: " + ALGORITHM_MEMBER);
+		return field;
+	}
+
+	private static ChecksumFields fieldsOf(SdkPojo pojo) {
+		var fields = CHECKSUM_FIELDS.get(pojo.getClass());
+		if (fields == null)
+			fields = CHECKSUM_FIELDS.computeIfAbsent(pojo.getClass(), k -> new ChecksumFields(pojo));
+		return fields;
 	}
 
 	/**
@@ -183,4 +208,24 @@ public class CheckSum {
 	public static String sha256(List<byte[]> contents) {
 		return calculateChecksum(ChecksumAlgorithm.SHA256, contents);
 	}
+
+	private static final class ChecksumFields {
+		/** ChecksumAlgorithm 필드. 없으면 null */
+		final SdkField<?> algorithm;
+		/** 알고리즘별 Checksum{알고리즘} 필드 */
+		final Map<ChecksumAlgorithm, SdkField<?>> checksums = new EnumMap<>(ChecksumAlgorithm.class);
+
+		ChecksumFields(SdkPojo pojo) {
+			var byName = new HashMap<String, SdkField<?>>();
+			for (SdkField<?> field : pojo.sdkFields()) {
+				byName.put(field.memberName(), field);
+			}
+			algorithm = byName.get(ALGORITHM_MEMBER);
+			for (var checksumAlgorithm : ChecksumAlgorithm.knownValues()) {
+				var field = byName.get("Checksum" + checksumAlgorithm);
+				if (field != null)
+					checksums.put(checksumAlgorithm, field);
+			}
+		}
+	}
 }
@@ -0,0 +1,235 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.example.Data.UserData;
+
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+
+/**
+ * 테스트 전체에서 공유하는 S3 클라이언트 저장소.
+ * <p>
+ * 같은 설정(보안 연결, 사용자, chunked 인코딩, 체크섬 모드 등)으로 요청된 클라이언트는
+ * 한 번만 생성하여 커넥션 풀을 공유하고, JVM 종료 시 일괄로 닫는다.
+ */
+public final class ClientRegistry {
+	/** 클라이언트 하나가 유지하는 최대 커넥션 수 */
+	public static final int MAX_CONNECTIONS = 128;
+	/** 커넥션/소켓 타임아웃 */
+	public static final Duration TIMEOUT = Duration.ofSeconds(300);
+	/** 유휴 커넥션 유지 시간 */
+	public static final Duration MAX_IDLE_TIME = Duration.ofSeconds(60);
+
+	private static final Map<ClientKey, Entry<?>> clients = new ConcurrentHashMap<>();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(ClientRegistry::closeAll, "client-registry-shutdown"));
+	}
+
+	private ClientRegistry() {
+	}
+
+	/**
+	 * 클라이언트 식별 키
+	 *
+	 * @param kind      클라이언트 종류 (v1, v2, v2-async 등)
+	 * @param endpoint  접속 주소
+	 * @param accessKey 사용자 AccessKey (익명이면 null)
+	 * @param secretKey 사용자 SecretKey (익명이면 null)
+	 * @param xAuthToken X-Auth-Token 헤더 값
+	 * @param options   chunked 인코딩, 체크섬 모드, 서명 버전 등 클라이언트별 옵션
+	 */
+	public record ClientKey(String kind, String endpoint, String accessKey, String secretKey, String xAuthToken,
+			List<Object> options) {
+
+		public static ClientKey of(String kind, String endpoint, UserData user, Object... options) {
+			return new ClientKey(kind, endpoint,
+					user == null ? null : user.accessKey,
+					user == null ? null : user.secretKey,
+					user == null ? null : user.xAuthToken,
+					Arrays.asList(options));
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s %s %s %s", kind, endpoint, accessKey == null ? "anonymous" : accessKey, options);
+		}
+	}
+
+	/**
+	 * 커넥션 풀 상태
+	 *
+	 * @param key            클라이언트 키
+	 * @param lookups        저장소 조회 횟수
+	 * @param calls          풀 지표가 보고된 API 호출 수
+	 * @param maxConcurrency 풀의 최대 커넥션 수
+	 * @param leased         마지막 호출 시점의 사용 중 커넥션 수
+	 * @param available      마지막 호출 시점의 유휴 커넥션 수
+	 * @param pending        마지막 호출 시점의 커넥션 대기 수
+	 * @param peakLeased     관측된 최대 사용 중 커넥션 수
+	 */
+	public record PoolStats(ClientKey key, long lookups, long calls, int maxConcurrency, int leased, int available,
+			int pending, int peakLeased) {
+	}
+
+	/**
+	 * SDK v2 클라이언트의 HTTP 풀 지표를 수집하는 MetricPublisher.
+	 * 클라이언트 빌드 시 {@code overrideConfiguration.addMetricPublisher}로 등록한다.
+	 */
+	public static final class PoolMetricPublisher implements MetricPublisher {
+		final LongAdder calls = new LongAdder();
+		final AtomicInteger maxConcurrency = new AtomicInteger();
+		final AtomicInteger leased = new AtomicInteger();
+		final AtomicInteger available = new AtomicInteger();
+		final AtomicInteger pending = new AtomicInteger();
+		final AtomicInteger peakLeased = new AtomicInteger();
+
+		@Override
+		public void publish(MetricCollection metrics) {
+			calls.increment();
+			collect(metrics);
+		}
+
+		private void collect(MetricCollection metrics) {
+			metrics.metricValues(HttpMetric.MAX_CONCURRENCY).forEach(maxConcurrency::set);
+			metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY).forEach(available::set);
+			metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES).forEach(pending::set);
+			for (var value : metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)) {
+				leased.set(value);
+				peakLeased.accumulateAndGet(value, Math::max);
+			}
+			for (var child : metrics.children())
+				collect(child);
+		}
+
+		@Override
+		public void close() {
+			// 수집한 값만 보관하므로 해제할 자원이 없음
+		}
+	}
+
+	private static final class Entry<T> {
+		final T client;
+		final Consumer<T> closer;
+		final PoolMetricPublisher metrics;
+		final LongAdder lookups = new LongAdder();
+
+		Entry(T client, Consumer<T> closer, PoolMetricPublisher metrics) {
+			this.client = client;
+			this.closer = closer;
+			this.metrics = metrics;
+		}
+
+		void close() {
+			try {
+				closer.accept(client);
+			} catch (Exception e) {
+				System.out.printf("Error : Client Close Failed(%s)%n", e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 키에 해당하는 클라이언트를 반환한다. 없으면 factory로 생성하여 등록한다.
+	 *
+	 * @param key     클라이언트 키
+	 * @param factory 클라이언트 생성 함수. 생성한 클라이언트의 풀 지표는 함께 전달된
+	 *                {@link PoolMetricPublisher}로 보고할 수 있다.
+	 * @param closer  JVM 종료 시 클라이언트를 닫는 함수
+	 * @return 공유 클라이언트
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T get(ClientKey key, Function<PoolMetricPublisher, T> factory,
+			Consumer<T> closer) {
+		var entry = (Entry<T>) clients.computeIfAbsent(key, k -> {
+			var metrics = new PoolMetricPublisher();
+			var client = factory.apply(metrics);
+			if (client == null)
+				return null;
+			return new Entry<>(client, closer, metrics);
+		});
+		if (entry == null)
+			return null;
+		entry.lookups.increment();
+		return entry.client;
+	}
+
+	/**
+	 * 풀 지표가 필요 없는 클라이언트(SDK v1 등)를 반환한다.
+	 */
+	public static <T> T get(ClientKey key, Supplier<T> factory, Consumer<T> closer) {
+		return get(key, metrics -> factory.get(), closer);
+	}
+
+	/**
+	 * 등록된 클라이언트 수
+	 */
+	public static int size() {
+		return clients.size();
+	}
+
+	/**
+	 * 등록된 클라이언트별 커넥션 풀 상태를 조회 횟수 순으로 반환
+	 */
+	public static List<PoolStats> getStats() {
+		var stats = new ArrayList<PoolStats>();
+		for (var item : clients.entrySet()) {
+			var entry = item.getValue();
+			var metrics = entry.metrics;
+			stats.add(new PoolStats(item.getKey(), entry.lookups.sum(), metrics.calls.sum(),
+					metrics.maxConcurrency.get(), metrics.leased.get(), metrics.available.get(),
+					metrics.pending.get(), metrics.peakLeased.get()));
+		}
+		stats.sort(Comparator.comparingLong(PoolStats::lookups).reversed());
+		return stats;
+	}
+
+	/**
+	 * 커넥션 풀 상태를 사람이 읽을 수 있는 문자열로 반환
+	 */
+	public static String report() {
+		var sb = new StringBuilder();
+		sb.append(String.format("Clients: %d%n", size()));
+		for (var stat : getStats()) {
+			sb.append(String.format("  %s%n    lookups=%d calls=%d max=%d leased=%d available=%d pending=%d peak=%d%n",
+					stat.key(), stat.lookups(), stat.calls(), stat.maxConcurrency(), stat.leased(),
+					stat.available(), stat.pending(), stat.peakLeased()));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 등록된 모든 클라이언트를 닫고 저장소를 비운다.
+	 */
+	public static void closeAll() {
+		var iter = clients.values().iterator();
+		while (iter.hasNext()) {
+			var entry = iter.next();
+			iter.remove();
+			entry.close();
+		}
+	}
+}
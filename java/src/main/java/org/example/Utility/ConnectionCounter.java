@@ -0,0 +1,39 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 새 연결을 셀 때 쓰는 DNS 조회기.
+ * <p>
+ * Apache HttpClient는 풀에 재사용할 연결이 없어 새로 연결할 때마다 호스트를 조회하므로, 조회 횟수가 곧
+ * 연 연결 수이다. 연결은 요청한 스레드에서 열리므로 {@link RequestMetrics}가 현재 테스트로 기록한다.
+ * HTTPS 클라이언트에 등록하면 연결마다 TLS 핸드셰이크도 하나씩 센다.
+ * SDK v1({@code ClientConfiguration.setDnsResolver})과 SDK v2 Apache 클라이언트({@code dnsResolver}) 모두에 쓸 수 있다.
+ */
+public class ConnectionCounter implements com.amazonaws.DnsResolver, org.apache.http.conn.DnsResolver {
+	private final boolean secure;
+
+	/**
+	 * @param secure HTTPS 클라이언트 여부
+	 */
+	public ConnectionCounter(boolean secure) {
+		this.secure = secure;
+	}
+
+	@Override
+	public InetAddress[] resolve(String host) throws UnknownHostException {
+		RequestMetrics.getInstance().connectionOpened(secure);
+		return InetAddress.getAllByName(host);
+	}
+}
@@ -0,0 +1,190 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 응답 스트림을 기대값과 비교하는 검증기.
+ * <p>
+ * 응답을 문자열로 모으지 않고 스레드별로 재사용하는 큰 버퍼로 읽으면서 비교하며,
+ * 처음으로 다른 바이트를 만나면 바로 멈추고 그 위치를 보고한다.
+ */
+public final class ContentVerifier {
+	/** 한 번에 읽어서 비교하는 크기 */
+	public static final int BUFFER_SIZE = 1024 * 1024;
+	/** 불일치 위치 주변으로 보여줄 바이트 수 */
+	static final int CONTEXT_SIZE = 16;
+
+	private static final ThreadLocal<byte[][]> BUFFERS = ThreadLocal
+			.withInitial(() -> new byte[][] { new byte[BUFFER_SIZE], new byte[BUFFER_SIZE] });
+
+	private ContentVerifier() {
+	}
+
+	/** 기대값을 읽는 함수 */
+	@FunctionalInterface
+	public interface Source {
+		void read(long position, byte[] buffer, int off, int len) throws IOException;
+	}
+
+	/**
+	 * 기대값
+	 *
+	 * @param source 내용
+	 * @param offset source 안에서의 시작 위치
+	 * @param length 길이
+	 * @param name   실패 메시지에 표시할 이름
+	 */
+	public record Expected(Source source, long offset, long length, String name) {
+
+		public static Expected of(byte[] data) {
+			return new Expected((position, buffer, off, len) -> System.arraycopy(data, (int) position, buffer, off,
+					len), 0, data.length, "byte[" + data.length + "]");
+		}
+
+		/** UTF-8로 인코딩한 문자열 */
+		public static Expected of(String data) {
+			return of(data.getBytes(StandardCharsets.UTF_8));
+		}
+
+		public static Expected of(RandomPayload payload) {
+			return new Expected(payload::read, 0, payload.getLength(), payload.toString());
+		}
+
+		public static Expected of(Path file) throws IOException {
+			return new Expected((position, buffer, off, len) -> {
+				try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+					var target = ByteBuffer.wrap(buffer, off, len);
+					while (target.hasRemaining())
+						if (channel.read(target, position + target.position() - off) < 0)
+							throw new IOException("Unexpected end of file : " + file);
+				}
+			}, 0, Files.size(file), file.toString());
+		}
+
+		/**
+		 * 일부 구간만 가리키는 기대값
+		 */
+		public Expected slice(long start, long length) {
+			if (start < 0 || length < 0 || start + length > this.length)
+				throw new IndexOutOfBoundsException(
+						String.format("slice(%d, %d) of length %d", start, length, this.length));
+			return new Expected(source, offset + start, length, name);
+		}
+
+		void read(long position, byte[] buffer, int off, int len) throws IOException {
+			source.read(offset + position, buffer, off, len);
+		}
+	}
+
+	/**
+	 * 비교 결과
+	 *
+	 * @param mismatch       처음으로 다른 위치. 같으면 -1
+	 * @param expectedLength 기대값 길이
+	 * @param actualLength   읽은 길이 (불일치 시 그 위치까지 읽은 길이)
+	 * @param expected       불일치 위치 주변의 기대값
+	 * @param actual         불일치 위치 주변의 실제값
+	 */
+	public record Result(long mismatch, long expectedLength, long actualLength, byte[] expected, byte[] actual) {
+
+		public boolean isMatched() {
+			return mismatch < 0;
+		}
+
+		@Override
+		public String toString() {
+			if (isMatched())
+				return String.format("matched (%d bytes)", expectedLength);
+			if (expected.length == 0 || actual.length == 0)
+				return String.format("length mismatch at offset %d (expected %d bytes, actual %s bytes)", mismatch,
+						expectedLength, actual.length == 0 ? Long.toString(actualLength) : "more");
+			return String.format("mismatch at offset %d (expected \"%s\", actual \"%s\")", mismatch,
+					printable(expected), printable(actual));
+		}
+	}
+
+	/**
+	 * 스트림을 끝까지 읽으며 기대값과 비교한다. 불일치를 만나면 나머지는 읽지 않는다.
+	 *
+	 * @param input    비교할 스트림 (닫지 않음)
+	 * @param expected 기대값
+	 * @return 비교 결과
+	 * @throws IOException 스트림 읽기 실패
+	 */
+	public static Result verify(InputStream input, Expected expected) throws IOException {
+		var buffers = BUFFERS.get();
+		var actual = buffers[0];
+		var wanted = buffers[1];
+		long position = 0;
+
+		while (true) {
+			var len = input.readNBytes(actual, 0, actual.length);
+			if (len == 0) {
+				if (position == expected.length())
+					return new Result(-1, expected.length(), position, new byte[0], new byte[0]);
+				return new Result(position, expected.length(), position, new byte[0], new byte[0]);
+			}
+
+			var common = (int) Math.min(len, expected.length() - position);
+			expected.read(position, wanted, 0, common);
+			var index = Arrays.mismatch(actual, 0, common, wanted, 0, common);
+			if (index >= 0) {
+				var to = Math.min(common, index + CONTEXT_SIZE);
+				return new Result(position + index, expected.length(), position + len,
+						Arrays.copyOfRange(wanted, index, to), Arrays.copyOfRange(actual, index, to));
+			}
+			if (common < len)
+				return new Result(position + common, expected.length(), position + len, new byte[0],
+						Arrays.copyOfRange(actual, common, Math.min(len, common + CONTEXT_SIZE)));
+			position += len;
+		}
+	}
+
+	/**
+	 * 스트림 내용이 기대값과 다르면 불일치 위치를 포함한 메시지로 테스트를 실패시킨다.
+	 *
+	 * @param input    비교할 스트림 (닫지 않음)
+	 * @param expected 기대값
+	 * @param message  실패 메시지 앞에 붙일 내용 (버킷/키 등)
+	 */
+	public static void assertMatches(InputStream input, Expected expected, String message) {
+		try {
+			var result = verify(input, expected);
+			if (!result.isMatched())
+				fail(String.format("%s : %s (%s)", message, result, expected.name()));
+		} catch (IOException e) {
+			fail(message + " : " + e.getMessage(), e);
+		}
+	}
+
+	static String printable(byte[] data) {
+		var sb = new StringBuilder();
+		for (var b : data) {
+			if (b >= 0x20 && b < 0x7F)
+				sb.append((char) b);
+			else
+				sb.append(String.format("\\x%02X", b & 0xFF));
+		}
+		return sb.toString();
+	}
+}
@@ -1,28 +1,35 @@
 package org.example.Utility;
 
 import java.nio.ByteBuffer;
-import software.amazon.awssdk.checksums.internal.CrcCombineChecksumUtil;
 import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 
 /**
  * CRC(Cyclic Redundancy Check) 값을 조작하기 위한 유틸리티 클래스입니다.
- * CRC32, CRC32C, CRC64NVME 체크섬을 지원하며, 두 개의 CRC 값을 결합하는 기능을 제공합니다.
+ * CRC32, CRC32C, CRC64NVME 체크섬을 지원하며, 두 개 또는 여러 개의 CRC 값을 결합하는 기능을 제공합니다.
  * 주로 멀티파트 업로드나 데이터 무결성 검증에 사용됩니다.
  */
 public final class CrcCombine {
 	public static final int CRC32_SIZE = 32;
 	public static final int CRC64_SIZE = 64;
 
+	/*
+	 * COMBINE_MATRICES_*[k]는 2^k 바이트의 영점을 CRC에 적용하는 연산자입니다.
+	 * SDK의 CrcCombineChecksumUtil 테이블은 4GB 미만의 길이만 다루므로 long 길이 전체에 대해 직접 계산합니다.
+	 */
 	private static final long POLYNOMIAL_32 = 0xEDB88320L;
-	private static final long[][] COMBINE_MATRICES_32 = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL_32);
+	private static final long[][] COMBINE_MATRICES_32 = generateCombineMatrices(POLYNOMIAL_32, CRC32_SIZE);
 
-	private static final long POLYNOMIAL_32C = 0x82F63B78;
-	private static final long[][] COMBINE_MATRICES_32C = CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL_32C);
+	private static final long POLYNOMIAL_32C = 0x82F63B78L;
+	private static final long[][] COMBINE_MATRICES_32C = generateCombineMatrices(POLYNOMIAL_32C, CRC32_SIZE);
 
 	private static final long POLYNOMIAL_64 = 0x9A6C9329AC4BC9B5L;
+	private static final long[][] COMBINE_MATRICES_64 = generateCombineMatrices(POLYNOMIAL_64, CRC64_SIZE);
 
-	// GF(2) 벡터의 차원 (CRC의 길이)
-	private static final int GF2_DIM = 64;
+	/*
+	 * combineAll에서 같은 길이의 결합이 이보다 많으면 그 길이의 조회 테이블을 한 번 만들어 재사용합니다.
+	 * 테이블을 만드는 비용이 한 번 결합하는 비용의 약 CRC 비트 수 배이기 때문입니다.
+	 */
+	private static final int MATRIX_REUSE_THRESHOLD = CRC64_SIZE;
 
 	private CrcCombine() {
 	}
@@ -31,86 +38,158 @@ public final class CrcCombine {
 		long sum = 0;
 		int idx = 0;
 		while (vec != 0) {
-			if ((vec & 1) == 1)
-				sum ^= mat[idx];
+			// 분기 없이 최하위 비트가 1일 때만 해당 행을 더한다
+			sum ^= mat[idx] & -(vec & 1);
 			vec >>>= 1;
 			idx++;
 		}
 		return sum;
 	}
 
+	/*
+	 * 연산자 행렬을 8비트 단위 조회 테이블로 바꿉니다. 같은 행렬을 여러 번 곱할 때
+	 * 비트마다 더하는 대신 바이트마다 한 번씩 조회하면 됩니다.
+	 */
+	private static long[][] gf2MatrixTable(long[] mat) {
+		long[][] table = new long[mat.length / Byte.SIZE][256];
+		for (int b = 0; b < table.length; b++) {
+			for (int v = 1; v < 256; v++)
+				table[b][v] = table[b][v & (v - 1)] ^ mat[b * Byte.SIZE + Integer.numberOfTrailingZeros(v)];
+		}
+		return table;
+	}
+
+	private static long gf2TableTimes(long[][] table, long vec) {
+		long sum = 0;
+		for (int b = 0; b < table.length; b++, vec >>>= Byte.SIZE)
+			sum ^= table[b][(int) (vec & 0xFF)];
+		return sum;
+	}
+
 	private static void gf2MatrixSquare(long[] square, long[] mat) {
-		for (int n = 0; n < GF2_DIM; n++)
+		for (int n = 0; n < mat.length; n++)
 			square[n] = gf2MatrixTimes(mat, mat[n]);
 	}
 
 	/*
-	 * 두 개의 연속된 블록의 CRC-64 값을 반환합니다.
-	 * summ1은 첫 번째 블록의 CRC-64 값
-	 * summ2는 두 번째 블록의 CRC-64 값
-	 * len2는 두 번째 블록의 길이입니다.
+	 * 1, 2, 4, ... 2^63 바이트의 영점에 대한 연산자를 미리 계산합니다.
+	 * dim은 GF(2) 벡터의 차원 (CRC의 길이)입니다.
 	 */
-	public static long crc64combine(long summ1, long summ2, long len2) {
-		// 특수한 경우: 두 번째 블록의 길이가 0인 경우
-		if (len2 == 0)
-			return summ1;
-
-		int n;
-		long row;
-		long[] even = new long[GF2_DIM]; // 2의 짝수 거듭제곱 영점 연산자
-		long[] odd = new long[GF2_DIM]; // 2의 홀수 거듭제곱 영점 연산자
+	private static long[][] generateCombineMatrices(long polynomial, int dim) {
+		long[][] matrices = new long[Long.SIZE][dim];
+		long[] even = new long[dim]; // 2의 짝수 거듭제곱 영점 연산자
+		long[] odd = new long[dim]; // 2의 홀수 거듭제곱 영점 연산자
 
 		// odd에 한 개의 영점 비트에 대한 연산자 설정
-		odd[0] = POLYNOMIAL_64; // CRC-64 다항식
-
-		row = 1;
-		for (n = 1; n < GF2_DIM; n++) {
+		odd[0] = polynomial;
+		long row = 1;
+		for (int n = 1; n < dim; n++) {
 			odd[n] = row;
 			row <<= 1;
 		}
 
-		// even에 두 개의 영점 비트에 대한 연산자 설정
+		// 2, 4, 8개의 영점 비트 (8개 = 한 개의 영점 바이트)
 		gf2MatrixSquare(even, odd);
-
-		// odd에 네 개의 영점 비트에 대한 연산자 설정
 		gf2MatrixSquare(odd, even);
+		gf2MatrixSquare(matrices[0], odd);
+
+		// 이전 연산자를 제곱하면 두 배 길이의 영점에 대한 연산자
+		for (int k = 1; k < matrices.length; k++)
+			gf2MatrixSquare(matrices[k], matrices[k - 1]);
+		return matrices;
+	}
+
+	private static long[][] combineMatrices(ChecksumAlgorithm type) {
+		return switch (type) {
+			case CRC32 -> COMBINE_MATRICES_32;
+			case CRC32_C -> COMBINE_MATRICES_32C;
+			case CRC64_NVME -> COMBINE_MATRICES_64;
+			default -> throw new IllegalArgumentException("Invalid type: " + type);
+		};
+	}
+
+	/*
+	 * CRC 값 뒤에 length 바이트의 영점을 붙인 것처럼 이동합니다. (crc2가 0인 결합)
+	 */
+	private static long shift(long crc, long length, long[][] matrices) {
+		for (int k = 0; length != 0 && crc != 0; k++, length >>>= 1) {
+			if ((length & 1) == 1)
+				crc = gf2MatrixTimes(matrices[k], crc);
+		}
+		return crc;
+	}
 
-		// len2개의 영점을 crc1에 적용 (첫 번째 제곱은 하나의 영점 바이트,
-		// 즉 8개의 영점 비트에 대한 연산자를 even에 설정)
-		long crc1 = summ1;
-		long crc2 = summ2;
-		do {
-			// 이 len2 비트에 대한 영점 연산자 적용
-			gf2MatrixSquare(even, odd);
-			if ((len2 & 1) == 1)
-				crc1 = gf2MatrixTimes(even, crc1);
-			len2 >>>= 1;
+	/*
+	 * length 바이트 이동 연산자를 조회 테이블로 만듭니다. 같은 길이의 이동을 바이트 수만큼의 조회로 반복할 수 있습니다.
+	 */
+	private static long[][] shiftTable(long length, long[][] matrices) {
+		long[] matrix = new long[matrices[0].length];
+		for (int n = 0; n < matrix.length; n++)
+			matrix[n] = shift(1L << n, length, matrices);
+		return gf2MatrixTable(matrix);
+	}
 
-			// 더 이상 설정된 비트가 없으면 종료
-			if (len2 == 0)
-				break;
+	/*
+	 * 두 개의 연속된 블록의 CRC-64 값을 반환합니다.
+	 * summ1은 첫 번째 블록의 CRC-64 값
+	 * summ2는 두 번째 블록의 CRC-64 값
+	 * len2는 두 번째 블록의 길이입니다.
+	 */
+	public static long crc64combine(long summ1, long summ2, long len2) {
+		// len2개의 영점을 crc1에 적용한 뒤 crc2와 결합
+		return shift(summ1, len2, COMBINE_MATRICES_64) ^ summ2;
+	}
 
-			// odd와 even을 교체하여 루프 반복
-			gf2MatrixSquare(odd, even);
-			if ((len2 & 1) == 1)
-				crc1 = gf2MatrixTimes(odd, crc1);
-			len2 >>>= 1;
+	/**
+	 * 연속된 여러 블록의 CRC 값을 하나로 결합합니다.
+	 * <p>
+	 * 이웃한 두 블록씩 결합하는 트리 방식으로 처리하며, 한 단계에서 같은 길이의 결합이 많으면
+	 * (파트 크기가 같은 멀티파트 업로드 등) 그 길이의 연산자 조회 테이블을 한 번만 만들어 재사용합니다.
+	 * 블록 길이는 서로 달라도 됩니다.
+	 *
+	 * @param crcs    블록별 CRC 값 (CRC32/CRC32C는 하위 32비트)
+	 * @param lengths 블록별 길이
+	 * @param type    CRC 타입 (ChecksumAlgorithm.CRC32, CRC32C, CRC64NVME 중 하나)
+	 * @return 전체 블록의 CRC 값
+	 * @throws IllegalArgumentException 블록이 없거나, 두 배열의 길이가 다르거나, 유효하지 않은 CRC 타입인 경우
+	 */
+	public static long combineAll(long[] crcs, long[] lengths, ChecksumAlgorithm type) {
+		if (crcs.length == 0 || crcs.length != lengths.length)
+			throw new IllegalArgumentException(
+					String.format("Invalid blocks : crcs=%d, lengths=%d", crcs.length, lengths.length));
+		long[][] matrices = combineMatrices(type);
 
-			// 더 이상 설정된 비트가 없으면 종료
-		} while (len2 != 0);
+		long[] values = crcs.clone();
+		long[] sizes = lengths.clone();
+		int count = values.length;
+		while (count > 1) {
+			// 이 단계에서 가장 흔한 오른쪽 블록 길이는 첫 쌍의 길이 (마지막 쌍만 다를 수 있음)
+			long[][] table = null;
+			long tableLength = sizes[1];
+			if (count / 2 > MATRIX_REUSE_THRESHOLD)
+				table = shiftTable(tableLength, matrices);
 
-		// 결합된 CRC 반환
-		crc1 ^= crc2;
-		return crc1;
+			int next = 0;
+			for (int i = 0; i < count; i += 2) {
+				if (i + 1 == count) {
+					values[next] = values[i];
+					sizes[next++] = sizes[i];
+					continue;
+				}
+				long length = sizes[i + 1];
+				long shifted = table != null && length == tableLength
+						? gf2TableTimes(table, values[i])
+						: shift(values[i], length, matrices);
+				values[next] = shifted ^ values[i + 1];
+				sizes[next++] = sizes[i] + length;
+			}
+			count = next;
+		}
+		return values[0];
 	}
 
-	public static long combine(long crc1, long crc2, int originalLengthOfCrc2, ChecksumAlgorithm type) {
-		return switch (type) {
-			case CRC32 -> CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES_32);
-			case CRC32_C -> CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES_32C);
-			case CRC64_NVME -> crc64combine(crc1, crc2, originalLengthOfCrc2);
-			default -> throw new IllegalArgumentException("Invalid type: " + type);
-		};
+	public static long combine(long crc1, long crc2, long originalLengthOfCrc2, ChecksumAlgorithm type) {
+		return shift(crc1, originalLengthOfCrc2, combineMatrices(type)) ^ crc2;
 	}
 
 	/**
@@ -145,14 +224,21 @@ public final class CrcCombine {
 	 * @throws IllegalArgumentException 유효하지 않은 CRC 타입이 지정된 경우
 	 */
 	public static byte[] combinebytes(long crc1, long crc2, long originalLengthOfCrc2, ChecksumAlgorithm type) {
-		return switch (type) {
-			case CRC32 ->
-				getChecksumBytes(CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES_32));
-			case CRC32_C -> getChecksumBytes(
-					CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES_32C));
-			case CRC64_NVME -> longToByte(crc64combine(crc1, crc2, originalLengthOfCrc2));
-			default -> throw new IllegalArgumentException("Invalid type: " + type);
-		};
+		return toChecksumBytes(combine(crc1, crc2, originalLengthOfCrc2, type), type);
+	}
+
+	/**
+	 * CRC 값을 체크섬 바이트 배열로 변환합니다. CRC64NVME는 8바이트, CRC32/CRC32C는 4바이트입니다.
+	 */
+	public static byte[] toChecksumBytes(long value, ChecksumAlgorithm type) {
+		return type == ChecksumAlgorithm.CRC64_NVME ? longToByte(value) : getChecksumBytes(value);
+	}
+
+	/**
+	 * 체크섬 바이트 배열을 CRC 값으로 변환합니다.
+	 */
+	public static long fromChecksumBytes(byte[] bytes, ChecksumAlgorithm type) {
+		return type == ChecksumAlgorithm.CRC64_NVME ? byteToLong(bytes) : byteToInt(bytes);
 	}
 
 	/**
@@ -191,9 +277,6 @@ public final class CrcCombine {
 	 * @throws IllegalArgumentException 유효하지 않은 CRC 타입이 지정된 경우
 	 */
 	public static byte[] combinebytes(byte[] crc1, byte[] crc2, long originalLengthOfCrc2, ChecksumAlgorithm type) {
-		if (type == ChecksumAlgorithm.CRC64_NVME) {
-			return longToByte(crc64combine(byteToLong(crc1), byteToLong(crc2), originalLengthOfCrc2));
-		}
-		return combinebytes(byteToInt(crc1), byteToInt(crc2), originalLengthOfCrc2, type);
+		return combinebytes(fromChecksumBytes(crc1, type), fromChecksumBytes(crc2, type), originalLengthOfCrc2, type);
 	}
 }
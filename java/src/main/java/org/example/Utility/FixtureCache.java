@@ -0,0 +1,146 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 조회만 하는 테스트가 함께 쓰는 버킷 캐시.
+ * <p>
+ * 같은 키 목록으로 만든 버킷은 실행 중 한 번만 만들고, v1/v2 테스트가 모두 재사용한다. 버킷명은
+ * 키 목록의 해시로 정해지므로 키 목록이 같으면 어느 SDK가 먼저 만들었는지와 관계없이 같은 버킷을 쓴다.
+ * 만든 버킷은 테스트 실행이 끝날 때 {@link #release()}로 {@link BucketReaper}에 넘겨 정리한다.
+ * <p>
+ * 공유 버킷에서는 오브젝트나 버킷 설정을 바꾸면 안 된다. {@value #PROPERTY_SHARED}=false이면
+ * 테스트마다 새 버킷을 만든다.
+ */
+public final class FixtureCache {
+	/** 공유 버킷 사용 여부 속성 */
+	public static final String PROPERTY_SHARED = "s3tests.fixture.shared";
+	/** 버킷명에 붙는 표시 */
+	public static final String NAME_TAG = "fixture-";
+	/** 버킷명에 쓰는 해시 길이 (hex) */
+	static final int HASH_LENGTH = 16;
+	/** 실행마다 다른 값. 같은 계정으로 동시에 돌아가는 다른 실행과 버킷이 겹치지 않게 한다 */
+	static final int RUN_ID_LENGTH = 6;
+
+	private static final FixtureCache instance = new FixtureCache();
+
+	private final boolean shared = !"false".equalsIgnoreCase(System.getProperty(PROPERTY_SHARED, "true").trim());
+	private final String runId = Utils.randomText(RUN_ID_LENGTH);
+	private final ConcurrentHashMap<String, Fixture> fixtures = new ConcurrentHashMap<>();
+
+	private FixtureCache() {
+	}
+
+	public static FixtureCache getInstance() {
+		return instance;
+	}
+
+	public boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * 키 목록에 해당하는 버킷명. 키의 순서와 중복은 무시한다.
+	 *
+	 * @param prefix 버킷명 prefix (config.bucketPrefix)
+	 * @param keys   오브젝트 키 목록
+	 */
+	public String getBucketName(String prefix, Collection<String> keys) {
+		var digest = sha256(String.join("\n", new TreeSet<>(keys)));
+		var hash = HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+		var suffix = NAME_TAG + runId + "-" + hash;
+		if (prefix == null)
+			prefix = "";
+		if (prefix.length() + suffix.length() > Utils.BUCKET_MAX_LENGTH)
+			prefix = prefix.substring(0, Utils.BUCKET_MAX_LENGTH - suffix.length());
+		return prefix + suffix;
+	}
+
+	/**
+	 * 키 목록에 해당하는 공유 버킷을 반환한다. 아직 없으면 creator로 만든다.
+	 * <p>
+	 * 여러 테스트가 동시에 같은 버킷을 요청하면 하나만 만들고 나머지는 기다린다. 만들다 실패하면
+	 * cleaner로 지운 뒤 예외를 던지며, 다음 요청에서 다시 만든다.
+	 *
+	 * @param prefix  버킷명 prefix
+	 * @param keys    오브젝트 키 목록
+	 * @param creator 버킷을 만들고 오브젝트를 올리는 함수
+	 * @param cleaner 실행이 끝날 때 버킷을 비우고 삭제하는 함수
+	 * @return 버킷명
+	 */
+	public String get(String prefix, Collection<String> keys, Consumer<String> creator, Consumer<String> cleaner) {
+		var bucketName = getBucketName(prefix, keys);
+		var fixture = fixtures.computeIfAbsent(bucketName, name -> new Fixture(name, cleaner));
+		synchronized (fixture) {
+			if (!fixture.created) {
+				try {
+					creator.accept(bucketName);
+				} catch (RuntimeException e) {
+					fixtures.remove(bucketName, fixture);
+					try {
+						cleaner.accept(bucketName);
+					} catch (RuntimeException ignored) {
+						// 만들지 못한 버킷일 수 있다
+					}
+					throw e;
+				}
+				fixture.created = true;
+			}
+		}
+		return bucketName;
+	}
+
+	/** 만든 공유 버킷 수 */
+	public int size() {
+		return fixtures.size();
+	}
+
+	/**
+	 * 만든 공유 버킷을 모두 {@link BucketReaper}에 넘겨 정리한다. 테스트 실행이 끝날 때 호출한다.
+	 */
+	public void release() {
+		for (var fixture : new ArrayList<>(fixtures.values())) {
+			if (!fixtures.remove(fixture.bucketName, fixture))
+				continue;
+			BucketReaper.getInstance().enqueue(List.of(fixture.bucketName), fixture.cleaner);
+		}
+	}
+
+	private static byte[] sha256(String text) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static final class Fixture {
+		final String bucketName;
+		final Consumer<String> cleaner;
+		boolean created;
+
+		Fixture(String bucketName, Consumer<String> cleaner) {
+			this.bucketName = bucketName;
+			this.cleaner = cleaner;
+		}
+	}
+}
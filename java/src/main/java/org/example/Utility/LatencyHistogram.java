@@ -0,0 +1,114 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+/**
+ * 지연 시간 분포를 고정 크기 배열에 기록하는 히스토그램.
+ * <p>
+ * 값(마이크로초)을 2의 거듭제곱 구간마다 {@value #SUB_BUCKETS}개로 나누어 세므로 상대 오차가
+ * 약 {@code 1/SUB_BUCKETS} 이하이고, 값이 커져도 메모리는 늘지 않는다. 구간 경계가 모든 인스턴스에서
+ * 같기 때문에 스레드마다 따로 기록한 뒤 {@link #add(LatencyHistogram)}로 합쳐도 백분위수가 정확히 유지된다.
+ * <p>
+ * 한 인스턴스는 한 스레드에서만 기록한다고 가정하며 동기화하지 않는다.
+ */
+public final class LatencyHistogram {
+	/** 2의 거듭제곱 구간 하나를 나누는 칸 수 */
+	public static final int SUB_BUCKETS = 64;
+
+	private static final int SUB_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+	/** 0 ~ 2*SUB_BUCKETS-1 은 값 그대로 센다 */
+	private static final int LINEAR = SUB_BUCKETS * 2;
+	private static final int SIZE = LINEAR + (Long.SIZE - SUB_BITS - 2) * SUB_BUCKETS;
+
+	private final long[] counts = new long[SIZE];
+	private long count;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	/**
+	 * 값 하나를 기록한다.
+	 *
+	 * @param micros 지연 시간 (마이크로초). 음수는 0으로 기록한다.
+	 */
+	public void record(long micros) {
+		var value = Math.max(0, micros);
+		counts[indexOf(value)]++;
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * 다른 히스토그램의 기록을 더한다.
+	 */
+	public void add(LatencyHistogram other) {
+		for (int i = 0; i < SIZE; i++)
+			counts[i] += other.counts[i];
+		count += other.count;
+		sum += other.sum;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	public long getMax() {
+		return max;
+	}
+
+	public double getMean() {
+		return count == 0 ? 0 : (double) sum / count;
+	}
+
+	/**
+	 * 백분위수. 해당 칸의 중간값을 반환하며 기록된 최소/최대값을 넘지 않는다.
+	 *
+	 * @param percentile 0 ~ 100
+	 * @return 지연 시간 (마이크로초). 기록이 없으면 0
+	 */
+	public long getPercentile(double percentile) {
+		if (count == 0)
+			return 0;
+		var rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+		if (rank >= count)
+			return max;
+		long seen = 0;
+		for (int i = 0; i < SIZE; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.max(min, Math.min(max, midpointOf(i)));
+		}
+		return max;
+	}
+
+	static int indexOf(long value) {
+		if (value < LINEAR)
+			return (int) value;
+		var shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BITS - 1;
+		return LINEAR + (shift - 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	static long midpointOf(int index) {
+		if (index < LINEAR)
+			return index;
+		var shift = (index - LINEAR) / SUB_BUCKETS + 1;
+		var lower = (long) ((index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS) << shift;
+		return lower + (1L << (shift - 1));
+	}
+}
@@ -0,0 +1,381 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+/**
+ * 여러 체크섬을 데이터를 한 번만 읽으면서 함께 계산하는 도구.
+ * <p>
+ * {@link CheckSum#ALL_ALGORITHMS} 중 원하는 알고리즘을 골라 만들고, 바이트 배열/ByteBuffer를 직접 넣거나
+ * InputStream, 업로드 본문({@link RequestBody}, {@link AsyncRequestBody})을 감싸서 전송하는 동안 계산한다.
+ * CRC32/CRC32C는 JDK 구현(CPU 명령을 쓰는 intrinsic), SHA/MD5는 {@link MessageDigest},
+ * 나머지는 SDK 구현을 사용한다.
+ * <p>
+ * 결과를 처음 조회하면 계산이 끝나며, 이후에는 {@link #reset()} 전까지 데이터를 더 넣을 수 없다.
+ * 한 스레드에서만 사용한다.
+ */
+public final class MultiChecksum {
+	private final Map<ChecksumAlgorithm, Engine> engines = new EnumMap<>(ChecksumAlgorithm.class);
+	private Map<ChecksumAlgorithm, byte[]> results;
+	private long length;
+
+	private MultiChecksum(Collection<ChecksumAlgorithm> algorithms) {
+		for (var algorithm : algorithms)
+			engines.computeIfAbsent(algorithm, MultiChecksum::newEngine);
+	}
+
+	/**
+	 * 지정한 알고리즘의 체크섬을 계산한다.
+	 */
+	public static MultiChecksum of(ChecksumAlgorithm... algorithms) {
+		return new MultiChecksum(List.of(algorithms));
+	}
+
+	/**
+	 * {@link CheckSum#ALL_ALGORITHMS} 전체(MD5 포함)를 계산한다.
+	 */
+	public static MultiChecksum all() {
+		return new MultiChecksum(CheckSum.ALL_ALGORITHMS);
+	}
+
+	public MultiChecksum update(byte[] data) {
+		return update(data, 0, data.length);
+	}
+
+	public MultiChecksum update(byte[] data, int off, int len) {
+		checkNotFinished();
+		for (var engine : engines.values())
+			engine.update(data, off, len);
+		length += len;
+		return this;
+	}
+
+	/**
+	 * buffer의 남은 내용을 넣는다. buffer의 위치는 끝으로 옮겨진다.
+	 */
+	public MultiChecksum update(ByteBuffer buffer) {
+		checkNotFinished();
+		var remaining = buffer.remaining();
+		for (var engine : engines.values())
+			engine.update(buffer.duplicate());
+		buffer.position(buffer.limit());
+		length += remaining;
+		return this;
+	}
+
+	/** UTF-8로 인코딩한 문자열을 넣는다. */
+	public MultiChecksum update(String data) {
+		return update(data.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 처음 상태로 되돌린다. 결과도 지워진다.
+	 */
+	public void reset() {
+		for (var engine : engines.values())
+			engine.reset();
+		results = null;
+		length = 0;
+	}
+
+	/** 지금까지 넣은 바이트 수 */
+	public long getLength() {
+		return length;
+	}
+
+	public boolean contains(ChecksumAlgorithm algorithm) {
+		return engines.containsKey(algorithm);
+	}
+
+	/**
+	 * 체크섬 bytes. 처음 조회하면 계산이 끝난다.
+	 *
+	 * @throws IllegalArgumentException 계산하지 않은 알고리즘인 경우
+	 */
+	public byte[] getBytes(ChecksumAlgorithm algorithm) {
+		if (!engines.containsKey(algorithm))
+			throw new IllegalArgumentException("Not calculated : " + algorithm);
+		if (results == null) {
+			results = new EnumMap<>(ChecksumAlgorithm.class);
+			for (var entry : engines.entrySet())
+				results.put(entry.getKey(), entry.getValue().finish());
+		}
+		return results.get(algorithm).clone();
+	}
+
+	/**
+	 * 체크섬 (Base64). S3의 x-amz-checksum-* 값과 같은 형식이다.
+	 */
+	public String get(ChecksumAlgorithm algorithm) {
+		return Base64.getEncoder().encodeToString(getBytes(algorithm));
+	}
+
+	/** Content-MD5 (Base64) */
+	public String getMD5() {
+		return get(ChecksumAlgorithm.MD5);
+	}
+
+	/**
+	 * 읽는 내용을 계산에 넣는 스트림. skip한 구간도 읽어서 넣는다.
+	 */
+	public InputStream wrap(InputStream input) {
+		return new ChecksumInputStream(input);
+	}
+
+	/**
+	 * SDK v2 동기 클라이언트용 요청 본문을 감싼다. 재시도로 본문을 다시 읽으면 처음부터 다시 계산하므로
+	 * 전송이 끝난 뒤에는 마지막으로 보낸 본문의 체크섬이 남는다.
+	 */
+	public RequestBody wrap(RequestBody body) {
+		var provider = body.contentStreamProvider();
+		ContentStreamProvider wrapped = () -> {
+			reset();
+			return wrap(provider.newStream());
+		};
+		return body.optionalContentLength()
+				.map(contentLength -> RequestBody.fromContentProvider(wrapped, contentLength, body.contentType()))
+				.orElseGet(() -> RequestBody.fromContentProvider(wrapped, body.contentType()));
+	}
+
+	/**
+	 * SDK v2 비동기 클라이언트용 요청 본문을 감싼다. 다시 구독하면 처음부터 다시 계산한다.
+	 */
+	public AsyncRequestBody wrap(AsyncRequestBody body) {
+		return new ChecksumAsyncRequestBody(body);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("MultiChecksum(%s, length=%d)", engines.keySet(), length);
+	}
+
+	private void checkNotFinished() {
+		if (results != null)
+			throw new IllegalStateException("Checksum already finished. Call reset() first.");
+	}
+
+	private static Engine newEngine(ChecksumAlgorithm algorithm) {
+		return switch (algorithm) {
+			case CRC32 -> new CrcEngine(new CRC32());
+			case CRC32_C -> new CrcEngine(new CRC32C());
+			case SHA1 -> new DigestEngine("SHA-1");
+			case SHA256 -> new DigestEngine("SHA-256");
+			case SHA512 -> new DigestEngine("SHA-512");
+			case MD5 -> new DigestEngine("MD5");
+			case CRC64_NVME, XXHASH64, XXHASH3, XXHASH128 -> new SdkEngine(
+					SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.fromValue(algorithm.toString())));
+			default -> throw new IllegalArgumentException("Invalid type: " + algorithm);
+		};
+	}
+
+	/** 알고리즘 하나의 계산기 */
+	private interface Engine {
+		void update(byte[] data, int off, int len);
+
+		void update(ByteBuffer buffer);
+
+		byte[] finish();
+
+		void reset();
+	}
+
+	/** JDK CRC32/CRC32C. 결과는 4바이트 big endian */
+	private record CrcEngine(Checksum checksum) implements Engine {
+		public void update(byte[] data, int off, int len) {
+			checksum.update(data, off, len);
+		}
+
+		public void update(ByteBuffer buffer) {
+			checksum.update(buffer);
+		}
+
+		public byte[] finish() {
+			return CrcCombine.getChecksumBytes(checksum.getValue());
+		}
+
+		public void reset() {
+			checksum.reset();
+		}
+	}
+
+	private static final class DigestEngine implements Engine {
+		private final MessageDigest digest;
+
+		DigestEngine(String algorithm) {
+			try {
+				digest = MessageDigest.getInstance(algorithm);
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		public void update(byte[] data, int off, int len) {
+			digest.update(data, off, len);
+		}
+
+		public void update(ByteBuffer buffer) {
+			digest.update(buffer);
+		}
+
+		public byte[] finish() {
+			return digest.digest();
+		}
+
+		public void reset() {
+			digest.reset();
+		}
+	}
+
+	/** SDK 구현 (CRC64NVME, XXHASH). getChecksumBytes는 한 번만 호출할 수 있다. */
+	private record SdkEngine(SdkChecksum checksum) implements Engine {
+		public void update(byte[] data, int off, int len) {
+			checksum.update(data, off, len);
+		}
+
+		public void update(ByteBuffer buffer) {
+			checksum.update(buffer);
+		}
+
+		public byte[] finish() {
+			return checksum.getChecksumBytes();
+		}
+
+		public void reset() {
+			checksum.reset();
+		}
+	}
+
+	private final class ChecksumInputStream extends FilterInputStream {
+		/** read()로 읽은 1바이트 */
+		private final byte[] single = new byte[1];
+
+		ChecksumInputStream(InputStream input) {
+			super(input);
+		}
+
+		@Override
+		public int read() throws IOException {
+			var b = super.read();
+			if (b >= 0) {
+				single[0] = (byte) b;
+				update(single, 0, 1);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) throws IOException {
+			var read = in.read(buffer, off, len);
+			if (read > 0)
+				update(buffer, off, read);
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			var buffer = new byte[(int) Math.min(Math.max(n, 0), RandomPayload.CHUNK_SIZE)];
+			long skipped = 0;
+			while (skipped < n) {
+				var read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+				if (read < 0)
+					break;
+				skipped += read;
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public synchronized void mark(int readLimit) {
+			// 되돌리면 같은 내용이 두 번 들어가므로 지원하지 않는다
+		}
+
+		@Override
+		public synchronized void reset() throws IOException {
+			throw new IOException("mark/reset not supported");
+		}
+	}
+
+	private final class ChecksumAsyncRequestBody implements AsyncRequestBody {
+		private final AsyncRequestBody body;
+
+		ChecksumAsyncRequestBody(AsyncRequestBody body) {
+			this.body = body;
+		}
+
+		@Override
+		public Optional<Long> contentLength() {
+			return body.contentLength();
+		}
+
+		@Override
+		public String contentType() {
+			return body.contentType();
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+			MultiChecksum.this.reset();
+			body.subscribe(new Subscriber<ByteBuffer>() {
+				@Override
+				public void onSubscribe(Subscription subscription) {
+					subscriber.onSubscribe(subscription);
+				}
+
+				@Override
+				public void onNext(ByteBuffer buffer) {
+					update(buffer.duplicate());
+					subscriber.onNext(buffer);
+				}
+
+				@Override
+				public void onError(Throwable error) {
+					subscriber.onError(error);
+				}
+
+				@Override
+				public void onComplete() {
+					subscriber.onComplete();
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import org.example.Data.MainData;
+
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
+import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+/**
+ * 큰 데이터의 CRC(CRC32, CRC32C, CRC64NVME)를 여러 코어로 계산하는 도구.
+ * <p>
+ * 데이터를 {@value #PROPERTY_CHUNK} 크기의 구간으로 나누어 ForkJoin 풀에서 구간별 CRC를 계산한 뒤
+ * {@link CrcCombine}으로 합친다. 파일은 구간마다 메모리 매핑하여 읽으므로 힙을 거의 쓰지 않는다.
+ * 결과는 한 번에 계산한 FULL_OBJECT 체크섬과 같다.
+ */
+public final class ParallelCrc {
+	/** 계산 스레드 수 속성 */
+	public static final String PROPERTY_THREADS = "s3tests.crc.threads";
+	/** 한 스레드가 한 번에 계산하는 구간 크기 속성 */
+	public static final String PROPERTY_CHUNK = "s3tests.crc.chunk";
+	/** 기본 구간 크기 */
+	public static final int DEFAULT_CHUNK = 8 * MainData.MB;
+
+	private static final int THREADS = Math.max(1,
+			Integer.getInteger(PROPERTY_THREADS, Runtime.getRuntime().availableProcessors()));
+	private static final int CHUNK = Math.max(RandomPayload.CHUNK_SIZE,
+			Integer.getInteger(PROPERTY_CHUNK, DEFAULT_CHUNK));
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ForkJoinPool pool = new ForkJoinPool(THREADS, forkJoinPool -> {
+		var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+		thread.setName("parallel-crc-" + threadCount.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}, null, false);
+
+	private ParallelCrc() {
+	}
+
+	/** 구간 하나의 CRC를 계산하는 함수 */
+	@FunctionalInterface
+	private interface Region {
+		/**
+		 * @param position 데이터 안에서의 시작 위치
+		 * @param length   구간 길이
+		 */
+		void update(Checksum checksum, long position, long length) throws IOException;
+	}
+
+	/**
+	 * 파일 전체의 CRC
+	 *
+	 * @throws IOException 파일 읽기 실패
+	 */
+	public static long crc(Path file, ChecksumAlgorithm type) throws IOException {
+		return crc(file, 0, Files.size(file), type);
+	}
+
+	/**
+	 * 파일 일부 구간의 CRC (멀티파트 업로드의 파트 등)
+	 *
+	 * @param offset 시작 위치
+	 * @param length 길이
+	 * @throws IOException 파일 읽기 실패
+	 */
+	public static long crc(Path file, long offset, long length, ChecksumAlgorithm type) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return compute(length, type, (checksum, position, len) -> checksum
+					.update(channel.map(FileChannel.MapMode.READ_ONLY, offset + position, len)));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * 버퍼의 남은 내용(position부터 limit까지)의 CRC. 버퍼의 위치는 바꾸지 않는다.
+	 * 메모리 매핑한 구간이나 direct 버퍼에 사용한다.
+	 */
+	public static long crc(ByteBuffer buffer, ChecksumAlgorithm type) {
+		var source = buffer.slice();
+		return compute(source.remaining(), type,
+				(checksum, position, len) -> checksum.update(source.slice((int) position, (int) len)));
+	}
+
+	/**
+	 * 생성기 데이터의 CRC. 구간마다 내용을 생성하면서 계산하므로 데이터 크기만큼의 메모리는 필요 없다.
+	 */
+	public static long crc(RandomPayload payload, ChecksumAlgorithm type) {
+		return compute(payload.getLength(), type,
+				(checksum, position, len) -> update(checksum, payload::read, position, len));
+	}
+
+	/**
+	 * 검증 기대값({@link ContentVerifier.Expected})의 CRC. 문자열, 생성기 데이터, 파일 등 기대값의 내용을
+	 * 구간별로 읽으면서 계산한다.
+	 */
+	public static long crc(ContentVerifier.Expected expected, ChecksumAlgorithm type) {
+		return compute(expected.length(), type,
+				(checksum, position, len) -> update(checksum, expected::read, position, len));
+	}
+
+	/**
+	 * CRC 값을 S3 체크섬 형식(Base64)으로 변환한다.
+	 */
+	public static String toBase64(long crc, ChecksumAlgorithm type) {
+		return Base64.getEncoder().encodeToString(CrcCombine.toChecksumBytes(crc, type));
+	}
+
+	/** 동시에 계산하는 스레드 수 */
+	public static int getThreads() {
+		return THREADS;
+	}
+
+	private static long compute(long length, ChecksumAlgorithm type, Region region) {
+		newChecksum(type); // 타입 검증
+		var task = new CrcTask(region, type, 0, length);
+		// 구간 하나면 풀을 거치지 않고 바로 계산
+		if (length <= CHUNK)
+			return task.compute();
+		return pool.invoke(task);
+	}
+
+	/** source의 [position, position + length) 구간을 조금씩 읽어 checksum에 넣는다. */
+	private static void update(Checksum checksum, ContentVerifier.Source source, long position, long length)
+			throws IOException {
+		var buffer = new byte[(int) Math.min(RandomPayload.CHUNK_SIZE, Math.max(length, 1))];
+		for (long done = 0; done < length; done += buffer.length) {
+			var size = (int) Math.min(buffer.length, length - done);
+			source.read(position + done, buffer, 0, size);
+			checksum.update(buffer, 0, size);
+		}
+	}
+
+	private static Checksum newChecksum(ChecksumAlgorithm type) {
+		return switch (type) {
+			case CRC32 -> new CRC32();
+			case CRC32_C -> new CRC32C();
+			case CRC64_NVME -> SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC64NVME);
+			default -> throw new IllegalArgumentException("Invalid type: " + type);
+		};
+	}
+
+	/** [start, end) 구간의 CRC. 구간 크기 단위로 반씩 나누어 계산한 뒤 결합한다. */
+	private static final class CrcTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		private final transient Region region;
+		private final ChecksumAlgorithm type;
+		private final long start;
+		private final long end;
+
+		CrcTask(Region region, ChecksumAlgorithm type, long start, long end) {
+			this.region = region;
+			this.type = type;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected Long compute() {
+			var length = end - start;
+			if (length <= CHUNK) {
+				var checksum = newChecksum(type);
+				try {
+					region.update(checksum, start, length);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return checksum.getValue();
+			}
+
+			var chunks = (length + CHUNK - 1) / CHUNK;
+			var middle = start + chunks / 2 * CHUNK;
+			var left = new CrcTask(region, type, start, middle);
+			var right = new CrcTask(region, type, middle, end);
+			left.fork();
+			long rightCrc = right.compute();
+			long leftCrc = left.join();
+			return CrcCombine.combine(leftCrc, rightCrc, end - middle, type);
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.example.Data.MainData;
+
+/**
+ * UploadPartCopy(서버 측 파트 복사)를 여러 파트 동시에 실행하는 도구.
+ * <p>
+ * 동시 실행 수는 {@value #PROPERTY_PARTS}, 기본 파트 크기는 {@value #PROPERTY_PART_SIZE} 속성으로 정한다.
+ * 파트별 복사 시간을 기록하여 복사가 끝나면 전체 처리량과 함께 출력한다.
+ */
+public final class PartCopier {
+	/** 동시에 복사하는 최대 파트 수 속성 */
+	public static final String PROPERTY_PARTS = "s3tests.copy.parts";
+	/** 기본 파트 크기 속성 */
+	public static final String PROPERTY_PART_SIZE = "s3tests.copy.partSize";
+	/** 기본 동시 복사 파트 수 */
+	public static final int DEFAULT_PARTS = 4;
+	/** 기본 파트 크기 */
+	public static final int DEFAULT_PART_SIZE = 5 * MainData.MB;
+
+	private static final int MAX_PARTS = Math.max(1,
+			Math.min(Integer.getInteger(PROPERTY_PARTS, DEFAULT_PARTS), ClientRegistry.MAX_CONNECTIONS));
+	private static final int PART_SIZE = Math.max(5 * MainData.MB,
+			Integer.getInteger(PROPERTY_PART_SIZE, DEFAULT_PART_SIZE));
+
+	private PartCopier() {
+	}
+
+	/**
+	 * 복사할 파트
+	 *
+	 * @param partNumber 파트 번호
+	 * @param first      원본의 시작 위치
+	 * @param last       원본의 끝 위치 (포함)
+	 */
+	public record Part(int partNumber, long first, long last) {
+
+		public long length() {
+			return last - first + 1;
+		}
+
+		/** x-amz-copy-source-range 헤더 값 */
+		public String toRange() {
+			return "bytes=" + first + "-" + last;
+		}
+	}
+
+	/** 동기 클라이언트로 파트 하나를 복사하는 함수 */
+	@FunctionalInterface
+	public interface Copy<T> {
+		T copy(Part part) throws Exception; // NOSONAR
+	}
+
+	/** 비동기 클라이언트로 파트 하나의 복사를 시작하는 함수 */
+	@FunctionalInterface
+	public interface AsyncCopy<T> {
+		CompletableFuture<T> copy(Part part);
+	}
+
+	/**
+	 * 복사 결과
+	 *
+	 * @param responses 파트 순서대로 정렬된 응답
+	 * @param latencies 파트별 복사 시간 (ns, 파트 순서)
+	 * @param bytes     복사한 전체 크기
+	 * @param elapsed   전체 소요 시간 (ns)
+	 */
+	public record Result<T>(List<T> responses, long[] latencies, long bytes, long elapsed) {
+
+		/** 전체 처리량 (MB/s) */
+		public double getThroughput() {
+			return elapsed == 0 ? 0 : bytes / (double) MainData.MB / (elapsed / 1e9);
+		}
+
+		/**
+		 * 파트 복사 시간의 백분위 (ms)
+		 *
+		 * @param percent 0 ~ 100
+		 */
+		public double getLatency(double percent) {
+			if (latencies.length == 0)
+				return 0;
+			var sorted = latencies.clone();
+			Arrays.sort(sorted);
+			var index = (int) Math.ceil(percent / 100 * sorted.length) - 1;
+			return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d parts, %.1fMB in %.2fs (%.1fMB/s, part p50 %.0fms, p90 %.0fms, max %.0fms)",
+					responses.size(), bytes / (double) MainData.MB, elapsed / 1e9, getThroughput(), getLatency(50),
+					getLatency(90), getLatency(100));
+		}
+	}
+
+	/**
+	 * 파트 크기. 지정하지 않았으면(0 이하) 기본 파트 크기를 사용한다.
+	 */
+	public static int getPartSize(int partSize) {
+		return partSize > 0 ? partSize : PART_SIZE;
+	}
+
+	/** 동시 복사 파트 수 */
+	public static int getMaxParts() {
+		return MAX_PARTS;
+	}
+
+	/**
+	 * 원본 [0, size)를 partSize 단위로 나눈 파트 목록
+	 *
+	 * @param firstPartNumber 첫 파트 번호
+	 */
+	public static List<Part> split(long size, long partSize, int firstPartNumber) {
+		var parts = new ArrayList<Part>();
+		var partNumber = firstPartNumber;
+		for (long first = 0; first < size; first += partSize)
+			parts.add(new Part(partNumber++, first, Math.min(first + partSize, size) - 1));
+		return parts;
+	}
+
+	/**
+	 * 동기 클라이언트로 파트를 동시에 복사한다.
+	 *
+	 * @param name  출력에 표시할 대상 이름
+	 * @param parts 복사할 파트 목록
+	 * @param copy  파트 복사 함수
+	 */
+	public static <T> Result<T> copy(String name, List<Part> parts, Copy<T> copy) {
+		var latencies = new long[parts.size()];
+		var start = System.nanoTime();
+		var responses = PartUploader.upload(lengths(parts), MAX_PARTS, Integer.MAX_VALUE, index -> {
+			var begin = System.nanoTime();
+			var response = copy.copy(parts.get(index));
+			latencies[index] = System.nanoTime() - begin;
+			return response;
+		});
+		return report(name, parts, responses, latencies, System.nanoTime() - start);
+	}
+
+	/**
+	 * 비동기 클라이언트로 파트를 동시에 복사한다.
+	 *
+	 * @param name  출력에 표시할 대상 이름
+	 * @param parts 복사할 파트 목록
+	 * @param copy  파트 복사 시작 함수
+	 */
+	public static <T> Result<T> copyAsync(String name, List<Part> parts, AsyncCopy<T> copy) {
+		var latencies = new long[parts.size()];
+		var start = System.nanoTime();
+		var responses = PartUploader.uploadAsync(lengths(parts), MAX_PARTS, Integer.MAX_VALUE, index -> {
+			var begin = System.nanoTime();
+			return copy.copy(parts.get(index)).whenComplete((r, e) -> latencies[index] = System.nanoTime() - begin);
+		});
+		return report(name, parts, responses, latencies, System.nanoTime() - start);
+	}
+
+	private static List<Long> lengths(List<Part> parts) {
+		return parts.stream().map(Part::length).toList();
+	}
+
+	private static <T> Result<T> report(String name, List<Part> parts, List<T> responses, long[] latencies,
+			long elapsed) {
+		var result = new Result<>(responses, latencies, parts.stream().mapToLong(Part::length).sum(), elapsed);
+		System.out.printf("Part Copy : %s : %s%n", name, result);
+		return result;
+	}
+}
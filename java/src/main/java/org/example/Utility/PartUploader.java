@@ -0,0 +1,196 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.Data.MainData;
+
+/**
+ * 멀티파트 업로드의 파트를 여러 개 동시에 보내는 도구.
+ * <p>
+ * 동시에 전송 중인 파트 수({@value #PROPERTY_PARTS})와 전송 중인 파트 크기의 합({@value #PROPERTY_BYTES})을
+ * 모두 제한하면서 다음 파트를 시작한다. 파트가 끝나는 순서와 관계없이 결과는 파트 순서대로 돌려주므로
+ * CompleteMultipartUpload의 파트 목록을 그대로 만들 수 있다. 서버 입장에서는 파트가 순서와 다르게
+ * 도착하게 된다.
+ */
+public final class PartUploader {
+	/** 동시에 전송하는 최대 파트 수 속성 */
+	public static final String PROPERTY_PARTS = "s3tests.upload.parts";
+	/** 동시에 전송하는 파트 크기 합의 최댓값 속성 */
+	public static final String PROPERTY_BYTES = "s3tests.upload.bytes";
+	/** 기본 동시 전송 파트 수 */
+	public static final int DEFAULT_PARTS = 4;
+	/** 기본 동시 전송 크기 */
+	public static final int DEFAULT_BYTES = 64 * MainData.MB;
+
+	private static final int MAX_PARTS = Math.max(1,
+			Math.min(Integer.getInteger(PROPERTY_PARTS, DEFAULT_PARTS), ClientRegistry.MAX_CONNECTIONS));
+	private static final int MAX_BYTES = Math.max(1, Integer.getInteger(PROPERTY_BYTES, DEFAULT_BYTES));
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		var thread = new Thread(runnable, "part-uploader-" + threadCount.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private PartUploader() {
+	}
+
+	/** 동기 클라이언트로 파트 하나를 업로드하는 함수 */
+	@FunctionalInterface
+	public interface Upload<T> {
+		/**
+		 * @param index 0부터 시작하는 파트 순서
+		 */
+		T upload(int index) throws Exception; // NOSONAR
+	}
+
+	/** 비동기 클라이언트로 파트 하나의 업로드를 시작하는 함수 */
+	@FunctionalInterface
+	public interface AsyncUpload<T> {
+		/**
+		 * @param index 0부터 시작하는 파트 순서
+		 */
+		CompletableFuture<T> upload(int index);
+	}
+
+	/**
+	 * 동기 클라이언트용. 파트 업로드를 별도 스레드에서 실행한다.
+	 *
+	 * @param lengths 파트별 크기
+	 * @param upload  파트 업로드 함수
+	 * @return 파트 순서대로 정렬된 결과
+	 */
+	public static <T> List<T> upload(List<Long> lengths, Upload<T> upload) {
+		return upload(lengths, MAX_PARTS, MAX_BYTES, upload);
+	}
+
+	/**
+	 * 제한을 직접 지정하는 동기 클라이언트용 업로드
+	 *
+	 * @param maxParts 동시에 전송하는 최대 파트 수
+	 * @param maxBytes 동시에 전송하는 파트 크기 합의 최댓값
+	 */
+	public static <T> List<T> upload(List<Long> lengths, int maxParts, int maxBytes, Upload<T> upload) {
+		if (maxParts <= 1) {
+			var results = new ArrayList<T>(lengths.size());
+			for (int i = 0; i < lengths.size(); i++)
+				results.add(call(upload, i));
+			return results;
+		}
+		return uploadAsync(lengths, maxParts, maxBytes,
+				index -> CompletableFuture.supplyAsync(
+						RequestMetrics.getInstance().propagate(() -> call(upload, index)), executor));
+	}
+
+	/**
+	 * 비동기 클라이언트용. 파트 업로드를 이어서 시작하고, 제한에 걸리면 앞선 파트가 끝날 때까지 기다린다.
+	 *
+	 * @param lengths 파트별 크기
+	 * @param upload  파트 업로드 시작 함수
+	 * @return 파트 순서대로 정렬된 결과
+	 */
+	public static <T> List<T> uploadAsync(List<Long> lengths, AsyncUpload<T> upload) {
+		return uploadAsync(lengths, MAX_PARTS, MAX_BYTES, upload);
+	}
+
+	/**
+	 * 제한을 직접 지정하는 비동기 클라이언트용 업로드
+	 *
+	 * @param maxParts 동시에 전송하는 최대 파트 수
+	 * @param maxBytes 동시에 전송하는 파트 크기 합의 최댓값
+	 */
+	public static <T> List<T> uploadAsync(List<Long> lengths, int maxParts, int maxBytes, AsyncUpload<T> upload) {
+		var parts = new Semaphore(Math.max(1, maxParts));
+		var limit = Math.max(1, maxBytes);
+		var bytes = new Semaphore(limit);
+		var futures = new ArrayList<CompletableFuture<T>>(lengths.size());
+		var failed = new CompletableFuture<Void>();
+
+		for (int i = 0; i < lengths.size() && !failed.isDone(); i++) {
+			// 제한보다 큰 파트는 혼자 전송되도록 제한 전체를 차지한다
+			var permits = (int) Math.min(lengths.get(i), limit);
+			try {
+				parts.acquire();
+				bytes.acquire(permits);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				futures.forEach(f -> f.cancel(true));
+				throw new IllegalStateException("Part upload interrupted", e);
+			}
+
+			CompletableFuture<T> future;
+			try {
+				future = upload.upload(i);
+			} catch (RuntimeException e) {
+				future = CompletableFuture.failedFuture(e);
+			}
+			futures.add(future.whenComplete((result, e) -> {
+				bytes.release(permits);
+				parts.release();
+				if (e != null)
+					failed.complete(null);
+			}));
+		}
+
+		var results = new ArrayList<T>(futures.size());
+		Throwable failure = null;
+		for (var future : futures)
+			try {
+				results.add(future.join());
+			} catch (CompletionException e) {
+				if (failure == null)
+					failure = e.getCause();
+				else
+					failure.addSuppressed(e.getCause());
+			}
+		if (failure instanceof RuntimeException e)
+			throw e;
+		if (failure instanceof Error e)
+			throw e;
+		if (failure != null)
+			throw new IllegalStateException(failure.getMessage(), failure);
+		return results;
+	}
+
+	/**
+	 * 전체 크기를 partSize 단위로 나눈 파트별 크기
+	 */
+	public static List<Long> split(long size, long partSize) {
+		var lengths = new ArrayList<Long>();
+		for (long offset = 0; offset < size; offset += partSize)
+			lengths.add(Math.min(partSize, size - offset));
+		return lengths;
+	}
+
+	/** 동시 전송 파트 수 */
+	public static int getMaxParts() {
+		return MAX_PARTS;
+	}
+
+	private static <T> T call(Upload<T> upload, int index) {
+		try {
+			return upload.upload(index);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new CompletionException(e);
+		}
+	}
+}
@@ -0,0 +1,358 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+/**
+ * seed와 위치만으로 내용이 결정되는 테스트용 데이터.
+ * <p>
+ * 내용을 메모리에 보관하지 않고 필요한 구간을 그때그때 생성하므로, 큰 오브젝트도 (seed, 길이)만으로
+ * 업로드하고 검증할 수 있다. 생성되는 문자는 {@link Utils#randomTextToLong(int)}와 같은 영문/숫자이다.
+ */
+public final class RandomPayload {
+	/** 스트림/비동기 전송 시 한 번에 생성하는 크기 */
+	public static final int CHUNK_SIZE = 64 * 1024;
+	/** 생성 문자 타입 */
+	public static final String CONTENT_TYPE = "text/plain";
+
+	private static final byte[] TABLE = new byte[256];
+
+	static {
+		for (int i = 0; i < TABLE.length; i++)
+			TABLE[i] = (byte) Utils.TEXT_LONG[i % Utils.TEXT_LONG.length];
+	}
+
+	private final long seed;
+	private final long offset;
+	private final long length;
+
+	/**
+	 * @param seed   내용을 결정하는 값
+	 * @param length 데이터 길이
+	 */
+	public RandomPayload(long seed, long length) {
+		this(seed, 0, length);
+	}
+
+	private RandomPayload(long seed, long offset, long length) {
+		if (length < 0)
+			throw new IllegalArgumentException("length < 0 : " + length);
+		this.seed = seed;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * 임의의 seed로 데이터를 만든다.
+	 */
+	public static RandomPayload create(long length) {
+		return new RandomPayload(ThreadLocalRandom.current().nextLong(), length);
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * 일부 구간만 가리키는 데이터를 만든다. (멀티파트 업로드의 파트 등)
+	 *
+	 * @param start  시작 위치
+	 * @param length 길이
+	 */
+	public RandomPayload slice(long start, long length) {
+		if (start < 0 || length < 0 || start + length > this.length)
+			throw new IndexOutOfBoundsException(
+					String.format("slice(%d, %d) of length %d", start, length, this.length));
+		return new RandomPayload(seed, offset + start, length);
+	}
+
+	/**
+	 * 위치 position의 1바이트
+	 */
+	public byte byteAt(long position) {
+		var absolute = offset + position;
+		var x = mix(absolute >>> 3);
+		return TABLE[(int) ((x >>> ((absolute & 7) << 3)) & 0xFF)];
+	}
+
+	/**
+	 * position부터 len 바이트를 buffer에 채운다.
+	 */
+	public void read(long position, byte[] buffer, int off, int len) {
+		if (position < 0 || len < 0 || position + len > length)
+			throw new IndexOutOfBoundsException(
+					String.format("read(%d, %d) of length %d", position, len, length));
+
+		var absolute = offset + position;
+		var end = off + len;
+		var index = off;
+		while (index < end) {
+			var x = mix(absolute >>> 3);
+			for (int shift = (int) (absolute & 7); shift < 8 && index < end; shift++) {
+				buffer[index++] = TABLE[(int) ((x >>> (shift << 3)) & 0xFF)];
+				absolute++;
+			}
+		}
+	}
+
+	/**
+	 * position부터 len 바이트를 배열로 반환
+	 */
+	public byte[] getBytes(long position, int len) {
+		var buffer = new byte[len];
+		read(position, buffer, 0, len);
+		return buffer;
+	}
+
+	/**
+	 * 전체 데이터를 문자열로 반환. 기존 문자열 기반 검증 함수와 함께 쓸 때만 사용한다.
+	 */
+	public String getString() {
+		return getString(0, Math.toIntExact(length));
+	}
+
+	/**
+	 * position부터 len 바이트를 문자열로 반환
+	 */
+	public String getString(long position, int len) {
+		return new String(getBytes(position, len), StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * 데이터를 읽는 스트림. mark/reset을 지원한다.
+	 */
+	public InputStream newInputStream() {
+		return new PayloadInputStream();
+	}
+
+	/**
+	 * SDK v2 동기 클라이언트용 요청 본문. 재시도 시 처음부터 다시 생성한다.
+	 */
+	public RequestBody toRequestBody() {
+		return RequestBody.fromContentProvider(this::newInputStream, length, CONTENT_TYPE);
+	}
+
+	/**
+	 * SDK v2 비동기 클라이언트용 요청 본문
+	 */
+	public AsyncRequestBody toAsyncRequestBody() {
+		return new PayloadAsyncRequestBody();
+	}
+
+	/**
+	 * 데이터의 MD5 (Base64)
+	 */
+	public String getMD5() {
+		var checksum = MultiChecksum.of(ChecksumAlgorithm.MD5);
+		var buffer = new byte[(int) Math.min(CHUNK_SIZE, Math.max(length, 1))];
+		for (long position = 0; position < length; position += buffer.length) {
+			var len = (int) Math.min(buffer.length, length - position);
+			read(position, buffer, 0, len);
+			checksum.update(buffer, 0, len);
+		}
+		return checksum.getMD5();
+	}
+
+	/**
+	 * 스트림의 내용이 데이터와 같은지 비교한다.
+	 *
+	 * @param input 비교할 스트림 (닫지 않음)
+	 * @return 처음으로 다른 위치. 같으면 -1. 길이가 다르면 짧은 쪽의 끝 위치
+	 * @throws IOException 스트림 읽기 실패
+	 * @see ContentVerifier
+	 */
+	public long mismatch(InputStream input) throws IOException {
+		return ContentVerifier.verify(input, ContentVerifier.Expected.of(this)).mismatch();
+	}
+
+	/**
+	 * 배열의 내용이 데이터와 같은지 비교한다.
+	 *
+	 * @return 처음으로 다른 위치. 같으면 -1
+	 */
+	public long mismatch(byte[] data) {
+		var expected = new byte[CHUNK_SIZE];
+		var common = Math.min(data.length, length);
+		for (long position = 0; position < common; position += expected.length) {
+			var len = (int) Math.min(expected.length, common - position);
+			read(position, expected, 0, len);
+			var index = Arrays.mismatch(data, (int) position, (int) position + len, expected, 0, len);
+			if (index >= 0)
+				return position + index;
+		}
+		return data.length == length ? -1 : common;
+	}
+
+	/**
+	 * 문자열의 내용이 데이터와 같은지 비교한다.
+	 *
+	 * @return 처음으로 다른 위치. 같으면 -1
+	 */
+	public long mismatch(String data) {
+		return mismatch(data.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	@Override
+	public String toString() {
+		return offset == 0 ? String.format("RandomPayload(seed=%d, length=%d)", seed, length)
+				: String.format("RandomPayload(seed=%d, offset=%d, length=%d)", seed, offset, length);
+	}
+
+	/** SplitMix64 */
+	private long mix(long block) {
+		var z = seed + (block + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private final class PayloadInputStream extends InputStream {
+		private long position;
+		private long mark;
+
+		@Override
+		public int read() {
+			if (position >= length)
+				return -1;
+			return byteAt(position++);
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) {
+			if (len == 0)
+				return 0;
+			if (position >= length)
+				return -1;
+			len = (int) Math.min(len, length - position);
+			RandomPayload.this.read(position, buffer, off, len);
+			position += len;
+			return len;
+		}
+
+		@Override
+		public long skip(long n) {
+			var skipped = Math.max(0, Math.min(n, length - position));
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() {
+			return (int) Math.min(Integer.MAX_VALUE, length - position);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return true;
+		}
+
+		@Override
+		public synchronized void mark(int readLimit) {
+			mark = position;
+		}
+
+		@Override
+		public synchronized void reset() {
+			position = mark;
+		}
+	}
+
+	private final class PayloadAsyncRequestBody implements AsyncRequestBody {
+
+		@Override
+		public Optional<Long> contentLength() {
+			return Optional.of(length);
+		}
+
+		@Override
+		public String contentType() {
+			return CONTENT_TYPE;
+		}
+
+		@Override
+		public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+			subscriber.onSubscribe(new PayloadSubscription(subscriber));
+		}
+	}
+
+	/** 요청받은 만큼만 생성하여 전달하는 Subscription */
+	private final class PayloadSubscription implements Subscription {
+		private final Subscriber<? super ByteBuffer> subscriber;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicBoolean emitting = new AtomicBoolean();
+		private volatile boolean cancelled;
+		private long position;
+
+		PayloadSubscription(Subscriber<? super ByteBuffer> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				cancelled = true;
+				subscriber.onError(new IllegalArgumentException("request must be positive : " + n));
+				return;
+			}
+			demand.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void drain() {
+			// onNext 안에서 request가 다시 호출되어도 한 스레드만 전달하도록 한다
+			while (emitting.compareAndSet(false, true)) {
+				try {
+					while (!cancelled && demand.get() > 0 && position < length) {
+						var len = (int) Math.min(CHUNK_SIZE, length - position);
+						var buffer = new byte[len];
+						read(position, buffer, 0, len);
+						position += len;
+						demand.decrementAndGet();
+						subscriber.onNext(ByteBuffer.wrap(buffer));
+					}
+					if (!cancelled && position >= length) {
+						cancelled = true;
+						subscriber.onComplete();
+					}
+				} finally {
+					emitting.set(false);
+				}
+				if (cancelled || demand.get() == 0)
+					return;
+			}
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Range/버전 GET 검증을 동시에 실행하는 도구.
+ * <p>
+ * 구간마다 독립적으로 요청하고 비교하므로, 큰 오브젝트를 작은 단위로 검증할 때 왕복 시간을
+ * 동시 실행 수만큼 줄일 수 있다. 동시 실행 수는 {@value #PROPERTY_CONCURRENCY} 속성으로 정하며
+ * 1이면 기존처럼 현재 스레드에서 순서대로 실행한다.
+ * <p>
+ * 무작위 구간은 {@link #newRandom(String)}이 출력하는 seed로 만들어지므로, 실패한 경우
+ * {@value #PROPERTY_SEED} 속성에 그 seed를 지정하여 같은 구간으로 다시 실행할 수 있다.
+ */
+public final class RangeVerifier {
+	/** 동시 실행 수 속성 */
+	public static final String PROPERTY_CONCURRENCY = "s3tests.range.concurrency";
+	/** 무작위 구간 seed 속성 */
+	public static final String PROPERTY_SEED = "s3tests.range.seed";
+	/** 기본 동시 실행 수 */
+	public static final int DEFAULT_CONCURRENCY = 8;
+
+	private static final int CONCURRENCY = Math.max(1,
+			Math.min(Integer.getInteger(PROPERTY_CONCURRENCY, DEFAULT_CONCURRENCY), ClientRegistry.MAX_CONNECTIONS));
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY, runnable -> {
+		var thread = new Thread(runnable, "range-verifier-" + threadCount.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private RangeVerifier() {
+	}
+
+	/** 구간 하나를 검증하는 함수. 실패하면 AssertionError 등 예외를 던진다. */
+	@FunctionalInterface
+	public interface Check<T> {
+		void check(T item) throws Exception; // NOSONAR
+	}
+
+	/**
+	 * 구간
+	 *
+	 * @param start 시작 위치
+	 * @param end   끝 위치 (포함하지 않음)
+	 */
+	public record Range(long start, long end) {
+
+		public long length() {
+			return end - start;
+		}
+
+		/** Range 헤더 값 */
+		public String toHeader() {
+			return "bytes=" + start + "-" + (end - 1);
+		}
+
+		@Override
+		public String toString() {
+			return toHeader();
+		}
+	}
+
+	/**
+	 * 0부터 step 간격으로 나눈 구간 목록
+	 *
+	 * @param size  전체 크기
+	 * @param step  구간 크기
+	 * @param limit 구간 끝의 최댓값
+	 */
+	public static List<Range> split(long size, long step, long limit) {
+		var ranges = new ArrayList<Range>();
+		for (long start = 0; start < size; start += step)
+			ranges.add(new Range(start, Math.min(start + step, limit)));
+		return ranges;
+	}
+
+	/**
+	 * 무작위 구간을 만들 Random을 생성하고 seed를 출력한다.
+	 *
+	 * @param name 출력에 표시할 대상 이름
+	 */
+	public static SeededRandom newRandom(String name) {
+		var value = System.getProperty(PROPERTY_SEED);
+		var seed = value == null || value.isBlank() ? ThreadLocalRandom.current().nextLong()
+				: Long.parseLong(value.trim());
+		System.out.printf("Random Range Seed : %d (%s, -D%s=%d)%n", seed, name, PROPERTY_SEED, seed);
+		return new SeededRandom(seed);
+	}
+
+	/** seed를 기억하는 Random */
+	public static final class SeededRandom extends Random {
+		private static final long serialVersionUID = 1L;
+		private final long seed;
+
+		SeededRandom(long seed) {
+			super(seed);
+			this.seed = seed;
+		}
+
+		public long getSeed() {
+			return seed;
+		}
+	}
+
+	/**
+	 * 모든 구간을 동시에 검증한다. 하나라도 실패하면 나머지가 끝날 때까지 기다린 뒤
+	 * 가장 앞 구간의 실패를 던지고, 다른 실패는 suppressed로 덧붙인다.
+	 *
+	 * @param items 검증할 구간 목록
+	 * @param check 구간 검증 함수
+	 */
+	public static <T> void run(List<T> items, Check<T> check) {
+		var failures = new ArrayList<Throwable>();
+		if (CONCURRENCY == 1 || items.size() <= 1) {
+			for (var item : items)
+				try {
+					check.check(item);
+				} catch (Throwable e) { // NOSONAR
+					failures.add(e);
+					break;
+				}
+		} else {
+			var futures = new ArrayList<Future<?>>(items.size());
+			for (var item : items)
+				futures.add(executor.submit(RequestMetrics.getInstance().propagateCallable(() -> {
+					check.check(item);
+					return null;
+				})));
+			for (var future : futures)
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					failures.add(e.getCause());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					futures.forEach(f -> f.cancel(true));
+					failures.add(e);
+					break;
+				}
+		}
+		if (failures.isEmpty())
+			return;
+
+		var first = failures.get(0);
+		for (int i = 1; i < failures.size(); i++)
+			first.addSuppressed(failures.get(i));
+		if (first instanceof RuntimeException e)
+			throw e;
+		if (first instanceof Error e)
+			throw e;
+		throw new AssertionError(first.getMessage(), first);
+	}
+
+	/** 동시 실행 수 */
+	public static int getConcurrency() {
+		return CONCURRENCY;
+	}
+}
@@ -0,0 +1,410 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * SDK 요청별 단계 시간을 테스트 메서드 단위로 모으는 저장소.
+ * <p>
+ * SDK v2 클라이언트는 {@link RequestMetricsInterceptor}, SDK v1 클라이언트는 {@link RequestMetricsCollector}로
+ * 요청이 끝날 때마다 {@link #record(Sample)}를 호출한다. 어떤 테스트의 요청인지는 요청을 시작한 스레드에
+ * {@link #startTest(String)}로 지정된 테스트 이름으로 구분하며, 테스트 밖(공유 버킷 생성, 정리 등)의 요청은
+ * {@value #NO_TEST}로 모은다.
+ * <p>
+ * 실행이 끝나면 {@link #write(File, String)}로 테스트/요청별 합계를 JSON과 CSV 파일로 저장한다.
+ * 빌드 사이에 기능 테스트는 모두 통과해도 특정 API의 지연 시간이 늘었는지 비교하는 용도이다.
+ */
+public final class RequestMetrics {
+	/** 수집 여부 속성 (기본 true) */
+	public static final String PROPERTY_ENABLED = "s3tests.metrics";
+	/** 결과 파일을 저장할 폴더 속성 */
+	public static final String PROPERTY_DIR = "s3tests.metrics.dir";
+	/** 결과 파일 이름 속성 */
+	public static final String PROPERTY_NAME = "s3tests.metrics.name";
+	/** 기본 저장 폴더 (surefire 결과 폴더) */
+	public static final String DEFAULT_DIR = "./target/results";
+	/** 기본 파일 이름 */
+	public static final String DEFAULT_NAME = "s3tests";
+	/** 테스트 밖에서 보낸 요청의 테스트 이름 */
+	public static final String NO_TEST = "-";
+
+	/** 수집 여부 */
+	public static final boolean ENABLED = !"false"
+			.equalsIgnoreCase(System.getProperty(PROPERTY_ENABLED, "true").trim());
+
+	/** 요청 단계 */
+	public enum Phase {
+		/** 요청 객체를 HTTP 요청으로 변환 */
+		MARSHAL,
+		/** 서명 (SDK v2는 체크섬 계산 포함) */
+		SIGN,
+		/** 전송 시작부터 응답 헤더 수신까지 (요청 본문 업로드 포함) */
+		FIRST_BYTE,
+		/** 응답 헤더 수신부터 응답 본문을 모두 읽을 때까지 */
+		TRANSFER,
+		/** 전체 */
+		TOTAL;
+
+		final String label = name().toLowerCase();
+	}
+
+	/**
+	 * 요청 하나의 측정값
+	 *
+	 * @param test          테스트 이름
+	 * @param sdk           v1 | v2
+	 * @param operation     API 이름 (PutObject 등)
+	 * @param status        HTTP 상태 코드. 응답이 없으면 0
+	 * @param failed        예외로 끝났는지 여부
+	 * @param retries       재시도 횟수
+	 * @param bytesSent     요청 본문 크기
+	 * @param bytesReceived 응답 본문 크기
+	 * @param nanos         {@link Phase} 순서의 단계별 시간 (나노초). 측정하지 못한 단계는 0
+	 */
+	public record Sample(String test, String sdk, String operation, int status, boolean failed, int retries,
+			long bytesSent, long bytesReceived, long[] nanos) {
+	}
+
+	record Key(String test, String sdk, String operation) {
+	}
+
+	/**
+	 * 테스트 하나가 사용한 네트워크 자원
+	 *
+	 * @param requests      보낸 요청 수
+	 * @param bytesSent     보낸 본문 크기
+	 * @param bytesReceived 받은 본문 크기
+	 * @param connections   새로 연 연결 수
+	 * @param tlsHandshakes TLS 핸드셰이크 수
+	 */
+	public record Usage(long requests, long bytesSent, long bytesReceived, long connections, long tlsHandshakes) {
+		public static final Usage EMPTY = new Usage(0, 0, 0, 0, 0);
+	}
+
+	/** 테스트별 자원 사용량 합계 */
+	static final class UsageCounter {
+		final LongAdder requests = new LongAdder();
+		final LongAdder bytesSent = new LongAdder();
+		final LongAdder bytesReceived = new LongAdder();
+		final LongAdder connections = new LongAdder();
+		final LongAdder tlsHandshakes = new LongAdder();
+
+		Usage toUsage() {
+			return new Usage(requests.sum(), bytesSent.sum(), bytesReceived.sum(), connections.sum(),
+					tlsHandshakes.sum());
+		}
+	}
+
+	/** 같은 키의 요청 합계 */
+	static final class Stats {
+		long count;
+		long errors;
+		long retries;
+		long bytesSent;
+		long bytesReceived;
+		final long[] sum = new long[Phase.values().length];
+		final long[] max = new long[Phase.values().length];
+		final Map<Integer, Long> statuses = new TreeMap<>();
+
+		synchronized void add(Sample sample) {
+			count++;
+			if (sample.failed())
+				errors++;
+			retries += sample.retries();
+			bytesSent += sample.bytesSent();
+			bytesReceived += sample.bytesReceived();
+			for (int i = 0; i < sum.length; i++) {
+				sum[i] += sample.nanos()[i];
+				max[i] = Math.max(max[i], sample.nanos()[i]);
+			}
+			statuses.merge(sample.status(), 1L, Long::sum);
+		}
+	}
+
+	private static final RequestMetrics instance = new RequestMetrics();
+
+	private final ThreadLocal<String> currentTest = new ThreadLocal<>();
+	private final Map<Key, Stats> tests = new ConcurrentHashMap<>();
+	/** SDK/요청별 전체 시간 분포 */
+	private final Map<Key, LatencyHistogram> totals = new ConcurrentHashMap<>();
+	private final Map<String, UsageCounter> usages = new ConcurrentHashMap<>();
+
+	private RequestMetrics() {
+	}
+
+	public static RequestMetrics getInstance() {
+		return instance;
+	}
+
+	/**
+	 * 현재 스레드에서 실행하는 테스트를 지정한다.
+	 */
+	public void startTest(String test) {
+		currentTest.set(test);
+	}
+
+	/**
+	 * 현재 스레드의 테스트 지정을 해제한다.
+	 */
+	public void endTest() {
+		currentTest.remove();
+	}
+
+	/**
+	 * 현재 스레드에서 실행하는 테스트 이름. 없으면 {@value #NO_TEST}
+	 */
+	public String getCurrentTest() {
+		var test = currentTest.get();
+		return test == null ? NO_TEST : test;
+	}
+
+	/**
+	 * 다른 스레드(파트 업로드, 범위 검증 풀 등)에서 실행할 작업의 요청이 현재 테스트로 기록되도록 감싼다.
+	 */
+	public <T> Supplier<T> propagate(Supplier<T> task) {
+		var test = currentTest.get();
+		return () -> {
+			var previous = currentTest.get();
+			set(test);
+			try {
+				return task.get();
+			} finally {
+				set(previous);
+			}
+		};
+	}
+
+	/**
+	 * {@link #propagate(Supplier)}의 {@link Callable} 버전
+	 */
+	public <T> Callable<T> propagateCallable(Callable<T> task) {
+		var test = currentTest.get();
+		return () -> {
+			var previous = currentTest.get();
+			set(test);
+			try {
+				return task.call();
+			} finally {
+				set(previous);
+			}
+		};
+	}
+
+	private void set(String test) {
+		if (test == null)
+			currentTest.remove();
+		else
+			currentTest.set(test);
+	}
+
+	/**
+	 * 요청 하나의 측정값을 더한다.
+	 */
+	public void record(Sample sample) {
+		var usage = usages.computeIfAbsent(sample.test(), k -> new UsageCounter());
+		usage.requests.increment();
+		usage.bytesSent.add(sample.bytesSent());
+		usage.bytesReceived.add(sample.bytesReceived());
+		tests.computeIfAbsent(new Key(sample.test(), sample.sdk(), sample.operation()), k -> new Stats()).add(sample);
+		var histogram = totals.computeIfAbsent(new Key(NO_TEST, sample.sdk(), sample.operation()),
+				k -> new LatencyHistogram());
+		synchronized (histogram) {
+			histogram.record(TimeUnit.NANOSECONDS.toMicros(sample.nanos()[Phase.TOTAL.ordinal()]));
+		}
+	}
+
+	/**
+	 * 현재 스레드의 테스트에서 새 연결을 열었음을 기록한다.
+	 *
+	 * @param tls TLS 연결 여부
+	 * @see ConnectionCounter
+	 */
+	public void connectionOpened(boolean tls) {
+		var usage = usages.computeIfAbsent(getCurrentTest(), k -> new UsageCounter());
+		usage.connections.increment();
+		if (tls)
+			usage.tlsHandshakes.increment();
+	}
+
+	/**
+	 * 테스트가 지금까지 사용한 네트워크 자원
+	 *
+	 * @param test 테스트 이름
+	 */
+	public Usage getUsage(String test) {
+		var usage = usages.get(test);
+		return usage == null ? Usage.EMPTY : usage.toUsage();
+	}
+
+	/**
+	 * 기록된 요청 수
+	 */
+	public long size() {
+		return tests.values().stream().mapToLong(stats -> stats.count).sum();
+	}
+
+	/**
+	 * 결과 파일 ({@code METRICS-이름.json}, {@code METRICS-이름.csv})을 저장한다. 기록이 없으면 저장하지 않는다.
+	 *
+	 * @param directory 저장할 폴더
+	 * @param name      파일 이름
+	 * @return 저장한 파일 목록
+	 */
+	public List<File> write(File directory, String name) {
+		var files = new ArrayList<File>();
+		if (tests.isEmpty())
+			return files;
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			System.out.printf("Error : Request Metrics Directory Create Failed(%s)%n", directory);
+			return files;
+		}
+		var json = new File(directory, "METRICS-" + name + ".json");
+		var csv = new File(directory, "METRICS-" + name + ".csv");
+		try (var writer = new FileWriter(json)) {
+			new GsonBuilder().setPrettyPrinting().create().toJson(toJson(), writer);
+			files.add(json);
+		} catch (IOException e) {
+			System.out.printf("Error : Request Metrics Save Failed(%s)%n", e.getMessage());
+		}
+		try (var writer = new PrintWriter(new FileWriter(csv))) {
+			writeCsv(writer);
+			files.add(csv);
+		} catch (IOException e) {
+			System.out.printf("Error : Request Metrics Save Failed(%s)%n", e.getMessage());
+		}
+		return files;
+	}
+
+	/**
+	 * 설정된 폴더와 이름으로 결과 파일을 저장한다.
+	 *
+	 * @see #PROPERTY_DIR
+	 * @see #PROPERTY_NAME
+	 */
+	public List<File> write() {
+		return write(new File(System.getProperty(PROPERTY_DIR, DEFAULT_DIR)),
+				System.getProperty(PROPERTY_NAME, DEFAULT_NAME));
+	}
+
+	List<Map.Entry<Key, Stats>> sorted(Map<Key, Stats> map) {
+		var entries = new ArrayList<>(map.entrySet());
+		entries.sort(Map.Entry.comparingByKey(Comparator.comparing(Key::test).thenComparing(Key::sdk)
+				.thenComparing(Key::operation)));
+		return entries;
+	}
+
+	JsonObject toJson() {
+		var root = new JsonObject();
+		var operations = new JsonArray();
+		var keys = new ArrayList<>(totals.keySet());
+		keys.sort(Comparator.comparing(Key::sdk).thenComparing(Key::operation));
+		for (var key : keys) {
+			var histogram = totals.get(key);
+			var item = new JsonObject();
+			item.addProperty("sdk", key.sdk());
+			item.addProperty("operation", key.operation());
+			synchronized (histogram) {
+				item.addProperty("count", histogram.getCount());
+				item.addProperty("meanMs", histogram.getMean() / 1000.0);
+				item.addProperty("p50Ms", histogram.getPercentile(50) / 1000.0);
+				item.addProperty("p90Ms", histogram.getPercentile(90) / 1000.0);
+				item.addProperty("p99Ms", histogram.getPercentile(99) / 1000.0);
+				item.addProperty("maxMs", histogram.getMax() / 1000.0);
+			}
+			operations.add(item);
+		}
+		root.add("operations", operations);
+
+		var list = new JsonArray();
+		for (var entry : sorted(tests)) {
+			var key = entry.getKey();
+			var stats = entry.getValue();
+			var item = new JsonObject();
+			item.addProperty("test", key.test());
+			item.addProperty("sdk", key.sdk());
+			item.addProperty("operation", key.operation());
+			synchronized (stats) {
+				item.addProperty("count", stats.count);
+				item.addProperty("errors", stats.errors);
+				item.addProperty("retries", stats.retries);
+				item.addProperty("bytesSent", stats.bytesSent);
+				item.addProperty("bytesReceived", stats.bytesReceived);
+				var statuses = new JsonObject();
+				stats.statuses.forEach((status, count) -> statuses.addProperty(status.toString(), count));
+				item.add("status", statuses);
+				for (var phase : Phase.values()) {
+					var timing = new JsonObject();
+					timing.addProperty("sumMs", toMillis(stats.sum[phase.ordinal()]));
+					timing.addProperty("meanMs", toMillis(stats.sum[phase.ordinal()]) / stats.count);
+					timing.addProperty("maxMs", toMillis(stats.max[phase.ordinal()]));
+					item.add(phase.label, timing);
+				}
+			}
+			list.add(item);
+		}
+		root.add("tests", list);
+		return root;
+	}
+
+	void writeCsv(PrintWriter writer) {
+		var header = new StringBuilder("test,sdk,operation,count,errors,retries,bytes_sent,bytes_received,status");
+		for (var phase : Phase.values())
+			header.append(',').append(phase.label).append("_mean_ms,").append(phase.label).append("_max_ms");
+		writer.println(header);
+		for (var entry : sorted(tests)) {
+			var key = entry.getKey();
+			var stats = entry.getValue();
+			synchronized (stats) {
+				var line = new StringBuilder();
+				line.append(csv(key.test())).append(',').append(key.sdk()).append(',').append(key.operation())
+						.append(',').append(stats.count).append(',').append(stats.errors).append(',')
+						.append(stats.retries).append(',').append(stats.bytesSent).append(',')
+						.append(stats.bytesReceived).append(',');
+				var statuses = new ArrayList<String>();
+				stats.statuses.forEach((status, count) -> statuses.add(status + ":" + count));
+				line.append(String.join(" ", statuses));
+				for (var phase : Phase.values())
+					line.append(String.format(",%.3f,%.3f", toMillis(stats.sum[phase.ordinal()]) / stats.count,
+							toMillis(stats.max[phase.ordinal()])));
+				writer.println(line);
+			}
+		}
+	}
+
+	static double toMillis(long nanos) {
+		return nanos / 1e6;
+	}
+
+	/** 쉼표나 따옴표가 있는 값(동적 테스트 이름 등)을 CSV 형식으로 감싼다. */
+	static String csv(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0)
+			return value;
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
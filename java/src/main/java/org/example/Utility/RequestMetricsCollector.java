@@ -0,0 +1,119 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.example.Utility.RequestMetrics.Phase;
+
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.TimingInfo;
+
+/**
+ * SDK v1 요청의 단계별 시간을 {@link RequestMetrics}에 기록하는 수집기.
+ * <p>
+ * {@code RequestHandler2}는 서명 전후에 호출되지 않으므로, 클라이언트에 수집기를 등록하여 SDK가 직접 재는
+ * 단계별 시간({@code AWSRequestMetrics})을 받는다. 요청이 끝날 때 호출한 스레드에서 실행되므로 현재 테스트로
+ * 구분할 수 있다. GetObject 본문처럼 호출이 끝난 뒤 읽는 응답 본문은 전송 시간에 포함되지 않는다.
+ */
+public class RequestMetricsCollector extends RequestMetricCollector {
+	static final String SDK = "v1";
+	static final String REQUEST_SUFFIX = "Request";
+
+	@Override
+	public void collectMetrics(Request<?> request, Response<?> response) {
+		var metrics = request.getAWSRequestMetrics();
+		if (metrics == null)
+			return;
+		var timing = metrics.getTimingInfo();
+
+		var nanos = new long[Phase.values().length];
+		nanos[Phase.MARSHAL.ordinal()] = sum(timing, Field.RequestMarshallTime);
+		nanos[Phase.SIGN.ordinal()] = sum(timing, Field.RequestSigningTime);
+		nanos[Phase.FIRST_BYTE.ordinal()] = sum(timing, Field.HttpRequestTime);
+		nanos[Phase.TRANSFER.ordinal()] = sum(timing, Field.ResponseProcessingTime);
+		var total = timing.getTimeTakenMillisIfKnown();
+		nanos[Phase.TOTAL.ordinal()] = total == null ? 0 : (long) (total * 1e6);
+
+		var status = 0;
+		var statuses = metrics.getProperty(Field.StatusCode);
+		if (statuses != null && !statuses.isEmpty() && statuses.get(statuses.size() - 1) instanceof Number number)
+			status = number.intValue();
+		var exceptions = metrics.getProperty(Field.Exception);
+		var failed = status >= 400 || (response == null && exceptions != null && !exceptions.isEmpty());
+		var count = timing.getCounter(Field.RequestCount.name());
+		var retries = count == null ? 0 : Math.max(0, count.intValue() - 1);
+
+		var bytesReceived = response == null || response.getHttpResponse() == null ? 0
+				: getContentLength(firstValues(response.getHttpResponse().getAllHeaders()));
+		RequestMetrics.getInstance().record(new RequestMetrics.Sample(RequestMetrics.getInstance().getCurrentTest(),
+				SDK, getOperation(request), status, failed, retries, getContentLength(request.getHeaders()),
+				bytesReceived, nanos));
+	}
+
+	/** 요청 클래스 이름에서 API 이름을 만든다. (PutObjectRequest -> PutObject) */
+	static String getOperation(Request<?> request) {
+		var original = request.getOriginalRequest();
+		if (original == null)
+			return request.getHttpMethod().name();
+		var name = original.getClass().getSimpleName();
+		return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+	}
+
+	/** 재시도로 여러 번 잰 단계는 합친다. */
+	static long sum(TimingInfo timing, Field field) {
+		var measurements = timing.getAllSubMeasurements(field.name());
+		if (measurements == null)
+			return 0;
+		long nanos = 0;
+		for (var measurement : measurements) {
+			var millis = measurement.getTimeTakenMillisIfKnown();
+			if (millis != null)
+				nanos += (long) (millis * 1e6);
+		}
+		return nanos;
+	}
+
+	/** 여러 값을 가진 응답 헤더에서 이름마다 첫 번째 값만 남긴다. */
+	static Map<String, String> firstValues(Map<String, List<String>> headers) {
+		var values = new HashMap<String, String>();
+		for (var entry : headers.entrySet()) {
+			if (entry.getValue() != null && !entry.getValue().isEmpty())
+				values.put(entry.getKey(), entry.getValue().get(0));
+		}
+		return values;
+	}
+
+	/** 본문 길이. aws-chunked 요청은 원래 본문 길이를 쓴다. */
+	static long getContentLength(Map<String, String> headers) {
+		String length = null;
+		for (var entry : headers.entrySet()) {
+			if ("x-amz-decoded-content-length".equalsIgnoreCase(entry.getKey())) {
+				length = entry.getValue();
+				break;
+			}
+			if ("Content-Length".equalsIgnoreCase(entry.getKey()))
+				length = entry.getValue();
+		}
+		if (length == null)
+			return 0;
+		try {
+			return Long.parseLong(length.trim());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.Utility.RequestMetrics.Phase;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpHeaders;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+/**
+ * SDK v2 요청의 단계별 시간을 재서 {@link RequestMetrics}에 기록하는 인터셉터.
+ * <p>
+ * 다른 인터셉터가 요청을 모두 바꾼 뒤부터 전송 직전까지를 서명 시간으로 재므로, 클라이언트에
+ * 등록하는 인터셉터 중 마지막에 추가해야 한다. 동기 클라이언트의 응답 본문은 스트림을 감싸서
+ * 호출한 쪽이 끝까지 읽거나 닫을 때까지를 전송 시간으로 잰다.
+ */
+public class RequestMetricsInterceptor implements ExecutionInterceptor {
+	static final ExecutionAttribute<Timing> TIMING = new ExecutionAttribute<>("S3TestsRequestTiming");
+	static final String SDK = "v2";
+
+	/** 요청 하나의 측정 상태 */
+	static final class Timing {
+		final String test = RequestMetrics.getInstance().getCurrentTest();
+		final long start = System.nanoTime();
+		final long[] nanos = new long[Phase.values().length];
+		/** 응답 본문 스트림이 남아 있으면 2, 아니면 1. 0이 되면 기록한다. */
+		final AtomicInteger pending = new AtomicInteger(1);
+		volatile String operation;
+		volatile long marshalStart;
+		volatile long signStart;
+		volatile long firstByte;
+		volatile int attempts;
+		volatile int status;
+		volatile boolean failed;
+		volatile long bytesSent;
+		volatile long bytesReceived = -1;
+
+		void finish() {
+			if (pending.decrementAndGet() != 0)
+				return;
+			var end = System.nanoTime();
+			if (firstByte > 0)
+				nanos[Phase.TRANSFER.ordinal()] = end - firstByte;
+			nanos[Phase.TOTAL.ordinal()] = end - start;
+			RequestMetrics.getInstance().record(new RequestMetrics.Sample(test, SDK, operation, status, failed,
+					Math.max(0, attempts - 1), bytesSent, Math.max(0, bytesReceived), nanos));
+		}
+	}
+
+	@Override
+	public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+		var timing = new Timing();
+		timing.operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+		executionAttributes.putAttribute(TIMING, timing);
+	}
+
+	@Override
+	public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing != null)
+			timing.marshalStart = System.nanoTime();
+	}
+
+	@Override
+	public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing != null)
+			timing.nanos[Phase.MARSHAL.ordinal()] = System.nanoTime() - timing.marshalStart;
+	}
+
+	@Override
+	public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context,
+			ExecutionAttributes executionAttributes) {
+		markSignStart(executionAttributes);
+		return context.httpRequest();
+	}
+
+	@Override
+	public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+			ExecutionAttributes executionAttributes) {
+		markSignStart(executionAttributes);
+		return context.requestBody();
+	}
+
+	@Override
+	public Optional<AsyncRequestBody> modifyAsyncHttpContent(Context.ModifyHttpRequest context,
+			ExecutionAttributes executionAttributes) {
+		markSignStart(executionAttributes);
+		return context.asyncRequestBody();
+	}
+
+	@Override
+	public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing == null)
+			return;
+		var now = System.nanoTime();
+		// 재시도하면 다시 호출되므로 서명 시간은 첫 시도만 잰다
+		if (timing.attempts++ == 0 && timing.signStart > 0)
+			timing.nanos[Phase.SIGN.ordinal()] = now - timing.signStart;
+		timing.signStart = now;
+		timing.bytesSent = getContentLength(context.httpRequest());
+	}
+
+	@Override
+	public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing == null)
+			return;
+		timing.firstByte = System.nanoTime();
+		timing.nanos[Phase.FIRST_BYTE.ordinal()] = timing.firstByte - timing.signStart;
+		timing.status = context.httpResponse().statusCode();
+		timing.bytesReceived = getContentLength(context.httpResponse());
+	}
+
+	@Override
+	public Optional<InputStream> modifyHttpResponseContent(Context.ModifyHttpResponse context,
+			ExecutionAttributes executionAttributes) {
+		var body = context.responseBody();
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing == null || body.isEmpty())
+			return body;
+		timing.pending.incrementAndGet();
+		timing.bytesReceived = 0;
+		return Optional.of(new CountingInputStream(body.get(), timing));
+	}
+
+	@Override
+	public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing != null)
+			timing.finish();
+	}
+
+	@Override
+	public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing == null)
+			return;
+		timing.failed = true;
+		context.httpResponse().ifPresent(response -> timing.status = response.statusCode());
+		timing.finish();
+	}
+
+	static void markSignStart(ExecutionAttributes executionAttributes) {
+		var timing = executionAttributes.getAttribute(TIMING);
+		if (timing != null)
+			timing.signStart = System.nanoTime();
+	}
+
+	/** 본문 길이. aws-chunked 요청은 원래 본문 길이를 쓴다. */
+	static long getContentLength(SdkHttpHeaders headers) {
+		var length = headers.firstMatchingHeader("x-amz-decoded-content-length")
+				.or(() -> headers.firstMatchingHeader("Content-Length"));
+		try {
+			return length.map(Long::parseLong).orElse(0L);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/** 읽은 바이트 수를 세고, 끝까지 읽거나 닫으면 측정을 끝내는 스트림 */
+	static final class CountingInputStream extends FilterInputStream {
+		private final Timing timing;
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		CountingInputStream(InputStream in, Timing timing) {
+			super(in);
+			this.timing = timing;
+		}
+
+		@Override
+		public int read() throws IOException {
+			var value = super.read();
+			if (value < 0)
+				finish();
+			else
+				timing.bytesReceived++;
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int off, int len) throws IOException {
+			var count = super.read(buffer, off, len);
+			if (count < 0)
+				finish();
+			else
+				timing.bytesReceived += count;
+			return count;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				finish();
+			}
+		}
+
+		private void finish() {
+			if (done.compareAndSet(false, true))
+				timing.finish();
+		}
+	}
+}
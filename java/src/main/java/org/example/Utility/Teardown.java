@@ -0,0 +1,123 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.Utility;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 버킷 정리 작업을 동시에 실행하기 위한 도구.
+ * <p>
+ * DeleteObjects 배치와 멀티파트 업로드 취소는 버킷당 {@value #PROPERTY_BATCHES}개까지,
+ * 버킷은 {@value #PROPERTY_BUCKETS}개까지 동시에 정리한다.
+ */
+public final class Teardown {
+	/** 버킷 하나에서 동시에 실행하는 요청 수 속성 */
+	public static final String PROPERTY_BATCHES = "s3tests.teardown.batches";
+	/** 동시에 정리하는 버킷 수 속성 */
+	public static final String PROPERTY_BUCKETS = "s3tests.teardown.buckets";
+	/** 기본 동시 요청 수 */
+	public static final int DEFAULT_BATCHES = 4;
+	/** 기본 동시 버킷 수 */
+	public static final int DEFAULT_BUCKETS = 4;
+
+	/** 버킷 하나에서 동시에 실행하는 요청 수 */
+	public static final int BATCHES = Math.max(1,
+			Math.min(Integer.getInteger(PROPERTY_BATCHES, DEFAULT_BATCHES), ClientRegistry.MAX_CONNECTIONS));
+	/** 동시에 정리하는 버킷 수 */
+	public static final int BUCKETS = Math.max(1, Integer.getInteger(PROPERTY_BUCKETS, DEFAULT_BUCKETS));
+
+	private static final AtomicInteger threadCount = new AtomicInteger();
+	private static final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+		var thread = new Thread(runnable, "teardown-" + threadCount.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private Teardown() {
+	}
+
+	/**
+	 * 동시 실행 수를 제한하면서 작업을 이어서 넣을 수 있는 실행기.
+	 * 목록을 읽으면서 삭제 배치를 바로 넣는 것처럼 작업 수를 미리 알 수 없을 때 사용한다.
+	 */
+	public static final class Pipeline {
+		private final Semaphore permits;
+		private final List<Future<?>> futures = new ArrayList<>();
+
+		/**
+		 * @param limit 동시에 실행하는 최대 작업 수
+		 */
+		public Pipeline(int limit) {
+			permits = new Semaphore(Math.max(1, limit));
+		}
+
+		/**
+		 * 작업을 넣는다. 동시 실행 수가 가득 찼으면 앞선 작업이 끝날 때까지 기다린다.
+		 */
+		public void submit(Runnable task) {
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Teardown interrupted", e);
+			}
+			try {
+				futures.add(executor.submit(() -> {
+					try {
+						task.run();
+					} finally {
+						permits.release();
+					}
+				}));
+			} catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+		}
+
+		/**
+		 * 넣은 작업이 모두 끝날 때까지 기다린다. 작업에서 처리하지 못한 예외는 출력만 한다.
+		 */
+		public void await() {
+			for (var future : futures)
+				try {
+					future.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} catch (Exception e) {
+					System.out.printf("Error : Teardown Failed(%s)%n", e.getCause() != null ? e.getCause() : e);
+				}
+			futures.clear();
+		}
+	}
+
+	/**
+	 * 목록의 항목마다 작업을 동시에 실행하고 모두 끝날 때까지 기다린다.
+	 *
+	 * @param items  대상 목록
+	 * @param limit  동시에 실행하는 최대 작업 수
+	 * @param action 작업
+	 */
+	public static <T> void forEach(Iterable<T> items, int limit, Consumer<T> action) {
+		var pipeline = new Pipeline(limit);
+		for (var item : items)
+			pipeline.submit(() -> action.accept(item));
+		pipeline.await();
+	}
+}
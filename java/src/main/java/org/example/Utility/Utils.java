@@ -2,22 +2,20 @@ package org.example.Utility;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.Base64.Encoder;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
 public class Utils {
 	private Utils() {
 	}
@@ -34,19 +32,20 @@ public class Utils {
 	static final int BUCKET_MAX_LENGTH = 63;
 
 	public static String randomText(int length) {
-		var sb = new StringBuilder();
+		var random = ThreadLocalRandom.current();
+		var chars = new char[length];
 
 		for (int i = 0; i < length; i++)
-			sb.append(TEXT[rand.nextInt(TEXT.length)]);
-		return sb.toString();
+			chars[i] = TEXT[random.nextInt(TEXT.length)];
+		return new String(chars);
 	}
 
+	/**
+	 * 영문/숫자로 된 임의의 문자열 생성.
+	 * 큰 데이터는 메모리에 보관하지 않는 {@link RandomPayload}를 사용한다.
+	 */
 	public static String randomTextToLong(int length) {
-		var sb = new StringBuilder();
-
-		for (int i = 0; i < length; i++)
-			sb.append(TEXT_LONG[rand.nextInt(TEXT_LONG.length)]);
-		return sb.toString();
+		return RandomPayload.create(length).getString();
 	}
 
 	public static List<String> generateRandomString(int size, int partSize) {
@@ -89,20 +88,7 @@ public class Utils {
 	}
 
 	public static String getMD5(String str) {
-		try {
-			MessageDigest md = MessageDigest.getInstance("MD5");
-			md.update(str.getBytes(StandardCharsets.UTF_8));
-
-			byte[] byteData = md.digest();
-
-			Encoder encoder = Base64.getEncoder();
-			var encodeBytes = encoder.encode(byteData);
-			return new String(encodeBytes);
-
-		} catch (NoSuchAlgorithmException e) {
-			e.printStackTrace();
-		}
-		return null;
+		return MultiChecksum.of(ChecksumAlgorithm.MD5).update(str).getMD5();
 	}
 
 	public static List<String> getKeys(List<S3ObjectSummary> objectList) {
@@ -3,13 +3,17 @@ package org.example.auth;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
-import java.text.SimpleDateFormat;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SimpleTimeZone;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -31,33 +35,45 @@ public abstract class AWS4SignerBase {
 	public static final String ISO8601_BASIC_FORMAT = "yyyyMMdd'T'HHmmss'Z'";
 	public static final String DATE_STRING_FORMAT = "yyyyMMdd";
 
+	/** 스레드에 안전하므로 모든 서명기가 공유한다 */
+	protected static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(ISO8601_BASIC_FORMAT)
+			.withZone(ZoneOffset.UTC);
+	protected static final DateTimeFormatter DATE_STAMP_FORMATTER = DateTimeFormatter.ofPattern(DATE_STRING_FORMAT)
+			.withZone(ZoneOffset.UTC);
+
+	/** 서명 키 캐시의 최대 개수. 넘으면 비우고 다시 채운다. */
+	private static final int MAX_SIGNING_KEYS = 1024;
+	private static final Map<SigningKeyId, byte[]> SIGNING_KEYS = new ConcurrentHashMap<>();
+
+	/** Mac/MessageDigest는 생성 비용이 크고 스레드에 안전하지 않으므로 스레드마다 재사용한다 */
+	private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	/** 서명 키를 결정하는 값. 날짜가 바뀌거나 사용자/리전이 달라지면 새 키가 필요하다. */
+	private record SigningKeyId(String secretKey, String dateStamp, String regionName, String serviceName) {
+	}
+
 	protected URL endpointUrl;
 	protected String httpMethod;
 	protected String serviceName;
 	protected String regionName;
 
-	protected final SimpleDateFormat dateTimeFormat;
-	protected final SimpleDateFormat dateStampFormat;
-
 	protected AWS4SignerBase(URL endpointUrl, String httpMethod, String serviceName, String regionName) {
 		this.endpointUrl = endpointUrl;
 		this.httpMethod = httpMethod;
 		this.serviceName = serviceName;
 		this.regionName = regionName;
-
-		dateTimeFormat = new SimpleDateFormat(ISO8601_BASIC_FORMAT);
-		dateTimeFormat.setTimeZone(new SimpleTimeZone(0, "UTC"));
-		dateStampFormat = new SimpleDateFormat(DATE_STRING_FORMAT);
-		dateStampFormat.setTimeZone(new SimpleTimeZone(0, "UTC"));
 	}
 
 	protected static String getCanonicalizeHeaderNames(Map<String, String> headers) {
-		List<String> sortedHeaders = new ArrayList<>();
-		sortedHeaders.addAll(headers.keySet());
-		Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
 		StringBuilder buffer = new StringBuilder();
-		for (String header : sortedHeaders) {
+		for (String header : sortedHeaderNames(headers)) {
 			if (!buffer.isEmpty())
 				buffer.append(";");
 			buffer.append(header.toLowerCase());
@@ -76,24 +92,45 @@ public abstract class AWS4SignerBase {
 		}
 
 		// step1: sort the headers by case-insensitive order
-		List<String> sortedHeaders = new ArrayList<>();
-		sortedHeaders.addAll(headers.keySet());
-		Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
 		// step2: form the canonical header:value entries in sorted order.
 		// Multiple white spaces in the values should be compressed to a single
 		// space.
 		StringBuilder buffer = new StringBuilder();
-		for (String key : sortedHeaders) {
-			buffer.append(key.toLowerCase().replaceAll("\\s+", " "));
+		for (String key : sortedHeaderNames(headers)) {
+			appendCollapsedWhitespace(buffer, key.toLowerCase());
 			buffer.append(":");
-			buffer.append(headers.get(key).replaceAll("\\s+", " "));
+			appendCollapsedWhitespace(buffer, headers.get(key));
 			buffer.append("\n");
 		}
 
 		return buffer.toString();
 	}
 
+	private static List<String> sortedHeaderNames(Map<String, String> headers) {
+		List<String> sortedHeaders = new ArrayList<>(headers.keySet());
+		Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
+		return sortedHeaders;
+	}
+
+	/**
+	 * 연속된 공백 문자(정규식의 \s: 공백, \t, \n, \x0B, \f, \r)를 공백 하나로 바꿔 붙인다.
+	 * replaceAll("\\s+", " ")와 같은 결과를 정규식 없이 만든다.
+	 */
+	private static void appendCollapsedWhitespace(StringBuilder buffer, String value) {
+		boolean inWhitespace = false;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r') {
+				if (!inWhitespace)
+					buffer.append(' ');
+				inWhitespace = true;
+			} else {
+				buffer.append(c);
+				inWhitespace = false;
+			}
+		}
+	}
+
 	/**
 	 * Returns the canonical request string to go into the signer process; this
 	 * consists of several canonical sub-parts.
@@ -191,20 +228,13 @@ public abstract class AWS4SignerBase {
 	}
 
 	public static byte[] hash(String text) {
-		try {
-			MessageDigest md = MessageDigest.getInstance("SHA-256");
-			md.update(text.getBytes(StandardCharsets.UTF_8));
-			return md.digest();
-		} catch (Exception e) {
-			throw new RuntimeException("Unable to compute hash while signing request: " + e.getMessage(), e);
-		}
+		return hash(text.getBytes(StandardCharsets.UTF_8));
 	}
 
 	public static byte[] hash(byte[] data) {
 		try {
-			MessageDigest md = MessageDigest.getInstance("SHA-256");
-			md.update(data);
-			return md.digest();
+			// digest()가 끝나면 처음 상태로 돌아가므로 다음 호출에 그대로 쓸 수 있다
+			return SHA256.get().digest(data);
 		} catch (Exception e) {
 			throw new RuntimeException("Unable to compute hash while signing request: " + e.getMessage(), e);
 		}
@@ -213,7 +243,12 @@ public abstract class AWS4SignerBase {
 	protected static byte[] sign(String stringData, byte[] key, String algorithm) {
 		try {
 			byte[] data = stringData.getBytes(StandardCharsets.UTF_8);
-			Mac mac = Mac.getInstance(algorithm);
+			var macs = MACS.get();
+			Mac mac = macs.get(algorithm);
+			if (mac == null) {
+				mac = Mac.getInstance(algorithm);
+				macs.put(algorithm, mac);
+			}
 			mac.init(new SecretKeySpec(key, algorithm));
 			return mac.doFinal(data);
 		} catch (Exception e) {
@@ -221,11 +256,29 @@ public abstract class AWS4SignerBase {
 		}
 	}
 
+	/**
+	 * 서명 키(kSigning)를 반환한다. 같은 (secret, 날짜, 리전, 서비스)의 키는 한 번만 유도하여 재사용한다.
+	 * 반환한 배열은 공유되므로 수정하지 않는다.
+	 */
+	protected static byte[] getSigningKey(String secretKey, String dateStamp, String regionName, String serviceName) {
+		var id = new SigningKeyId(secretKey, dateStamp, regionName, serviceName);
+		var signingKey = SIGNING_KEYS.get(id);
+		if (signingKey == null) {
+			byte[] kSecret = (SCHEME + secretKey).getBytes(StandardCharsets.UTF_8);
+			byte[] kDate = sign(dateStamp, kSecret, "HmacSHA256");
+			byte[] kRegion = sign(regionName, kDate, "HmacSHA256");
+			byte[] kService = sign(serviceName, kRegion, "HmacSHA256");
+			signingKey = sign(TERMINATOR, kService, "HmacSHA256");
+			if (SIGNING_KEYS.size() >= MAX_SIGNING_KEYS)
+				SIGNING_KEYS.clear();
+			SIGNING_KEYS.put(id, signingKey);
+		}
+		return signingKey;
+	}
+
 	/** 현재 시각을 SigV4용 ISO8601 basic 포맷(yyyyMMdd'T'HHmmss'Z', UTC)으로 반환한다. */
 	public static String getAmzDate() {
-		var format = new SimpleDateFormat(ISO8601_BASIC_FORMAT);
-		format.setTimeZone(new SimpleTimeZone(0, "UTC"));
-		return format.format(new java.util.Date());
+		return DATE_TIME_FORMATTER.format(Instant.now());
 	}
 
 	/** POST 정책 서명에 사용할 리전을 반환한다. 미설정 시 us-east-1을 사용한다. */
@@ -236,11 +289,7 @@ public abstract class AWS4SignerBase {
 	/** base64 인코딩된 POST policy를 SigV4 방식으로 서명하여 hex 문자열로 반환한다. */
 	public static String getPostPolicySignature(String secretKey, String dateStamp, String regionName,
 			String policyBase64) {
-		byte[] kSecret = (SCHEME + secretKey).getBytes(StandardCharsets.UTF_8);
-		byte[] kDate = sign(dateStamp, kSecret, "HmacSHA256");
-		byte[] kRegion = sign(regionName, kDate, "HmacSHA256");
-		byte[] kService = sign("s3", kRegion, "HmacSHA256");
-		byte[] kSigning = sign("aws4_request", kService, "HmacSHA256");
+		byte[] kSigning = getSigningKey(secretKey, dateStamp, regionName, "s3");
 		return BinaryUtils.toHex(sign(policyBase64, kSigning, "HmacSHA256"));
 	}
 }
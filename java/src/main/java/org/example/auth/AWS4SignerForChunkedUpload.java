@@ -2,7 +2,7 @@ package org.example.auth;
 
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
+import java.time.Instant;
 import java.util.Map;
 
 import com.amazonaws.util.BinaryUtils;
@@ -27,8 +27,8 @@ public class AWS4SignerForChunkedUpload extends AWS4SignerBase {
 	}
 
 	public String computeSignature(Map<String, String> headers, Map<String, String> queryParameters, String bodyHash, String accessKey, String secretKey) {
-		Date now = new Date();
-		this.dateTimeStamp = dateTimeFormat.format(now);
+		Instant now = Instant.now();
+		this.dateTimeStamp = DATE_TIME_FORMATTER.format(now);
 
 		headers.put("x-amz-date", dateTimeStamp);
 
@@ -42,15 +42,11 @@ public class AWS4SignerForChunkedUpload extends AWS4SignerBase {
 				canonicalizedQueryParameters, canonicalizedHeaderNames,
 				canonicalizedHeaders, bodyHash);
 
-		String dateStamp = dateStampFormat.format(now);
+		String dateStamp = DATE_STAMP_FORMATTER.format(now);
 		this.scope = dateStamp + "/" + regionName + "/" + serviceName + "/" + TERMINATOR;
 		String stringToSign = getStringToSign(SCHEME, ALGORITHM, dateTimeStamp, scope, canonicalRequest);
 
-		byte[] kSecret = (SCHEME + secretKey).getBytes();
-		byte[] kDate = sign(dateStamp, kSecret, "HmacSHA256");
-		byte[] kRegion = sign(regionName, kDate, "HmacSHA256");
-		byte[] kService = sign(serviceName, kRegion, "HmacSHA256");
-		this.signingKey = sign(TERMINATOR, kService, "HmacSHA256");
+		this.signingKey = getSigningKey(secretKey, dateStamp, regionName, serviceName);
 		byte[] signature = sign(stringToSign, signingKey, "HmacSHA256");
 
 		lastComputedSignature = BinaryUtils.toHex(signature);
@@ -109,7 +105,9 @@ public class AWS4SignerForChunkedUpload extends AWS4SignerBase {
 				dateTimeStamp + "\n" +
 				scope + "\n" +
 				lastComputedSignature + "\n" +
-				BinaryUtils.toHex(AWS4SignerBase.hash(nonSignExtension)) + "\n" +
+				// 확장이 없으면 빈 문자열의 해시는 상수
+				(nonSignExtension.isEmpty() ? EMPTY_BODY_SHA256
+						: BinaryUtils.toHex(AWS4SignerBase.hash(nonSignExtension))) + "\n" +
 				BinaryUtils.toHex(AWS4SignerBase.hash(dataToChunk));
 
 		String chunkSignature = BinaryUtils.toHex(AWS4SignerBase.sign(chunkStringToSign, signingKey, "HmacSHA256"));
@@ -1,7 +1,7 @@
 package org.example.auth;
 
 import java.net.URL;
-import java.util.Date;
+import java.time.Instant;
 import java.util.Map;
 
 import com.amazonaws.util.BinaryUtils;
@@ -13,8 +13,8 @@ public class AWS4SignerForQueryParameterAuth extends AWS4SignerBase {
 	}
 
 	public String computeSignature(Map<String, String> headers, Map<String, String> parameters, String bodyHash, String accessKey, String secretKey) {
-		Date now = new Date();
-		String dateTimeStamp = dateTimeFormat.format(now);
+		Instant now = Instant.now();
+		String dateTimeStamp = DATE_TIME_FORMATTER.format(now);
 
 		String hostHeader = formatHostHeader(endpointUrl);
 		headers.put("Host", hostHeader);
@@ -22,7 +22,7 @@ public class AWS4SignerForQueryParameterAuth extends AWS4SignerBase {
 		String canonicalizedHeaderNames = getCanonicalizeHeaderNames(headers);
 		String canonicalizedHeaders = getCanonicalizedHeaderString(headers);
 
-		String dateStamp = dateStampFormat.format(now);
+		String dateStamp = DATE_STAMP_FORMATTER.format(now);
 		String scope = dateStamp + "/" + regionName + "/" + serviceName + "/" + TERMINATOR;
 
 		parameters.put("X-Amz-Algorithm", SCHEME + "-" + ALGORITHM);
@@ -37,11 +37,7 @@ public class AWS4SignerForQueryParameterAuth extends AWS4SignerBase {
 
 		String stringToSign = getStringToSign(SCHEME, ALGORITHM, dateTimeStamp, scope, canonicalRequest);
 
-		byte[] kSecret = (SCHEME + secretKey).getBytes();
-		byte[] kDate = sign(dateStamp, kSecret, "HmacSHA256");
-		byte[] kRegion = sign(regionName, kDate, "HmacSHA256");
-		byte[] kService = sign(serviceName, kRegion, "HmacSHA256");
-		byte[] kSigning = sign(TERMINATOR, kService, "HmacSHA256");
+		byte[] kSigning = getSigningKey(secretKey, dateStamp, regionName, serviceName);
 		byte[] signature = sign(stringToSign, kSigning, "HmacSHA256");
 
 		StringBuilder authString = new StringBuilder();
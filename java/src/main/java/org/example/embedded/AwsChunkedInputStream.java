@@ -0,0 +1,110 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.embedded;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code aws-chunked} 본문에서 데이터만 꺼내는 스트림.
+ * <p>
+ * {@code <hex size>[;chunk-signature=...]\r\n<data>\r\n} 형식의 청크를 읽고 마지막 0 청크 뒤의 trailer는
+ * 버린다. 서명은 검증하지 않는다.
+ */
+final class AwsChunkedInputStream extends FilterInputStream {
+	private long remaining;
+	private boolean finished;
+
+	AwsChunkedInputStream(InputStream input) {
+		super(input);
+	}
+
+	@Override
+	public int read() throws IOException {
+		var one = new byte[1];
+		return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] buffer, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (remaining == 0 && !nextChunk())
+			return -1;
+		var read = in.read(buffer, off, (int) Math.min(len, remaining));
+		if (read < 0)
+			throw new IOException("unexpected end of aws-chunked body");
+		remaining -= read;
+		if (remaining == 0)
+			readLine();
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		var buffer = new byte[(int) Math.min(n, 8192)];
+		long skipped = 0;
+		while (skipped < n) {
+			var read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+			if (read < 0)
+				break;
+			skipped += read;
+		}
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return 0;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	private boolean nextChunk() throws IOException {
+		if (finished)
+			return false;
+		var header = readLine();
+		var semicolon = header.indexOf(';');
+		var size = (semicolon < 0 ? header : header.substring(0, semicolon)).trim();
+		try {
+			remaining = Long.parseLong(size, 16);
+		} catch (NumberFormatException e) {
+			throw new IOException("invalid aws-chunked header : " + header);
+		}
+		if (remaining > 0)
+			return true;
+
+		// trailer (x-amz-checksum-* 등)는 빈 줄까지 버린다
+		finished = true;
+		while (!readLine().isEmpty()) {
+			// skip
+		}
+		return false;
+	}
+
+	private String readLine() throws IOException {
+		var line = new ByteArrayOutputStream();
+		int c;
+		while ((c = in.read()) >= 0) {
+			if (c == '\n')
+				break;
+			if (c != '\r')
+				line.write(c);
+		}
+		return line.toString(StandardCharsets.US_ASCII);
+	}
+}
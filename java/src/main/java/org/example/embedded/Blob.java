@@ -0,0 +1,170 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.embedded;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 오브젝트/파트 데이터. 힙 메모리 또는 memory-mapped 파일에 보관한다.
+ */
+final class Blob {
+	static final Blob EMPTY = new Blob(ByteBuffer.allocate(0), md5Hex(new byte[0]), null);
+	private static final int COPY_BUFFER = 64 * 1024;
+
+	private final ByteBuffer data;
+	private final String md5;
+	private final Path file;
+
+	private Blob(ByteBuffer data, String md5, Path file) {
+		this.data = data;
+		this.md5 = md5;
+		this.file = file;
+	}
+
+	/**
+	 * 스트림을 끝까지 읽어 저장한다.
+	 *
+	 * @param input 요청 본문
+	 * @param dir   파일로 보관할 폴더. null이면 힙 메모리에 보관한다.
+	 */
+	static Blob read(InputStream input, Path dir) throws IOException {
+		var digest = newMd5();
+		var in = new DigestInputStream(input, digest);
+		if (dir == null) {
+			var bytes = in.readAllBytes();
+			return new Blob(ByteBuffer.wrap(bytes), HexFormat.of().formatHex(digest.digest()), null);
+		}
+		var file = Files.createTempFile(dir, "blob-", ".dat");
+		try {
+			Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+			return new Blob(map(file), HexFormat.of().formatHex(digest.digest()), file);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+	}
+
+	/**
+	 * 여러 데이터를 이어 붙인다. (멀티파트 완료)
+	 */
+	static Blob concat(List<Blob> parts, Path dir) throws IOException {
+		long total = 0;
+		for (var part : parts)
+			total += part.length();
+		if (total > Integer.MAX_VALUE)
+			throw new S3Error(S3Error.ENTITY_TOO_LARGE, "object larger than 2GB is not supported");
+
+		var digest = newMd5();
+		if (dir == null) {
+			var buffer = ByteBuffer.allocate((int) total);
+			for (var part : parts) {
+				var src = part.data.duplicate();
+				buffer.put(src);
+			}
+			buffer.flip();
+			digest.update(buffer.duplicate());
+			return new Blob(buffer, HexFormat.of().formatHex(digest.digest()), null);
+		}
+		var file = Files.createTempFile(dir, "blob-", ".dat");
+		try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			for (var part : parts) {
+				var src = part.data.duplicate();
+				digest.update(src.duplicate());
+				while (src.hasRemaining())
+					channel.write(src);
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+		return new Blob(map(file), HexFormat.of().formatHex(digest.digest()), file);
+	}
+
+	private static ByteBuffer map(Path file) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE)
+				throw new S3Error(S3Error.ENTITY_TOO_LARGE, "object larger than 2GB is not supported");
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	long length() {
+		return data.limit();
+	}
+
+	/** 내용의 MD5 (hex) */
+	String md5() {
+		return md5;
+	}
+
+	/**
+	 * 일부 구간만 가리키는 데이터 (UploadPartCopy). 원본과 매핑을 공유한다.
+	 */
+	Blob slice(long start, long length) {
+		if (start == 0 && length == length())
+			return this;
+		var view = data.duplicate().position((int) start).limit((int) (start + length)).slice();
+		var digest = newMd5();
+		digest.update(view.duplicate());
+		return new Blob(view, HexFormat.of().formatHex(digest.digest()), null);
+	}
+
+	/**
+	 * start부터 length 바이트를 output에 쓴다.
+	 */
+	void writeTo(OutputStream output, long start, long length) throws IOException {
+		var view = data.duplicate().position((int) start).limit((int) (start + length));
+		var buffer = new byte[(int) Math.min(COPY_BUFFER, Math.max(length, 1))];
+		while (view.hasRemaining()) {
+			var len = Math.min(buffer.length, view.remaining());
+			view.get(buffer, 0, len);
+			output.write(buffer, 0, len);
+		}
+	}
+
+	/**
+	 * 보관 파일을 지운다. 매핑은 GC가 해제한다.
+	 */
+	void release() {
+		if (file == null)
+			return;
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			System.out.printf("Error : Blob(%s) Delete Failed(%s)%n", file, e);
+		}
+	}
+
+	private static String md5Hex(byte[] bytes) {
+		return HexFormat.of().formatHex(newMd5().digest(bytes));
+	}
+
+	static MessageDigest newMd5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
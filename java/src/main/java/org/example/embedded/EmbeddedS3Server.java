@@ -0,0 +1,1111 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.embedded;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.example.Data.UserData;
+import org.example.Utility.ClientRegistry;
+import org.example.embedded.EmbeddedStore.Bucket;
+import org.example.embedded.EmbeddedStore.Owner;
+import org.example.embedded.EmbeddedStore.Version;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트 도구 자체를 측정하기 위한 내장 S3 서버.
+ * <p>
+ * 설정 파일의 {@code [S3] URL}이 {@value #URL}이면 같은 프로세스에서 HTTP 서버를 띄우고 모든 클라이언트가
+ * 이 서버에 접속한다. 버킷 생성/삭제/조회, 오브젝트 PUT/GET/HEAD/DELETE(Range, 복사 포함), 멀티파트 업로드,
+ * 버전 관리, ListObjects V1/V2/Versions, 다중 삭제를 지원한다. 서명과 권한은 검사하지 않으며, 요청의
+ * Access Key로 소유자만 구분한다. 지원하지 않는 기능은 {@code NotImplemented}(501)를 반환한다.
+ * <p>
+ * 데이터는 힙 메모리에 보관하고, {@value #PROPERTY_DIR}를 지정하면 해당 폴더의 파일에 쓰고 memory-mapped로
+ * 읽는다. 서버가 요청을 처리한 시간을 따로 집계하므로({@link #report()}) 전체 실행 시간에서 도구 자체의
+ * 오버헤드를 구분할 수 있다.
+ */
+public final class EmbeddedS3Server {
+	/** 내장 서버를 사용하는 URL 값 */
+	public static final String URL = "embedded";
+	/** 데이터를 파일로 보관할 폴더 속성 */
+	public static final String PROPERTY_DIR = "s3tests.embedded.dir";
+	/** 요청 처리 스레드 수 속성 */
+	public static final String PROPERTY_THREADS = "s3tests.embedded.threads";
+	public static final int DEFAULT_THREADS = ClientRegistry.MAX_CONNECTIONS;
+	/** 접속 주소 */
+	public static final String HOST = "127.0.0.1";
+
+	static final Owner ANONYMOUS = new Owner("anonymous", "anonymous");
+	static final String DEFAULT_CONTENT_TYPE = "binary/octet-stream";
+	static final DateTimeFormatter HTTP_DATE = DateTimeFormatter
+			.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+	/** 오브젝트와 함께 저장하고 응답에 돌려주는 헤더 */
+	static final Set<String> STORED_HEADERS = Set.of("cache-control", "content-disposition", "content-encoding",
+			"content-language", "expires", "x-amz-website-redirect-location", "x-amz-storage-class");
+	/** 응답 헤더를 바꾸는 쿼리 파라미터 */
+	static final Map<String, String> RESPONSE_OVERRIDES = Map.of("response-content-type", "Content-Type",
+			"response-content-language", "Content-Language", "response-expires", "Expires",
+			"response-cache-control", "Cache-Control", "response-content-disposition", "Content-Disposition",
+			"response-content-encoding", "Content-Encoding");
+	/** 구현하지 않은 하위 리소스 */
+	static final Set<String> UNSUPPORTED = Set.of("accelerate", "analytics", "cors", "encryption",
+			"intelligent-tiering", "inventory", "legal-hold", "lifecycle", "logging", "metrics", "notification",
+			"object-lock", "ownershipControls", "policy", "policyStatus", "publicAccessBlock", "replication",
+			"requestPayment", "restore", "retention", "select", "tagging", "torrent", "website", "attributes");
+	static final int MAX_KEYS = 1000;
+	/** 키의 최대 길이 (UTF-8 바이트) */
+	static final int MAX_KEY_LENGTH = 1024;
+	static final Pattern COPY_RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+	private static EmbeddedS3Server instance;
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final EmbeddedStore store;
+	private final Map<String, Owner> owners = new HashMap<>();
+	private final AtomicInteger threadCount = new AtomicInteger();
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final LongAdder serverTime = new LongAdder();
+	private final LongAdder bytesIn = new LongAdder();
+	private final LongAdder bytesOut = new LongAdder();
+
+	private EmbeddedS3Server(int port, Collection<UserData> users, Path dir, int threads) throws IOException {
+		for (var user : users)
+			if (user != null && user.accessKey != null && !user.accessKey.isBlank())
+				owners.put(user.accessKey, new Owner(user.id, user.displayName));
+		store = new EmbeddedStore(dir);
+		executor = Executors.newFixedThreadPool(threads, runnable -> {
+			var thread = new Thread(runnable, "embedded-s3-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getByName(HOST), Math.max(port, 0)), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+
+		// 디스패처 스레드는 시작한 스레드의 daemon 여부를 따르므로, 서버 때문에 JVM이 끝나지 않는 일이 없도록
+		// daemon 스레드에서 시작한다
+		var starter = new Thread(server::start, "embedded-s3-start");
+		starter.setDaemon(true);
+		starter.start();
+		try {
+			starter.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * URL이 내장 서버를 가리키는지 확인한다.
+	 */
+	public static boolean isEmbedded(String url) {
+		return url != null && URL.equalsIgnoreCase(url.trim());
+	}
+
+	/**
+	 * 내장 서버를 시작한다. 이미 시작되었으면 그 서버를 반환한다.
+	 *
+	 * @param port  접속 포트. 0 이하이면 빈 포트를 사용한다.
+	 * @param users 소유자를 구분할 사용자 목록
+	 */
+	public static synchronized EmbeddedS3Server start(int port, Collection<UserData> users) {
+		if (instance != null)
+			return instance;
+		try {
+			var dirName = System.getProperty(PROPERTY_DIR);
+			Path dir = null;
+			if (dirName != null && !dirName.isBlank())
+				dir = Files.createDirectories(Path.of(dirName));
+			instance = new EmbeddedS3Server(port, users, dir, Integer.getInteger(PROPERTY_THREADS, DEFAULT_THREADS));
+		} catch (IOException e) {
+			throw new IllegalStateException("Embedded S3 server start failed", e);
+		}
+		var server = instance;
+		Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "embedded-s3-shutdown"));
+		System.out.printf("Embedded S3 : http://%s:%d (%s)%n", HOST, server.getPort(),
+				server.store.getDir() == null ? "memory" : server.store.getDir());
+		return server;
+	}
+
+	/**
+	 * 실행 중인 내장 서버. 없으면 null
+	 */
+	public static synchronized EmbeddedS3Server getInstance() {
+		return instance;
+	}
+
+	public String getHost() {
+		return HOST;
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	public void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 서버 처리 통계. 전체 실행 시간에서 이 시간을 빼면 테스트 도구 쪽에서 쓴 시간이다.
+	 */
+	public String report() {
+		var count = requests.sum();
+		return String.format("Embedded S3 : %d requests (%d errors), %.1fs in server (%.2fms avg), %.1fMB in, %.1fMB out%n",
+				count, errors.sum(), serverTime.sum() / 1e9, count == 0 ? 0.0 : serverTime.sum() / 1e6 / count,
+				bytesIn.sum() / 1048576.0, bytesOut.sum() / 1048576.0);
+	}
+
+	// region Request
+	/** 요청 하나의 정보 */
+	private final class Request {
+		final HttpExchange exchange;
+		final String method;
+		final Headers headers;
+		final Map<String, String> query;
+		final String bucketName;
+		final String key;
+		final Owner owner;
+
+		Request(HttpExchange exchange) {
+			this.exchange = exchange;
+			method = exchange.getRequestMethod().toUpperCase(Locale.ROOT);
+			headers = exchange.getRequestHeaders();
+			query = parseQuery(exchange.getRequestURI().getRawQuery());
+			var path = exchange.getRequestURI().getPath();
+			if (path == null || path.length() <= 1) {
+				bucketName = null;
+				key = null;
+			} else {
+				var slash = path.indexOf('/', 1);
+				bucketName = slash < 0 ? path.substring(1) : path.substring(1, slash);
+				key = slash < 0 || slash == path.length() - 1 ? null : path.substring(slash + 1);
+			}
+			owner = resolveOwner();
+		}
+
+		boolean has(String name) {
+			return query.containsKey(name);
+		}
+
+		String param(String name) {
+			return query.get(name);
+		}
+
+		int intParam(String name, int defaultValue) {
+			var value = query.get(name);
+			if (value == null || value.isEmpty())
+				return defaultValue;
+			try {
+				return Integer.parseInt(value);
+			} catch (NumberFormatException e) {
+				throw new S3Error(S3Error.INVALID_ARGUMENT, "Invalid " + name + " : " + value);
+			}
+		}
+
+		String header(String name) {
+			return headers.getFirst(name);
+		}
+
+		/** 본문 스트림. aws-chunked 본문이면 데이터만 꺼낸다. */
+		InputStream body() {
+			var input = exchange.getRequestBody();
+			var sha256 = header("x-amz-content-sha256");
+			var encoding = header("Content-Encoding");
+			if (sha256 != null && sha256.startsWith("STREAMING-")
+					|| encoding != null && encoding.contains("aws-chunked"))
+				return new AwsChunkedInputStream(input);
+			return input;
+		}
+
+		byte[] bodyBytes() throws IOException {
+			var bytes = body().readAllBytes();
+			bytesIn.add(bytes.length);
+			return bytes;
+		}
+
+		Blob bodyBlob() throws IOException {
+			var blob = Blob.read(body(), store.getDir());
+			bytesIn.add(blob.length());
+			var md5 = header("Content-MD5");
+			if (md5 != null && !md5.equals(Base64.getEncoder().encodeToString(
+					HexFormat.of().parseHex(blob.md5())))) {
+				blob.release();
+				throw new S3Error(S3Error.BAD_DIGEST, "The Content-MD5 you specified did not match what we received.");
+			}
+			return blob;
+		}
+
+		private Owner resolveOwner() {
+			String accessKey = null;
+			var authorization = header("Authorization");
+			if (authorization != null) {
+				var credential = authorization.indexOf("Credential=");
+				if (credential >= 0) {
+					var end = authorization.indexOf('/', credential);
+					accessKey = authorization.substring(credential + "Credential=".length(),
+							end < 0 ? authorization.length() : end);
+				} else if (authorization.startsWith("AWS ")) {
+					var colon = authorization.indexOf(':');
+					accessKey = authorization.substring(4, colon < 0 ? authorization.length() : colon);
+				}
+			} else if (query.containsKey("X-Amz-Credential")) {
+				var credential = query.get("X-Amz-Credential");
+				var slash = credential.indexOf('/');
+				accessKey = slash < 0 ? credential : credential.substring(0, slash);
+			} else {
+				accessKey = query.get("AWSAccessKeyId");
+			}
+			if (accessKey == null)
+				return ANONYMOUS;
+			return owners.getOrDefault(accessKey.trim(), new Owner(accessKey.trim(), accessKey.trim()));
+		}
+	}
+
+	static Map<String, String> parseQuery(String rawQuery) {
+		var query = new LinkedHashMap<String, String>();
+		if (rawQuery == null || rawQuery.isEmpty())
+			return query;
+		for (var pair : rawQuery.split("&")) {
+			if (pair.isEmpty())
+				continue;
+			var equals = pair.indexOf('=');
+			var name = decode(equals < 0 ? pair : pair.substring(0, equals));
+			var value = equals < 0 ? "" : decode(pair.substring(equals + 1));
+			query.putIfAbsent(name, value);
+		}
+		return query;
+	}
+
+	static String decode(String value) {
+		return URLDecoder.decode(value, StandardCharsets.UTF_8);
+	}
+	// endregion
+
+	// region Dispatch
+	private void handle(HttpExchange exchange) throws IOException {
+		var start = System.nanoTime();
+		requests.increment();
+		try {
+			var request = new Request(exchange);
+			try {
+				dispatch(request);
+			} catch (S3Error e) {
+				errors.increment();
+				sendError(request, e);
+			} catch (IOException | RuntimeException e) {
+				errors.increment();
+				System.out.printf("Error : Embedded S3 %s %s Failed(%s)%n", request.method,
+						exchange.getRequestURI(), e);
+				sendError(request, new S3Error(S3Error.INTERNAL_ERROR, String.valueOf(e)));
+			}
+		} finally {
+			exchange.close();
+			serverTime.add(System.nanoTime() - start);
+		}
+	}
+
+	private void dispatch(Request request) throws IOException {
+		for (var name : request.query.keySet())
+			if (UNSUPPORTED.contains(name))
+				throw new S3Error(S3Error.NOT_IMPLEMENTED, "Embedded S3 does not implement ?" + name);
+
+		if (request.bucketName == null) {
+			if (!"GET".equals(request.method))
+				throw new S3Error(S3Error.METHOD_NOT_ALLOWED, "The specified method is not allowed");
+			listBuckets(request);
+			return;
+		}
+		if (request.key == null)
+			dispatchBucket(request);
+		else
+			dispatchObject(request);
+	}
+
+	private void dispatchBucket(Request request) throws IOException {
+		switch (request.method) {
+			case "PUT" -> {
+				if (request.has("versioning"))
+					putVersioning(request);
+				else if (request.has("acl"))
+					throw new S3Error(S3Error.NOT_IMPLEMENTED, "Embedded S3 does not implement ?acl");
+				else
+					createBucket(request);
+			}
+			case "GET" -> {
+				if (request.has("versioning"))
+					getVersioning(request);
+				else if (request.has("location"))
+					getLocation(request);
+				else if (request.has("acl"))
+					getAcl(request, store.getBucket(request.bucketName).owner);
+				else if (request.has("uploads"))
+					listUploads(request);
+				else if (request.has("versions"))
+					listVersions(request);
+				else if ("2".equals(request.param("list-type")))
+					listObjectsV2(request);
+				else
+					listObjects(request);
+			}
+			case "HEAD" -> {
+				store.getBucket(request.bucketName);
+				send(request, 200, null);
+			}
+			case "DELETE" -> {
+				store.deleteBucket(request.bucketName);
+				send(request, 204, null);
+			}
+			case "POST" -> {
+				if (!request.has("delete"))
+					throw new S3Error(S3Error.NOT_IMPLEMENTED, "Embedded S3 does not implement bucket POST");
+				deleteObjects(request);
+			}
+			default -> throw new S3Error(S3Error.METHOD_NOT_ALLOWED, "The specified method is not allowed");
+		}
+	}
+
+	private void dispatchObject(Request request) throws IOException {
+		if (request.key.getBytes(StandardCharsets.UTF_8).length > MAX_KEY_LENGTH)
+			throw new S3Error(S3Error.KEY_TOO_LONG, "Your key is too long");
+		switch (request.method) {
+			case "PUT" -> {
+				if (request.has("acl"))
+					throw new S3Error(S3Error.NOT_IMPLEMENTED, "Embedded S3 does not implement ?acl");
+				else if (request.has("uploadId"))
+					uploadPart(request);
+				else if (request.header("x-amz-copy-source") != null)
+					copyObject(request);
+				else
+					putObject(request);
+			}
+			case "GET" -> {
+				if (request.has("uploadId"))
+					listParts(request);
+				else if (request.has("acl"))
+					getObjectAcl(request);
+				else
+					getObject(request, true);
+			}
+			case "HEAD" -> getObject(request, false);
+			case "DELETE" -> {
+				if (request.has("uploadId"))
+					abortUpload(request);
+				else
+					deleteObject(request);
+			}
+			case "POST" -> {
+				if (request.has("uploads"))
+					createUpload(request);
+				else if (request.has("uploadId"))
+					completeUpload(request);
+				else
+					throw new S3Error(S3Error.NOT_IMPLEMENTED, "Embedded S3 does not implement object POST");
+			}
+			default -> throw new S3Error(S3Error.METHOD_NOT_ALLOWED, "The specified method is not allowed");
+		}
+	}
+	// endregion
+
+	// region Bucket
+	private void listBuckets(Request request) throws IOException {
+		var prefix = request.param("prefix");
+		var maxBuckets = request.intParam("max-buckets", Integer.MAX_VALUE);
+		var token = request.param("continuation-token");
+		var after = token == null ? null : decodeToken(token);
+
+		var xml = new Xml("ListAllMyBucketsResult");
+		xml.start("Owner").add("ID", request.owner.id()).add("DisplayName", request.owner.displayName()).end();
+		xml.start("Buckets");
+		String last = null;
+		var truncated = false;
+		var count = 0;
+		for (var bucket : store.listBuckets()) {
+			if (!bucket.owner.id().equals(request.owner.id()))
+				continue;
+			if (prefix != null && !bucket.name.startsWith(prefix) || after != null && bucket.name.compareTo(after) <= 0)
+				continue;
+			if (count == maxBuckets) {
+				truncated = true;
+				break;
+			}
+			xml.start("Bucket").add("Name", bucket.name).add("CreationDate", bucket.created).end();
+			last = bucket.name;
+			count++;
+		}
+		xml.end();
+		if (truncated)
+			xml.add("ContinuationToken", encodeToken(last));
+		xml.add("Prefix", prefix);
+		send(request, 200, xml.toBytes());
+	}
+
+	private void createBucket(Request request) throws IOException {
+		// CreateBucketConfiguration은 읽고 버린다
+		request.bodyBytes();
+		store.createBucket(request.bucketName, request.owner);
+		request.exchange.getResponseHeaders().set("Location", "/" + request.bucketName);
+		send(request, 200, null);
+	}
+
+	private void putVersioning(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var root = Xml.parse(request.bodyBytes());
+		store.setVersioning(bucket, Xml.text(root, "Status"));
+		send(request, 200, null);
+	}
+
+	private void getVersioning(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var xml = new Xml("VersioningConfiguration").add("Status", bucket.versioning);
+		send(request, 200, xml.toBytes());
+	}
+
+	private void getLocation(Request request) throws IOException {
+		store.getBucket(request.bucketName);
+		send(request, 200, new Xml("LocationConstraint").toBytes());
+	}
+
+	private void getAcl(Request request, Owner owner) throws IOException {
+		var xml = new Xml("AccessControlPolicy");
+		xml.start("Owner").add("ID", owner.id()).add("DisplayName", owner.displayName()).end();
+		xml.start("AccessControlList").start("Grant")
+				.start("Grantee", "xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"CanonicalUser\"")
+				.add("ID", owner.id()).add("DisplayName", owner.displayName()).end()
+				.add("Permission", "FULL_CONTROL").end().end();
+		send(request, 200, xml.toBytes());
+	}
+
+	private void getObjectAcl(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var version = store.getVersion(bucket, request.key, request.param("versionId"));
+		if (version.deleteMarker())
+			throw new S3Error(S3Error.METHOD_NOT_ALLOWED, "The specified method is not allowed against this resource.");
+		getAcl(request, version.owner());
+	}
+	// endregion
+
+	// region List
+	private void listObjects(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var prefix = request.param("prefix");
+		var delimiter = request.param("delimiter");
+		var marker = request.param("marker");
+		var maxKeys = maxKeys(request);
+		var encoder = encoder(request);
+		var listing = store.listObjects(bucket, prefix, delimiter, marker, maxKeys);
+
+		var xml = new Xml("ListBucketResult").add("Name", bucket.name)
+				.add("Prefix", encoder.apply(prefix == null ? "" : prefix))
+				.add("Marker", encoder.apply(marker == null ? "" : marker)).add("MaxKeys", maxKeys)
+				.add("Delimiter", encoder.apply(delimiter)).add("EncodingType", request.param("encoding-type"))
+				.add("IsTruncated", listing.truncated());
+		if (listing.truncated() && delimiter != null && !delimiter.isEmpty())
+			xml.add("NextMarker", encoder.apply(listing.nextMarker()));
+		addContents(xml, listing, encoder, true);
+		send(request, 200, xml.toBytes());
+	}
+
+	private void listObjectsV2(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var prefix = request.param("prefix");
+		var delimiter = request.param("delimiter");
+		var token = request.param("continuation-token");
+		var startAfter = request.param("start-after");
+		var maxKeys = maxKeys(request);
+		var encoder = encoder(request);
+		var marker = token != null ? decodeToken(token) : startAfter;
+		var listing = store.listObjects(bucket, prefix, delimiter, marker, maxKeys);
+
+		var xml = new Xml("ListBucketResult").add("Name", bucket.name)
+				.add("Prefix", encoder.apply(prefix == null ? "" : prefix)).add("MaxKeys", maxKeys)
+				.add("KeyCount", listing.entries().size() + listing.commonPrefixes().size())
+				.add("Delimiter", encoder.apply(delimiter)).add("EncodingType", request.param("encoding-type"))
+				.add("IsTruncated", listing.truncated()).add("ContinuationToken", token)
+				.add("StartAfter", encoder.apply(startAfter));
+		if (listing.truncated())
+			xml.add("NextContinuationToken", encodeToken(listing.nextMarker()));
+		addContents(xml, listing, encoder, "true".equals(request.param("fetch-owner")));
+		send(request, 200, xml.toBytes());
+	}
+
+	private void listVersions(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var prefix = request.param("prefix");
+		var delimiter = request.param("delimiter");
+		var keyMarker = request.param("key-marker");
+		var versionIdMarker = request.param("version-id-marker");
+		if (versionIdMarker != null && versionIdMarker.isEmpty())
+			versionIdMarker = null;
+		var maxKeys = maxKeys(request);
+		var encoder = encoder(request);
+		var listing = store.listVersions(bucket, prefix, delimiter, keyMarker, versionIdMarker, maxKeys);
+
+		var xml = new Xml("ListVersionsResult").add("Name", bucket.name)
+				.add("Prefix", encoder.apply(prefix == null ? "" : prefix))
+				.add("KeyMarker", encoder.apply(keyMarker == null ? "" : keyMarker))
+				.add("VersionIdMarker", versionIdMarker == null ? "" : versionIdMarker).add("MaxKeys", maxKeys)
+				.add("Delimiter", encoder.apply(delimiter)).add("EncodingType", request.param("encoding-type"))
+				.add("IsTruncated", listing.truncated());
+		if (listing.truncated()) {
+			xml.add("NextKeyMarker", encoder.apply(listing.nextMarker()));
+			xml.add("NextVersionIdMarker", listing.nextVersionIdMarker());
+		}
+		for (var version : listing.entries()) {
+			xml.start(version.deleteMarker() ? "DeleteMarker" : "Version")
+					.add("Key", encoder.apply(version.key())).add("VersionId", version.versionId())
+					.add("IsLatest", store.isLatest(bucket, version)).add("LastModified", version.lastModified());
+			if (!version.deleteMarker())
+				xml.add("ETag", quote(version.eTag())).add("Size", version.size()).add("StorageClass", "STANDARD");
+			xml.start("Owner").add("ID", version.owner().id()).add("DisplayName", version.owner().displayName())
+					.end().end();
+		}
+		addCommonPrefixes(xml, listing, encoder);
+		send(request, 200, xml.toBytes());
+	}
+
+	private static void addContents(Xml xml, EmbeddedStore.Listing listing,
+			UnaryOperator<String> encoder, boolean owner) {
+		for (var version : listing.entries()) {
+			xml.start("Contents").add("Key", encoder.apply(version.key()))
+					.add("LastModified", version.lastModified()).add("ETag", quote(version.eTag()))
+					.add("Size", version.size()).add("StorageClass", "STANDARD");
+			if (owner)
+				xml.start("Owner").add("ID", version.owner().id())
+						.add("DisplayName", version.owner().displayName()).end();
+			xml.end();
+		}
+		addCommonPrefixes(xml, listing, encoder);
+	}
+
+	private static void addCommonPrefixes(Xml xml, EmbeddedStore.Listing listing,
+			UnaryOperator<String> encoder) {
+		for (var prefix : listing.commonPrefixes())
+			xml.start("CommonPrefixes").add("Prefix", encoder.apply(prefix)).end();
+	}
+
+	private static int maxKeys(Request request) {
+		var maxKeys = request.intParam("max-keys", MAX_KEYS);
+		if (maxKeys < 0)
+			throw new S3Error(S3Error.INVALID_ARGUMENT, "max-keys cannot be negative");
+		return Math.min(maxKeys, MAX_KEYS);
+	}
+
+	private static UnaryOperator<String> encoder(Request request) {
+		if (!"url".equalsIgnoreCase(request.param("encoding-type")))
+			return value -> value;
+		return value -> value == null ? null
+				: URLEncoder.encode(value, StandardCharsets.UTF_8).replace("%2F", "/");
+	}
+
+	private static String encodeToken(String marker) {
+		return Base64.getUrlEncoder().encodeToString(marker.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String decodeToken(String token) {
+		try {
+			return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new S3Error(S3Error.INVALID_ARGUMENT, "The continuation token provided is incorrect");
+		}
+	}
+	// endregion
+
+	// region Object
+	private void putObject(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var blob = request.bodyBlob();
+		var version = store.putObject(bucket, request.key, blob, blob.md5(), contentType(request),
+				storedHeaders(request.headers), request.owner);
+		var headers = request.exchange.getResponseHeaders();
+		headers.set("ETag", quote(version.eTag()));
+		setVersionId(headers, bucket, version.versionId(), false);
+		send(request, 200, null);
+	}
+
+	private void getObject(Request request, boolean withBody) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var versionId = request.param("versionId");
+		var version = store.getVersion(bucket, request.key, versionId);
+		var headers = request.exchange.getResponseHeaders();
+		if (version.deleteMarker()) {
+			headers.set("x-amz-delete-marker", "true");
+			headers.set("x-amz-version-id", version.versionId());
+			if (versionId != null)
+				throw new S3Error(S3Error.METHOD_NOT_ALLOWED,
+						"The specified method is not allowed against this resource.");
+			throw new S3Error(S3Error.NO_SUCH_KEY, "The specified key does not exist.");
+		}
+
+		var notModified = checkConditions(request, version);
+		headers.set("ETag", quote(version.eTag()));
+		headers.set("Last-Modified", HTTP_DATE.format(version.lastModified()));
+		setVersionId(headers, bucket, version.versionId(), true);
+		if (notModified) {
+			request.exchange.sendResponseHeaders(304, -1);
+			return;
+		}
+
+		headers.set("Content-Type", version.contentType());
+		headers.set("Accept-Ranges", "bytes");
+		for (var header : version.headers().entrySet())
+			headers.set(header.getKey(), header.getValue());
+		for (var override : RESPONSE_OVERRIDES.entrySet()) {
+			var value = request.param(override.getKey());
+			if (value != null)
+				headers.set(override.getValue(), value);
+		}
+
+		var size = version.size();
+		long start = 0;
+		long length = size;
+		var status = 200;
+		var range = parseRange(request.header("Range"), size);
+		if (range != null) {
+			start = range[0];
+			length = range[1] - range[0] + 1;
+			status = 206;
+			headers.set("Content-Range", String.format("bytes %d-%d/%d", range[0], range[1], size));
+		}
+		headers.set("Content-Length", Long.toString(length));
+
+		if (!withBody) {
+			request.exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		request.exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+		if (length > 0) {
+			try (var output = request.exchange.getResponseBody()) {
+				version.blob().writeTo(output, start, length);
+			}
+			bytesOut.add(length);
+		}
+	}
+
+	/**
+	 * If-Match 등 조건 헤더를 확인한다.
+	 *
+	 * @return 304를 반환해야 하면 true
+	 */
+	private static boolean checkConditions(Request request, Version version) {
+		var eTag = version.eTag();
+		var ifMatch = request.header("If-Match");
+		if (ifMatch != null && !matchesETag(ifMatch, eTag))
+			throw new S3Error(S3Error.PRECONDITION_FAILED, "At least one of the pre-conditions you specified did not hold");
+		var ifUnmodifiedSince = parseHttpDate(request.header("If-Unmodified-Since"));
+		if (ifMatch == null && ifUnmodifiedSince != null
+				&& version.lastModified().getEpochSecond() > ifUnmodifiedSince.getEpochSecond())
+			throw new S3Error(S3Error.PRECONDITION_FAILED, "At least one of the pre-conditions you specified did not hold");
+		var ifNoneMatch = request.header("If-None-Match");
+		if (ifNoneMatch != null)
+			return matchesETag(ifNoneMatch, eTag);
+		var ifModifiedSince = parseHttpDate(request.header("If-Modified-Since"));
+		return ifModifiedSince != null
+				&& version.lastModified().getEpochSecond() <= ifModifiedSince.getEpochSecond();
+	}
+
+	private static boolean matchesETag(String condition, String eTag) {
+		for (var value : condition.split(","))
+			if ("*".equals(value.trim()) || eTag.equals(EmbeddedStore.stripQuotes(value)))
+				return true;
+		return false;
+	}
+
+	private static Instant parseHttpDate(String value) {
+		if (value == null)
+			return null;
+		try {
+			return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Range 헤더를 해석한다. 범위가 하나가 아니거나 형식이 틀리면 전체를 반환하도록 null
+	 *
+	 * @return {시작, 끝(포함)}
+	 */
+	static long[] parseRange(String header, long size) {
+		if (header == null || !header.startsWith("bytes=") || header.contains(","))
+			return null;
+		var spec = header.substring("bytes=".length()).trim();
+		var dash = spec.indexOf('-');
+		if (dash < 0)
+			return null;
+		try {
+			long start;
+			long end;
+			if (dash == 0) {
+				var suffix = Long.parseLong(spec.substring(1));
+				if (suffix == 0 || size == 0)
+					throw new S3Error(S3Error.INVALID_RANGE, "The requested range is not satisfiable");
+				start = Math.max(0, size - suffix);
+				end = size - 1;
+			} else {
+				start = Long.parseLong(spec.substring(0, dash));
+				end = dash == spec.length() - 1 ? size - 1 : Long.parseLong(spec.substring(dash + 1));
+				if (end < start)
+					return null;
+				if (start >= size)
+					throw new S3Error(S3Error.INVALID_RANGE, "The requested range is not satisfiable");
+				end = Math.min(end, size - 1);
+			}
+			return new long[] { start, end };
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private void deleteObject(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var deleted = store.deleteObject(bucket, request.key, request.param("versionId"), request.owner);
+		var headers = request.exchange.getResponseHeaders();
+		if (deleted.versionId() != null)
+			headers.set("x-amz-version-id", deleted.versionId());
+		if (deleted.deleteMarker())
+			headers.set("x-amz-delete-marker", "true");
+		send(request, 204, null);
+	}
+
+	private void deleteObjects(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var root = Xml.parse(request.bodyBytes());
+		var objects = Xml.children(root, "Object");
+		if (objects.isEmpty() || objects.size() > MAX_KEYS)
+			throw new S3Error(S3Error.MALFORMED_XML, "The XML you provided was not well-formed");
+		var quiet = "true".equalsIgnoreCase(Xml.text(root, "Quiet"));
+
+		var xml = new Xml("DeleteResult");
+		for (var object : objects) {
+			var key = Xml.text(object, "Key");
+			var versionId = Xml.text(object, "VersionId");
+			if (key == null) {
+				xml.start("Error").add("Code", S3Error.MALFORMED_XML).add("Message", "Key is missing").end();
+				continue;
+			}
+			var deleted = store.deleteObject(bucket, key, versionId, request.owner);
+			if (quiet)
+				continue;
+			xml.start("Deleted").add("Key", key).add("VersionId", versionId);
+			if (deleted.deleteMarker()) {
+				xml.add("DeleteMarker", true);
+				xml.add("DeleteMarkerVersionId", deleted.versionId());
+			}
+			xml.end();
+		}
+		send(request, 200, xml.toBytes());
+	}
+
+	private void copyObject(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var source = copySource(request);
+		var sourceVersion = sourceVersion(source);
+		var replace = "REPLACE".equalsIgnoreCase(request.header("x-amz-metadata-directive"));
+		if (!replace && source.key().equals(request.key) && source.bucketName().equals(request.bucketName)
+				&& source.versionId() == null)
+			throw new S3Error(S3Error.INVALID_REQUEST, "This copy request is illegal because it is trying to copy "
+					+ "an object to itself without changing the object's metadata, storage class, website redirect "
+					+ "location or encryption attributes.");
+
+		var version = store.putObject(bucket, request.key, sourceVersion.blob(), sourceVersion.eTag(),
+				replace ? contentType(request) : sourceVersion.contentType(),
+				replace ? storedHeaders(request.headers) : sourceVersion.headers(), request.owner);
+		setVersionId(request.exchange.getResponseHeaders(), bucket, version.versionId(), false);
+		var xml = new Xml("CopyObjectResult").add("LastModified", version.lastModified())
+				.add("ETag", quote(version.eTag()));
+		send(request, 200, xml.toBytes());
+	}
+
+	private record CopySource(String bucketName, String key, String versionId) {
+	}
+
+	private static CopySource copySource(Request request) {
+		var value = request.header("x-amz-copy-source");
+		String versionId = null;
+		var question = value.indexOf("?versionId=");
+		if (question >= 0) {
+			versionId = value.substring(question + "?versionId=".length());
+			value = value.substring(0, question);
+		}
+		value = decode(value.replace("+", "%2B"));
+		if (value.startsWith("/"))
+			value = value.substring(1);
+		var slash = value.indexOf('/');
+		if (slash <= 0 || slash == value.length() - 1)
+			throw new S3Error(S3Error.INVALID_ARGUMENT, "Invalid copy source : " + value);
+		return new CopySource(value.substring(0, slash), value.substring(slash + 1), versionId);
+	}
+
+	private Version sourceVersion(CopySource source) {
+		var sourceBucket = store.getBucket(source.bucketName());
+		var version = store.getVersion(sourceBucket, source.key(), source.versionId());
+		if (version.deleteMarker()) {
+			if (source.versionId() != null)
+				throw new S3Error(S3Error.INVALID_REQUEST, "The source of a copy request may not specifically "
+						+ "refer to a delete marker by version id.");
+			throw new S3Error(S3Error.NO_SUCH_KEY, "The specified key does not exist.");
+		}
+		return version;
+	}
+
+	private static String contentType(Request request) {
+		var contentType = request.header("Content-Type");
+		return contentType == null || contentType.isBlank() ? DEFAULT_CONTENT_TYPE : contentType;
+	}
+
+	/** 요청 헤더 중 오브젝트와 함께 보관할 헤더 (x-amz-meta-* 포함) */
+	static Map<String, String> storedHeaders(Headers headers) {
+		var result = new LinkedHashMap<String, String>();
+		for (var header : headers.entrySet()) {
+			var name = header.getKey().toLowerCase(Locale.ROOT);
+			if (!name.startsWith("x-amz-meta-") && !STORED_HEADERS.contains(name))
+				continue;
+			var value = String.join(",", header.getValue());
+			if ("content-encoding".equals(name)) {
+				// 전송용 aws-chunked는 저장하지 않는다
+				var encodings = new ArrayList<String>();
+				for (var encoding : value.split(","))
+					if (!encoding.isBlank() && !"aws-chunked".equalsIgnoreCase(encoding.trim()))
+						encodings.add(encoding.trim());
+				if (encodings.isEmpty())
+					continue;
+				value = String.join(",", encodings);
+			}
+			result.put(name, value);
+		}
+		return result;
+	}
+	// endregion
+
+	// region Multipart
+	private void createUpload(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var upload = store.createUpload(bucket, request.key, contentType(request), storedHeaders(request.headers),
+				request.owner);
+		var xml = new Xml("InitiateMultipartUploadResult").add("Bucket", bucket.name).add("Key", request.key)
+				.add("UploadId", upload.uploadId);
+		send(request, 200, xml.toBytes());
+	}
+
+	private void uploadPart(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var upload = store.getUpload(bucket, request.key, request.param("uploadId"));
+		var partNumber = request.intParam("partNumber", 0);
+
+		if (request.header("x-amz-copy-source") == null) {
+			var part = store.putPart(upload, partNumber, request.bodyBlob());
+			request.exchange.getResponseHeaders().set("ETag", quote(part.eTag()));
+			send(request, 200, null);
+			return;
+		}
+
+		var source = sourceVersion(copySource(request));
+		var blob = source.blob();
+		var range = request.header("x-amz-copy-source-range");
+		if (range != null) {
+			var matcher = COPY_RANGE.matcher(range.trim());
+			if (!matcher.matches() || Long.parseLong(matcher.group(1)) > Long.parseLong(matcher.group(2))
+					|| Long.parseLong(matcher.group(2)) >= blob.length())
+				throw new S3Error(S3Error.INVALID_ARGUMENT, "The x-amz-copy-source-range value must be of the form "
+						+ "bytes=first-last where first and last are the zero-based offsets of the first and last "
+						+ "bytes to copy");
+			var first = Long.parseLong(matcher.group(1));
+			blob = blob.slice(first, Long.parseLong(matcher.group(2)) - first + 1);
+		}
+		var part = store.putPart(upload, partNumber, blob);
+		var xml = new Xml("CopyPartResult").add("LastModified", part.lastModified()).add("ETag", quote(part.eTag()));
+		send(request, 200, xml.toBytes());
+	}
+
+	private void completeUpload(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var upload = store.getUpload(bucket, request.key, request.param("uploadId"));
+		var root = Xml.parse(request.bodyBytes());
+		var parts = new ArrayList<Map.Entry<Integer, String>>();
+		for (var part : Xml.children(root, "Part")) {
+			try {
+				parts.add(new AbstractMap.SimpleEntry<>(Integer.parseInt(Xml.text(part, "PartNumber").trim()),
+						Xml.text(part, "ETag")));
+			} catch (RuntimeException e) {
+				throw new S3Error(S3Error.MALFORMED_XML, "The XML you provided was not well-formed");
+			}
+		}
+		var version = store.completeUpload(bucket, upload, parts);
+		setVersionId(request.exchange.getResponseHeaders(), bucket, version.versionId(), false);
+		var xml = new Xml("CompleteMultipartUploadResult")
+				.add("Location", String.format("http://%s:%d/%s/%s", HOST, getPort(), bucket.name, request.key))
+				.add("Bucket", bucket.name).add("Key", request.key).add("ETag", quote(version.eTag()));
+		send(request, 200, xml.toBytes());
+	}
+
+	private void abortUpload(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var upload = store.getUpload(bucket, request.key, request.param("uploadId"));
+		store.abortUpload(bucket, upload);
+		send(request, 204, null);
+	}
+
+	private void listParts(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var upload = store.getUpload(bucket, request.key, request.param("uploadId"));
+		var maxParts = Math.min(request.intParam("max-parts", MAX_KEYS), MAX_KEYS);
+		var marker = request.intParam("part-number-marker", 0);
+
+		var parts = new ArrayList<>(upload.parts.tailMap(marker, false).values());
+		var truncated = parts.size() > maxParts;
+		if (truncated)
+			parts = new ArrayList<>(parts.subList(0, maxParts));
+
+		var xml = new Xml("ListPartsResult").add("Bucket", bucket.name).add("Key", upload.key)
+				.add("UploadId", upload.uploadId);
+		xml.start("Initiator").add("ID", upload.owner.id()).add("DisplayName", upload.owner.displayName()).end();
+		xml.start("Owner").add("ID", upload.owner.id()).add("DisplayName", upload.owner.displayName()).end();
+		xml.add("StorageClass", "STANDARD").add("PartNumberMarker", marker)
+				.add("NextPartNumberMarker", parts.isEmpty() ? marker : parts.get(parts.size() - 1).partNumber())
+				.add("MaxParts", maxParts).add("IsTruncated", truncated);
+		for (var part : parts)
+			xml.start("Part").add("PartNumber", part.partNumber()).add("LastModified", part.lastModified())
+					.add("ETag", quote(part.eTag())).add("Size", part.blob().length()).end();
+		send(request, 200, xml.toBytes());
+	}
+
+	private void listUploads(Request request) throws IOException {
+		var bucket = store.getBucket(request.bucketName);
+		var prefix = request.param("prefix");
+		var keyMarker = request.param("key-marker");
+		var uploadIdMarker = request.param("upload-id-marker");
+		var maxUploads = Math.min(request.intParam("max-uploads", MAX_KEYS), MAX_KEYS);
+
+		var xml = new Xml("ListMultipartUploadsResult").add("Bucket", bucket.name)
+				.add("KeyMarker", keyMarker == null ? "" : keyMarker)
+				.add("UploadIdMarker", uploadIdMarker == null ? "" : uploadIdMarker)
+				.add("Prefix", prefix == null ? "" : prefix).add("MaxUploads", maxUploads);
+		var entries = new ArrayList<EmbeddedStore.Upload>();
+		var truncated = false;
+		var skipping = keyMarker != null && !keyMarker.isEmpty();
+		for (var upload : store.listUploads(bucket)) {
+			if (prefix != null && !upload.key.startsWith(prefix))
+				continue;
+			if (skipping) {
+				var compare = upload.key.compareTo(keyMarker);
+				if (compare < 0)
+					continue;
+				if (compare == 0) {
+					if (uploadIdMarker == null || uploadIdMarker.isEmpty())
+						continue;
+					if (upload.uploadId.equals(uploadIdMarker))
+						skipping = false;
+					continue;
+				}
+				skipping = false;
+			}
+			if (entries.size() == maxUploads) {
+				truncated = true;
+				break;
+			}
+			entries.add(upload);
+		}
+		if (truncated) {
+			var last = entries.get(entries.size() - 1);
+			xml.add("NextKeyMarker", last.key).add("NextUploadIdMarker", last.uploadId);
+		}
+		xml.add("IsTruncated", truncated);
+		for (var upload : entries) {
+			xml.start("Upload").add("Key", upload.key).add("UploadId", upload.uploadId);
+			xml.start("Initiator").add("ID", upload.owner.id()).add("DisplayName", upload.owner.displayName()).end();
+			xml.start("Owner").add("ID", upload.owner.id()).add("DisplayName", upload.owner.displayName()).end();
+			xml.add("StorageClass", "STANDARD").add("Initiated", upload.initiated).end();
+		}
+		send(request, 200, xml.toBytes());
+	}
+	// endregion
+
+	// region Response
+	/**
+	 * 버전 ID 헤더. 쓰기 응답에는 null 버전을 알리지 않고, 조회 응답에는 버전 관리를 설정한 버킷이면 알린다.
+	 */
+	private static void setVersionId(Headers headers, Bucket bucket, String versionId, boolean includeNull) {
+		if (bucket.versioning == null || !includeNull && EmbeddedStore.NULL_VERSION.equals(versionId))
+			return;
+		headers.set("x-amz-version-id", versionId);
+	}
+
+	static String quote(String eTag) {
+		return eTag == null ? null : "\"" + eTag + "\"";
+	}
+
+	private void send(Request request, int status, byte[] body) throws IOException {
+		var exchange = request.exchange;
+		var headers = exchange.getResponseHeaders();
+		headers.set("x-amz-request-id", EmbeddedStore.newId().substring(0, 16));
+		headers.set("Server", "EmbeddedS3");
+		if (body != null)
+			headers.set("Content-Type", "application/xml");
+		if ("HEAD".equals(request.method) || body == null || body.length == 0) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(status, body.length);
+		try (var output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+		bytesOut.add(body.length);
+	}
+
+	private void sendError(Request request, S3Error error) throws IOException {
+		var exchange = request.exchange;
+		// 읽지 않은 본문이 남아 있으면 연결이 끊기므로 버린다
+		try (var body = exchange.getRequestBody()) {
+			body.transferTo(OutputStream.nullOutputStream());
+		} catch (IOException e) {
+			// 응답은 계속 보낸다
+		}
+		var xml = new Xml("Error").add("Code", error.getCode()).add("Message", error.getMessage())
+				.add("Resource", exchange.getRequestURI().getPath()).add("RequestId", EmbeddedStore.newId());
+		send(request, error.getStatus(), "HEAD".equals(request.method) ? null : xml.toBytes());
+	}
+	// endregion
+}
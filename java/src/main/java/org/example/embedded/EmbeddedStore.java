@@ -0,0 +1,454 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.embedded;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import org.example.Utility.Utils;
+
+/**
+ * 내장 S3 서버의 버킷/오브젝트 저장소.
+ * <p>
+ * 버킷 단위로 잠그며, 오브젝트는 키마다 최신 버전이 앞에 오는 목록으로 보관한다.
+ */
+final class EmbeddedStore {
+	/** 버전 관리를 사용하지 않을 때의 버전 ID */
+	static final String NULL_VERSION = "null";
+	static final String VERSIONING_ENABLED = "Enabled";
+	static final String VERSIONING_SUSPENDED = "Suspended";
+	/** 마지막을 제외한 파트의 최소 크기 */
+	static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+	static final int MAX_PART_NUMBER = 10000;
+	static final int ID_LENGTH = 32;
+
+	private static final Pattern BUCKET_NAME = Pattern.compile("[a-z0-9][a-z0-9.-]{1,61}[a-z0-9]");
+	private static final Pattern IP_ADDRESS = Pattern.compile("\\d+\\.\\d+\\.\\d+\\.\\d+");
+
+	private final ConcurrentSkipListMap<String, Bucket> buckets = new ConcurrentSkipListMap<>();
+	/** 데이터를 파일로 보관할 폴더. null이면 힙 메모리 */
+	private final Path dir;
+
+	EmbeddedStore(Path dir) {
+		this.dir = dir;
+	}
+
+	record Owner(String id, String displayName) {
+	}
+
+	/** 오브젝트의 한 버전 또는 삭제 마커 */
+	record Version(String key, String versionId, Blob blob, String eTag, Instant lastModified, String contentType,
+			Map<String, String> headers, Owner owner, boolean deleteMarker) {
+
+		long size() {
+			return blob == null ? 0 : blob.length();
+		}
+	}
+
+	record Part(int partNumber, Blob blob, String eTag, Instant lastModified) {
+	}
+
+	static final class Upload {
+		final String uploadId = newId();
+		final String key;
+		final String contentType;
+		final Map<String, String> headers;
+		final Owner owner;
+		final Instant initiated = now();
+		final ConcurrentSkipListMap<Integer, Part> parts = new ConcurrentSkipListMap<>();
+
+		Upload(String key, String contentType, Map<String, String> headers, Owner owner) {
+			this.key = key;
+			this.contentType = contentType;
+			this.headers = headers;
+			this.owner = owner;
+		}
+	}
+
+	static final class Bucket {
+		final String name;
+		final Owner owner;
+		final Instant created = now();
+		/** null: 설정한 적 없음, Enabled, Suspended */
+		String versioning;
+		/** 키 → 버전 목록 (최신이 앞) */
+		final TreeMap<String, List<Version>> objects = new TreeMap<>();
+		final Map<String, Upload> uploads = new TreeMap<>();
+
+		Bucket(String name, Owner owner) {
+			this.name = name;
+			this.owner = owner;
+		}
+	}
+
+	/** 목록 조회 결과 */
+	record Listing(List<Version> entries, List<String> commonPrefixes, boolean truncated, String nextMarker,
+			String nextVersionIdMarker) {
+	}
+
+	/** 삭제 결과 */
+	record Deleted(String versionId, boolean deleteMarker) {
+	}
+
+	/** HTTP 날짜(Last-Modified)와 같도록 초 단위로 자른 현재 시각 */
+	static Instant now() {
+		return Instant.now().truncatedTo(ChronoUnit.SECONDS);
+	}
+
+	static String newId() {
+		return Utils.randomText(ID_LENGTH);
+	}
+
+	// region Bucket
+	Bucket createBucket(String name, Owner owner) {
+		if (!BUCKET_NAME.matcher(name).matches() || name.contains("..") || IP_ADDRESS.matcher(name).matches())
+			throw new S3Error(S3Error.INVALID_BUCKET_NAME, "The specified bucket is not valid.");
+		var bucket = new Bucket(name, owner);
+		var exists = buckets.putIfAbsent(name, bucket);
+		if (exists == null)
+			return bucket;
+		if (exists.owner.id().equals(owner.id()))
+			throw new S3Error(S3Error.BUCKET_ALREADY_OWNED_BY_YOU,
+					"Your previous request to create the named bucket succeeded and you already own it.");
+		throw new S3Error(S3Error.BUCKET_ALREADY_EXISTS, "The requested bucket name is not available.");
+	}
+
+	Bucket getBucket(String name) {
+		var bucket = buckets.get(name);
+		if (bucket == null)
+			throw new S3Error(S3Error.NO_SUCH_BUCKET, "The specified bucket does not exist");
+		return bucket;
+	}
+
+	void deleteBucket(String name) {
+		var bucket = getBucket(name);
+		synchronized (bucket) {
+			if (!bucket.objects.isEmpty())
+				throw new S3Error(S3Error.BUCKET_NOT_EMPTY, "The bucket you tried to delete is not empty");
+			for (var upload : bucket.uploads.values())
+				upload.parts.values().forEach(part -> part.blob().release());
+			bucket.uploads.clear();
+			buckets.remove(name, bucket);
+		}
+	}
+
+	Collection<Bucket> listBuckets() {
+		return buckets.values();
+	}
+
+	void setVersioning(Bucket bucket, String status) {
+		if (!VERSIONING_ENABLED.equals(status) && !VERSIONING_SUSPENDED.equals(status))
+			throw new S3Error(S3Error.MALFORMED_XML, "The XML you provided was not well-formed");
+		synchronized (bucket) {
+			bucket.versioning = status;
+		}
+	}
+	// endregion
+
+	// region Object
+	/**
+	 * 오브젝트를 저장한다. 버전 관리 중이 아니면 기존 null 버전을 대체한다.
+	 */
+	Version putObject(Bucket bucket, String key, Blob blob, String eTag, String contentType,
+			Map<String, String> headers, Owner owner) {
+		synchronized (bucket) {
+			var enabled = VERSIONING_ENABLED.equals(bucket.versioning);
+			var version = new Version(key, enabled ? newId() : NULL_VERSION, blob, eTag, now(), contentType,
+					headers, owner, false);
+			var versions = bucket.objects.computeIfAbsent(key, k -> new ArrayList<>());
+			if (!enabled)
+				removeVersion(versions, NULL_VERSION);
+			versions.add(0, version);
+			return version;
+		}
+	}
+
+	/**
+	 * 오브젝트 버전을 찾는다. versionId가 없으면 최신 버전(삭제 마커일 수 있음)을 반환한다.
+	 */
+	Version getVersion(Bucket bucket, String key, String versionId) {
+		synchronized (bucket) {
+			var versions = bucket.objects.get(key);
+			if (versions == null || versions.isEmpty()) {
+				if (versionId != null)
+					throw new S3Error(S3Error.NO_SUCH_VERSION, "The specified version does not exist.");
+				throw new S3Error(S3Error.NO_SUCH_KEY, "The specified key does not exist.");
+			}
+			if (versionId == null)
+				return versions.get(0);
+			for (var version : versions)
+				if (version.versionId().equals(versionId))
+					return version;
+			throw new S3Error(S3Error.NO_SUCH_VERSION, "The specified version does not exist.");
+		}
+	}
+
+	boolean isLatest(Bucket bucket, Version version) {
+		synchronized (bucket) {
+			var versions = bucket.objects.get(version.key());
+			return versions != null && !versions.isEmpty() && versions.get(0) == version;
+		}
+	}
+
+	/**
+	 * 오브젝트를 삭제한다. versionId가 없고 버전 관리 중이면 삭제 마커를 만든다.
+	 */
+	Deleted deleteObject(Bucket bucket, String key, String versionId, Owner owner) {
+		synchronized (bucket) {
+			var versions = bucket.objects.get(key);
+			if (versionId != null) {
+				var removed = versions == null ? null : removeVersion(versions, versionId);
+				if (versions != null && versions.isEmpty())
+					bucket.objects.remove(key);
+				return new Deleted(versionId, removed != null && removed.deleteMarker());
+			}
+			if (bucket.versioning == null) {
+				if (versions != null) {
+					removeVersion(versions, NULL_VERSION);
+					if (versions.isEmpty())
+						bucket.objects.remove(key);
+				}
+				return new Deleted(null, false);
+			}
+
+			var enabled = VERSIONING_ENABLED.equals(bucket.versioning);
+			if (versions == null)
+				versions = bucket.objects.computeIfAbsent(key, k -> new ArrayList<>());
+			if (!enabled)
+				removeVersion(versions, NULL_VERSION);
+			var marker = new Version(key, enabled ? newId() : NULL_VERSION, null, null, now(), null,
+					Map.of(), owner, true);
+			versions.add(0, marker);
+			return new Deleted(marker.versionId(), true);
+		}
+	}
+
+	private static Version removeVersion(List<Version> versions, String versionId) {
+		for (var iterator = versions.iterator(); iterator.hasNext();) {
+			var version = iterator.next();
+			if (version.versionId().equals(versionId)) {
+				iterator.remove();
+				if (version.blob() != null)
+					version.blob().release();
+				return version;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 오브젝트 목록 (ListObjects, ListObjectsV2)
+	 *
+	 * @param marker 이 키 다음부터 조회. null이면 처음부터
+	 */
+	Listing listObjects(Bucket bucket, String prefix, String delimiter, String marker, int maxKeys) {
+		return list(bucket, prefix, delimiter, marker, null, maxKeys, false);
+	}
+
+	/**
+	 * 버전 목록 (ListObjectVersions)
+	 */
+	Listing listVersions(Bucket bucket, String prefix, String delimiter, String keyMarker, String versionIdMarker,
+			int maxKeys) {
+		return list(bucket, prefix, delimiter, keyMarker, versionIdMarker, maxKeys, true);
+	}
+
+	private Listing list(Bucket bucket, String prefix, String delimiter, String marker, String versionIdMarker,
+			int maxKeys, boolean allVersions) {
+		var entries = new ArrayList<Version>();
+		var commonPrefixes = new ArrayList<String>();
+		if (prefix == null)
+			prefix = "";
+		if (delimiter != null && delimiter.isEmpty())
+			delimiter = null;
+		if (marker != null && marker.isEmpty())
+			marker = null;
+		if (maxKeys <= 0)
+			return new Listing(entries, commonPrefixes, false, null, null);
+
+		synchronized (bucket) {
+			var from = marker != null && marker.compareTo(prefix) > 0 ? marker : prefix;
+			var inclusive = from.equals(prefix) && !from.equals(marker) || versionIdMarker != null;
+			var count = 0;
+			String lastPrefix = null;
+			String nextMarker = null;
+			String nextVersionIdMarker = null;
+
+			for (var entry : bucket.objects.tailMap(from, inclusive).entrySet()) {
+				var key = entry.getKey();
+				if (!key.startsWith(prefix))
+					break;
+
+				if (delimiter != null) {
+					var index = key.indexOf(delimiter, prefix.length());
+					if (index >= 0) {
+						var commonPrefix = key.substring(0, index + delimiter.length());
+						if (commonPrefix.equals(lastPrefix) || marker != null && commonPrefix.compareTo(marker) <= 0)
+							continue;
+						if (count == maxKeys)
+							return new Listing(entries, commonPrefixes, true, nextMarker, nextVersionIdMarker);
+						commonPrefixes.add(commonPrefix);
+						lastPrefix = commonPrefix;
+						nextMarker = commonPrefix;
+						nextVersionIdMarker = null;
+						count++;
+						continue;
+					}
+				}
+
+				var versions = entry.getValue();
+				if (!allVersions) {
+					if (versions.isEmpty() || versions.get(0).deleteMarker())
+						continue;
+					if (count == maxKeys)
+						return new Listing(entries, commonPrefixes, true, nextMarker, null);
+					entries.add(versions.get(0));
+					nextMarker = key;
+					count++;
+					continue;
+				}
+
+				var skip = versionIdMarker != null && key.equals(marker);
+				for (var version : versions) {
+					if (skip) {
+						skip = !version.versionId().equals(versionIdMarker);
+						continue;
+					}
+					if (count == maxKeys)
+						return new Listing(entries, commonPrefixes, true, nextMarker, nextVersionIdMarker);
+					entries.add(version);
+					nextMarker = key;
+					nextVersionIdMarker = version.versionId();
+					count++;
+				}
+			}
+			return new Listing(entries, commonPrefixes, false, null, null);
+		}
+	}
+	// endregion
+
+	// region Multipart
+	Upload createUpload(Bucket bucket, String key, String contentType, Map<String, String> headers, Owner owner) {
+		var upload = new Upload(key, contentType, headers, owner);
+		synchronized (bucket) {
+			bucket.uploads.put(upload.uploadId, upload);
+		}
+		return upload;
+	}
+
+	Upload getUpload(Bucket bucket, String key, String uploadId) {
+		synchronized (bucket) {
+			var upload = bucket.uploads.get(uploadId);
+			if (upload == null || !upload.key.equals(key))
+				throw new S3Error(S3Error.NO_SUCH_UPLOAD, "The specified upload does not exist.");
+			return upload;
+		}
+	}
+
+	List<Upload> listUploads(Bucket bucket) {
+		synchronized (bucket) {
+			var uploads = new ArrayList<>(bucket.uploads.values());
+			uploads.sort((a, b) -> {
+				var result = a.key.compareTo(b.key);
+				return result != 0 ? result : a.initiated.compareTo(b.initiated);
+			});
+			return uploads;
+		}
+	}
+
+	Part putPart(Upload upload, int partNumber, Blob blob) {
+		if (partNumber < 1 || partNumber > MAX_PART_NUMBER)
+			throw new S3Error(S3Error.INVALID_ARGUMENT,
+					"Part number must be an integer between 1 and " + MAX_PART_NUMBER + ", inclusive");
+		var part = new Part(partNumber, blob, blob.md5(), now());
+		var old = upload.parts.put(partNumber, part);
+		if (old != null)
+			old.blob().release();
+		return part;
+	}
+
+	void abortUpload(Bucket bucket, Upload upload) {
+		synchronized (bucket) {
+			if (bucket.uploads.remove(upload.uploadId) == null)
+				throw new S3Error(S3Error.NO_SUCH_UPLOAD, "The specified upload does not exist.");
+		}
+		upload.parts.values().forEach(part -> part.blob().release());
+	}
+
+	/**
+	 * 멀티파트 업로드를 완료한다.
+	 *
+	 * @param requested 요청된 (파트 번호, ETag) 목록
+	 */
+	Version completeUpload(Bucket bucket, Upload upload, List<Map.Entry<Integer, String>> requested)
+			throws IOException {
+		if (requested.isEmpty())
+			throw new S3Error(S3Error.MALFORMED_XML, "The XML you provided was not well-formed");
+
+		var parts = new ArrayList<Part>();
+		var previous = 0;
+		for (var entry : requested) {
+			if (entry.getKey() <= previous)
+				throw new S3Error(S3Error.INVALID_PART_ORDER, "The list of parts was not in ascending order.");
+			previous = entry.getKey();
+			var part = upload.parts.get(entry.getKey());
+			if (part == null || !part.eTag().equals(stripQuotes(entry.getValue())))
+				throw new S3Error(S3Error.INVALID_PART, "One or more of the specified parts could not be found.");
+			parts.add(part);
+		}
+		for (int i = 0; i < parts.size() - 1; i++)
+			if (parts.get(i).blob().length() < MIN_PART_SIZE)
+				throw new S3Error(S3Error.ENTITY_TOO_SMALL,
+						"Your proposed upload is smaller than the minimum allowed object size.");
+
+		var digest = Blob.newMd5();
+		var blobs = new ArrayList<Blob>();
+		for (var part : parts) {
+			digest.update(HexFormat.of().parseHex(part.eTag()));
+			blobs.add(part.blob());
+		}
+		var blob = Blob.concat(blobs, dir);
+		var eTag = HexFormat.of().formatHex(digest.digest()) + "-" + parts.size();
+
+		synchronized (bucket) {
+			if (bucket.uploads.remove(upload.uploadId) == null) {
+				blob.release();
+				throw new S3Error(S3Error.NO_SUCH_UPLOAD, "The specified upload does not exist.");
+			}
+		}
+		upload.parts.values().forEach(part -> part.blob().release());
+		return putObject(bucket, upload.key, blob, eTag, upload.contentType, upload.headers, upload.owner);
+	}
+	// endregion
+
+	Path getDir() {
+		return dir;
+	}
+
+	static String stripQuotes(String eTag) {
+		if (eTag == null)
+			return null;
+		eTag = eTag.trim();
+		if (eTag.length() >= 2 && eTag.startsWith("\"") && eTag.endsWith("\""))
+			return eTag.substring(1, eTag.length() - 1);
+		return eTag;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.embedded;
+
+/**
+ * S3 오류 응답으로 변환되는 예외.
+ */
+final class S3Error extends RuntimeException {
+	static final String NO_SUCH_BUCKET = "NoSuchBucket";
+	static final String NO_SUCH_KEY = "NoSuchKey";
+	static final String NO_SUCH_VERSION = "NoSuchVersion";
+	static final String NO_SUCH_UPLOAD = "NoSuchUpload";
+	static final String BUCKET_ALREADY_OWNED_BY_YOU = "BucketAlreadyOwnedByYou";
+	static final String BUCKET_ALREADY_EXISTS = "BucketAlreadyExists";
+	static final String BUCKET_NOT_EMPTY = "BucketNotEmpty";
+	static final String INVALID_BUCKET_NAME = "InvalidBucketName";
+	static final String INVALID_ARGUMENT = "InvalidArgument";
+	static final String INVALID_REQUEST = "InvalidRequest";
+	static final String BAD_DIGEST = "BadDigest";
+	static final String INVALID_RANGE = "InvalidRange";
+	static final String INVALID_PART = "InvalidPart";
+	static final String INVALID_PART_ORDER = "InvalidPartOrder";
+	static final String ENTITY_TOO_SMALL = "EntityTooSmall";
+	static final String ENTITY_TOO_LARGE = "EntityTooLarge";
+	static final String KEY_TOO_LONG = "KeyTooLongError";
+	static final String MALFORMED_XML = "MalformedXML";
+	static final String METHOD_NOT_ALLOWED = "MethodNotAllowed";
+	static final String PRECONDITION_FAILED = "PreconditionFailed";
+	static final String NOT_IMPLEMENTED = "NotImplemented";
+	static final String INTERNAL_ERROR = "InternalError";
+
+	private static final long serialVersionUID = 1L;
+
+	private final String code;
+	private final int status;
+
+	S3Error(String code, String message) {
+		super(message);
+		this.code = code;
+		this.status = statusOf(code);
+	}
+
+	String getCode() {
+		return code;
+	}
+
+	int getStatus() {
+		return status;
+	}
+
+	private static int statusOf(String code) {
+		return switch (code) {
+			case NO_SUCH_BUCKET, NO_SUCH_KEY, NO_SUCH_VERSION, NO_SUCH_UPLOAD -> 404;
+			case BUCKET_ALREADY_OWNED_BY_YOU, BUCKET_ALREADY_EXISTS, BUCKET_NOT_EMPTY -> 409;
+			case INVALID_RANGE -> 416;
+			case METHOD_NOT_ALLOWED -> 405;
+			case PRECONDITION_FAILED -> 412;
+			case NOT_IMPLEMENTED -> 501;
+			case INTERNAL_ERROR -> 500;
+			default -> 400;
+		};
+	}
+}
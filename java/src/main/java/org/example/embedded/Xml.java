@@ -0,0 +1,120 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.embedded;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.w3c.dom.Element;
+
+/**
+ * 응답 XML 작성과 요청 XML 읽기.
+ */
+final class Xml {
+	static final String NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+	static final DateTimeFormatter ISO8601 = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+			.withZone(ZoneOffset.UTC);
+
+	private final StringBuilder builder = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+	private final List<String> stack = new ArrayList<>();
+
+	/** 최상위 요소로 시작한다. */
+	Xml(String root) {
+		builder.append('<').append(root).append(" xmlns=\"").append(NAMESPACE).append("\">");
+		stack.add(root);
+	}
+
+	Xml start(String name) {
+		builder.append('<').append(name).append('>');
+		stack.add(name);
+		return this;
+	}
+
+	/** 속성이 있는 요소 */
+	Xml start(String name, String attributes) {
+		builder.append('<').append(name).append(' ').append(attributes).append('>');
+		stack.add(name);
+		return this;
+	}
+
+	Xml end() {
+		builder.append("</").append(stack.remove(stack.size() - 1)).append('>');
+		return this;
+	}
+
+	/** 값이 null이면 요소를 쓰지 않는다. */
+	Xml add(String name, Object value) {
+		if (value == null)
+			return this;
+		builder.append('<').append(name).append('>');
+		escape(value instanceof Instant instant ? ISO8601.format(instant) : value.toString());
+		builder.append("</").append(name).append('>');
+		return this;
+	}
+
+	byte[] toBytes() {
+		while (!stack.isEmpty())
+			end();
+		return builder.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void escape(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			switch (c) {
+				case '<' -> builder.append("&lt;");
+				case '>' -> builder.append("&gt;");
+				case '&' -> builder.append("&amp;");
+				case '"' -> builder.append("&quot;");
+				case '\'' -> builder.append("&apos;");
+				case '\r' -> builder.append("&#13;");
+				case '\n' -> builder.append("&#10;");
+				default -> builder.append(c);
+			}
+		}
+	}
+
+	/**
+	 * 요청 본문의 최상위 요소를 읽는다.
+	 */
+	static Element parse(byte[] body) {
+		try {
+			var factory = DocumentBuilderFactory.newInstance();
+			factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+			factory.setNamespaceAware(false);
+			return factory.newDocumentBuilder().parse(new ByteArrayInputStream(body)).getDocumentElement();
+		} catch (Exception e) {
+			throw new S3Error(S3Error.MALFORMED_XML, "The XML you provided was not well-formed");
+		}
+	}
+
+	/** 이름이 name인 직계 자식 요소 목록 */
+	static List<Element> children(Element parent, String name) {
+		var result = new ArrayList<Element>();
+		for (var node = parent.getFirstChild(); node != null; node = node.getNextSibling())
+			if (node instanceof Element element && name.equals(element.getTagName()))
+				result.add(element);
+		return result;
+	}
+
+	/** 이름이 name인 첫 직계 자식 요소의 내용. 없으면 null */
+	static String text(Element parent, String name) {
+		var list = children(parent, name);
+		return list.isEmpty() ? null : list.get(0).getTextContent();
+	}
+}
@@ -0,0 +1,460 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.example.Data.MainData;
+import org.example.Utility.ClientRegistry;
+import org.example.Utility.LatencyHistogram;
+import org.example.Utility.RandomPayload;
+import org.example.testV2.BucketCleaner;
+import org.example.testV2.TestBase;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 설정 파일의 사용자와 엔드포인트로 부하를 주는 도구.
+ * <p>
+ * {@link TestBase}로 클라이언트와 버킷을 만들고, 지정한 비율의 PUT/GET/HEAD/LIST/DELETE 요청을
+ * 정해진 시간 동안 동시에 보낸다. 스레드마다 {@link LatencyHistogram}에 기록한 뒤 합쳐서
+ * 요청별 ops/s, MB/s와 지연 시간 백분위수를 출력한다. 사용한 버킷은 끝나면 지운다.
+ */
+public class Bench {
+	/** 요청 종류 */
+	public enum Operation {
+		PUT, GET, HEAD, LIST, DELETE
+	}
+
+	/**
+	 * 부하 설정
+	 *
+	 * @param concurrency 동시에 요청을 보내는 스레드 수
+	 * @param size        오브젝트 크기 (바이트)
+	 * @param duration    실행 시간
+	 * @param mix         요청별 비중
+	 * @param objects     사용할 키 개수. 시작 전에 모두 업로드한다.
+	 */
+	public record Options(int concurrency, long size, Duration duration, Map<Operation, Integer> mix, int objects) {
+		public Options {
+			if (concurrency < 1)
+				throw new IllegalArgumentException("Invalid concurrency: " + concurrency);
+			if (size < 0)
+				throw new IllegalArgumentException("Invalid size: " + size);
+			if (duration.isNegative() || duration.isZero())
+				throw new IllegalArgumentException("Invalid duration: " + duration);
+			if (objects < 1)
+				throw new IllegalArgumentException("Invalid objects: " + objects);
+			if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0)
+				throw new IllegalArgumentException("Invalid mix: " + mix);
+			mix = new EnumMap<>(mix);
+		}
+	}
+
+	/** 기본 동시 실행 수 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+	/** 기본 오브젝트 크기 */
+	public static final String DEFAULT_SIZE = "64k";
+	/** 기본 실행 시간 */
+	public static final String DEFAULT_DURATION = "30s";
+	/** 기본 요청 비중 */
+	public static final String DEFAULT_MIX = "put=20,get=60,head=10,list=5,delete=5";
+	/** 기본 키 개수 */
+	public static final int DEFAULT_OBJECTS = 1000;
+
+	/** 진행 상황 출력 간격 (초) */
+	static final int PROGRESS_INTERVAL = 5;
+	/** LIST 요청 한 번에 받는 키 수 */
+	static final int LIST_MAX_KEYS = 100;
+	/** GET/HEAD/DELETE에서 존재하는 키를 찾기 위해 뽑아보는 횟수 */
+	static final int PICK_TRIES = 8;
+	static final String KEY_PREFIX = "bench/";
+	static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	private final Workload test;
+	private final S3Client client;
+	private final Options options;
+	private final Operation[] operations;
+	private final int[] weights;
+	/** 현재 존재하는 키 번호 */
+	private final Set<Integer> present = ConcurrentHashMap.newKeySet();
+	private final LongAdder done = new LongAdder();
+	private volatile String bucketName;
+
+	/** 클라이언트 생성과 버킷 이름 규칙을 테스트와 같게 쓰기 위한 TestBase */
+	static final class Workload extends TestBase {
+		@Override
+		public String getSuiteId() {
+			return "bench";
+		}
+
+		S3Config getConfig() {
+			return config;
+		}
+	}
+
+	Bench(Workload test, Options options) {
+		this.test = test;
+		this.client = test.getClient();
+		this.options = options;
+		var entries = options.mix().entrySet().stream().filter(e -> e.getValue() > 0).toList();
+		operations = new Operation[entries.size()];
+		weights = new int[entries.size()];
+		var total = 0;
+		for (int i = 0; i < entries.size(); i++) {
+			operations[i] = entries.get(i).getKey();
+			total += entries.get(i).getValue();
+			weights[i] = total;
+		}
+	}
+
+	/**
+	 * 설정 파일의 주 사용자로 부하 도구를 만든다.
+	 */
+	public static Bench create(Options options) {
+		return new Bench(new Workload(), options);
+	}
+
+	/**
+	 * 버킷을 만들고 키를 채운 뒤 부하를 주고 결과를 출력한다.
+	 *
+	 * @return 요청별 결과
+	 */
+	public Map<Operation, Stats> run() {
+		if (options.concurrency() > ClientRegistry.MAX_CONNECTIONS)
+			System.out.printf("Warning : concurrency %d exceeds the connection pool size %d%n",
+					options.concurrency(), ClientRegistry.MAX_CONNECTIONS);
+		System.out.printf("Bench : %d threads, %s objects, %d keys, %ds, mix %s%n", options.concurrency(),
+				formatSize(options.size()), options.objects(), options.duration().toSeconds(), options.mix());
+
+		var threadCount = new AtomicInteger();
+		var executor = Executors.newFixedThreadPool(options.concurrency(), runnable -> {
+			var thread = new Thread(runnable, "bench-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		var progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			var thread = new Thread(runnable, "bench-progress");
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			bucketName = test.createBucket(client, 0);
+			prepare(executor);
+
+			var start = System.nanoTime();
+			var deadline = start + options.duration().toNanos();
+			progress.scheduleAtFixedRate(() -> System.out.printf("Bench : %d ops (%.0f ops/s)%n", done.sum(),
+					done.sum() / Math.max((System.nanoTime() - start) / 1e9, 1e-3)), PROGRESS_INTERVAL,
+					PROGRESS_INTERVAL, TimeUnit.SECONDS);
+
+			var futures = new ArrayList<Future<Map<Operation, Stats>>>();
+			for (int i = 0; i < options.concurrency(); i++)
+				futures.add(executor.submit(() -> work(deadline)));
+			var results = merge(await(futures));
+			var seconds = (System.nanoTime() - start) / 1e9;
+			progress.shutdownNow();
+			print(results, seconds);
+			return results;
+		} finally {
+			progress.shutdownNow();
+			executor.shutdownNow();
+			if (bucketName != null && !test.getConfig().notDelete)
+				new BucketCleaner(client).clear(bucketName);
+		}
+	}
+
+	/** 모든 키를 미리 업로드한다. */
+	void prepare(ExecutorService executor) {
+		var start = System.nanoTime();
+		var futures = new ArrayList<Future<Map<Operation, Stats>>>();
+		var next = new AtomicInteger();
+		for (int i = 0; i < options.concurrency(); i++) {
+			futures.add(executor.submit(() -> {
+				var stats = newStats();
+				for (int index = next.getAndIncrement(); index < options.objects(); index = next.getAndIncrement())
+					execute(Operation.PUT, index, stats);
+				return stats;
+			}));
+		}
+		var errors = merge(await(futures)).get(Operation.PUT).getErrors();
+		if (errors > 0)
+			throw new IllegalStateException(String.format("Failed to prepare %d of %d objects", errors,
+					options.objects()));
+		System.out.printf("Bench : %d objects prepared in %s (%.1fs)%n", options.objects(), bucketName,
+				(System.nanoTime() - start) / 1e9);
+	}
+
+	Map<Operation, Stats> work(long deadline) {
+		var stats = newStats();
+		var random = ThreadLocalRandom.current();
+		while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+			var operation = pick(random.nextInt(weights[weights.length - 1]));
+			var index = switch (operation) {
+				case PUT, LIST -> random.nextInt(options.objects());
+				case GET, HEAD, DELETE -> pickPresent(random);
+			};
+			if (index < 0) {
+				stats.get(operation).misses++;
+				continue;
+			}
+			execute(operation, index, stats);
+			done.increment();
+		}
+		return stats;
+	}
+
+	Operation pick(int value) {
+		for (int i = 0; i < weights.length; i++)
+			if (value < weights[i])
+				return operations[i];
+		return operations[operations.length - 1];
+	}
+
+	int pickPresent(ThreadLocalRandom random) {
+		for (int i = 0; i < PICK_TRIES; i++) {
+			var index = random.nextInt(options.objects());
+			if (present.contains(index))
+				return index;
+		}
+		return -1;
+	}
+
+	void execute(Operation operation, int index, Map<Operation, Stats> stats) {
+		var key = KEY_PREFIX + index;
+		var result = stats.get(operation);
+		// 다른 스레드가 먼저 지운 키는 오류가 아니라 놓친 요청으로 센다
+		if (operation == Operation.DELETE && !present.remove(index)) {
+			result.misses++;
+			return;
+		}
+		var start = System.nanoTime();
+		try {
+			var bytes = switch (operation) {
+				case PUT -> {
+					client.putObject(p -> p.bucket(bucketName).key(key),
+							RandomPayload.create(options.size()).toRequestBody());
+					present.add(index);
+					yield options.size();
+				}
+				case GET -> {
+					try (var response = client.getObject(g -> g.bucket(bucketName).key(key))) {
+						yield response.transferTo(OutputStream.nullOutputStream());
+					}
+				}
+				case HEAD -> {
+					client.headObject(h -> h.bucket(bucketName).key(key));
+					yield 0L;
+				}
+				case LIST -> {
+					client.listObjectsV2(l -> l.bucket(bucketName).prefix(KEY_PREFIX).maxKeys(LIST_MAX_KEYS));
+					yield 0L;
+				}
+				case DELETE -> {
+					client.deleteObject(d -> d.bucket(bucketName).key(key));
+					yield 0L;
+				}
+			};
+			result.histogram.record((System.nanoTime() - start) / 1000);
+			result.bytes += bytes;
+		} catch (AwsServiceException e) {
+			if (e.statusCode() == 404 && !present.contains(index))
+				result.misses++;
+			else
+				result.failed(String.format("%s %s : %s, %d", operation, key,
+						e.awsErrorDetails().errorCode(), e.statusCode()));
+		} catch (SdkException | IOException e) {
+			result.failed(String.format("%s %s : %s", operation, key, e.getMessage()));
+		}
+	}
+
+	static Map<Operation, Stats> newStats() {
+		var stats = new EnumMap<Operation, Stats>(Operation.class);
+		for (var operation : Operation.values())
+			stats.put(operation, new Stats());
+		return stats;
+	}
+
+	static <T> List<T> await(List<Future<T>> futures) {
+		var results = new ArrayList<T>();
+		for (var future : futures) {
+			try {
+				results.add(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Bench interrupted", e);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("Bench worker failed", e.getCause());
+			}
+		}
+		return results;
+	}
+
+	static Map<Operation, Stats> merge(List<Map<Operation, Stats>> list) {
+		var merged = newStats();
+		for (var stats : list)
+			for (var operation : Operation.values())
+				merged.get(operation).add(stats.get(operation));
+		return merged;
+	}
+
+	void print(Map<Operation, Stats> results, double seconds) {
+		var total = new Stats();
+		System.out.printf("%n%-8s %10s %10s %9s %7s %7s %9s %9s %9s %9s %9s%n", "Op", "Count", "Ops/s", "MB/s",
+				"Errors", "Misses", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+		for (var entry : results.entrySet()) {
+			var stats = entry.getValue();
+			if (stats.getCount() + stats.getErrors() + stats.misses == 0)
+				continue;
+			printRow(entry.getKey().name(), stats, seconds);
+			total.add(stats);
+		}
+		printRow("TOTAL", total, seconds);
+		if (total.firstError != null)
+			System.out.printf("Error : %s%n", total.firstError);
+	}
+
+	static void printRow(String name, Stats stats, double seconds) {
+		var histogram = stats.histogram;
+		var line = new StringBuilder(String.format("%-8s %10d %10.1f %9.2f %7d %7d", name, histogram.getCount(),
+				histogram.getCount() / seconds, stats.bytes / seconds / MainData.MB, stats.errors, stats.misses));
+		for (var percentile : PERCENTILES)
+			line.append(String.format(" %9.3f", histogram.getPercentile(percentile) / 1000.0));
+		line.append(String.format(" %9.3f", histogram.getMax() / 1000.0));
+		System.out.println(line);
+	}
+
+	/**
+	 * 요청 한 종류의 결과. 스레드마다 따로 기록하고 끝난 뒤 합친다.
+	 */
+	public static final class Stats {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		long bytes;
+		long errors;
+		long misses;
+		String firstError;
+
+		void failed(String message) {
+			errors++;
+			if (firstError == null)
+				firstError = message;
+		}
+
+		void add(Stats other) {
+			histogram.add(other.histogram);
+			bytes += other.bytes;
+			errors += other.errors;
+			misses += other.misses;
+			if (firstError == null)
+				firstError = other.firstError;
+		}
+
+		public LatencyHistogram getHistogram() {
+			return histogram;
+		}
+
+		public long getCount() {
+			return histogram.getCount();
+		}
+
+		public long getBytes() {
+			return bytes;
+		}
+
+		public long getErrors() {
+			return errors;
+		}
+
+		public long getMisses() {
+			return misses;
+		}
+	}
+
+	/**
+	 * 요청 비중을 읽는다. 예: {@code put=20,get=60,head=10,list=5,delete=5}
+	 * 적지 않은 요청은 보내지 않는다.
+	 *
+	 * @throws IllegalArgumentException 형식이 잘못된 경우
+	 */
+	public static Map<Operation, Integer> parseMix(String value) {
+		var mix = new LinkedHashMap<Operation, Integer>();
+		try {
+			for (var item : value.split(",")) {
+				if (item.isBlank())
+					continue;
+				var pair = item.split("=", 2);
+				var weight = Integer.parseInt(pair[1].trim());
+				if (weight < 0)
+					throw new IllegalArgumentException();
+				mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+			}
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid mix: " + value);
+		}
+		if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0)
+			throw new IllegalArgumentException("Invalid mix: " + value);
+		return mix;
+	}
+
+	/**
+	 * 크기 문자열을 읽는다. {@code 4096}, {@code 64k}, {@code 1m}, {@code 1MB}처럼 단위(k, m, g)를 붙일 수 있다.
+	 *
+	 * @throws IllegalArgumentException 형식이 잘못된 경우
+	 */
+	public static long parseSize(String value) {
+		var text = value.trim().toLowerCase();
+		if (text.endsWith("ib"))
+			text = text.substring(0, text.length() - 2);
+		else if (text.endsWith("b"))
+			text = text.substring(0, text.length() - 1);
+		try {
+			var unit = switch (text.isEmpty() ? ' ' : text.charAt(text.length() - 1)) {
+				case 'k' -> (long) MainData.KB;
+				case 'm' -> (long) MainData.MB;
+				case 'g' -> (long) MainData.GB;
+				default -> 1L;
+			};
+			var size = Long.parseLong(unit == 1 ? text : text.substring(0, text.length() - 1)) * unit;
+			if (size < 0)
+				throw new IllegalArgumentException();
+			return size;
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid size: " + value);
+		}
+	}
+
+	static String formatSize(long size) {
+		if (size >= MainData.MB && size % MainData.MB == 0)
+			return size / MainData.MB + "MB";
+		if (size >= MainData.KB && size % MainData.KB == 0)
+			return size / MainData.KB + "KB";
+		return size + "B";
+	}
+}
@@ -0,0 +1,31 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import org.example.Utility.BucketReaper;
+import org.example.Utility.FixtureCache;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * 테스트 실행이 끝나면 {@link FixtureCache}의 공유 버킷을 정리 대상에 넣고, {@link BucketReaper}가 남은
+ * 버킷을 모두 정리할 때까지 기다리는 리스너.
+ * <p>
+ * {@code META-INF/services}로 등록되어 있으므로 Maven(surefire)과 {@link Main} 실행 모두에서 동작한다.
+ */
+public class BucketReaperListener implements TestExecutionListener {
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		FixtureCache.getInstance().release();
+		BucketReaper.getInstance().awaitIdle();
+	}
+}
@@ -0,0 +1,165 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+import org.example.Utility.Teardown;
+import org.example.testV2.BucketCleaner;
+import org.example.testV2.TestBase;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Bucket;
+
+/**
+ * 중단된 실행이나 {@code NotDelete = true} 설정으로 남은 테스트 버킷을 지우는 도구.
+ * <p>
+ * 설정 파일의 {@code BucketPrefix}(SDK별 {@code v1-}/{@code v2-} 접두어 포함)로 시작하는 버킷을 찾아
+ * {@link BucketCleaner}로 비운 뒤 삭제한다. 버킷은 {@link Teardown#BUCKETS}개씩 동시에 처리한다.
+ */
+public class BucketSweeper {
+	/** 진행 상황 출력 간격 (초) */
+	static final int PROGRESS_INTERVAL = 5;
+
+	private final S3Client client;
+	private final List<String> prefixes;
+
+	/**
+	 * @param client S3 클라이언트
+	 * @param prefix 설정 파일의 버킷 접두어
+	 */
+	public BucketSweeper(S3Client client, String prefix) {
+		if (StringUtils.isBlank(prefix))
+			throw new IllegalArgumentException("BucketPrefix is empty. Refusing to sweep all buckets");
+		this.client = client;
+		this.prefixes = List.of(prefix, "v1-" + prefix, "v2-" + prefix);
+	}
+
+	/**
+	 * 설정 파일의 사용자와 접두어로 정리기를 만든다.
+	 */
+	public static BucketSweeper create() {
+		var test = new TestBase() {
+		};
+		var config = new S3Config(System.getProperty("s3tests.ini", S3Config.STR_FILENAME));
+		config.getConfig();
+		return new BucketSweeper(test.getClient(), config.bucketPrefix);
+	}
+
+	/**
+	 * 접두어가 일치하고 olderThan보다 오래된 버킷 목록
+	 *
+	 * @param olderThan 최소 경과 시간. null이면 모두
+	 */
+	public List<String> list(Duration olderThan) {
+		var cutoff = olderThan == null ? null : Instant.now().minus(olderThan);
+		var bucketNames = new ArrayList<String>();
+		String token = null;
+		do {
+			var continuationToken = token;
+			var response = client.listBuckets(l -> l.continuationToken(continuationToken));
+			for (var bucket : response.buckets())
+				if (matches(bucket, cutoff))
+					bucketNames.add(bucket.name());
+			token = response.continuationToken();
+		} while (StringUtils.isNotBlank(token));
+		return bucketNames;
+	}
+
+	boolean matches(Bucket bucket, Instant cutoff) {
+		if (prefixes.stream().noneMatch(bucket.name()::startsWith))
+			return false;
+		// 생성 시각을 모르면 오래된 버킷인지 알 수 없으므로 지우지 않는다
+		return cutoff == null || (bucket.creationDate() != null && bucket.creationDate().isBefore(cutoff));
+	}
+
+	/**
+	 * 조건에 맞는 버킷을 모두 지운다.
+	 *
+	 * @param olderThan 최소 경과 시간. null이면 모두
+	 * @return 삭제한 버킷 수
+	 */
+	public long sweep(Duration olderThan) {
+		var bucketNames = list(olderThan);
+		System.out.printf("Sweep : %d buckets matching %s%s%n", bucketNames.size(), prefixes,
+				olderThan == null ? "" : " older than " + olderThan);
+		if (bucketNames.isEmpty())
+			return 0;
+
+		var cleaner = new BucketCleaner(client);
+		var done = new AtomicInteger();
+		var start = System.nanoTime();
+		var progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			var thread = new Thread(runnable, "sweep-progress");
+			thread.setDaemon(true);
+			return thread;
+		});
+		progress.scheduleAtFixedRate(() -> printProgress(cleaner, done.get(), bucketNames.size(), start),
+				PROGRESS_INTERVAL, PROGRESS_INTERVAL, TimeUnit.SECONDS);
+		try {
+			Teardown.forEach(bucketNames, Teardown.BUCKETS, bucketName -> {
+				cleaner.clear(bucketName);
+				done.incrementAndGet();
+			});
+		} finally {
+			progress.shutdownNow();
+		}
+		printProgress(cleaner, done.get(), bucketNames.size(), start);
+		return cleaner.getDeletedBuckets();
+	}
+
+	static void printProgress(BucketCleaner cleaner, int done, int total, long start) {
+		var seconds = Math.max((System.nanoTime() - start) / 1e9, 1e-3);
+		System.out.printf("Sweep : %d/%d buckets, %d deleted, %d objects, %d uploads aborted "
+				+ "(%.1fs, %.1f buckets/s, %.0f objects/s)%n", done, total, cleaner.getDeletedBuckets(),
+				cleaner.getDeletedObjects(), cleaner.getAbortedUploads(), seconds, done / seconds,
+				cleaner.getDeletedObjects() / seconds);
+	}
+
+	/**
+	 * 경과 시간 문자열을 읽는다. {@code 30m}, {@code 12h}, {@code 2d}처럼 단위(s, m, h, d)를 붙이거나
+	 * ISO-8601 형식({@code PT2H})을 쓴다.
+	 *
+	 * @throws IllegalArgumentException 형식이 잘못되었거나 0 이하인 경우
+	 */
+	public static Duration parseAge(String value) {
+		var age = parseDuration(value);
+		// 음수면 기준 시각이 미래가 되어 실행 중인 버킷까지 지워지므로 막는다
+		if (age.isNegative() || age.isZero())
+			throw new IllegalArgumentException("Invalid age: " + value);
+		return age;
+	}
+
+	private static Duration parseDuration(String value) {
+		var text = value.trim().toLowerCase();
+		try {
+			if (text.startsWith("p"))
+				return Duration.parse(text.toUpperCase());
+			var amount = Long.parseLong(text.substring(0, text.length() - 1));
+			return switch (text.charAt(text.length() - 1)) {
+				case 's' -> Duration.ofSeconds(amount);
+				case 'm' -> Duration.ofMinutes(amount);
+				case 'h' -> Duration.ofHours(amount);
+				case 'd' -> Duration.ofDays(amount);
+				default -> throw new IllegalArgumentException("Invalid age: " + value);
+			};
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid age: " + value);
+		}
+	}
+}
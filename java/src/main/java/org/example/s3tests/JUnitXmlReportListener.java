@@ -0,0 +1,258 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.example.Utility.RequestMetrics;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * 실행 결과를 JUnit XML(surefire 형식) 파일 하나로 저장하는 리스너.
+ * <p>
+ * 생성한 파일은 {@code scripts/merge_junit_results.py}로 다른 결과 파일과 합칠 수 있다.
+ */
+public class JUnitXmlReportListener implements TestExecutionListener {
+	/** 테스트 케이스 결과. usage는 요청 지표를 수집하지 않거나 테스트가 실행되지 않았으면 null */
+	record TestCaseResult(String className, String name, double time, TestExecutionResult.Status status,
+			Throwable throwable, String skipReason, RequestMetrics.Usage usage) {
+	}
+
+	/** testcase의 properties에 쓰는 자원 사용량 이름 */
+	static final String PROPERTY_REQUESTS = "s3tests.requests";
+	static final String PROPERTY_BYTES_SENT = "s3tests.bytes.sent";
+	static final String PROPERTY_BYTES_RECEIVED = "s3tests.bytes.received";
+	static final String PROPERTY_CONNECTIONS = "s3tests.connections";
+	static final String PROPERTY_TLS_HANDSHAKES = "s3tests.tls.handshakes";
+
+	private final File file;
+	private final String suiteName;
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final List<TestCaseResult> results = new CopyOnWriteArrayList<>();
+	private long planStartTime;
+	private Instant timestamp;
+
+	/**
+	 * @param file      저장할 XML 파일
+	 * @param suiteName testsuite 이름
+	 */
+	public JUnitXmlReportListener(File file, String suiteName) {
+		this.file = file;
+		this.suiteName = suiteName;
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		planStartTime = System.nanoTime();
+		timestamp = Instant.now();
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier identifier) {
+		if (identifier.isTest())
+			startTimes.put(identifier.getUniqueId(), System.nanoTime());
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier identifier, String reason) {
+		// SdkTest처럼 메서드 단위 컨테이너가 통째로 건너뛰어진 경우도 케이스 하나로 기록
+		if (identifier.isTest() || identifier.getSource().orElse(null) instanceof MethodSource)
+			results.add(new TestCaseResult(getClassName(identifier), getName(identifier), 0,
+					null, null, reason, null));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+		var start = startTimes.remove(identifier.getUniqueId());
+		if (start == null) {
+			// 컨테이너(클래스) 초기화 실패는 케이스 하나로 기록
+			if (identifier.isContainer() && result.getStatus() != TestExecutionResult.Status.SUCCESSFUL)
+				results.add(new TestCaseResult(getClassName(identifier), identifier.getDisplayName(), 0,
+						result.getStatus(), result.getThrowable().orElse(null), null, null));
+			return;
+		}
+		var key = TestDurationListener.getKey(identifier);
+		var usage = RequestMetrics.ENABLED && key != null ? RequestMetrics.getInstance().getUsage(key) : null;
+		results.add(new TestCaseResult(getClassName(identifier), getName(identifier),
+				(System.nanoTime() - start) / 1e9, result.getStatus(), result.getThrowable().orElse(null), null,
+				usage));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		try {
+			write();
+		} catch (IOException | XMLStreamException e) {
+			System.out.printf("Error : JUnit XML Report Write Failed(%s)%n", e.getMessage());
+		}
+	}
+
+	static String getClassName(TestIdentifier identifier) {
+		var source = identifier.getSource().orElse(null);
+		if (source instanceof MethodSource method)
+			return method.getClassName();
+		if (source instanceof ClassSource classSource)
+			return classSource.getClassName();
+		return identifier.getLegacyReportingName();
+	}
+
+	static String getName(TestIdentifier identifier) {
+		var source = identifier.getSource().orElse(null);
+		if (source instanceof MethodSource method) {
+			if (TestDurationListener.isInvocation(identifier))
+				return method.getMethodName() + "[" + identifier.getDisplayName() + "]";
+			return method.getMethodName();
+		}
+		return identifier.getLegacyReportingName();
+	}
+
+	void write() throws IOException, XMLStreamException {
+		var cases = new ArrayList<>(results);
+		cases.sort(Comparator.comparing(TestCaseResult::className).thenComparing(TestCaseResult::name));
+
+		long failures = cases.stream().filter(c -> c.status() == TestExecutionResult.Status.FAILED
+				&& c.throwable() instanceof AssertionError).count();
+		long errors = cases.stream().filter(c -> c.status() == TestExecutionResult.Status.FAILED
+				&& !(c.throwable() instanceof AssertionError)).count();
+		long skipped = cases.stream().filter(c -> c.status() == null
+				|| c.status() == TestExecutionResult.Status.ABORTED).count();
+		double time = (System.nanoTime() - planStartTime) / 1e9;
+
+		var parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null && !parent.exists() && !parent.mkdirs())
+			throw new IOException("Cannot create directory: " + parent);
+
+		try (var output = new FileOutputStream(file)) {
+			XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(output, "UTF-8");
+			xml.writeStartDocument("UTF-8", "1.0");
+			xml.writeCharacters("\n");
+			xml.writeStartElement("testsuite");
+			xml.writeAttribute("name", suiteName);
+			xml.writeAttribute("tests", Integer.toString(cases.size()));
+			xml.writeAttribute("failures", Long.toString(failures));
+			xml.writeAttribute("errors", Long.toString(errors));
+			xml.writeAttribute("skipped", Long.toString(skipped));
+			xml.writeAttribute("time", String.format("%.3f", time));
+			xml.writeAttribute("timestamp",
+					DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp.atOffset(ZoneOffset.UTC)));
+			xml.writeAttribute("hostname", getHostName());
+			xml.writeCharacters("\n");
+
+			for (var item : cases)
+				writeTestCase(xml, item);
+
+			xml.writeEndElement();
+			xml.writeCharacters("\n");
+			xml.writeEndDocument();
+			xml.close();
+		}
+		System.out.printf("JUnit XML Report : %s%n", file.getPath());
+	}
+
+	/**
+	 * testcase 요소 작성
+	 */
+	protected void writeTestCase(XMLStreamWriter xml, TestCaseResult item) throws XMLStreamException {
+		xml.writeCharacters("  ");
+		xml.writeStartElement("testcase");
+		xml.writeAttribute("name", item.name());
+		xml.writeAttribute("classname", item.className());
+		xml.writeAttribute("time", String.format("%.3f", item.time()));
+		if (item.usage() != null)
+			writeUsage(xml, item.usage());
+
+		if (item.status() == null || item.status() == TestExecutionResult.Status.ABORTED) {
+			xml.writeEmptyElement("skipped");
+			var reason = item.skipReason() != null ? item.skipReason()
+					: item.throwable() != null ? String.valueOf(item.throwable().getMessage()) : "";
+			xml.writeAttribute("message", reason);
+		} else if (item.status() == TestExecutionResult.Status.FAILED) {
+			var throwable = item.throwable();
+			xml.writeStartElement(throwable instanceof AssertionError ? "failure" : "error");
+			if (throwable != null) {
+				xml.writeAttribute("message", String.valueOf(throwable.getMessage()));
+				xml.writeAttribute("type", throwable.getClass().getName());
+				xml.writeCData(getStackTrace(throwable));
+			}
+			xml.writeEndElement();
+		}
+
+		xml.writeEndElement();
+		xml.writeCharacters("\n");
+	}
+
+	/**
+	 * 테스트가 사용한 요청 수, 본문 크기, 연결 수를 properties로 작성
+	 */
+	static void writeUsage(XMLStreamWriter xml, RequestMetrics.Usage usage) throws XMLStreamException {
+		xml.writeStartElement("properties");
+		writeProperty(xml, PROPERTY_REQUESTS, usage.requests());
+		writeProperty(xml, PROPERTY_BYTES_SENT, usage.bytesSent());
+		writeProperty(xml, PROPERTY_BYTES_RECEIVED, usage.bytesReceived());
+		writeProperty(xml, PROPERTY_CONNECTIONS, usage.connections());
+		writeProperty(xml, PROPERTY_TLS_HANDSHAKES, usage.tlsHandshakes());
+		xml.writeEndElement();
+	}
+
+	static void writeProperty(XMLStreamWriter xml, String name, long value) throws XMLStreamException {
+		xml.writeEmptyElement("property");
+		xml.writeAttribute("name", name);
+		xml.writeAttribute("value", Long.toString(value));
+	}
+
+	static String getStackTrace(Throwable throwable) {
+		var writer = new StringWriter();
+		throwable.printStackTrace(new PrintWriter(writer));
+		return writer.toString().replace("]]>", "]]]]><![CDATA[>");
+	}
+
+	static String getHostName() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return "localhost";
+		}
+	}
+
+	/**
+	 * 결과 파일 경로 생성
+	 *
+	 * @param directory 결과 폴더
+	 * @param name      파일 이름에 붙일 이름
+	 */
+	public static File getReportFile(String directory, String name) {
+		return new File(directory, "TEST-" + name + ".xml");
+	}
+}
@@ -0,0 +1,66 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+/**
+ * {@link TestDurationHistory}의 기록을 기준으로 오래 걸리는 테스트를 먼저 실행하는 정렬기.
+ * <p>
+ * 병렬 실행 시 가장 긴 테스트가 마지막에 시작되어 전체 실행 시간이 늘어지는 것을 막는다.
+ * 기록이 없는 테스트는 기록된 테스트의 중앙값으로 추정하고, 같은 값끼리는 선언 순서를 유지한다.
+ * <p>
+ * 설정: {@code junit.jupiter.testclass.order.default}, {@code junit.jupiter.testmethod.order.default}
+ */
+public class LongestFirstOrderer implements ClassOrderer, MethodOrderer {
+
+	@Override
+	public void orderClasses(ClassOrdererContext context) {
+		var history = TestDurationHistory.getInstance();
+		sort(context.getClassDescriptors(), c -> history.getClassDuration(c.getTestClass().getName()));
+	}
+
+	@Override
+	public void orderMethods(MethodOrdererContext context) {
+		var history = TestDurationHistory.getInstance();
+		sort(context.getMethodDescriptors(),
+				m -> history.getMethodDuration(m.getMethod().getDeclaringClass().getName(),
+						m.getMethod().getName()));
+	}
+
+	static <T> void sort(List<T> items, ToLongFunction<T> duration) {
+		var known = new ArrayList<Long>();
+		for (var item : items) {
+			var value = duration.applyAsLong(item);
+			if (value >= 0)
+				known.add(value);
+		}
+		if (known.isEmpty())
+			return;
+
+		Collections.sort(known);
+		var estimate = known.get(known.size() / 2);
+
+		items.sort(Comparator.comparingLong((T item) -> {
+			var value = duration.applyAsLong(item);
+			return value < 0 ? estimate : value;
+		}).reversed());
+	}
+}
@@ -11,8 +11,15 @@
 package org.example.s3tests;
 
 import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.commons.cli.*;
+import org.example.Utility.BucketReaper;
+import org.example.Utility.ClientRegistry;
+import org.example.Utility.RequestMetrics;
+import org.example.embedded.EmbeddedS3Server;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -43,6 +50,84 @@ public class Main {
 				.hasArg()
 				.argName("file")
 				.build());
+		options.addOption(Option.builder("p")
+				.longOpt("parallelism")
+				.desc("Number of tests to run at the same time (default: 1, sequential)")
+				.hasArg()
+				.argName("N")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("mode")
+				.desc("Execution mode for test methods: same_thread | concurrent (default: concurrent). "
+						+ "Test classes always run concurrently when parallelism > 1")
+				.hasArg()
+				.argName("mode")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("slowest")
+				.desc("Number of slowest tests to list in the report (default: 10)")
+				.hasArg()
+				.argName("N")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("sdk")
+				.desc("AWS SDK to test: v1 | v2 | both (default: both)")
+				.hasArg()
+				.argName("sdk")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("shard")
+				.desc("Run only the i-th of n partitions of the selected tests (e.g. 2/4)")
+				.hasArg()
+				.argName("i/n")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("reports")
+				.desc("Directory to write the JUnit XML report (default with --shard: ./target/results)")
+				.hasArg()
+				.argName("dir")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("sweep")
+				.desc("Delete leftover test buckets matching BucketPrefix instead of running tests")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("older-than")
+				.desc("With --sweep, only delete buckets older than the given age (e.g. 30m, 12h, 2d)")
+				.hasArg()
+				.argName("age")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("concurrency")
+				.desc("With bench, number of threads sending requests (default: " + Bench.DEFAULT_CONCURRENCY + ")")
+				.hasArg()
+				.argName("N")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("size")
+				.desc("With bench, object size (e.g. 4k, 1m; default: " + Bench.DEFAULT_SIZE + ")")
+				.hasArg()
+				.argName("size")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("duration")
+				.desc("With bench, how long to send requests (e.g. 30s, 5m; default: " + Bench.DEFAULT_DURATION + ")")
+				.hasArg()
+				.argName("time")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("mix")
+				.desc("With bench, request weights (default: " + Bench.DEFAULT_MIX + ")")
+				.hasArg()
+				.argName("op=weight,...")
+				.build());
+		options.addOption(Option.builder()
+				.longOpt("objects")
+				.desc("With bench, number of keys uploaded before the run and used by requests (default: "
+						+ Bench.DEFAULT_OBJECTS + ")")
+				.hasArg()
+				.argName("N")
+				.build());
 		options.addOption(Option.builder("h")
 				.longOpt("help")
 				.desc("Show this help message")
@@ -56,12 +141,12 @@ public class Main {
 			cmd = parser.parse(options, args);
 		} catch (ParseException e) {
 			System.err.println(e.getMessage());
-			formatter.printHelp("s3test", options, true);
+			formatter.printHelp("s3test [bench]", options, true);
 			System.exit(1);
 		}
 
 		if (cmd.hasOption("h")) {
-			formatter.printHelp("s3test", options, true);
+			formatter.printHelp("s3test [bench]", options, true);
 			return;
 		}
 
@@ -70,38 +155,109 @@ public class Main {
 			System.setProperty("s3tests.ini", cmd.getOptionValue("f"));
 		}
 
-		LauncherDiscoveryRequest request = null;
+		Map<String, String> parameters = null;
+		int slowest = 10;
+		TestSharding.Shard shard = null;
+		Duration olderThan = null;
+		Bench.Options bench = null;
+		try {
+			parameters = getParallelParameters(cmd.getOptionValue("p"), cmd.getOptionValue("mode"));
+			var slowestValue = cmd.getOptionValue("slowest", "10");
+			slowest = Integer.parseInt(slowestValue.trim());
+			if (slowest < 0)
+				throw new IllegalArgumentException("Invalid slowest: " + slowestValue);
+			if (cmd.hasOption("sdk")) {
+				var sdk = cmd.getOptionValue("sdk");
+				System.out.printf("SDK : %s%n", Sdk.parse(sdk));
+				parameters.put(Sdk.PROPERTY, sdk.trim().toLowerCase());
+			}
+			if (cmd.hasOption("shard"))
+				shard = TestSharding.Shard.parse(cmd.getOptionValue("shard"));
+			if (cmd.hasOption("older-than"))
+				olderThan = BucketSweeper.parseAge(cmd.getOptionValue("older-than"));
+			if (cmd.getArgList().contains(BENCH))
+				bench = getBenchOptions(cmd);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			formatter.printHelp("s3test [bench]", options, true);
+			System.exit(1);
+		}
+		if (cmd.hasOption("sweep")) {
+			try {
+				BucketSweeper.create().sweep(olderThan);
+			} catch (IllegalArgumentException e) {
+				System.err.println(e.getMessage());
+				System.exit(1);
+			}
+			return;
+		}
+		if (bench != null) {
+			Bench.create(bench).run();
+			var embedded = EmbeddedS3Server.getInstance();
+			System.out.println("\n------------------------------------------\n" + ClientRegistry.report()
+					+ (embedded == null ? "" : embedded.report()) + "------------------------------------------");
+			return;
+		}
+
+		parameters.put(CLASS_ORDER, LongestFirstOrderer.class.getName());
+		parameters.put(METHOD_ORDER, LongestFirstOrderer.class.getName());
+
+		LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request()
+				.configurationParameters(parameters);
 		String className = cmd.getOptionValue("c");
 		String methodName = cmd.getOptionValue("m");
 
 		if (className != null && methodName != null) {
 			System.out.printf("Method Test %s.%s%n", className, methodName);
-			request = LauncherDiscoveryRequestBuilder.request()
-					.selectors(DiscoverySelectors.selectMethod(getTestPackageName(className, methodName)))
-					.build();
+			builder.selectors(DiscoverySelectors.selectMethod(getTestPackageName(className, methodName)));
 		} else if (className != null) {
 			System.out.println("Class Test " + className);
-			request = LauncherDiscoveryRequestBuilder.request()
-					.selectors(DiscoverySelectors.selectClass(getTestPackageName(className, null)))
-					.build();
+			builder.selectors(DiscoverySelectors.selectClass(getTestPackageName(className, null)));
 		} else {
 			System.out.println("Full Test");
+			builder.selectors(DiscoverySelectors.selectPackage(getTestPackageName(null, null)));
+		}
+		LauncherDiscoveryRequest request = builder.build();
+
+		Launcher launcher = LauncherFactory.create();
+
+		String reports = cmd.getOptionValue("reports");
+		String reportName = "s3tests";
+		if (shard != null) {
+			var selectors = TestSharding.select(launcher.discover(request), shard, TestDurationHistory.getInstance());
+			if (selectors.isEmpty()) {
+				System.out.printf("Shard %s has no tests%n", shard);
+				return;
+			}
 			request = LauncherDiscoveryRequestBuilder.request()
-					.selectors(DiscoverySelectors.selectPackage(getTestPackageName(null, null)))
+					.configurationParameters(parameters)
+					.selectors(selectors)
 					.build();
+			reportName += "-" + shard.getName();
+			if (reports == null)
+				reports = DEFAULT_REPORTS;
 		}
 
-		Launcher launcher = LauncherFactory.create();
+		// 요청 지표 파일도 JUnit XML 결과 옆에 같은 이름으로 저장한다
+		if (reports != null && System.getProperty(RequestMetrics.PROPERTY_DIR) == null) {
+			System.setProperty(RequestMetrics.PROPERTY_DIR, reports);
+			System.setProperty(RequestMetrics.PROPERTY_NAME, reportName);
+		}
 
 		System.out.println("Test Start!");
 		SummaryGeneratingListener listener = new SummaryGeneratingListener();
 		launcher.registerTestExecutionListeners(listener);
+		if (reports != null)
+			launcher.registerTestExecutionListeners(new JUnitXmlReportListener(
+					JUnitXmlReportListener.getReportFile(reports, reportName), reportName));
 		launcher.execute(request);
+		// 백그라운드에서 정리 중인 버킷이 남아 있으면 끝날 때까지 기다린다
+		BucketReaper.getInstance().awaitIdle();
 		listener.getSummary().printTo(new PrintWriter(System.out));
-		printReport(listener.getSummary());
+		printReport(listener.getSummary(), slowest);
 	}
 
-	private static void printReport(TestExecutionSummary summary) {
+	private static void printReport(TestExecutionSummary summary, int slowest) {
 		System.out.println(
 				"\n------------------------------------------" +
 						"\nTests started: " + summary.getTestsStartedCount() +
@@ -114,6 +270,91 @@ public class Main {
 				System.out.println(f.getTestIdentifier().getSource() + "\n\nException " + f.getException());
 			}
 		}
+
+		var slowestTests = TestDurationHistory.getInstance().getSlowest(slowest);
+		if (!slowestTests.isEmpty()) {
+			System.out.println("\n------------------------------------------\nSlowest Tests");
+			for (var test : slowestTests)
+				System.out.printf("%10.3fs  %s%n", test.getValue() / 1000.0, test.getKey());
+		}
+
+		var embedded = EmbeddedS3Server.getInstance();
+		System.out.println("\n------------------------------------------\n" + ClientRegistry.report()
+				+ BucketReaper.getInstance().report() + (embedded == null ? "" : embedded.report())
+				+ "------------------------------------------");
+	}
+
+	static final String PARALLEL_ENABLED = "junit.jupiter.execution.parallel.enabled";
+	static final String PARALLEL_MODE = "junit.jupiter.execution.parallel.mode.default";
+	static final String PARALLEL_MODE_CLASSES = "junit.jupiter.execution.parallel.mode.classes.default";
+	static final String PARALLEL_STRATEGY = "junit.jupiter.execution.parallel.config.strategy";
+	static final String PARALLEL_FIXED = "junit.jupiter.execution.parallel.config.fixed.parallelism";
+	static final String CLASS_ORDER = "junit.jupiter.testclass.order.default";
+	static final String METHOD_ORDER = "junit.jupiter.testmethod.order.default";
+	static final String MODE_SAME_THREAD = "same_thread";
+	static final String MODE_CONCURRENT = "concurrent";
+	static final String DEFAULT_REPORTS = "./target/results";
+	static final String BENCH = "bench";
+
+	/**
+	 * bench 명령의 옵션을 읽는다.
+	 *
+	 * @throws IllegalArgumentException 값이 잘못된 경우
+	 */
+	static Bench.Options getBenchOptions(CommandLine cmd) {
+		int concurrency;
+		int objects;
+		try {
+			concurrency = Integer.parseInt(
+					cmd.getOptionValue("concurrency", Integer.toString(Bench.DEFAULT_CONCURRENCY)).trim());
+			objects = Integer.parseInt(cmd.getOptionValue("objects", Integer.toString(Bench.DEFAULT_OBJECTS)).trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid number: " + e.getMessage());
+		}
+		return new Bench.Options(concurrency, Bench.parseSize(cmd.getOptionValue("size", Bench.DEFAULT_SIZE)),
+				BucketSweeper.parseAge(cmd.getOptionValue("duration", Bench.DEFAULT_DURATION)),
+				Bench.parseMix(cmd.getOptionValue("mix", Bench.DEFAULT_MIX)), objects);
+	}
+
+	/**
+	 * JUnit 병렬 실행 설정을 만든다. parallelism이 1 이하이면 기존처럼 순차 실행한다.
+	 *
+	 * @param parallelism 동시에 실행할 테스트 수
+	 * @param mode        테스트 메서드 실행 모드 (same_thread | concurrent)
+	 * @return Launcher 설정 값
+	 */
+	static Map<String, String> getParallelParameters(String parallelism, String mode) {
+		var parameters = new HashMap<String, String>();
+
+		int count = 1;
+		if (parallelism != null) {
+			try {
+				count = Integer.parseInt(parallelism.trim());
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+			}
+			if (count < 1)
+				throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+		}
+
+		if (mode == null)
+			mode = MODE_CONCURRENT;
+		mode = mode.trim().toLowerCase();
+		if (!mode.equals(MODE_SAME_THREAD) && !mode.equals(MODE_CONCURRENT))
+			throw new IllegalArgumentException("Invalid mode: " + mode);
+
+		if (count <= 1) {
+			parameters.put(PARALLEL_ENABLED, "false");
+			return parameters;
+		}
+
+		System.out.printf("Parallel Test (parallelism: %d, mode: %s)%n", count, mode);
+		parameters.put(PARALLEL_ENABLED, "true");
+		parameters.put(PARALLEL_MODE, mode);
+		parameters.put(PARALLEL_MODE_CLASSES, MODE_CONCURRENT);
+		parameters.put(PARALLEL_STRATEGY, "fixed");
+		parameters.put(PARALLEL_FIXED, Integer.toString(count));
+		return parameters;
 	}
 
 	private static String packageName = "org.example.s3tests";
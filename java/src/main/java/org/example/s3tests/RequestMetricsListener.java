@@ -0,0 +1,120 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import org.example.Utility.RequestMetrics;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * 테스트를 실행하는 스레드에 테스트 이름을 지정하여 {@link RequestMetrics}가 요청을 테스트별로 모으게 하고,
+ * 실행이 끝나면 결과 파일을 저장하는 리스너.
+ * <p>
+ * 테스트 시작/종료 알림은 테스트를 실행하는 스레드에서 호출된다. 테스트 이름은
+ * {@link TestDurationListener#getKey(TestIdentifier)}와 같다.
+ * {@code META-INF/services}로 등록되어 있으므로 Maven(surefire)과 {@link Main} 실행 모두에서 동작한다.
+ * <p>
+ * surefire가 쓰는 결과 XML에는 testcase 속성을 넣을 수 없으므로 테스트별 자원 사용량을
+ * {@code USAGE-이름.json}으로 따로 저장하고, {@code scripts/merge_junit_results.py}가 결과를 합칠 때
+ * 같은 클래스/메서드의 testcase에 {@code s3tests.*} 속성으로 넣는다.
+ */
+public class RequestMetricsListener implements TestExecutionListener {
+	/** 테스트 하나의 자원 사용량. invocation은 반복/파라미터 테스트의 표시 이름이며 일반 테스트는 null */
+	record TestUsage(String className, String method, String invocation, RequestMetrics.Usage usage) {
+	}
+
+	private final List<TestUsage> usages = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void executionStarted(TestIdentifier identifier) {
+		if (!RequestMetrics.ENABLED || !identifier.isTest())
+			return;
+		var key = TestDurationListener.getKey(identifier);
+		RequestMetrics.getInstance().startTest(key == null ? identifier.getDisplayName() : key);
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+		if (!RequestMetrics.ENABLED || !identifier.isTest())
+			return;
+		RequestMetrics.getInstance().endTest();
+		var key = TestDurationListener.getKey(identifier);
+		if (key != null && identifier.getSource().orElse(null) instanceof MethodSource method)
+			usages.add(new TestUsage(method.getClassName(), method.getMethodName(),
+					TestDurationListener.isInvocation(identifier) ? identifier.getDisplayName() : null,
+					RequestMetrics.getInstance().getUsage(key)));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (!RequestMetrics.ENABLED)
+			return;
+		for (var file : RequestMetrics.getInstance().write())
+			System.out.printf("Request Metrics : %s%n", file.getPath());
+		if (usages.isEmpty())
+			return;
+		var file = new File(System.getProperty(RequestMetrics.PROPERTY_DIR, RequestMetrics.DEFAULT_DIR),
+				"USAGE-" + System.getProperty(RequestMetrics.PROPERTY_NAME, RequestMetrics.DEFAULT_NAME) + ".json");
+		try {
+			writeUsages(file);
+			System.out.printf("Request Usage : %s%n", file.getPath());
+		} catch (IOException e) {
+			System.out.printf("Error : Request Usage Save Failed(%s)%n", e.getMessage());
+		}
+	}
+
+	/**
+	 * 테스트별 자원 사용량을 testcase 속성 이름 그대로 저장한다.
+	 */
+	void writeUsages(File file) throws IOException {
+		var directory = file.getParentFile();
+		if (directory != null && !directory.isDirectory() && !directory.mkdirs())
+			throw new IOException("Directory Create Failed(" + directory + ")");
+
+		var sorted = new ArrayList<>(usages);
+		sorted.sort(Comparator.comparing(TestUsage::className).thenComparing(TestUsage::method)
+				.thenComparing(TestUsage::invocation, Comparator.nullsFirst(Comparator.naturalOrder())));
+		var list = new JsonArray();
+		for (var item : sorted) {
+			var properties = new JsonObject();
+			properties.addProperty(JUnitXmlReportListener.PROPERTY_REQUESTS, item.usage().requests());
+			properties.addProperty(JUnitXmlReportListener.PROPERTY_BYTES_SENT, item.usage().bytesSent());
+			properties.addProperty(JUnitXmlReportListener.PROPERTY_BYTES_RECEIVED, item.usage().bytesReceived());
+			properties.addProperty(JUnitXmlReportListener.PROPERTY_CONNECTIONS, item.usage().connections());
+			properties.addProperty(JUnitXmlReportListener.PROPERTY_TLS_HANDSHAKES, item.usage().tlsHandshakes());
+			var entry = new JsonObject();
+			entry.addProperty("classname", item.className());
+			entry.addProperty("method", item.method());
+			if (item.invocation() != null)
+				entry.addProperty("invocation", item.invocation());
+			entry.add("properties", properties);
+			list.add(entry);
+		}
+		try (var writer = new FileWriter(file)) {
+			new GsonBuilder().setPrettyPrinting().create().toJson(list, writer);
+		}
+	}
+}
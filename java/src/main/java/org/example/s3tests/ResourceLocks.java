@@ -0,0 +1,22 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+/**
+ * 병렬 실행 시 서로 겹치면 안 되는 테스트가 {@code @ResourceLock}으로 선언하는 공유 자원 이름
+ */
+public final class ResourceLocks {
+	private ResourceLocks() {
+	}
+
+	/** 사용자가 소유한 전체 버킷 목록. 목록 전체를 조회/검증하는 테스트가 사용한다. */
+	public static final String BUCKET_LIST = "s3tests.bucket-list";
+}
@@ -12,10 +12,12 @@ package org.example.s3tests;
 
 import java.io.File;
 import java.io.FileReader;
+import java.util.List;
 
 import org.apache.commons.configuration2.INIConfiguration;
 import org.apache.commons.lang3.StringUtils;
 import org.example.Data.UserData;
+import org.example.embedded.EmbeddedS3Server;
 
 public class S3Config {
 	public static final String STR_FILENAME = "config.ini";
@@ -90,12 +92,26 @@ public class S3Config {
 			altUser = readUser(STR_ALT_USER);
 			backendUser = readUser(STR_BACKEND_USER);
 
+			if (EmbeddedS3Server.isEmbedded(url))
+				useEmbeddedServer();
+
 		} catch (Exception e) {
 			e.printStackTrace();// NOSONAR
 		}
 		return true;
 	}
 
+	/**
+	 * 내장 S3 서버를 띄우고 접속 정보를 그 서버로 바꾼다. 포트가 없거나 0이면 빈 포트를 사용한다.
+	 */
+	void useEmbeddedServer() {
+		var server = EmbeddedS3Server.start(port, List.of(mainUser, altUser, backendUser));
+		url = server.getHost();
+		port = server.getPort();
+		oldPort = -1;
+		isSecure = false;
+	}
+
 	public String getSignatureVersion() {
 		if (signatureVersion.equals("2"))
 			return STR_SIGNATURE_VERSION_V2;
@@ -0,0 +1,58 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 테스트에 사용하는 AWS SDK 버전.
+ * <p>
+ * 실행할 SDK는 설정 값 {@code s3tests.sdk}(v1 | v2 | both)로 선택한다.
+ */
+public enum Sdk {
+	/** AWS SDK for Java v1 ({@code org.example.test}) */
+	V1,
+	/** AWS SDK for Java v2 ({@code org.example.testV2}) */
+	V2;
+
+	/** 실행할 SDK를 지정하는 설정 값 이름 */
+	public static final String PROPERTY = "s3tests.sdk";
+	/** 모든 SDK 실행 */
+	public static final String BOTH = "both";
+
+	/**
+	 * 설정 값을 읽어 실행할 SDK 목록을 반환한다. 값이 없으면 모든 SDK를 실행한다.
+	 *
+	 * @param value v1 | v2 | both
+	 * @throws IllegalArgumentException 잘못된 값인 경우
+	 */
+	public static Set<Sdk> parse(String value) {
+		if (value == null || value.isBlank())
+			return EnumSet.allOf(Sdk.class);
+
+		switch (value.trim().toLowerCase()) {
+			case "v1":
+				return EnumSet.of(V1);
+			case "v2":
+				return EnumSet.of(V2);
+			case BOTH:
+				return EnumSet.allOf(Sdk.class);
+			default:
+				throw new IllegalArgumentException("Invalid sdk: " + value);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return name().toLowerCase();
+	}
+}
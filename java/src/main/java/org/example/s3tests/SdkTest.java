@@ -0,0 +1,47 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * SDK 버전별로 따로 실행되는 테스트.
+ * <p>
+ * 지정한 SDK마다 독립된 테스트({@code [v1]}, {@code [v2]})로 실행되므로 병렬 실행 시 동시에 실행될 수 있고,
+ * 한쪽이 실패해도 다른 쪽 결과가 가려지지 않는다. 테스트 메서드에 {@link Sdk} 파라미터를 선언하면
+ * 현재 실행 중인 SDK가 전달된다.
+ *
+ * <pre>
+ * &#64;SdkTest
+ * void testPutObject(Sdk sdk) {
+ * 	switch (sdk) {
+ * 		case V1 -&gt; test.testPutObject();
+ * 		case V2 -&gt; testV2.testPutObject();
+ * 	}
+ * }
+ * </pre>
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@TestTemplate
+@ExtendWith(SdkTestExtension.class)
+public @interface SdkTest {
+	/** 테스트를 지원하는 SDK 목록 */
+	Sdk[] value() default { Sdk.V1, Sdk.V2 };
+}
@@ -0,0 +1,97 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * {@link SdkTest}를 SDK별 테스트로 나누어 실행하는 확장.
+ * <p>
+ * 설정 값 {@code s3tests.sdk}에서 제외된 SDK는 실행하지 않으며, 실행할 SDK가 하나도 없으면 테스트를 건너뛴다.
+ */
+public class SdkTestExtension implements TestTemplateInvocationContextProvider, ExecutionCondition {
+
+	@Override
+	public boolean supportsTestTemplate(ExtensionContext context) {
+		return context.getTestMethod().map(m -> AnnotationSupport.isAnnotated(m, SdkTest.class)).orElse(false);
+	}
+
+	@Override
+	public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+		return getTargets(context).stream().map(Invocation::new);
+	}
+
+	@Override
+	public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+		if (context.getTestMethod().isEmpty() || !supportsTestTemplate(context))
+			return ConditionEvaluationResult.enabled("Not an SDK test");
+		if (getTargets(context).isEmpty())
+			return ConditionEvaluationResult.disabled(String.format("Not supported by %s=%s", Sdk.PROPERTY,
+					context.getConfigurationParameter(Sdk.PROPERTY).orElse(Sdk.BOTH)));
+		return ConditionEvaluationResult.enabled("SDK selected");
+	}
+
+	/**
+	 * 테스트가 지원하는 SDK 중 설정에서 선택된 SDK 목록
+	 */
+	static List<Sdk> getTargets(ExtensionContext context) {
+		var selected = Sdk.parse(context.getConfigurationParameter(Sdk.PROPERTY).orElse(null));
+		var annotation = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), SdkTest.class)
+				.orElseThrow();
+
+		var targets = new ArrayList<Sdk>();
+		for (var sdk : annotation.value())
+			if (selected.contains(sdk) && !targets.contains(sdk))
+				targets.add(sdk);
+		return targets;
+	}
+
+	/** SDK 하나에 대한 실행 */
+	static final class Invocation implements TestTemplateInvocationContext, ParameterResolver {
+		private final Sdk sdk;
+
+		Invocation(Sdk sdk) {
+			this.sdk = sdk;
+		}
+
+		@Override
+		public String getDisplayName(int invocationIndex) {
+			return sdk.toString();
+		}
+
+		@Override
+		public List<Extension> getAdditionalExtensions() {
+			return List.of(this);
+		}
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == Sdk.class;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return sdk;
+		}
+	}
+}
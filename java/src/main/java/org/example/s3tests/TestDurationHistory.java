@@ -0,0 +1,153 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * 테스트별 실행 시간 기록.
+ * <p>
+ * 이전 실행에서 측정한 시간을 파일에서 읽어 두고, 이번 실행에서 측정한 시간으로 갱신하여 저장한다.
+ * 키는 {@code 클래스 FQCN#메서드명}이며, 동적 테스트와 SDK별 테스트는 뒤에 {@code [표시 이름]}이 붙는다.
+ */
+public final class TestDurationHistory {
+	/** 기록 파일 경로를 지정하는 시스템 속성 */
+	public static final String PROPERTY_FILE = "s3tests.durations";
+	/** 기본 기록 파일 */
+	public static final String DEFAULT_FILE = "test-durations.json";
+
+	private static final TestDurationHistory instance = new TestDurationHistory(
+			System.getProperty(PROPERTY_FILE, DEFAULT_FILE));
+
+	private final File file;
+	private final Map<String, Long> history = new ConcurrentHashMap<>();
+	private final Map<String, Long> current = new ConcurrentHashMap<>();
+
+	TestDurationHistory(String fileName) {
+		file = new File(fileName);
+		load();
+	}
+
+	public static TestDurationHistory getInstance() {
+		return instance;
+	}
+
+	/**
+	 * 실행 시간 기록
+	 *
+	 * @param name   테스트 키
+	 * @param millis 실행 시간(ms)
+	 */
+	public void record(String name, long millis) {
+		current.put(name, millis);
+	}
+
+	/**
+	 * 테스트 메서드의 예상 실행 시간. 이번 실행 기록이 있으면 우선 사용한다.
+	 * 동적 테스트처럼 같은 메서드에 여러 기록이 있으면 합산한다.
+	 *
+	 * @param className  클래스 FQCN
+	 * @param methodName 메서드명
+	 * @return 예상 실행 시간(ms), 기록이 없으면 -1
+	 */
+	public long getMethodDuration(String className, String methodName) {
+		var key = className + "#" + methodName;
+		var total = sum(current, key);
+		if (total < 0)
+			total = sum(history, key);
+		return total;
+	}
+
+	/**
+	 * 테스트 클래스의 예상 실행 시간 (메서드 기록의 합)
+	 *
+	 * @param className 클래스 FQCN
+	 * @return 예상 실행 시간(ms), 기록이 없으면 -1
+	 */
+	public long getClassDuration(String className) {
+		var total = sum(current, className + "#");
+		if (total < 0)
+			total = sum(history, className + "#");
+		return total;
+	}
+
+	private static long sum(Map<String, Long> map, String prefix) {
+		long total = -1;
+		for (var entry : map.entrySet()) {
+			var key = entry.getKey();
+			if (key.equals(prefix) || (key.startsWith(prefix)
+					&& (prefix.endsWith("#") || key.charAt(prefix.length()) == '['))) {
+				total = Math.max(total, 0) + entry.getValue();
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * 이번 실행에서 가장 오래 걸린 테스트 목록
+	 *
+	 * @param count 최대 개수
+	 * @return 실행 시간 내림차순 목록
+	 */
+	public List<Map.Entry<String, Long>> getSlowest(int count) {
+		var list = new ArrayList<>(current.entrySet());
+		list.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+		return list.subList(0, Math.max(0, Math.min(count, list.size())));
+	}
+
+	/**
+	 * 이번 실행에서 기록된 시간 목록
+	 */
+	public Map<String, Long> getCurrent() {
+		return new TreeMap<>(current);
+	}
+
+	private void load() {
+		if (!file.isFile())
+			return;
+		try (var reader = new FileReader(file)) {
+			Map<String, Long> data = new GsonBuilder().create().fromJson(reader,
+					new TypeToken<Map<String, Long>>() {
+					}.getType());
+			if (data != null)
+				history.putAll(data);
+		} catch (IOException | JsonParseException e) {
+			System.out.printf("Error : Duration History Load Failed(%s)%n", e.getMessage());
+		}
+	}
+
+	/**
+	 * 이전 기록에 이번 실행 기록을 덮어써서 파일로 저장
+	 */
+	public synchronized void save() {
+		if (current.isEmpty())
+			return;
+		var data = new TreeMap<>(history);
+		data.putAll(current);
+		try (var writer = new FileWriter(file)) {
+			new GsonBuilder().setPrettyPrinting().create().toJson(data, writer);
+		} catch (IOException e) {
+			System.out.printf("Error : Duration History Save Failed(%s)%n", e.getMessage());
+		}
+	}
+}
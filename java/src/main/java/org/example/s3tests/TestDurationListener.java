@@ -0,0 +1,72 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * 테스트별 실행 시간을 측정하여 {@link TestDurationHistory}에 기록하는 리스너.
+ * <p>
+ * {@code META-INF/services}로 등록되어 있으므로 Maven(surefire)과 {@link Main} 실행 모두에서 동작한다.
+ */
+public class TestDurationListener implements TestExecutionListener {
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+	/**
+	 * 테스트 기록 키. 메서드 소스가 없으면 null
+	 */
+	static String getKey(TestIdentifier identifier) {
+		var source = identifier.getSource().orElse(null);
+		if (!(source instanceof MethodSource method))
+			return null;
+
+		var key = method.getClassName() + "#" + method.getMethodName();
+		if (isInvocation(identifier))
+			key += "[" + identifier.getDisplayName() + "]";
+		return key;
+	}
+
+	/**
+	 * 하나의 메서드에서 생성된 여러 테스트 중 하나인지 여부 (동적 테스트, {@link SdkTest}의 SDK별 실행 등)
+	 */
+	static boolean isInvocation(TestIdentifier identifier) {
+		var uniqueId = identifier.getUniqueId();
+		return uniqueId.contains("[dynamic-test:") || uniqueId.contains("[test-template-invocation:");
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier identifier) {
+		if (identifier.isTest())
+			startTimes.put(identifier.getUniqueId(), System.nanoTime());
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+		var start = startTimes.remove(identifier.getUniqueId());
+		if (start == null)
+			return;
+		var key = getKey(identifier);
+		if (key != null)
+			TestDurationHistory.getInstance().record(key, (System.nanoTime() - start) / 1_000_000);
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		TestDurationHistory.getInstance().save();
+	}
+}
@@ -0,0 +1,169 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.s3tests;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * 테스트 목록을 여러 머신에서 나누어 실행하기 위한 분할 도구.
+ * <p>
+ * 실행 기록이 있는 테스트는 긴 것부터 가장 여유 있는 분할에 배정하여 분할별 실행 시간을 맞추고,
+ * 기록이 없는 테스트는 클래스 이름의 해시로 분할을 정한다. 같은 테스트 목록과 같은 기록 파일을 쓰면
+ * 어느 머신에서 계산해도 같은 결과가 나오므로 분할끼리 빠지거나 겹치는 테스트가 없다.
+ */
+public final class TestSharding {
+	/**
+	 * 분할 정보
+	 *
+	 * @param index 분할 번호 (1부터 시작)
+	 * @param count 전체 분할 수
+	 */
+	public record Shard(int index, int count) {
+
+		/**
+		 * {@code i/n} 형식의 문자열을 읽는다.
+		 *
+		 * @throws IllegalArgumentException 형식이 잘못되었거나 범위를 벗어난 경우
+		 */
+		public static Shard parse(String value) {
+			var items = value.trim().split("/");
+			if (items.length != 2)
+				throw new IllegalArgumentException("Invalid shard: " + value);
+			try {
+				var index = Integer.parseInt(items[0].trim());
+				var count = Integer.parseInt(items[1].trim());
+				if (count < 1 || index < 1 || index > count)
+					throw new IllegalArgumentException("Invalid shard: " + value);
+				return new Shard(index, count);
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid shard: " + value);
+			}
+		}
+
+		/** 결과 파일 이름 등에 쓰는 이름 */
+		public String getName() {
+			return String.format("shard-%d-of-%d", index, count);
+		}
+
+		@Override
+		public String toString() {
+			return index + "/" + count;
+		}
+	}
+
+	/** 분할 단위 (테스트 메서드 하나) */
+	record Unit(String uniqueId, String className, long duration) {
+	}
+
+	private TestSharding() {
+	}
+
+	/**
+	 * 테스트 계획에서 해당 분할에 속한 테스트의 selector 목록을 만든다.
+	 *
+	 * @param plan    전체 테스트 계획
+	 * @param shard   분할 정보
+	 * @param history 실행 시간 기록
+	 */
+	public static List<DiscoverySelector> select(TestPlan plan, Shard shard, TestDurationHistory history) {
+		var selectors = new ArrayList<DiscoverySelector>();
+		var units = getUnits(plan, history);
+		var shards = partition(units, shard.count());
+		long total = 0;
+		for (var unit : shards.get(shard.index() - 1)) {
+			selectors.add(DiscoverySelectors.selectUniqueId(unit.uniqueId()));
+			total += Math.max(unit.duration(), 0);
+		}
+		System.out.printf("Shard %s : %d of %d tests (expected %.1fs)%n", shard, selectors.size(), units.size(),
+				total / 1000.0);
+		return selectors;
+	}
+
+	/**
+	 * 테스트 계획에서 분할 단위를 추출한다. 테스트 메서드와 {@code @TestFactory}처럼 메서드 소스를 가진
+	 * 가장 바깥쪽 식별자를 하나의 단위로 본다.
+	 */
+	static List<Unit> getUnits(TestPlan plan, TestDurationHistory history) {
+		var units = new ArrayList<Unit>();
+		for (var root : plan.getRoots())
+			for (var identifier : plan.getDescendants(root)) {
+				if (!(identifier.getSource().orElse(null) instanceof MethodSource method))
+					continue;
+				if (hasMethodParent(plan, identifier))
+					continue;
+				units.add(new Unit(identifier.getUniqueId(), method.getClassName(),
+						history.getMethodDuration(method.getClassName(), method.getMethodName())));
+			}
+		units.sort(Comparator.comparing(Unit::uniqueId));
+		return units;
+	}
+
+	private static boolean hasMethodParent(TestPlan plan, TestIdentifier identifier) {
+		var parent = plan.getParent(identifier).orElse(null);
+		while (parent != null) {
+			if (parent.getSource().orElse(null) instanceof MethodSource)
+				return true;
+			parent = plan.getParent(parent).orElse(null);
+		}
+		return false;
+	}
+
+	/**
+	 * 분할 단위를 count개로 나눈다.
+	 * <p>
+	 * 기록이 없는 단위는 클래스 이름 해시로 먼저 배정하고(기록된 단위의 중앙값으로 부하를 추정),
+	 * 기록이 있는 단위는 긴 것부터 부하가 가장 작은 분할에 배정한다.
+	 */
+	static List<List<Unit>> partition(List<Unit> units, int count) {
+		var shards = new ArrayList<List<Unit>>();
+		var loads = new long[count];
+		for (int i = 0; i < count; i++)
+			shards.add(new ArrayList<>());
+
+		var known = new ArrayList<Unit>();
+		var durations = new ArrayList<Long>();
+		for (var unit : units)
+			if (unit.duration() >= 0) {
+				known.add(unit);
+				durations.add(unit.duration());
+			}
+		Collections.sort(durations);
+		long estimate = durations.isEmpty() ? 0 : durations.get(durations.size() / 2);
+
+		for (var unit : units) {
+			if (unit.duration() >= 0)
+				continue;
+			var index = Math.floorMod(unit.className().hashCode(), count);
+			shards.get(index).add(unit);
+			loads[index] += estimate;
+		}
+
+		known.sort(Comparator.comparingLong(Unit::duration).reversed().thenComparing(Unit::uniqueId));
+		for (var unit : known) {
+			int index = 0;
+			for (int i = 1; i < count; i++)
+				if (loads[i] < loads[index])
+					index = i;
+			shards.get(index).add(unit);
+			loads[index] += unit.duration();
+		}
+		return shards;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.example.Utility.Teardown;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ListVersionsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+
+/**
+ * 테스트 버킷 정리기 (SDK v1).
+ * <p>
+ * 버전 목록을 마커를 이어가며 읽어서 1,000개씩 DeleteObjects(quiet) 배치로 지우고,
+ * 배치와 멀티파트 업로드 취소는 {@link Teardown#BATCHES}개씩, 버킷은 {@link Teardown#BUCKETS}개씩
+ * 동시에 처리한다.
+ */
+public class BucketCleaner {
+	/** DeleteObjects 한 번에 지우는 최대 오브젝트 수 */
+	public static final int BATCH_SIZE = 1000;
+
+	private final AmazonS3 client;
+	private final LongAdder deletedObjects = new LongAdder();
+	private final LongAdder abortedUploads = new LongAdder();
+	private final LongAdder deletedBuckets = new LongAdder();
+
+	public BucketCleaner(AmazonS3 client) {
+		this.client = client;
+	}
+
+	/** 지금까지 지운 오브젝트(버전, 삭제 마커 포함) 수 */
+	public long getDeletedObjects() {
+		return deletedObjects.sum();
+	}
+
+	/** 지금까지 취소한 멀티파트 업로드 수 */
+	public long getAbortedUploads() {
+		return abortedUploads.sum();
+	}
+
+	/** 지금까지 삭제한 버킷 수 */
+	public long getDeletedBuckets() {
+		return deletedBuckets.sum();
+	}
+
+	/**
+	 * 여러 버킷을 동시에 정리하고 삭제한다.
+	 */
+	public void clear(Collection<String> bucketNames) {
+		Teardown.forEach(bucketNames, Teardown.BUCKETS, this::clear);
+	}
+
+	/**
+	 * 버킷의 멀티파트 업로드와 모든 버전을 지운 뒤 버킷을 삭제한다.
+	 */
+	public void clear(String bucketName) {
+		if (StringUtils.isBlank(bucketName))
+			return;
+
+		abortMultipartUploads(bucketName);
+		deleteObjectVersions(bucketName);
+
+		try {
+			client.deleteBucket(bucketName);
+			deletedBuckets.increment();
+		} catch (AmazonServiceException e) {
+			System.out.format("Error : Bucket(%s) Delete Failed(%s, %d)%n", bucketName, e.getErrorCode(),
+					e.getStatusCode());
+		}
+	}
+
+	/**
+	 * 진행 중인 멀티파트 업로드를 모두 취소한다.
+	 */
+	public void abortMultipartUploads(String bucketName) {
+		var pipeline = new Teardown.Pipeline(Teardown.BATCHES);
+		try {
+			var isTruncated = true;
+			String keyMarker = null;
+			String uploadIdMarker = null;
+			while (isTruncated) {
+				var listRequest = new ListMultipartUploadsRequest(bucketName);
+				if (keyMarker != null)
+					listRequest.withKeyMarker(keyMarker).withUploadIdMarker(uploadIdMarker);
+				var listResponse = client.listMultipartUploads(listRequest);
+				for (var upload : listResponse.getMultipartUploads())
+					pipeline.submit(() -> abortMultipartUpload(bucketName, upload.getKey(), upload.getUploadId()));
+				isTruncated = listResponse.isTruncated();
+				if (isTruncated) {
+					keyMarker = listResponse.getNextKeyMarker();
+					uploadIdMarker = listResponse.getNextUploadIdMarker();
+				}
+			}
+		} catch (AmazonServiceException e) {
+			System.out.format("Error : Bucket(%s) Abort Multipart Uploads Failed(%s, %d)%n", bucketName,
+					e.getErrorCode(), e.getStatusCode());
+		} finally {
+			pipeline.await();
+		}
+	}
+
+	void abortMultipartUpload(String bucketName, String key, String uploadId) {
+		try {
+			client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+			abortedUploads.increment();
+		} catch (AmazonServiceException e) {
+			System.out.format("Error : Bucket(%s) Abort Multipart Upload(%s) Failed(%s, %d)%n", bucketName, key,
+					e.getErrorCode(), e.getStatusCode());
+		}
+	}
+
+	/**
+	 * 모든 버전과 삭제 마커를 지운다.
+	 */
+	public void deleteObjectVersions(String bucketName) {
+		var pipeline = new Teardown.Pipeline(Teardown.BATCHES);
+		try {
+			var batch = new ArrayList<KeyVersion>(BATCH_SIZE);
+			var isTruncated = true;
+			String keyMarker = null;
+			String versionIdMarker = null;
+			while (isTruncated) {
+				var listRequest = new ListVersionsRequest().withBucketName(bucketName).withMaxResults(BATCH_SIZE);
+				if (keyMarker != null)
+					listRequest.withKeyMarker(keyMarker).withVersionIdMarker(versionIdMarker);
+				var response = client.listVersions(listRequest);
+
+				// 삭제 마커도 버전 목록에 함께 포함된다
+				for (var version : response.getVersionSummaries()) {
+					batch.add(new KeyVersion(version.getKey(), version.getVersionId()));
+					if (batch.size() >= BATCH_SIZE) {
+						submitBatch(pipeline, bucketName, batch);
+						batch = new ArrayList<>(BATCH_SIZE);
+					}
+				}
+
+				isTruncated = response.isTruncated();
+				if (isTruncated) {
+					keyMarker = response.getNextKeyMarker();
+					versionIdMarker = response.getNextVersionIdMarker();
+				}
+			}
+			if (!batch.isEmpty())
+				submitBatch(pipeline, bucketName, batch);
+		} catch (AmazonServiceException e) {
+			System.out.format("Error : Bucket(%s) Clear Failed(%s, %d)%n", bucketName, e.getErrorCode(),
+					e.getStatusCode());
+		} finally {
+			pipeline.await();
+		}
+	}
+
+	private void submitBatch(Teardown.Pipeline pipeline, String bucketName, List<KeyVersion> batch) {
+		pipeline.submit(() -> deleteObjects(bucketName, batch));
+	}
+
+	void deleteObjects(String bucketName, List<KeyVersion> batch) {
+		try {
+			client.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(batch).withQuiet(true));
+			deletedObjects.add(batch.size());
+		} catch (MultiObjectDeleteException e) {
+			deletedObjects.add(batch.size() - e.getErrors().size());
+			for (var error : e.getErrors())
+				System.out.format("Error : Bucket(%s) Delete Object(%s, %s) Failed(%s)%n", bucketName, error.getKey(),
+						error.getVersionId(), error.getCode());
+		} catch (AmazonServiceException e) {
+			System.out.format("Error : Bucket(%s) Delete Objects Failed(%s, %d)%n", bucketName, e.getErrorCode(),
+					e.getStatusCode());
+		}
+	}
+}
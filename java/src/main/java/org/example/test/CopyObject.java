@@ -411,7 +411,7 @@ public class CopyObject extends TestBase {
 
 		assertEquals(sourceSize, response.getContentLength());
 		assertEquals(sourceMetadata.getUserMetadata(), response.getUserMetadata());
-		checkContentUsingRange(bucketName, target, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, target, uploads, MainData.MB);
 
 		var target2 = "testObjectCopyVersioningMultipartUploadTarget2";
 		client.copyObject(new CopyObjectRequest(bucketName, target, bucketName, target2)
@@ -419,7 +419,7 @@ public class CopyObject extends TestBase {
 		response = client.getObjectMetadata(bucketName, target2);
 		assertEquals(sourceSize, response.getContentLength());
 		assertEquals(sourceMetadata.getUserMetadata(), response.getUserMetadata());
-		checkContentUsingRange(bucketName, target2, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, target2, uploads, MainData.MB);
 
 		var targetBucket = createBucket(client, 16);
 		checkConfigureVersioningRetry(targetBucket, BucketVersioningConfiguration.ENABLED);
@@ -430,7 +430,7 @@ public class CopyObject extends TestBase {
 		response = client.getObjectMetadata(targetBucket, target3);
 		assertEquals(sourceSize, response.getContentLength());
 		assertEquals(sourceMetadata.getUserMetadata(), response.getUserMetadata());
-		checkContentUsingRange(targetBucket, target3, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(targetBucket, target3, uploads, MainData.MB);
 
 		var bucketName3 = createBucket(client, 16);
 		checkConfigureVersioningRetry(bucketName3, BucketVersioningConfiguration.ENABLED);
@@ -442,14 +442,14 @@ public class CopyObject extends TestBase {
 		response = client.getObjectMetadata(bucketName3, target4);
 		assertEquals(sourceSize, response.getContentLength());
 		assertEquals(sourceMetadata.getUserMetadata(), response.getUserMetadata());
-		checkContentUsingRange(bucketName3, target4, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName3, target4, uploads, MainData.MB);
 
 		var target5 = "testObjectCopyVersioningMultipartUploadTarget5";
 		client.copyObject(bucketName3, target4, bucketName, target5);
 		response = client.getObjectMetadata(bucketName, target5);
 		assertEquals(sourceSize, response.getContentLength());
 		assertEquals(sourceMetadata.getUserMetadata(), response.getUserMetadata());
-		checkContentUsingRange(bucketName, target5, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, target5, uploads, MainData.MB);
 	}
 
 	@Test
@@ -36,7 +36,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Check")
 	public void testBucketListV2Many() {
 		var client = getClient();
-		var bucketName = createObjects(client, 1, "foo", "bar", "baz");
+		var bucketName = readOnlyFixture(client, 1, "foo", "bar", "baz");
 
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withMaxKeys(2));
 		assertEquals(List.of("bar", "baz"),
@@ -69,7 +69,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 3, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
+		var bucketName = readOnlyFixture(client, 3, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
 
 		String delimiter = "/";
 
@@ -87,7 +87,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Encoding")
 	public void testBucketListV2EncodingBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 4, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
+		var bucketName = readOnlyFixture(client, 4, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
 
 		String delimiter = "/";
 
@@ -104,7 +104,7 @@ public class ListObjectsV2 extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListV2DelimiterPrefix() {
-		var bucketName = createObjects(5, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
+		var bucketName = readOnlyFixture(5, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
 
 		String delimiter = "/";
 		String continuationToken = "";
@@ -137,7 +137,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Filtering")
 	public void testBucketListV2DelimiterPrefixEndsWithDelimiter() {
 		var client = getClient();
-		var bucketName = createObjects(client, 6, "asdf/");
+		var bucketName = readOnlyFixture(client, 6, "asdf/");
 		validateListObjectV2(bucketName, "asdf/", "/", null, 1000, false,
 				List.of("asdf/"), new ArrayList<>(), true);
 	}
@@ -146,7 +146,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 7, "bar", "baz", "cab", "foo");
+		var bucketName = readOnlyFixture(client, 7, "bar", "baz", "cab", "foo");
 
 		String delimiter = "a";
 
@@ -165,7 +165,7 @@ public class ListObjectsV2 extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListV2DelimiterPrefixUnderscore() {
-		var bucketName = createObjects(8, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
+		var bucketName = readOnlyFixture(8, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
 
 		String delim = "/";
 		String continuationToken = "";
@@ -200,7 +200,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterPercentage() {
 		var client = getClient();
-		var bucketName = createObjects(client, 9, "b%ar", "b%az", "c%ab", "foo");
+		var bucketName = readOnlyFixture(client, 9, "b%ar", "b%az", "c%ab", "foo");
 
 		String delimiter = "%";
 
@@ -220,7 +220,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterWhitespace() {
 		var client = getClient();
-		var bucketName = createObjects(client, 10, "b ar", "b az", "c ab", "foo");
+		var bucketName = readOnlyFixture(client, 10, "b ar", "b az", "c ab", "foo");
 
 		String delimiter = " ";
 
@@ -240,7 +240,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterDot() {
 		var client = getClient();
-		var bucketName = createObjects(client, 11, "b.ar", "b.az", "c.ab", "foo");
+		var bucketName = readOnlyFixture(client, 11, "b.ar", "b.az", "c.ab", "foo");
 
 		String delimiter = ".";
 
@@ -261,7 +261,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterUnreadable() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 12, keyNames);
+		var bucketName = readOnlyFixture(client, 12, keyNames);
 
 		String delimiter = "\n";
 
@@ -281,7 +281,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterEmpty() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 13, keyNames);
+		var bucketName = readOnlyFixture(client, 13, keyNames);
 
 		String delimiter = "";
 
@@ -301,7 +301,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterNone() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 14, keyNames);
+		var bucketName = readOnlyFixture(client, 14, keyNames);
 
 		var response = client.listObjectsV2(bucketName);
 		assertNull(response.getDelimiter());
@@ -318,7 +318,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FetchOwnerNotEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 15, keyNames);
+		var bucketName = readOnlyFixture(client, 15, keyNames);
 
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withFetchOwner(true));
 		var objectList = response.getObjectSummaries();
@@ -331,7 +331,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FetchOwnerDefaultEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 16, keyNames);
+		var bucketName = readOnlyFixture(client, 16, keyNames);
 
 		var response = client.listObjectsV2(bucketName);
 		var objectList = response.getObjectSummaries();
@@ -344,7 +344,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FetchOwnerEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 17, keyNames);
+		var bucketName = readOnlyFixture(client, 17, keyNames);
 
 		var response = client
 				.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withFetchOwner(false));
@@ -358,7 +358,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterNotExist() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 18, keyNames);
+		var bucketName = readOnlyFixture(client, 18, keyNames);
 
 		String delimiter = "/";
 
@@ -377,7 +377,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Prefix")
 	public void testBucketListV2PrefixBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 19, "foo/bar", "foo/baz", "quux");
+		var bucketName = readOnlyFixture(client, 19, "foo/bar", "foo/baz", "quux");
 
 		String prefix = "foo/";
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix));
@@ -393,7 +393,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Prefix")
 	public void testBucketListV2PrefixAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 20, "bar", "baz", "foo");
+		var bucketName = readOnlyFixture(client, 20, "bar", "baz", "foo");
 
 		String prefix = "ba";
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix));
@@ -410,7 +410,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 21, keyNames);
+		var bucketName = readOnlyFixture(client, 21, keyNames);
 
 		String prefix = "";
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix));
@@ -427,7 +427,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixNone() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 22, keyNames);
+		var bucketName = readOnlyFixture(client, 22, keyNames);
 
 		var response = client.listObjectsV2(bucketName);
 		assertNull(response.getPrefix());
@@ -443,7 +443,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixNotExist() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 23, keyNames);
+		var bucketName = readOnlyFixture(client, 23, keyNames);
 
 		String prefix = "d";
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix));
@@ -460,7 +460,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixUnreadable() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 24, keyNames);
+		var bucketName = readOnlyFixture(client, 24, keyNames);
 
 		String prefix = "\n";
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withPrefix(prefix));
@@ -477,7 +477,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixDelimiterBasic() {
 		var keyNames = List.of("foo/bar", "foo/baz/xyzzy", "quux/thud", "asdf");
 		var client = getClient();
-		var bucketName = createObjects(client, 25, keyNames);
+		var bucketName = readOnlyFixture(client, 25, keyNames);
 
 		String prefix = "foo/";
 		String delimiter = "/";
@@ -497,7 +497,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixDelimiterAlt() {
 		var keyNames = List.of("bar", "bazar", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 26, keyNames);
+		var bucketName = readOnlyFixture(client, 26, keyNames);
 
 		String delimiter = "a";
 		String prefix = "ba";
@@ -517,7 +517,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListV2PrefixDelimiterPrefixNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 27, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 27, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client.listObjectsV2(
 				new ListObjectsV2Request().withBucketName(bucketName).withDelimiter("d").withPrefix("/"));
@@ -532,7 +532,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListV2PrefixDelimiterDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 28, "b/a/c", "b/a/g", "b/a/r", "g");
+		var bucketName = readOnlyFixture(client, 28, "b/a/c", "b/a/g", "b/a/r", "g");
 
 		var response = client.listObjectsV2(
 				new ListObjectsV2Request().withBucketName(bucketName).withDelimiter("z").withPrefix("b"));
@@ -547,7 +547,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListV2PrefixDelimiterPrefixDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 29, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 29, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client.listObjectsV2(
 				new ListObjectsV2Request().withBucketName(bucketName).withDelimiter("z").withPrefix("y"));
@@ -563,7 +563,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2MaxKeysOne() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 30, keyNames);
+		var bucketName = readOnlyFixture(client, 30, keyNames);
 
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withMaxKeys(1));
 		assertTrue(response.isTruncated());
@@ -584,7 +584,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2MaxKeysZero() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 31, keyNames);
+		var bucketName = readOnlyFixture(client, 31, keyNames);
 
 		var response = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withMaxKeys(0));
 
@@ -598,7 +598,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2MaxKeysNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 32, keyNames);
+		var bucketName = readOnlyFixture(client, 32, keyNames);
 
 		var response = client.listObjectsV2(bucketName);
 		assertFalse(response.isTruncated());
@@ -612,7 +612,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2ContinuationToken() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 33, keyNames);
+		var bucketName = readOnlyFixture(client, 33, keyNames);
 
 		var response1 = client.listObjectsV2(new ListObjectsV2Request().withBucketName(bucketName).withMaxKeys(1));
 		var nextContinuationToken = response1.getNextContinuationToken();
@@ -631,7 +631,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2BothContinuationTokenStartAfter() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 34, keyNames);
+		var bucketName = readOnlyFixture(client, 34, keyNames);
 
 		var startAfter = "bar";
 
@@ -653,7 +653,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2StartAfterUnreadable() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 35, keyNames);
+		var bucketName = readOnlyFixture(client, 35, keyNames);
 
 		var startAfter = "\n";
 
@@ -670,7 +670,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2StartAfterNotInList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 36, keyNames);
+		var bucketName = readOnlyFixture(client, 36, keyNames);
 
 		var startAfter = "blah";
 
@@ -686,7 +686,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2StartAfterAfterList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 37, keyNames);
+		var bucketName = readOnlyFixture(client, 37, keyNames);
 
 		var startAfter = "zzz";
 
@@ -738,7 +738,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FilteringAll() {
 		var keyNames = List.of("test1/f1", "test2/f2", "test3", "test4/f3", "testF4");
 		var client = getClient();
-		var bucketName = createObjects(client, 41, keyNames);
+		var bucketName = readOnlyFixture(client, 41, keyNames);
 
 		var delimiter = "/";
 		var maxKeys = 3;
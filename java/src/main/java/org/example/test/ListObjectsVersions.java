@@ -39,7 +39,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Check")
 	public void testBucketListVersionsMany() {
 		var client = getClient();
-		var bucketName = createObjects(client, 1, "foo", "bar", "baz");
+		var bucketName = readOnlyFixture(client, 1, "foo", "bar", "baz");
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withMaxResults(2));
 		assertLinesMatch(List.of("bar", "baz"), getKeys2(response.getVersionSummaries()));
@@ -58,7 +58,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Delimiter")
 	public void testBucketListVersionsDelimiterBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 2, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
+		var bucketName = readOnlyFixture(client, 2, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
 
 		String delimiter = "/";
 
@@ -77,7 +77,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Encoding")
 	public void testBucketListVersionsEncodingBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 3, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
+		var bucketName = readOnlyFixture(client, 3, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
 
 		String delimiter = "/";
 
@@ -95,7 +95,7 @@ public class ListObjectsVersions extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListVersionsDelimiterPrefix() {
-		var bucketName = createObjects(4, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
+		var bucketName = readOnlyFixture(4, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
 
 		String delimiter = "/";
 		String marker = "";
@@ -125,7 +125,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Filtering")
 	public void testBucketListVersionsDelimiterPrefixEndsWithDelimiter() {
 		var client = getClient();
-		var bucketName = createObjects(client, 5, "asdf/");
+		var bucketName = readOnlyFixture(client, 5, "asdf/");
 
 		validateListObject(bucketName, "asdf/", "/", "", 1000, false,
 				List.of("asdf/"), new ArrayList<>(), null);
@@ -136,7 +136,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Delimiter")
 	public void testBucketListVersionsDelimiterAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 6, "bar", "baz", "cab", "foo");
+		var bucketName = readOnlyFixture(client, 6, "bar", "baz", "cab", "foo");
 
 		String delimiter = "a";
 
@@ -158,7 +158,7 @@ public class ListObjectsVersions extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListVersionsDelimiterPrefixUnderscore() {
-		var bucketName = createObjects(7, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
+		var bucketName = readOnlyFixture(7, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
 
 		String delimiter = "/";
 		String marker = "";
@@ -191,7 +191,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Delimiter")
 	public void testBucketListVersionsDelimiterPercentage() {
 		var client = getClient();
-		var bucketName = createObjects(client, 8, "b%ar", "b%az", "c%ab", "foo");
+		var bucketName = readOnlyFixture(client, 8, "b%ar", "b%az", "c%ab", "foo");
 
 		String delimiter = "%";
 
@@ -214,7 +214,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Delimiter")
 	public void testBucketListVersionsDelimiterWhitespace() {
 		var client = getClient();
-		var bucketName = createObjects(client, 9, "b ar", "b az", "c ab", "foo");
+		var bucketName = readOnlyFixture(client, 9, "b ar", "b az", "c ab", "foo");
 
 		String delimiter = " ";
 
@@ -237,7 +237,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Delimiter")
 	public void testBucketListVersionsDelimiterDot() {
 		var client = getClient();
-		var bucketName = createObjects(client, 10, "b.ar", "b.az", "c.ab", "foo");
+		var bucketName = readOnlyFixture(client, 10, "b.ar", "b.az", "c.ab", "foo");
 
 		String delimiter = ".";
 
@@ -261,7 +261,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterUnreadable() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 11, keyNames);
+		var bucketName = readOnlyFixture(client, 11, keyNames);
 
 		String delimiter = "\n";
 
@@ -282,7 +282,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterEmpty() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 12, keyNames);
+		var bucketName = readOnlyFixture(client, 12, keyNames);
 
 		String delimiter = "";
 
@@ -303,7 +303,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterNone() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 13, keyNames);
+		var bucketName = readOnlyFixture(client, 13, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName));
 
@@ -321,7 +321,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterNotExist() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 14, keyNames);
+		var bucketName = readOnlyFixture(client, 14, keyNames);
 
 		String delimiter = "/";
 
@@ -346,7 +346,7 @@ public class ListObjectsVersions extends TestBase {
 		var keyNames2 = List.of("1999", "1999#", "1999+", "2000");
 		keyNames.addAll(keyNames2);
 		var client = getClient();
-		var bucketName = createObjects(client, 15, keyNames);
+		var bucketName = readOnlyFixture(client, 15, keyNames);
 
 		String delimiter = "/";
 
@@ -367,7 +367,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("prefix")
 	public void testBucketListVersionsPrefixBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 16, "foo/bar", "foo/baz", "quux");
+		var bucketName = readOnlyFixture(client, 16, "foo/bar", "foo/baz", "quux");
 
 		String prefix = "foo/";
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withPrefix(prefix));
@@ -385,7 +385,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("prefix")
 	public void testBucketListVersionsPrefixAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 17, "bar", "baz", "foo");
+		var bucketName = readOnlyFixture(client, 17, "bar", "baz", "foo");
 
 		String prefix = "ba";
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withPrefix(prefix));
@@ -404,7 +404,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 18, keyNames);
+		var bucketName = readOnlyFixture(client, 18, keyNames);
 
 		String prefix = "";
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withPrefix(prefix));
@@ -422,7 +422,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixNone() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 19, keyNames);
+		var bucketName = readOnlyFixture(client, 19, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName));
 
@@ -439,7 +439,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixNotExist() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 20, keyNames);
+		var bucketName = readOnlyFixture(client, 20, keyNames);
 
 		String prefix = "d";
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withPrefix(prefix));
@@ -457,7 +457,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixUnreadable() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 21, keyNames);
+		var bucketName = readOnlyFixture(client, 21, keyNames);
 
 		String prefix = "\n";
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withPrefix(prefix));
@@ -475,7 +475,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixDelimiterBasic() {
 		var keyNames = List.of("foo/bar", "foo/baz/xyzzy", "quux/thud", "asdf");
 		var client = getClient();
-		var bucketName = createObjects(client, 22, keyNames);
+		var bucketName = readOnlyFixture(client, 22, keyNames);
 
 		String prefix = "foo/";
 		String delimiter = "/";
@@ -498,7 +498,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixDelimiterAlt() {
 		var keyNames = List.of("bar", "bazar", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 23, keyNames);
+		var bucketName = readOnlyFixture(client, 23, keyNames);
 
 		String delimiter = "a";
 		String prefix = "ba";
@@ -521,7 +521,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListVersionsPrefixDelimiterPrefixNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 24, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 24, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client
 				.listVersions(new ListVersionsRequest().withBucketName(bucketName).withDelimiter("d").withPrefix("/"));
@@ -537,7 +537,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListVersionsPrefixDelimiterDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 25, "b/a/c", "b/a/g", "b/a/r", "g");
+		var bucketName = readOnlyFixture(client, 25, "b/a/c", "b/a/g", "b/a/r", "g");
 
 		var response = client
 				.listVersions(new ListVersionsRequest().withBucketName(bucketName).withDelimiter("z").withPrefix("b"));
@@ -554,7 +554,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 26, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 26, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client
 				.listVersions(new ListVersionsRequest().withBucketName(bucketName).withDelimiter("z").withPrefix("y"));
@@ -571,7 +571,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMaxKeysOne() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 27, keyNames);
+		var bucketName = readOnlyFixture(client, 27, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withMaxResults(1));
 
@@ -593,7 +593,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMaxKeysZero() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 28, keyNames);
+		var bucketName = readOnlyFixture(client, 28, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withMaxResults(0));
 
@@ -607,7 +607,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMaxKeysNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 29, keyNames);
+		var bucketName = readOnlyFixture(client, 29, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName));
 
@@ -622,7 +622,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 30, keyNames);
+		var bucketName = readOnlyFixture(client, 30, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withKeyMarker(""));
 
@@ -634,7 +634,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerEmpty() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 31, keyNames);
+		var bucketName = readOnlyFixture(client, 31, keyNames);
 
 		var response = client.listVersions(new ListVersionsRequest().withBucketName(bucketName).withKeyMarker(""));
 
@@ -649,7 +649,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerUnreadable() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 32, keyNames);
+		var bucketName = readOnlyFixture(client, 32, keyNames);
 
 		var marker = "\n";
 
@@ -666,7 +666,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerNotInList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 33, keyNames);
+		var bucketName = readOnlyFixture(client, 33, keyNames);
 
 		var marker = "blah";
 
@@ -683,7 +683,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerAfterList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 34, keyNames);
+		var bucketName = readOnlyFixture(client, 34, keyNames);
 
 		var marker = "zzz";
 
@@ -776,7 +776,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testVersioningBucketListFilteringAll() {
 		var keyNames = List.of("test1/f1", "test2/f2", "test3", "test4/f3", "testF4");
 		var client = getClient();
-		var bucketName = createObjects(client, 39, keyNames);
+		var bucketName = readOnlyFixture(client, 39, keyNames);
 
 		var marker = "test3";
 		var delimiter = "/";
@@ -613,7 +613,7 @@ public class Multipart extends TestBase {
 		client.completeMultipartUpload(
 				new CompleteMultipartUploadRequest(bucketName, sourceKey, uploadData.uploadId, uploadData.parts));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, sourceKey, body.toString(), MainData.MB);
 
 		var targetKey1 = "testMultipartCopyMany1";
@@ -622,7 +622,7 @@ public class Multipart extends TestBase {
 		client.completeMultipartUpload(
 				new CompleteMultipartUploadRequest(bucketName, targetKey1, uploadData.uploadId, uploadData.parts));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, targetKey1, body.toString(), MainData.MB);
 
 		var targetKey2 = "testMultipartCopyMany2";
@@ -631,7 +631,7 @@ public class Multipart extends TestBase {
 		client.completeMultipartUpload(
 				new CompleteMultipartUploadRequest(bucketName, targetKey2, uploadData.uploadId, uploadData.parts));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, targetKey2, body.toString(), MainData.MB);
 
 	}
@@ -536,7 +536,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		assertEquals(contentType, getResponse.getContentType());
 		assertEquals(SSEAlgorithm.AES256.toString(), getResponse.getSSEAlgorithm());
 
-		checkContentUsingRange(bucketName, sourceKey, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, sourceKey, uploadData, MainData.MB);
 
 		var targetKey = "multipartEncCopy";
 		uploadData = multipartCopy(client, bucketName, sourceKey, bucketName, targetKey, size, metadata);
@@ -563,7 +563,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		client.completeMultipartUpload(
 				new CompleteMultipartUploadRequest(bucketName, sourceKey, uploadData.uploadId, uploadData.parts));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, sourceKey, body.toString(), MainData.MB);
 
 		var targetKey1 = "my_multipart1";
@@ -572,7 +572,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		client.completeMultipartUpload(
 				new CompleteMultipartUploadRequest(bucketName, targetKey1, uploadData.uploadId, uploadData.parts));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, targetKey1, body.toString(), MainData.MB);
 
 		var targetKey2 = "my_multipart2";
@@ -581,7 +581,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		client.completeMultipartUpload(
 				new CompleteMultipartUploadRequest(bucketName, targetKey2, uploadData.uploadId, uploadData.parts));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, targetKey2, body.toString(), MainData.MB);
 	}
 
@@ -701,7 +701,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		body = getBody(getResponse.getObjectContent());
 		assertTrue(data.equals(body), MainData.NOT_MATCHED);
 
-		checkContentUsingRange(bucketName, multiKey, uploadData.body.toString(), MainData.MB);
+		checkContentUsingRange(bucketName, multiKey, uploadData, MainData.MB);
 
 		var putKey2 = "put2";
 		var copyKey2 = "copy2";
@@ -727,6 +727,6 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		assertTrue(data.equals(body), MainData.NOT_MATCHED);
 		assertEquals(SSEAlgorithm.AES256.toString(), getResponse.getObjectMetadata().getSSEAlgorithm());
 
-		checkContentUsingRange(bucketName, multiKey2, uploadData2.body.toString(), MainData.MB);
+		checkContentUsingRange(bucketName, multiKey2, uploadData2, MainData.MB);
 	}
 }
@@ -17,7 +17,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
@@ -34,8 +33,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.http.HttpResponse;
@@ -48,9 +49,23 @@ import org.example.Data.AES256;
 import org.example.Data.MainData;
 import org.example.Data.MultipartUploadData;
 import org.example.Data.ObjectData;
+import org.example.Data.PartDescriptor;
 import org.example.Data.RangeSet;
 import org.example.Data.UserData;
+import org.example.Utility.BucketReaper;
+import org.example.Utility.ClientRegistry;
+import org.example.Utility.ClientRegistry.ClientKey;
+import org.example.Utility.ConnectionCounter;
+import org.example.Utility.ContentVerifier;
+import org.example.Utility.ContentVerifier.Expected;
+import org.example.Utility.FixtureCache;
 import org.example.Utility.NetUtils;
+import org.example.Utility.PartCopier;
+import org.example.Utility.PartUploader;
+import org.example.Utility.RandomPayload;
+import org.example.Utility.RangeVerifier;
+import org.example.Utility.RequestMetrics;
+import org.example.Utility.RequestMetricsCollector;
 import org.example.Utility.Utils;
 import org.example.auth.AWS4SignerBase;
 import org.example.s3tests.S3Config;
@@ -70,7 +85,6 @@ import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AccessControlList;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.BucketLifecycleConfiguration;
@@ -84,7 +98,6 @@ import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.CopyPartRequest;
 import com.amazonaws.services.s3.model.CreateBucketRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
-import com.amazonaws.services.s3.model.DeleteVersionRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.Grant;
 import com.amazonaws.services.s3.model.Grantee;
@@ -92,11 +105,9 @@ import com.amazonaws.services.s3.model.GroupGrantee;
 import com.amazonaws.services.s3.model.HeadBucketRequest;
 import com.amazonaws.services.s3.model.IllegalBucketNameException;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
-import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
-import com.amazonaws.services.s3.model.ListVersionsRequest;
 import com.amazonaws.services.s3.model.MetadataDirective;
 import com.amazonaws.services.s3.model.ObjectLockConfiguration;
 import com.amazonaws.services.s3.model.ObjectLockRetention;
@@ -108,6 +119,8 @@ import com.amazonaws.services.s3.model.PartSummary;
 import com.amazonaws.services.s3.model.Permission;
 import com.amazonaws.services.s3.model.PublicAccessBlockConfiguration;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.model.S3VersionSummary;
@@ -163,7 +176,7 @@ public class TestBase {
 	static final Random rand = new Random();// NOSONAR
 	/************************************************************************************************************/
 
-	final ArrayList<String> buckets = new ArrayList<>();
+	final Set<String> buckets = ConcurrentHashMap.newKeySet();
 	protected final S3Config config;
 
 	protected TestBase() {
@@ -175,6 +188,16 @@ public class TestBase {
 	// region Create Client
 	public AmazonS3 createClient(boolean isSecure, UserData user, Boolean useChunkEncoding, Boolean payloadSigning,
 			String signatureVersion) {
+		var address = isSecure ? NetUtils.createURLToHTTPS(config.url, config.sslPort)
+				: NetUtils.createURLToHTTP(config.url, config.port);
+		var key = ClientKey.of("v1", address, user, useChunkEncoding, payloadSigning, signatureVersion);
+		return ClientRegistry.get(key,
+				() -> buildClient(isSecure, user, useChunkEncoding, payloadSigning, signatureVersion),
+				AmazonS3::shutdown);
+	}
+
+	AmazonS3 buildClient(boolean isSecure, UserData user, Boolean useChunkEncoding, Boolean payloadSigning,
+			String signatureVersion) {
 		String address = "";
 		ClientConfiguration s3Config;
 
@@ -188,8 +211,13 @@ public class TestBase {
 		}
 		s3Config.setSignerOverride(signatureVersion);
 		s3Config.setMaxErrorRetry(0);
-		s3Config.setConnectionTimeout(300000);
-		s3Config.setSocketTimeout(300000);
+		s3Config.setConnectionTimeout((int) ClientRegistry.TIMEOUT.toMillis());
+		s3Config.setSocketTimeout((int) ClientRegistry.TIMEOUT.toMillis());
+		s3Config.setMaxConnections(ClientRegistry.MAX_CONNECTIONS);
+		s3Config.setConnectionMaxIdleMillis(ClientRegistry.MAX_IDLE_TIME.toMillis());
+		s3Config.setUseTcpKeepAlive(true);
+		if (RequestMetrics.ENABLED)
+			s3Config.setDnsResolver(new ConnectionCounter(isSecure));
 
 		var clientBuilder = AmazonS3ClientBuilder.standard();
 
@@ -213,28 +241,38 @@ public class TestBase {
 		if (user != null && StringUtils.isNotBlank(user.xAuthToken)) {
 			clientBuilder.withRequestHandlers(new AuthTokenRequestHandler(user.xAuthToken));
 		}
+		if (RequestMetrics.ENABLED)
+			clientBuilder.setMetricsCollector(new RequestMetricsCollector());
 
 		return clientBuilder.build();
 	}
 
 	public AmazonS3 getOldClient() {
 		var address = NetUtils.createURLToHTTP(config.url, config.oldPort);
-		var credential = new AWSStaticCredentialsProvider(
-				new BasicAWSCredentials(config.mainUser.accessKey, config.mainUser.secretKey));// NOSONAR
-		var s3Config = new ClientConfiguration()
-				.withProtocol(Protocol.HTTP)
-				.withMaxErrorRetry(0)
-				.withConnectionTimeout(300000)
-				.withSocketTimeout(300000);
-
-		return AmazonS3ClientBuilder.standard()
-				.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(address, ""))
-				.withCredentials(credential)
-				.withClientConfiguration(s3Config)
-				.withChunkedEncodingDisabled(true)
-				.withPayloadSigningEnabled(false)
-				.withPathStyleAccessEnabled(true)
-				.build();
+		return ClientRegistry.get(ClientKey.of("v1-old", address, config.mainUser), () -> {
+			var credential = new AWSStaticCredentialsProvider(
+					new BasicAWSCredentials(config.mainUser.accessKey, config.mainUser.secretKey));// NOSONAR
+			var s3Config = new ClientConfiguration()
+					.withProtocol(Protocol.HTTP)
+					.withMaxErrorRetry(0)
+					.withConnectionTimeout((int) ClientRegistry.TIMEOUT.toMillis())
+					.withSocketTimeout((int) ClientRegistry.TIMEOUT.toMillis())
+					.withMaxConnections(ClientRegistry.MAX_CONNECTIONS)
+					.withConnectionMaxIdleMillis(ClientRegistry.MAX_IDLE_TIME.toMillis())
+					.withTcpKeepAlive(true);
+			if (RequestMetrics.ENABLED)
+				s3Config.setDnsResolver(new ConnectionCounter(false));
+
+			return AmazonS3ClientBuilder.standard()
+					.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(address, ""))
+					.withCredentials(credential)
+					.withClientConfiguration(s3Config)
+					.withChunkedEncodingDisabled(true)
+					.withPayloadSigningEnabled(false)
+					.withPathStyleAccessEnabled(true)
+					.withMetricsCollector(RequestMetrics.ENABLED ? new RequestMetricsCollector() : null)
+					.build();
+		}, AmazonS3::shutdown);
 	}
 
 	public AmazonS3 getClient() {
@@ -381,6 +419,32 @@ public class TestBase {
 		return createObjects(getClient(), testId, keys);
 	}
 
+	/**
+	 * 조회만 하는 테스트용 버킷. 같은 키 목록이면 실행 중 한 번만 만들고 v1/v2 테스트가 함께 쓰며,
+	 * 실행이 끝날 때 정리한다. 반환된 버킷의 오브젝트나 설정은 바꾸면 안 된다.
+	 * <p>
+	 * 공유 버킷을 쓰지 않도록 설정하면 {@link #createObjects(AmazonS3, int, List)}와 같다.
+	 *
+	 * @see FixtureCache
+	 */
+	public String readOnlyFixture(AmazonS3 client, int testId, List<String> keys) {
+		var cache = FixtureCache.getInstance();
+		if (!cache.isShared())
+			return createObjects(client, testId, keys);
+		return cache.get(config.bucketPrefix, keys, bucketName -> {
+			client.createBucket(bucketName);
+			createObjects(client, bucketName, keys);
+		}, new BucketCleaner(client)::clear);
+	}
+
+	public String readOnlyFixture(AmazonS3 client, int testId, String... keys) {
+		return readOnlyFixture(client, testId, List.of(keys));
+	}
+
+	public String readOnlyFixture(int testId, List<String> keys) {
+		return readOnlyFixture(getClient(), testId, keys);
+	}
+
 	public static AccessControlList createAcl(Owner owner, Grantee grantee, Permission... permissions) {
 		var acl = new AccessControlList().withOwner(owner);
 		acl.grantPermission(new CanonicalGrantee(owner.getId()), Permission.FullControl);
@@ -409,8 +473,7 @@ public class TestBase {
 		if (size < 1)
 			size = 7 * MainData.MB;
 
-		var data = Utils.randomTextToLong(size);
-		client.putObject(bucketName, key, data);
+		putObject(client, bucketName, key, RandomPayload.create(size));
 
 		return bucketName;
 	}
@@ -421,8 +484,17 @@ public class TestBase {
 		if (size < 1)
 			size = 7 * MainData.MB;
 
-		var data = Utils.randomTextToLong(size);
-		client.putObject(bucketName, key, data);
+		putObject(client, bucketName, key, RandomPayload.create(size));
+	}
+
+	/**
+	 * 내용을 메모리에 올리지 않고 생성하면서 업로드
+	 */
+	public PutObjectResult putObject(AmazonS3 client, String bucketName, String key, RandomPayload payload) {
+		var metadata = new ObjectMetadata();
+		metadata.setContentLength(payload.getLength());
+		metadata.setContentType(RandomPayload.CONTENT_TYPE);
+		return client.putObject(bucketName, key, payload.newInputStream(), metadata);
 	}
 
 	public URL createURL(String bucketName) throws MalformedURLException {
@@ -733,12 +805,7 @@ public class TestBase {
 		String body = "";
 		if (data != null) {
 			try {
-				ByteArrayOutputStream result = new ByteArrayOutputStream();
-				byte[] buffer = new byte[1024];
-				for (int length; (length = data.read(buffer)) != -1;) {
-					result.write(buffer, 0, length);
-				}
-				return result.toString(StandardCharsets.UTF_8);
+				return new String(data.readAllBytes(), StandardCharsets.UTF_8);
 			} catch (IOException e) {
 				e.printStackTrace();// NOSONAR
 			}
@@ -746,6 +813,18 @@ public class TestBase {
 		return body;
 	}
 
+	/**
+	 * 응답 본문을 문자열로 만들지 않고 기대값과 스트림으로 비교한 뒤 응답을 닫는다.
+	 * 다르면 처음으로 다른 위치를 실패 메시지로 보고한다.
+	 */
+	public static void checkBody(S3Object response, Expected expected, String message) {
+		try (response) {
+			ContentVerifier.assertMatches(response.getObjectContent(), expected, message);
+		} catch (IOException e) {
+			fail(message + " : " + e.getMessage(), e);
+		}
+	}
+
 	public static ObjectData getObjectToKey(String key, List<ObjectData> keyList) {
 		for (var Object : keyList) {
 			if (Object.key.equals(key))
@@ -834,8 +913,7 @@ public class TestBase {
 
 	public static void succeedGetObject(AmazonS3 client, String bucketName, String key, String content) {
 		var response = client.getObject(bucketName, key);
-		var body = getBody(response.getObjectContent());
-		assertEquals(content, body);
+		checkBody(response, Expected.of(content), bucketName + "/" + key);
 	}
 
 	public static void failedGetObject(AmazonS3 client, String bucketName, String key, int statusCode,
@@ -959,10 +1037,9 @@ public class TestBase {
 
 	public void checkObjContent(AmazonS3 client, String bucketName, String key, String versionId, String content) {
 		var response = client.getObject(new GetObjectRequest(bucketName, key).withVersionId(versionId));
-		if (content != null) {
-			var body = getBody(response.getObjectContent());
-			assertTrue(content.equals(body), MainData.NOT_MATCHED);
-		} else
+		if (content != null)
+			checkBody(response, Expected.of(content), bucketName + "/" + key + "?versionId=" + versionId);
+		else
 			assertNull(response);
 	}
 
@@ -973,13 +1050,16 @@ public class TestBase {
 
 		Collections.reverse(versions);
 
+		var indexes = new ArrayList<Integer>();
 		var index = 0;
 		for (var version : versions) {
 			assertEquals(version.getVersionId(), versionIds.get(index));
 			if (StringUtils.isNotBlank(key))
 				assertEquals(key, version.getKey());
-			checkObjContent(client, bucketName, key, version.getVersionId(), contents.get(index++));
+			indexes.add(index++);
 		}
+		RangeVerifier.run(indexes,
+				i -> checkObjContent(client, bucketName, key, versionIds.get(i), contents.get(i)));
 	}
 
 	public void testBucketCreateNamingGoodLong(int length) {
@@ -1022,23 +1102,32 @@ public class TestBase {
 		return null;
 	}
 
-	public MultipartUploadData multipartUpload(AmazonS3 client, String bucketName, String key, int size,
-			MultipartUploadData uploadData) {
-		var partSize = 5 * MainData.MB;
-		var parts = Utils.generateRandomString(size, partSize);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-			var partResponse = client.uploadPart(
+	/**
+	 * 생성기로 만든 파트를 동시에 업로드하고 파트 순서대로 uploadData에 추가한다.
+	 */
+	static void uploadParts(AmazonS3 client, String bucketName, String key, MultipartUploadData uploadData,
+			long size, long partSize) {
+		var base = uploadData.nextPartNumber();
+		var parts = PartUploader.split(size, partSize).stream().map(uploadData::appendPart).toList();
+		var eTags = PartUploader.upload(parts.stream().map(PartDescriptor::length).toList(), i -> {
+			var part = parts.get(i);
+			return client.uploadPart(
 					new UploadPartRequest()
 							.withBucketName(bucketName)
 							.withKey(key)
 							.withUploadId(uploadData.uploadId)
-							.withPartNumber(uploadData.nextPartNumber())
-							.withInputStream(createBody(Part))
-							.withPartSize(Part.length()));
-			uploadData.addPart(partResponse.getPartETag());
-		}
+							.withPartNumber(base + i)
+							.withInputStream(part.payload().newInputStream())
+							.withPartSize(part.length()))
+					.getPartETag();
+		});
+		uploadData.parts.addAll(eTags);
+	}
+
+	public MultipartUploadData multipartUpload(AmazonS3 client, String bucketName, String key, int size,
+			MultipartUploadData uploadData) {
+		var partSize = 5 * MainData.MB;
+		uploadParts(client, bucketName, key, uploadData, size, partSize);
 
 		return uploadData;
 	}
@@ -1050,21 +1139,7 @@ public class TestBase {
 				.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key));
 		uploadData.uploadId = initMultiPartResponse.getUploadId();
 
-		var parts = Utils.generateRandomString(size, DEFAULT_PART_SIZE);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-
-			var partResponse = client.uploadPart(
-					new UploadPartRequest()
-							.withBucketName(bucketName)
-							.withKey(key)
-							.withUploadId(uploadData.uploadId)
-							.withPartNumber(uploadData.nextPartNumber())
-							.withInputStream(createBody(Part))
-							.withPartSize(Part.length()));
-			uploadData.parts.add(partResponse.getPartETag());
-		}
+		uploadParts(client, bucketName, key, uploadData, size, DEFAULT_PART_SIZE);
 
 		return uploadData;
 	}
@@ -1076,26 +1151,28 @@ public class TestBase {
 				.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key));
 		uploadData.uploadId = initMultiPartResponse.getUploadId();
 
-		var parts = Utils.generateRandomString(size, DEFAULT_PART_SIZE);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
+		var base = uploadData.nextPartNumber();
+		var parts = PartUploader.split(size, DEFAULT_PART_SIZE).stream().map(uploadData::appendPart).toList();
+		var eTags = PartUploader.upload(parts.stream().map(PartDescriptor::length).toList(), i -> {
+			var part = parts.get(i);
+			// Object Lock 버킷은 Content-MD5가 필요하므로 파트를 만들 때 함께 계산한 MD5를 쓴다
 			var metadata = new ObjectMetadata();
-			metadata.setContentMD5(Utils.getMD5(Part));
+			metadata.setContentMD5(part.md5());
 			metadata.setContentType("text/plain");
-			metadata.setContentLength(Part.length());
+			metadata.setContentLength(part.length());
 
-			var partResponse = client.uploadPart(
+			return client.uploadPart(
 					new UploadPartRequest()
 							.withBucketName(bucketName)
 							.withKey(key)
 							.withUploadId(uploadData.uploadId)
-							.withPartNumber(uploadData.nextPartNumber())
-							.withInputStream(createBody(Part))
-							.withPartSize(Part.length())
-							.withObjectMetadata(metadata));
-			uploadData.parts.add(partResponse.getPartETag());
-		}
+							.withPartNumber(base + i)
+							.withInputStream(part.payload().newInputStream())
+							.withPartSize(part.length())
+							.withObjectMetadata(metadata))
+					.getPartETag();
+		});
+		uploadData.parts.addAll(eTags);
 
 		return uploadData;
 	}
@@ -1108,21 +1185,7 @@ public class TestBase {
 				.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key));
 		uploadData.uploadId = initMultiPartResponse.getUploadId();
 
-		var parts = Utils.generateRandomString(size, partSize);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-
-			var partResponse = client.uploadPart(
-					new UploadPartRequest()
-							.withBucketName(bucketName)
-							.withKey(key)
-							.withUploadId(uploadData.uploadId)
-							.withPartNumber(uploadData.nextPartNumber())
-							.withInputStream(createBody(Part))
-							.withPartSize(Part.length()));
-			uploadData.parts.add(partResponse.getPartETag());
-		}
+		uploadParts(client, bucketName, key, uploadData, size, partSize);
 
 		return uploadData;
 	}
@@ -1140,21 +1203,7 @@ public class TestBase {
 				.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, metadataList));
 		uploadData.uploadId = initMultiPartResponse.getUploadId();
 
-		var parts = Utils.generateRandomString(size, DEFAULT_PART_SIZE);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-
-			var partResponse = client.uploadPart(
-					new UploadPartRequest()
-							.withBucketName(bucketName)
-							.withKey(key)
-							.withUploadId(uploadData.uploadId)
-							.withPartNumber(uploadData.nextPartNumber())
-							.withInputStream(createBody(Part))
-							.withPartSize(Part.length()));
-			uploadData.parts.add(partResponse.getPartETag());
-		}
+		uploadParts(client, bucketName, key, uploadData, size, DEFAULT_PART_SIZE);
 
 		return uploadData;
 	}
@@ -1329,27 +1378,19 @@ public class TestBase {
 	public MultipartUploadData multipartCopy(String sourceBucketName, String sourceKey, String targetBucketName,
 			String targetKey, int size, AmazonS3 client, int partSize, String versionId) {
 		var data = new MultipartUploadData();
-		if (client == null)
-			client = getClient();
-		if (partSize < 1)
-			partSize = 5 * MainData.MB;
+		var s3 = client == null ? getClient() : client;
 
-		var response = client.initiateMultipartUpload(new InitiateMultipartUploadRequest(targetBucketName, targetKey));
+		var response = s3.initiateMultipartUpload(new InitiateMultipartUploadRequest(targetBucketName, targetKey));
 		data.uploadId = response.getUploadId();
 
-		int uploadCount = 1;
-		long start = 0;
-		while (start < size) {
-			long end = Math.min(start + partSize - 1, size - 1L);
-
-			var partResponse = client.copyPart(new CopyPartRequest().withSourceBucketName(sourceBucketName)
-					.withSourceKey(sourceKey).withDestinationBucketName(targetBucketName).withDestinationKey(targetKey)
-					.withUploadId(data.uploadId).withPartNumber(uploadCount).withFirstByte(start).withLastByte(end)
-					.withSourceVersionId(versionId));
-			data.parts.add(new PartETag(uploadCount++, partResponse.getETag()));
-
-			start = end + 1;
-		}
+		var parts = PartCopier.split(size, PartCopier.getPartSize(partSize), 1);
+		var result = PartCopier.copy(targetBucketName + "/" + targetKey, parts,
+				part -> s3.copyPart(new CopyPartRequest().withSourceBucketName(sourceBucketName)
+						.withSourceKey(sourceKey).withDestinationBucketName(targetBucketName)
+						.withDestinationKey(targetKey).withUploadId(data.uploadId).withPartNumber(part.partNumber())
+						.withFirstByte(part.first()).withLastByte(part.last()).withSourceVersionId(versionId)));
+		for (var partResponse : result.responses())
+			data.parts.add(new PartETag(partResponse.getPartNumber(), partResponse.getETag()));
 
 		return data;
 	}
@@ -1357,7 +1398,7 @@ public class TestBase {
 	public MultipartUploadData multipartCopy(AmazonS3 client, String sourceBucketName, String sourceKey,
 			String targetBucketName, String targetKey, int size, ObjectMetadata metadata) {
 		var data = new MultipartUploadData();
-		var partSize = 5 * MainData.MB;
+		var partSize = PartCopier.getPartSize(0);
 		if (metadata == null)
 			metadata = new ObjectMetadata();
 
@@ -1365,18 +1406,14 @@ public class TestBase {
 				.initiateMultipartUpload(new InitiateMultipartUploadRequest(targetBucketName, targetKey, metadata));
 		data.uploadId = response.getUploadId();
 
-		int uploadCount = 1;
-		long start = 0;
-		while (start < size) {
-			long end = Math.min(start + partSize - 1, size - 1L);
-
-			var partResponse = client.copyPart(new CopyPartRequest().withSourceBucketName(sourceBucketName)
-					.withSourceKey(sourceKey).withDestinationBucketName(targetBucketName).withDestinationKey(targetKey)
-					.withUploadId(data.uploadId).withPartNumber(uploadCount).withFirstByte(start).withLastByte(end));
-			data.parts.add(new PartETag(uploadCount++, partResponse.getETag()));
-
-			start = end + 1;
-		}
+		var parts = PartCopier.split(size, partSize, 1);
+		var result = PartCopier.copy(targetBucketName + "/" + targetKey, parts,
+				part -> client.copyPart(new CopyPartRequest().withSourceBucketName(sourceBucketName)
+						.withSourceKey(sourceKey).withDestinationBucketName(targetBucketName)
+						.withDestinationKey(targetKey).withUploadId(data.uploadId).withPartNumber(part.partNumber())
+						.withFirstByte(part.first()).withLastByte(part.last())));
+		for (var partResponse : result.responses())
+			data.parts.add(new PartETag(partResponse.getPartNumber(), partResponse.getETag()));
 
 		return data;
 	}
@@ -1403,24 +1440,50 @@ public class TestBase {
 		var size = headResponse.getContentLength();
 		assertEquals(data.length(), size, bucketName + "/" + key + " : " + data.length() + " != " + size);
 
-		long start = 0;
-		while (start < size) {
-			var end = Math.min(start + step, size - 1);
+		var expected = Expected.of(data);
+		RangeVerifier.run(RangeVerifier.split(size, step, size - 1), range -> {
+			var response = client
+					.getObject(new GetObjectRequest(bucketName, key).withRange(range.start(), range.end() - 1));
 
+			assertEquals(range.length(), response.getObjectMetadata().getContentLength(), bucketName + "/" + key
+					+ " : " + range.length() + " != " + response.getObjectMetadata().getContentLength());
+			checkBody(response, expected.slice(range.start(), range.length()), bucketName + "/" + key + " " + range);
+		});
+	}
+
+	/**
+	 * 멀티파트 업로드 기록과 오브젝트 내용을 Range 요청으로 비교한다.
+	 * 파트 정보만 기록한 경우 전체 내용을 만들지 않고 구간별로 생성하여 비교한다.
+	 */
+	public void checkContentUsingRange(String bucketName, String key, MultipartUploadData uploadData, long step) {
+		if (uploadData.isTracking())
+			checkContentUsingRange(bucketName, key, uploadData.payloadParts.getPayload(), step);
+		else
+			checkContentUsingRange(bucketName, key, uploadData.getBody(), step);
+	}
+
+	public void checkContentUsingRange(String bucketName, String key, RandomPayload payload, long step) {
+		var client = getClient();
+		var headResponse = client.getObjectMetadata(bucketName, key);
+		var size = headResponse.getContentLength();
+		assertEquals(payload.getLength(), size, bucketName + "/" + key + " : " + payload.getLength() + " != " + size);
+
+		var expected = Expected.of(payload);
+		RangeVerifier.run(RangeVerifier.split(size, step, size), range -> {
 			var response = client
-					.getObject(new GetObjectRequest(bucketName, key).withRange(start, end - 1));
-			var body = getBody(response.getObjectContent());
-			var length = end - start;
-			var rangeBody = data.substring((int) start, (int) end);
-
-			assertEquals(length, response.getObjectMetadata().getContentLength(),
-					bucketName + "/" + key + " : " + length + " != " + response.getObjectMetadata().getContentLength());
-			assertTrue(rangeBody.equals(body), MainData.NOT_MATCHED);
-			start += step;
-		}
+					.getObject(new GetObjectRequest(bucketName, key).withRange(range.start(), range.end() - 1));
+
+			assertEquals(range.length(), response.getObjectMetadata().getContentLength(), bucketName + "/" + key
+					+ " : " + range.length() + " != " + response.getObjectMetadata().getContentLength());
+			checkBody(response, expected.slice(range.start(), range.length()), bucketName + "/" + key + " " + range);
+		});
 	}
 
 	public RangeSet getRandomRange(int fileSize) {
+		return getRandomRange(rand, fileSize);
+	}
+
+	public RangeSet getRandomRange(Random rand, int fileSize) {
 		var start = rand.nextInt(fileSize - MAX_LENGTH * 2);
 		var maxLength = fileSize - start;
 
@@ -1436,28 +1499,30 @@ public class TestBase {
 
 	public void checkContent(String bucketName, String key, String data, int loopCount) {
 		var client = getClient();
+		var expected = Expected.of(data);
 
 		for (int i = 0; i < loopCount; i++) {
 			var response = client.getObject(bucketName, key);
-			var body = getBody(response.getObjectContent());
-			assertTrue(data.equals(body), MainData.NOT_MATCHED);
+			checkBody(response, expected, bucketName + "/" + key);
 		}
 	}
 
 	public void checkContentUsingRandomRange(String bucketName, String key, String data, int loopCount) {
 		var client = getClient();
 		int fileSize = data.length();
+		var expected = Expected.of(data);
+		var random = RangeVerifier.newRandom(bucketName + "/" + key);
+		var ranges = new ArrayList<RangeSet>();
+		for (int i = 0; i < loopCount; i++)
+			ranges.add(getRandomRange(random, fileSize));
 
-		for (int i = 0; i < loopCount; i++) {
-			var range = getRandomRange(fileSize);
-			var rangeBody = data.substring(range.start, range.end + 1);
-
+		RangeVerifier.run(ranges, range -> {
 			var response = client.getObject(new GetObjectRequest(bucketName, key).withRange(range.start, range.end));
-			var body = getBody(response.getObjectContent());
 
 			assertEquals(range.length, response.getObjectMetadata().getContentLength() - 1);
-			assertTrue(rangeBody.equals(body), MainData.NOT_MATCHED);
-		}
+			checkBody(response, expected.slice(range.start, range.length + 1L), String.format(
+					"%s/%s bytes=%d-%d (seed : %d)", bucketName, key, range.start, range.end, random.getSeed()));
+		});
 	}
 
 	public AmazonServiceException setGetMetadataUnreadable(int testId, String key, String metadata, String bucket) {
@@ -2156,62 +2221,17 @@ public class TestBase {
 	}
 
 	public void abortBucketMultipartUploads(AmazonS3 client, String bucketName) {
-		try {
-			var isTruncated = true;
-			String keyMarker = null;
-			String uploadIdMarker = null;
-			while (isTruncated) {
-				var listRequest = new ListMultipartUploadsRequest(bucketName);
-				if (keyMarker != null)
-					listRequest.withKeyMarker(keyMarker).withUploadIdMarker(uploadIdMarker);
-				var listResponse = client.listMultipartUploads(listRequest);
-				for (var upload : listResponse.getMultipartUploads())
-					client.abortMultipartUpload(
-							new AbortMultipartUploadRequest(bucketName, upload.getKey(), upload.getUploadId()));
-				isTruncated = listResponse.isTruncated();
-				if (isTruncated) {
-					keyMarker = listResponse.getNextKeyMarker();
-					uploadIdMarker = listResponse.getNextUploadIdMarker();
-				}
-			}
-		} catch (AmazonServiceException e) {
-			System.out.format("Error : Bucket(%s) Abort Multipart Uploads Failed(%s, %d)%n", bucketName,
-					e.getErrorCode(), e.getStatusCode());
-		}
+		new BucketCleaner(client).abortMultipartUploads(bucketName);
 	}
 
 	public void clearBucketObjectVersions(AmazonS3 client, String bucketName) {
-		try {
-			var isTruncated = true;
-			while (isTruncated) {
-				var response = client
-						.listVersions(new ListVersionsRequest().withBucketName(bucketName).withMaxResults(1000));
-				for (var version : response.getVersionSummaries())
-					client.deleteVersion(
-							new DeleteVersionRequest(bucketName, version.getKey(), version.getVersionId()));
-				isTruncated = response.isTruncated();
-			}
-		} catch (AmazonServiceException e) {
-			System.out.format("Error : Bucket(%s) Clear Failed(%s, %d)%n", bucketName, e.getErrorCode(),
-					e.getStatusCode());
-		}
+		new BucketCleaner(client).deleteObjectVersions(bucketName);
 	}
 
 	public void bucketClear(AmazonS3 client, String bucketName) {
 		if (client == null)
 			return;
-		if (StringUtils.isBlank(bucketName))
-			return;
-
-		abortBucketMultipartUploads(client, bucketName);
-		clearBucketObjectVersions(client, bucketName);
-
-		try {
-			client.deleteBucket(bucketName);
-		} catch (AmazonServiceException e) {
-			System.out.format("Error : Bucket(%s) Delete Failed(%s, %d)%n", bucketName, e.getErrorCode(),
-					e.getStatusCode());
-		}
+		new BucketCleaner(client).clear(bucketName);
 	}
 
 	public void bucketClear() {
@@ -2219,14 +2239,10 @@ public class TestBase {
 		if (client == null || buckets.isEmpty())
 			return;
 
-		var iter = buckets.iterator();
-		while (iter.hasNext()) {
-			var bucketName = iter.next();
-			if (StringUtils.isNotBlank(bucketName))
-				bucketClear(client, bucketName);
-			iter.remove();
-		}
-
+		// 정리는 BucketReaper가 다음 테스트와 동시에 진행한다
+		var bucketNames = new ArrayList<>(buckets);
+		buckets.removeAll(bucketNames);
+		BucketReaper.getInstance().enqueue(bucketNames, new BucketCleaner(client)::clear);
 	}
 	// endregion
 
@@ -148,7 +148,7 @@ public class Backend extends TestBase {
 		var response = client.headObject(h -> h.bucket(bucketName).key(key).versionId(versionId));
 		assertEquals(size, response.contentLength());
 
-		checkContentUsingRange(bucketName, key, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, key, uploadData, MainData.MB);
 	}
 
 	/**
@@ -554,7 +554,7 @@ public class Backend extends TestBase {
 		var response = client.headObject(h -> h.bucket(bucketName).key(key).versionId(versionId));
 		assertEquals(size, response.contentLength());
 
-		checkContentUsingRange(bucketName, key, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, key, uploadData, MainData.MB);
 	}
 
 	/**
@@ -1086,7 +1086,7 @@ public class Backend extends TestBase {
 		assertEquals(size, getResponse.contentLength());
 		assertEquals(versionId, getResponse.versionId());
 
-		checkContentUsingRange(bucketName, targetKey, versionId, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, targetKey, versionId, uploadData, MainData.MB);
 	}
 
 	/**
@@ -1136,7 +1136,7 @@ public class Backend extends TestBase {
 		tagResponse = client.getObjectTagging(g -> g.bucket(bucketName).key(targetKey));
 		tagCompare(tagging.tagSet(), tagResponse.tagSet());
 
-		checkContentUsingRange(bucketName, targetKey, versionId, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, targetKey, versionId, uploadData, MainData.MB);
 	}
 
 	/**
@@ -1177,7 +1177,7 @@ public class Backend extends TestBase {
 		assertEquals(versionId, getResponse.versionId());
 		assertEquals(metadata, getResponse.metadata());
 
-		checkContentUsingRange(bucketName, targetKey, versionId, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, targetKey, versionId, uploadData, MainData.MB);
 	}
 
 	/**
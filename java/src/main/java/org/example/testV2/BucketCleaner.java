@@ -0,0 +1,197 @@
+/*
+* Copyright (c) 2021 PSPACE, inc. KSAN Development Team ksan@pspace.co.kr
+* KSAN is a suite of free software: you can redistribute it and/or modify it under the terms of
+* the GNU General Public License as published by the Free Software Foundation, either version
+* 3 of the License. See LICENSE for details
+*
+* 본 프로그램 및 관련 소스코드, 문서 등 모든 자료는 있는 그대로 제공이 됩니다.
+* KSAN 프로젝트의 개발자 및 개발사는 이 프로그램을 사용한 결과에 따른 어떠한 책임도 지지 않습니다.
+* KSAN 개발팀은 사전 공지, 허락, 동의 없이 KSAN 개발에 관련된 모든 결과물에 대한 LICENSE 방식을 변경 할 권리가 있습니다.
+*/
+package org.example.testV2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.StringUtils;
+import org.example.Utility.Teardown;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectVersionsRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+
+/**
+ * 테스트 버킷 정리기 (SDK v2).
+ * <p>
+ * 버전 목록을 마커를 이어가며 읽어서 1,000개씩 DeleteObjects(quiet) 배치로 지우고,
+ * 배치와 멀티파트 업로드 취소는 {@link Teardown#BATCHES}개씩, 버킷은 {@link Teardown#BUCKETS}개씩
+ * 동시에 처리한다.
+ */
+public class BucketCleaner {
+	/** DeleteObjects 한 번에 지우는 최대 오브젝트 수 */
+	public static final int BATCH_SIZE = 1000;
+
+	private final S3Client client;
+	private final LongAdder deletedObjects = new LongAdder();
+	private final LongAdder abortedUploads = new LongAdder();
+	private final LongAdder deletedBuckets = new LongAdder();
+
+	public BucketCleaner(S3Client client) {
+		this.client = client;
+	}
+
+	/** 지금까지 지운 오브젝트(버전, 삭제 마커 포함) 수 */
+	public long getDeletedObjects() {
+		return deletedObjects.sum();
+	}
+
+	/** 지금까지 취소한 멀티파트 업로드 수 */
+	public long getAbortedUploads() {
+		return abortedUploads.sum();
+	}
+
+	/** 지금까지 삭제한 버킷 수 */
+	public long getDeletedBuckets() {
+		return deletedBuckets.sum();
+	}
+
+	/**
+	 * 여러 버킷을 동시에 정리하고 삭제한다.
+	 */
+	public void clear(Collection<String> bucketNames) {
+		Teardown.forEach(bucketNames, Teardown.BUCKETS, this::clear);
+	}
+
+	/**
+	 * 버킷의 멀티파트 업로드와 모든 버전을 지운 뒤 버킷을 삭제한다.
+	 */
+	public void clear(String bucketName) {
+		if (StringUtils.isBlank(bucketName))
+			return;
+
+		abortMultipartUploads(bucketName);
+		deleteObjectVersions(bucketName);
+
+		try {
+			client.deleteBucket(d -> d.bucket(bucketName));
+			deletedBuckets.increment();
+		} catch (AwsServiceException e) {
+			System.out.printf("Error : Bucket(%s) Delete Failed(%s, %d)%n", bucketName, e.awsErrorDetails().errorCode(),
+					e.statusCode());
+		}
+	}
+
+	/**
+	 * 진행 중인 멀티파트 업로드를 모두 취소한다.
+	 */
+	public void abortMultipartUploads(String bucketName) {
+		var pipeline = new Teardown.Pipeline(Teardown.BATCHES);
+		try {
+			var isTruncated = true;
+			String keyMarker = null;
+			String uploadIdMarker = null;
+			while (isTruncated) {
+				var listRequestBuilder = ListMultipartUploadsRequest.builder().bucket(bucketName);
+				if (keyMarker != null)
+					listRequestBuilder.keyMarker(keyMarker);
+				if (uploadIdMarker != null)
+					listRequestBuilder.uploadIdMarker(uploadIdMarker);
+				var listResponse = client.listMultipartUploads(listRequestBuilder.build());
+				for (var upload : listResponse.uploads())
+					pipeline.submit(() -> abortMultipartUpload(bucketName, upload.key(), upload.uploadId()));
+				isTruncated = Boolean.TRUE.equals(listResponse.isTruncated());
+				if (isTruncated) {
+					keyMarker = listResponse.nextKeyMarker();
+					uploadIdMarker = listResponse.nextUploadIdMarker();
+				}
+			}
+		} catch (AwsServiceException e) {
+			System.out.printf("Error : Bucket(%s) Abort Multipart Uploads Failed(%s, %d)%n", bucketName,
+					e.awsErrorDetails().errorCode(), e.statusCode());
+		} finally {
+			pipeline.await();
+		}
+	}
+
+	void abortMultipartUpload(String bucketName, String key, String uploadId) {
+		try {
+			client.abortMultipartUpload(a -> a.bucket(bucketName).key(key).uploadId(uploadId));
+			abortedUploads.increment();
+		} catch (AwsServiceException e) {
+			System.out.printf("Error : Bucket(%s) Abort Multipart Upload(%s) Failed(%s, %d)%n", bucketName, key,
+					e.awsErrorDetails().errorCode(), e.statusCode());
+		}
+	}
+
+	/**
+	 * 모든 버전과 삭제 마커를 지운다.
+	 */
+	public void deleteObjectVersions(String bucketName) {
+		var pipeline = new Teardown.Pipeline(Teardown.BATCHES);
+		try {
+			var batch = new ArrayList<ObjectIdentifier>(BATCH_SIZE);
+			var isTruncated = true;
+			String keyMarker = null;
+			String versionIdMarker = null;
+			while (isTruncated) {
+				var listRequestBuilder = ListObjectVersionsRequest.builder().bucket(bucketName).maxKeys(BATCH_SIZE);
+				if (keyMarker != null)
+					listRequestBuilder.keyMarker(keyMarker);
+				if (versionIdMarker != null)
+					listRequestBuilder.versionIdMarker(versionIdMarker);
+				var response = client.listObjectVersions(listRequestBuilder.build());
+
+				for (var version : response.versions())
+					batch = addToBatch(pipeline, bucketName, batch,
+							ObjectIdentifier.builder().key(version.key()).versionId(version.versionId()).build());
+				for (var marker : response.deleteMarkers())
+					batch = addToBatch(pipeline, bucketName, batch,
+							ObjectIdentifier.builder().key(marker.key()).versionId(marker.versionId()).build());
+
+				isTruncated = Boolean.TRUE.equals(response.isTruncated());
+				if (isTruncated) {
+					keyMarker = response.nextKeyMarker();
+					versionIdMarker = response.nextVersionIdMarker();
+				}
+			}
+			if (!batch.isEmpty())
+				submitBatch(pipeline, bucketName, batch);
+		} catch (AwsServiceException e) {
+			System.out.printf("Error : Bucket(%s) Clear Failed(%s, %d)%n", bucketName, e.awsErrorDetails().errorCode(),
+					e.statusCode());
+		} finally {
+			pipeline.await();
+		}
+	}
+
+	private ArrayList<ObjectIdentifier> addToBatch(Teardown.Pipeline pipeline, String bucketName,
+			ArrayList<ObjectIdentifier> batch, ObjectIdentifier item) {
+		batch.add(item);
+		if (batch.size() < BATCH_SIZE)
+			return batch;
+		submitBatch(pipeline, bucketName, batch);
+		return new ArrayList<>(BATCH_SIZE);
+	}
+
+	private void submitBatch(Teardown.Pipeline pipeline, String bucketName, List<ObjectIdentifier> batch) {
+		pipeline.submit(() -> deleteObjects(bucketName, batch));
+	}
+
+	void deleteObjects(String bucketName, List<ObjectIdentifier> batch) {
+		try {
+			var response = client
+					.deleteObjects(d -> d.bucket(bucketName).delete(o -> o.objects(batch).quiet(true)));
+			deletedObjects.add(batch.size() - response.errors().size());
+			for (var error : response.errors())
+				System.out.printf("Error : Bucket(%s) Delete Object(%s, %s) Failed(%s)%n", bucketName, error.key(),
+						error.versionId(), error.code());
+		} catch (AwsServiceException e) {
+			System.out.printf("Error : Bucket(%s) Delete Objects Failed(%s, %d)%n", bucketName,
+					e.awsErrorDetails().errorCode(), e.statusCode());
+		}
+	}
+}
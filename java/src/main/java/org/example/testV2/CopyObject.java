@@ -21,6 +21,7 @@ import java.util.List;
 import org.apache.hc.core5.http.HttpStatus;
 import org.example.Data.MainData;
 import org.example.Utility.CheckSum;
+import org.example.Utility.MultiChecksum;
 import org.example.Utility.Utils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -426,7 +427,7 @@ public class CopyObject extends TestBase {
 
 		assertEquals(sourceSize, response.contentLength());
 		assertEquals(sourceMetadata, response.metadata());
-		checkContentUsingRange(bucketName, target, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, target, uploads, MainData.MB);
 
 		var target2 = "testObjectCopyVersioningMultipartUploadTarget2";
 		client.copyObject(c -> c.sourceBucket(bucketName).sourceKey(target).sourceVersionId(targetVid)
@@ -434,7 +435,7 @@ public class CopyObject extends TestBase {
 		response = client.headObject(h -> h.bucket(bucketName).key(target2));
 		assertEquals(sourceSize, response.contentLength());
 		assertEquals(sourceMetadata, response.metadata());
-		checkContentUsingRange(bucketName, target2, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, target2, uploads, MainData.MB);
 
 		var targetBucket = createBucket(client, 16);
 		checkConfigureVersioningRetry(targetBucket, BucketVersioningStatus.ENABLED);
@@ -445,7 +446,7 @@ public class CopyObject extends TestBase {
 		response = client.headObject(h -> h.bucket(targetBucket).key(target3));
 		assertEquals(sourceSize, response.contentLength());
 		assertEquals(sourceMetadata, response.metadata());
-		checkContentUsingRange(targetBucket, target3, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(targetBucket, target3, uploads, MainData.MB);
 
 		var bucketName3 = createBucket(client, 16);
 		checkConfigureVersioningRetry(bucketName3, BucketVersioningStatus.ENABLED);
@@ -456,7 +457,7 @@ public class CopyObject extends TestBase {
 		response = client.headObject(h -> h.bucket(bucketName3).key(target4));
 		assertEquals(sourceSize, response.contentLength());
 		assertEquals(sourceMetadata, response.metadata());
-		checkContentUsingRange(bucketName3, target4, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName3, target4, uploads, MainData.MB);
 
 		var target5 = "testObjectCopyVersioningMultipartUploadTarget5";
 		client.copyObject(c -> c.sourceBucket(bucketName3).sourceKey(target4)
@@ -464,7 +465,7 @@ public class CopyObject extends TestBase {
 		response = client.headObject(h -> h.bucket(bucketName).key(target5));
 		assertEquals(sourceSize, response.contentLength());
 		assertEquals(sourceMetadata, response.metadata());
-		checkContentUsingRange(bucketName, target5, uploads.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, target5, uploads, MainData.MB);
 	}
 
 	@Test
@@ -1253,28 +1254,30 @@ public class CopyObject extends TestBase {
 				var sourceKey = prefix + "/source/sync/" + checksum.name();
 				var targetKey = prefix + "/target/sync/" + checksum.name();
 
+				var sent = MultiChecksum.of(checksum);
 				var response = client.putObject(
 						p -> CheckSum.applyChecksum(p.bucket(bucketName).key(sourceKey), checksum, sourceKey),
-						RequestBody.fromString(sourceKey));
-				checksumCompare(checksum, sourceKey, response);
+						sent.wrap(RequestBody.fromString(sourceKey)));
+				checksumCompare(checksum, sent, response);
 
 				var copyResponse = client
 						.copyObject(c -> c.sourceBucket(bucketName).sourceKey(sourceKey).destinationBucket(bucketName)
 								.destinationKey(targetKey));
-				checksumCompare(checksum, sourceKey, copyResponse);
+				checksumCompare(checksum, sent, copyResponse);
 
 				// Async
 				var asyncSourceKey = prefix + "/source/async/" + checksum.name();
 				var asyncTargetKey = prefix + "/target/async/" + checksum.name();
+				var asyncSent = MultiChecksum.of(checksum);
 				var asyncResponse = asyncClient.putObject(
 						p -> CheckSum.applyChecksum(p.bucket(bucketName).key(asyncSourceKey), checksum,
 								asyncSourceKey),
-						AsyncRequestBody.fromString(asyncSourceKey));
-				checksumCompare(checksum, asyncSourceKey, asyncResponse.join());
+						asyncSent.wrap(AsyncRequestBody.fromString(asyncSourceKey)));
+				checksumCompare(checksum, asyncSent, asyncResponse.join());
 				var asyncCopyResponse = asyncClient
 						.copyObject(c -> c.sourceBucket(bucketName).sourceKey(asyncSourceKey)
 								.destinationBucket(bucketName).destinationKey(asyncTargetKey));
-				checksumCompare(checksum, asyncSourceKey, asyncCopyResponse.join());
+				checksumCompare(checksum, asyncSent, asyncCopyResponse.join());
 			}
 		}
 	}
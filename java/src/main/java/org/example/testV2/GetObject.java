@@ -22,6 +22,7 @@ import java.util.Calendar;
 import org.apache.hc.core5.http.HttpStatus;
 import org.example.Data.MainData;
 import org.example.Utility.CheckSum;
+import org.example.Utility.MultiChecksum;
 import org.example.Utility.Utils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -519,11 +520,12 @@ public class GetObject extends TestBase {
 
 		for (var checksum : CheckSum.ALL_ALGORITHMS) {
 			var key = "testRangeGetChecksum/" + checksum.name();
+			var sent = MultiChecksum.of(checksum);
 			var response = client.putObject(
 					p -> CheckSum.applyChecksum(p.bucket(bucketName).key(key), checksum, data),
-					RequestBody.fromString(data));
+					sent.wrap(RequestBody.fromString(data)));
 
-			checksumCompare(checksum, data, response);
+			checksumCompare(checksum, sent, response);
 			checkContentUsingRandomRange(bucketName, key, data, 50);
 		}
 	}
@@ -321,31 +321,9 @@ public class GetObjectAttributes extends TestBase {
 		var size = 100 * MainData.MB; // 100MB
 		var partSize = 5 * MainData.MB; // 5MB 파트 크기
 
-		// 멀티파트 업로드 초기화
-		var initResponse = client.createMultipartUpload(c -> c.bucket(bucketName).key(key));
-		var uploadId = initResponse.uploadId();
-		var parts = new ArrayList<CompletedPart>();
-
-		// 파트 업로드
-		int partCount = size / partSize;
-		for (int i = 0; i < partCount; i++) {
-			var partNumber = i + 1;
-			var partContent = Utils.randomTextToLong(partSize);
-			var partResponse = client.uploadPart(u -> u
-					.bucket(bucketName)
-					.key(key)
-					.uploadId(uploadId)
-					.partNumber(partNumber),
-					RequestBody.fromString(partContent));
-			parts.add(CompletedPart.builder().partNumber(partNumber).eTag(partResponse.eTag()).build());
-		}
-
-		// 멀티파트 업로드 완료
-		client.completeMultipartUpload(c -> c
-				.bucket(bucketName)
-				.key(key)
-				.uploadId(uploadId)
-				.multipartUpload(p -> p.parts(parts)));
+		// 멀티파트 업로드 (파트 내용은 보관하지 않음)
+		var uploadData = multipartUpload(client, bucketName, key, size, partSize);
+		int partCount = uploadData.parts.size();
 
 		// GetObjectAttributes 요청
 		var response = client.getObjectAttributes(g -> g
@@ -37,7 +37,7 @@ public class ListObjects extends TestBase {
 	@Tag("Check")
 	public void testBucketListMany() {
 		var client = getClient();
-		var bucketName = createObjects(client, 1, "foo", "bar", "baz");
+		var bucketName = readOnlyFixture(client, 1, "foo", "bar", "baz");
 
 		var response = client.listObjects(l -> l.bucket(bucketName).maxKeys(2));
 		assertLinesMatch(List.of("bar", "baz"), getKeys(response.contents()));
@@ -54,7 +54,7 @@ public class ListObjects extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListDelimiterBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 2, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
+		var bucketName = readOnlyFixture(client, 2, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
 
 		String delimiter = "/";
 
@@ -72,7 +72,7 @@ public class ListObjects extends TestBase {
 	@Tag("Encoding")
 	public void testBucketListEncodingBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 3, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
+		var bucketName = readOnlyFixture(client, 3, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
 
 		String delimiter = "/";
 
@@ -92,7 +92,7 @@ public class ListObjects extends TestBase {
 		String delimiter = "/";
 		String marker = "";
 		String prefix = "";
-		var bucketName = createObjects(4, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
+		var bucketName = readOnlyFixture(4, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
 
 		marker = validateListObject(bucketName, prefix, delimiter, "", 1, true, List.of("asdf"), new ArrayList<>(),
 				"asdf");
@@ -119,7 +119,7 @@ public class ListObjects extends TestBase {
 	@Tag("Filtering")
 	public void testBucketListDelimiterPrefixEndsWithDelimiter() {
 		var client = getClient();
-		var bucketName = createObjects(client, 5, "asdf/");
+		var bucketName = readOnlyFixture(client, 5, "asdf/");
 		validateListObject(bucketName, "asdf/", "/", "", 1000, false,
 				List.of("asdf/"), new ArrayList<>(), null);
 	}
@@ -128,7 +128,7 @@ public class ListObjects extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListDelimiterAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 6, "bar", "baz", "cab", "foo");
+		var bucketName = readOnlyFixture(client, 6, "bar", "baz", "cab", "foo");
 
 		String delimiter = "a";
 
@@ -149,7 +149,7 @@ public class ListObjects extends TestBase {
 		String delimiter = "/";
 		String marker = "";
 		String prefix = "";
-		var bucketName = createObjects(7, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
+		var bucketName = readOnlyFixture(7, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
 
 		marker = validateListObject(bucketName, prefix, delimiter, "", 1, true, List.of("Obj1_"), new ArrayList<>(),
 				"Obj1_");
@@ -178,7 +178,7 @@ public class ListObjects extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListDelimiterPercentage() {
 		var client = getClient();
-		var bucketName = createObjects(client, 8, "b%ar", "b%az", "c%ab", "foo");
+		var bucketName = readOnlyFixture(client, 8, "b%ar", "b%az", "c%ab", "foo");
 
 		String delimiter = "%";
 
@@ -197,7 +197,7 @@ public class ListObjects extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListDelimiterWhitespace() {
 		var client = getClient();
-		var bucketName = createObjects(client, 9, "b ar", "b az", "c ab", "foo");
+		var bucketName = readOnlyFixture(client, 9, "b ar", "b az", "c ab", "foo");
 
 		String delimiter = " ";
 
@@ -216,7 +216,7 @@ public class ListObjects extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListDelimiterDot() {
 		var client = getClient();
-		var bucketName = createObjects(client, 10, "b.ar", "b.az", "c.ab", "foo");
+		var bucketName = readOnlyFixture(client, 10, "b.ar", "b.az", "c.ab", "foo");
 
 		String delimiter = ".";
 
@@ -236,7 +236,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListDelimiterUnreadable() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 11, keyNames);
+		var bucketName = readOnlyFixture(client, 11, keyNames);
 
 		String delimiter = "\n";
 
@@ -255,7 +255,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListDelimiterEmpty() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 12, keyNames);
+		var bucketName = readOnlyFixture(client, 12, keyNames);
 
 		String delimiter = "";
 
@@ -274,7 +274,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListDelimiterNone() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 13, keyNames);
+		var bucketName = readOnlyFixture(client, 13, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName));
 		assertNull(response.delimiter());
@@ -291,7 +291,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListDelimiterNotExist() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 14, keyNames);
+		var bucketName = readOnlyFixture(client, 14, keyNames);
 
 		String delimiter = "/";
 
@@ -314,7 +314,7 @@ public class ListObjects extends TestBase {
 		var keyNames2 = List.of("1999", "1999#", "1999+", "2000");
 		keyNames.addAll(keyNames2);
 		var client = getClient();
-		var bucketName = createObjects(client, 15, keyNames);
+		var bucketName = readOnlyFixture(client, 15, keyNames);
 
 		String delimiter = "/";
 
@@ -332,7 +332,7 @@ public class ListObjects extends TestBase {
 	@Tag("prefix")
 	public void testBucketListPrefixBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 16, "foo/bar", "foo/baz", "quux");
+		var bucketName = readOnlyFixture(client, 16, "foo/bar", "foo/baz", "quux");
 
 		String prefix = "foo/";
 		var response = client.listObjects(l -> l.bucket(bucketName).prefix(prefix));
@@ -348,7 +348,7 @@ public class ListObjects extends TestBase {
 	@Tag("prefix")
 	public void testBucketListPrefixAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 17, "bar", "baz", "foo");
+		var bucketName = readOnlyFixture(client, 17, "bar", "baz", "foo");
 
 		String prefix = "ba";
 		var response = client.listObjects(l -> l.bucket(bucketName).prefix(prefix));
@@ -365,7 +365,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListPrefixEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 18, keyNames);
+		var bucketName = readOnlyFixture(client, 18, keyNames);
 
 		String prefix = "";
 		var response = client.listObjects(l -> l.bucket(bucketName).prefix(prefix));
@@ -382,7 +382,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListPrefixNone() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 19, keyNames);
+		var bucketName = readOnlyFixture(client, 19, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName));
 		assertEquals("", response.prefix());
@@ -398,7 +398,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListPrefixNotExist() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 20, keyNames);
+		var bucketName = readOnlyFixture(client, 20, keyNames);
 
 		String prefix = "d";
 		var response = client.listObjects(l -> l.bucket(bucketName).prefix(prefix));
@@ -415,7 +415,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListPrefixUnreadable() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 21, keyNames);
+		var bucketName = readOnlyFixture(client, 21, keyNames);
 
 		String prefix = "\n";
 		var response = client.listObjects(l -> l.bucket(bucketName).prefix(prefix));
@@ -432,7 +432,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListPrefixDelimiterBasic() {
 		var keyNames = List.of("foo/bar", "foo/baz/xyzzy", "quux/thud", "asdf");
 		var client = getClient();
-		var bucketName = createObjects(client, 22, keyNames);
+		var bucketName = readOnlyFixture(client, 22, keyNames);
 
 		String prefix = "foo/";
 		String delimiter = "/";
@@ -452,7 +452,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListPrefixDelimiterAlt() {
 		var keyNames = List.of("bar", "bazar", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 23, keyNames);
+		var bucketName = readOnlyFixture(client, 23, keyNames);
 
 		String delimiter = "a";
 		String prefix = "ba";
@@ -472,7 +472,7 @@ public class ListObjects extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListPrefixDelimiterPrefixNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 24, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 24, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client.listObjects(l -> l.bucket(bucketName).delimiter("d").prefix("/"));
 
@@ -486,7 +486,7 @@ public class ListObjects extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListPrefixDelimiterDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 25, "b/a/c", "b/a/g", "b/a/r", "g");
+		var bucketName = readOnlyFixture(client, 25, "b/a/c", "b/a/g", "b/a/r", "g");
 
 		var response = client
 				.listObjects(l -> l.bucket(bucketName).delimiter("z").prefix("b"));
@@ -501,7 +501,7 @@ public class ListObjects extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListPrefixDelimiterPrefixDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 26, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 26, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client
 				.listObjects(l -> l.bucket(bucketName).delimiter("z").prefix("y"));
@@ -517,7 +517,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMaxKeysOne() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 27, keyNames);
+		var bucketName = readOnlyFixture(client, 27, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName).maxKeys(1));
 		assertTrue(response.isTruncated());
@@ -537,7 +537,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMaxKeysZero() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 28, keyNames);
+		var bucketName = readOnlyFixture(client, 28, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName).maxKeys(0));
 
@@ -551,7 +551,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMaxKeysNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 29, keyNames);
+		var bucketName = readOnlyFixture(client, 29, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName));
 		assertFalse(response.isTruncated());
@@ -565,7 +565,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMarkerNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 30, keyNames);
+		var bucketName = readOnlyFixture(client, 30, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName).marker(""));
 		assertNull(response.nextMarker());
@@ -576,7 +576,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMarkerEmpty() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 31, keyNames);
+		var bucketName = readOnlyFixture(client, 31, keyNames);
 
 		var response = client.listObjects(l -> l.bucket(bucketName).marker(""));
 		assertNull(response.nextMarker());
@@ -590,7 +590,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMarkerUnreadable() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 32, keyNames);
+		var bucketName = readOnlyFixture(client, 32, keyNames);
 
 		var marker = "\n";
 
@@ -606,7 +606,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMarkerNotInList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 33, keyNames);
+		var bucketName = readOnlyFixture(client, 33, keyNames);
 
 		var marker = "blah";
 
@@ -621,7 +621,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListMarkerAfterList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 34, keyNames);
+		var bucketName = readOnlyFixture(client, 34, keyNames);
 
 		var marker = "zzz";
 
@@ -637,7 +637,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListReturnData() {
 		var keyNames = List.of("bar", "baz", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 35, keyNames);
+		var bucketName = readOnlyFixture(client, 35, keyNames);
 
 		var data = new ArrayList<ObjectDataV2>();
 
@@ -704,7 +704,7 @@ public class ListObjects extends TestBase {
 	public void testBucketListFilteringAll() {
 		var keyNames = List.of("test1/f1", "test2/f2", "test3", "test4/f3", "testF4");
 		var client = getClient();
-		var bucketName = createObjects(client, 39, keyNames);
+		var bucketName = readOnlyFixture(client, 39, keyNames);
 
 		var marker = "test3";
 		var delimiter = "/";
@@ -36,7 +36,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Check")
 	public void testBucketListV2Many() {
 		var client = getClient();
-		var bucketName = createObjects(client, 1, "foo", "bar", "baz");
+		var bucketName = readOnlyFixture(client, 1, "foo", "bar", "baz");
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).maxKeys(2));
 		assertLinesMatch(List.of("bar", "baz"), getKeys(response.contents()));
@@ -69,7 +69,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 3, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
+		var bucketName = readOnlyFixture(client, 3, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
 
 		var delimiter = "/";
 
@@ -87,7 +87,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Encoding")
 	public void testBucketListV2EncodingBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 4, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
+		var bucketName = readOnlyFixture(client, 4, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
 
 		var delimiter = "/";
 
@@ -103,7 +103,7 @@ public class ListObjectsV2 extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListV2DelimiterPrefix() {
-		var bucketName = createObjects(5, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
+		var bucketName = readOnlyFixture(5, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
 
 		var delimiter = "/";
 		var continuationToken = "";
@@ -136,7 +136,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("Filtering")
 	public void testBucketListV2DelimiterPrefixEndsWithDelimiter() {
 		var client = getClient();
-		var bucketName = createObjects(client, 6, "asdf/");
+		var bucketName = readOnlyFixture(client, 6, "asdf/");
 		validateListObjectV2(bucketName, "asdf/", "/", null, 1000, false,
 				List.of("asdf/"), new ArrayList<>(), true);
 	}
@@ -145,7 +145,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 7, "bar", "baz", "cab", "foo");
+		var bucketName = readOnlyFixture(client, 7, "bar", "baz", "cab", "foo");
 
 		var delimiter = "a";
 
@@ -163,7 +163,7 @@ public class ListObjectsV2 extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListV2DelimiterPrefixUnderscore() {
-		var bucketName = createObjects(8, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
+		var bucketName = readOnlyFixture(8, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
 
 		var delim = "/";
 		var continuationToken = "";
@@ -196,7 +196,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterPercentage() {
 		var client = getClient();
-		var bucketName = createObjects(client, 9, "b%ar", "b%az", "c%ab", "foo");
+		var bucketName = readOnlyFixture(client, 9, "b%ar", "b%az", "c%ab", "foo");
 
 		var delimiter = "%";
 
@@ -215,7 +215,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterWhitespace() {
 		var client = getClient();
-		var bucketName = createObjects(client, 10, "b ar", "b az", "c ab", "foo");
+		var bucketName = readOnlyFixture(client, 10, "b ar", "b az", "c ab", "foo");
 
 		var delimiter = " ";
 
@@ -234,7 +234,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("delimiter")
 	public void testBucketListV2DelimiterDot() {
 		var client = getClient();
-		var bucketName = createObjects(client, 11, "b.ar", "b.az", "c.ab", "foo");
+		var bucketName = readOnlyFixture(client, 11, "b.ar", "b.az", "c.ab", "foo");
 
 		var delimiter = ".";
 
@@ -254,7 +254,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterUnreadable() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 12, keyNames);
+		var bucketName = readOnlyFixture(client, 12, keyNames);
 
 		var delimiter = "\n";
 
@@ -273,7 +273,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterEmpty() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 13, keyNames);
+		var bucketName = readOnlyFixture(client, 13, keyNames);
 
 		var delimiter = "";
 
@@ -292,7 +292,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterNone() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 14, keyNames);
+		var bucketName = readOnlyFixture(client, 14, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName));
 		assertNull(response.delimiter());
@@ -309,7 +309,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FetchOwnerNotEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 15, keyNames);
+		var bucketName = readOnlyFixture(client, 15, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).fetchOwner(true));
 		var objectList = response.contents();
@@ -322,7 +322,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FetchOwnerDefaultEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 16, keyNames);
+		var bucketName = readOnlyFixture(client, 16, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName));
 		var objectList = response.contents();
@@ -335,7 +335,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FetchOwnerEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 17, keyNames);
+		var bucketName = readOnlyFixture(client, 17, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).fetchOwner(false));
 		var objectList = response.contents();
@@ -348,7 +348,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2DelimiterNotExist() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 18, keyNames);
+		var bucketName = readOnlyFixture(client, 18, keyNames);
 
 		var delimiter = "/";
 
@@ -366,7 +366,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("prefix")
 	public void testBucketListV2PrefixBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 19, "foo/bar", "foo/baz", "quux");
+		var bucketName = readOnlyFixture(client, 19, "foo/bar", "foo/baz", "quux");
 
 		var prefix = "foo/";
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).prefix(prefix));
@@ -382,7 +382,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("prefix")
 	public void testBucketListV2PrefixAlt() {
 		var client = getClient();
-		var bucketName = createObjects(client, 20, "bar", "baz", "foo");
+		var bucketName = readOnlyFixture(client, 20, "bar", "baz", "foo");
 
 		var prefix = "ba";
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).prefix(prefix));
@@ -399,7 +399,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 21, keyNames);
+		var bucketName = readOnlyFixture(client, 21, keyNames);
 
 		var prefix = "";
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).prefix(prefix));
@@ -416,7 +416,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixNone() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 22, keyNames);
+		var bucketName = readOnlyFixture(client, 22, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName));
 		assertEquals("", response.prefix());
@@ -432,7 +432,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixNotExist() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 23, keyNames);
+		var bucketName = readOnlyFixture(client, 23, keyNames);
 
 		var prefix = "d";
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).prefix(prefix));
@@ -449,7 +449,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixUnreadable() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 24, keyNames);
+		var bucketName = readOnlyFixture(client, 24, keyNames);
 
 		var prefix = "\n";
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).prefix(prefix));
@@ -466,7 +466,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixDelimiterBasic() {
 		var keyNames = List.of("foo/bar", "foo/baz/xyzzy", "quux/thud", "asdf");
 		var client = getClient();
-		var bucketName = createObjects(client, 25, keyNames);
+		var bucketName = readOnlyFixture(client, 25, keyNames);
 
 		var prefix = "foo/";
 		var delimiter = "/";
@@ -485,7 +485,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2PrefixDelimiterAlt() {
 		var keyNames = List.of("bar", "bazar", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 26, keyNames);
+		var bucketName = readOnlyFixture(client, 26, keyNames);
 
 		var delimiter = "a";
 		var prefix = "ba";
@@ -504,7 +504,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListV2PrefixDelimiterPrefixNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 27, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 27, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).delimiter("d").prefix("/"));
 
@@ -518,7 +518,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListV2PrefixDelimiterDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 28, "b/a/c", "b/a/g", "b/a/r", "g");
+		var bucketName = readOnlyFixture(client, 28, "b/a/c", "b/a/g", "b/a/r", "g");
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).delimiter("z").prefix("b"));
 
@@ -532,7 +532,7 @@ public class ListObjectsV2 extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListV2PrefixDelimiterPrefixDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 29, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 29, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).delimiter("z").prefix("y"));
 
@@ -547,7 +547,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2MaxKeysOne() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 30, keyNames);
+		var bucketName = readOnlyFixture(client, 30, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).maxKeys(1));
 		assertTrue(response.isTruncated());
@@ -567,7 +567,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2MaxKeysZero() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 31, keyNames);
+		var bucketName = readOnlyFixture(client, 31, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName).maxKeys(0));
 
@@ -581,7 +581,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2MaxKeysNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 32, keyNames);
+		var bucketName = readOnlyFixture(client, 32, keyNames);
 
 		var response = client.listObjectsV2(l -> l.bucket(bucketName));
 		assertFalse(response.isTruncated());
@@ -595,7 +595,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2ContinuationToken() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 33, keyNames);
+		var bucketName = readOnlyFixture(client, 33, keyNames);
 
 		var response1 = client.listObjectsV2(l -> l.bucket(bucketName).maxKeys(1));
 		var nextContinuationToken = response1.nextContinuationToken();
@@ -613,7 +613,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2BothContinuationTokenStartAfter() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 34, keyNames);
+		var bucketName = readOnlyFixture(client, 34, keyNames);
 
 		var startAfter = "bar";
 
@@ -634,7 +634,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2StartAfterUnreadable() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 35, keyNames);
+		var bucketName = readOnlyFixture(client, 35, keyNames);
 
 		var startAfter = "\n";
 
@@ -650,7 +650,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2StartAfterNotInList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 36, keyNames);
+		var bucketName = readOnlyFixture(client, 36, keyNames);
 
 		var startAfter = "blah";
 
@@ -665,7 +665,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2StartAfterAfterList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 37, keyNames);
+		var bucketName = readOnlyFixture(client, 37, keyNames);
 
 		var startAfter = "zzz";
 
@@ -715,7 +715,7 @@ public class ListObjectsV2 extends TestBase {
 	public void testBucketListV2FilteringAll() {
 		var keyNames = List.of("test1/f1", "test2/f2", "test3", "test4/f3", "testF4");
 		var client = getClient();
-		var bucketName = createObjects(client, 41, keyNames);
+		var bucketName = readOnlyFixture(client, 41, keyNames);
 
 		var delimiter = "/";
 		var maxKeys = 3;
@@ -38,7 +38,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Check")
 	public void testBucketListVersionsMany() {
 		var client = getClient();
-		var bucketName = createObjects(client, 1, "foo", "bar", "baz");
+		var bucketName = readOnlyFixture(client, 1, "foo", "bar", "baz");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).maxKeys(2));
 		assertLinesMatch(List.of("bar", "baz"), getKeys2(response.versions()));
@@ -55,7 +55,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Delimiter")
 	public void testBucketListVersionsDelimiterBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 2, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
+		var bucketName = readOnlyFixture(client, 2, "foo/bar", "foo/bars/xyzzy", "quux/thud", "asdf");
 
 		String delimiter = "/";
 
@@ -73,7 +73,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Encoding")
 	public void testBucketListVersionsEncodingBasic() {
 		var client = getClient();
-		var bucketName = createObjects(client, 3, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
+		var bucketName = readOnlyFixture(client, 3, "foo+1/bar", "foo/bar/xyzzy", "quux ab/thud", "asdf+b");
 
 		String delimiter = "/";
 
@@ -90,7 +90,7 @@ public class ListObjectsVersions extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListVersionsDelimiterPrefix() {
-		var bucketName = createObjects(4, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
+		var bucketName = readOnlyFixture(4, List.of("asdf", "boo/bar", "boo/baz/xyzzy", "cquux/thud", "cquux/bla"));
 
 		String delimiter = "/";
 		String marker = "";
@@ -120,7 +120,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("Filtering")
 	public void testBucketListVersionsDelimiterPrefixEndsWithDelimiter() {
 		var client = getClient();
-		var bucketName = createObjects(client, 5, "asdf/");
+		var bucketName = readOnlyFixture(client, 5, "asdf/");
 
 		validateListObject(bucketName, "asdf/", "/", "", 1000, false,
 				List.of("asdf/"), new ArrayList<>(), null);
@@ -132,7 +132,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterAlt() {
 		String delimiter = "a";
 		var client = getClient();
-		var bucketName = createObjects(client, 6, "bar", "baz", "cab", "foo");
+		var bucketName = readOnlyFixture(client, 6, "bar", "baz", "cab", "foo");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).delimiter(delimiter));
 
@@ -151,7 +151,7 @@ public class ListObjectsVersions extends TestBase {
 	@Test
 	@Tag("Filtering")
 	public void testBucketListVersionsDelimiterPrefixUnderscore() {
-		var bucketName = createObjects(7, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
+		var bucketName = readOnlyFixture(7, List.of("Obj1_", "Under1/bar", "Under1/baz/xyzzy", "Under2/thud", "Under2/bla"));
 
 		String delimiter = "/";
 		String marker = "";
@@ -185,7 +185,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterPercentage() {
 		String delimiter = "%";
 		var client = getClient();
-		var bucketName = createObjects(client, 8, "b%ar", "b%az", "c%ab", "foo");
+		var bucketName = readOnlyFixture(client, 8, "b%ar", "b%az", "c%ab", "foo");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).delimiter(delimiter));
 
@@ -206,7 +206,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterWhitespace() {
 		String delimiter = " ";
 		var client = getClient();
-		var bucketName = createObjects(client, 9, "b ar", "b az", "c ab", "foo");
+		var bucketName = readOnlyFixture(client, 9, "b ar", "b az", "c ab", "foo");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).delimiter(delimiter));
 
@@ -227,7 +227,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterDot() {
 		String delimiter = ".";
 		var client = getClient();
-		var bucketName = createObjects(client, 10, "b.ar", "b.az", "c.ab", "foo");
+		var bucketName = readOnlyFixture(client, 10, "b.ar", "b.az", "c.ab", "foo");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).delimiter(delimiter));
 
@@ -248,7 +248,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterUnreadable() {
 		var client = getClient();
 		var keyNames = List.of("bar", "baz", "cab", "foo");
-		var bucketName = createObjects(client, 11, keyNames);
+		var bucketName = readOnlyFixture(client, 11, keyNames);
 
 		String delimiter = "\n";
 
@@ -268,7 +268,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterEmpty() {
 		var client = getClient();
 		var keyNames = List.of("bar", "baz", "cab", "foo");
-		var bucketName = createObjects(client, 12, keyNames);
+		var bucketName = readOnlyFixture(client, 12, keyNames);
 
 		String delimiter = "";
 
@@ -288,7 +288,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterNone() {
 		var client = getClient();
 		var keyNames = List.of("bar", "baz", "cab", "foo");
-		var bucketName = createObjects(client, 13, keyNames);
+		var bucketName = readOnlyFixture(client, 13, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName));
 
@@ -306,7 +306,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsDelimiterNotExist() {
 		var keyNames = List.of("bar", "baz", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 14, keyNames);
+		var bucketName = readOnlyFixture(client, 14, keyNames);
 
 		String delimiter = "/";
 
@@ -330,7 +330,7 @@ public class ListObjectsVersions extends TestBase {
 		var keyNames2 = List.of("1999", "1999#", "1999+", "2000");
 		keyNames.addAll(keyNames2);
 		var client = getClient();
-		var bucketName = createObjects(client, 15, keyNames);
+		var bucketName = readOnlyFixture(client, 15, keyNames);
 
 		String delimiter = "/";
 
@@ -351,7 +351,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixBasic() {
 		String prefix = "foo/";
 		var client = getClient();
-		var bucketName = createObjects(client, 16, "foo/bar", "foo/baz", "quux");
+		var bucketName = readOnlyFixture(client, 16, "foo/bar", "foo/baz", "quux");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).prefix(prefix));
 
@@ -369,7 +369,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixAlt() {
 		String prefix = "ba";
 		var client = getClient();
-		var bucketName = createObjects(client, 17, "bar", "baz", "foo");
+		var bucketName = readOnlyFixture(client, 17, "bar", "baz", "foo");
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).prefix(prefix));
 
@@ -387,7 +387,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixEmpty() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 18, keyNames);
+		var bucketName = readOnlyFixture(client, 18, keyNames);
 
 		String prefix = "";
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).prefix(prefix));
@@ -405,7 +405,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixNone() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 19, keyNames);
+		var bucketName = readOnlyFixture(client, 19, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName));
 
@@ -422,7 +422,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixNotExist() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 20, keyNames);
+		var bucketName = readOnlyFixture(client, 20, keyNames);
 
 		String prefix = "d";
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).prefix(prefix));
@@ -440,7 +440,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixUnreadable() {
 		var keyNames = List.of("foo/bar", "foo/baz", "quux");
 		var client = getClient();
-		var bucketName = createObjects(client, 21, keyNames);
+		var bucketName = readOnlyFixture(client, 21, keyNames);
 
 		String prefix = "\n";
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).prefix(prefix));
@@ -458,7 +458,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixDelimiterBasic() {
 		var keyNames = List.of("foo/bar", "foo/baz/xyzzy", "quux/thud", "asdf");
 		var client = getClient();
-		var bucketName = createObjects(client, 22, keyNames);
+		var bucketName = readOnlyFixture(client, 22, keyNames);
 
 		String prefix = "foo/";
 		String delimiter = "/";
@@ -481,7 +481,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsPrefixDelimiterAlt() {
 		var keyNames = List.of("bar", "bazar", "cab", "foo");
 		var client = getClient();
-		var bucketName = createObjects(client, 23, keyNames);
+		var bucketName = readOnlyFixture(client, 23, keyNames);
 
 		String delimiter = "a";
 		String prefix = "ba";
@@ -504,7 +504,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListVersionsPrefixDelimiterPrefixNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 24, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 24, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client
 				.listObjectVersions(l -> l.bucket(bucketName).delimiter("d").prefix("/"));
@@ -520,7 +520,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListVersionsPrefixDelimiterDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 25, "b/a/c", "b/a/g", "b/a/r", "g");
+		var bucketName = readOnlyFixture(client, 25, "b/a/c", "b/a/g", "b/a/r", "g");
 
 		var response = client
 				.listObjectVersions(l -> l.bucket(bucketName).delimiter("z").prefix("b"));
@@ -537,7 +537,7 @@ public class ListObjectsVersions extends TestBase {
 	@Tag("PrefixAndDelimiter")
 	public void testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist() {
 		var client = getClient();
-		var bucketName = createObjects(client, 26, "b/a/r", "b/a/c", "b/a/g", "g");
+		var bucketName = readOnlyFixture(client, 26, "b/a/r", "b/a/c", "b/a/g", "g");
 
 		var response = client
 				.listObjectVersions(l -> l.bucket(bucketName).delimiter("z").prefix("y"));
@@ -554,7 +554,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMaxKeysOne() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 27, keyNames);
+		var bucketName = readOnlyFixture(client, 27, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).maxKeys(1));
 
@@ -576,7 +576,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMaxKeysZero() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 28, keyNames);
+		var bucketName = readOnlyFixture(client, 28, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).maxKeys(0));
 
@@ -590,7 +590,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMaxKeysNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 29, keyNames);
+		var bucketName = readOnlyFixture(client, 29, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName));
 
@@ -605,7 +605,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerNone() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 30, keyNames);
+		var bucketName = readOnlyFixture(client, 30, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).keyMarker(""));
 
@@ -617,7 +617,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerEmpty() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 31, keyNames);
+		var bucketName = readOnlyFixture(client, 31, keyNames);
 
 		var response = client.listObjectVersions(l -> l.bucket(bucketName).keyMarker(""));
 
@@ -632,7 +632,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerUnreadable() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 32, keyNames);
+		var bucketName = readOnlyFixture(client, 32, keyNames);
 
 		var marker = "\n";
 
@@ -649,7 +649,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerNotInList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 33, keyNames);
+		var bucketName = readOnlyFixture(client, 33, keyNames);
 
 		var marker = "blah";
 
@@ -666,7 +666,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testBucketListVersionsMarkerAfterList() {
 		var keyNames = List.of("bar", "baz", "foo", "quxx");
 		var client = getClient();
-		var bucketName = createObjects(client, 34, keyNames);
+		var bucketName = readOnlyFixture(client, 34, keyNames);
 
 		var marker = "zzz";
 
@@ -757,7 +757,7 @@ public class ListObjectsVersions extends TestBase {
 	public void testVersioningBucketListFilteringAll() {
 		var keyNames = List.of("test1/f1", "test2/f2", "test3", "test4/f3", "testF4");
 		var client = getClient();
-		var bucketName = createObjects(client, 39, keyNames);
+		var bucketName = readOnlyFixture(client, 39, keyNames);
 
 		var marker = "test3";
 		var delimiter = "/";
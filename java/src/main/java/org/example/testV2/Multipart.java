@@ -25,6 +25,7 @@ import org.apache.hc.core5.http.HttpStatus;
 import org.example.Data.MainData;
 import org.example.Data.MultipartUploadV2Data;
 import org.example.Utility.CheckSum;
+import org.example.Utility.MultiChecksum;
 import org.example.Utility.Utils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -570,7 +571,7 @@ public class Multipart extends TestBase {
 		var uploadData = setupMultipartUpload(client, bucketName, sourceKey, size);
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(sourceKey).uploadId(uploadData.uploadId)
 				.multipartUpload(p -> p.parts(uploadData.parts)));
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, sourceKey, body.toString(), MainData.MB);
 
 		var targetKey1 = "testMultipartCopyMany1";
@@ -578,7 +579,7 @@ public class Multipart extends TestBase {
 		var copyData1 = multipartUpload(client, bucketName, targetKey1, size, uploadData2);
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(targetKey1).uploadId(copyData1.uploadId)
 				.multipartUpload(p -> p.parts(copyData1.parts)));
-		body.append(copyData1.body);
+		body.append(copyData1.getBody());
 		checkContentUsingRange(bucketName, targetKey1, body.toString(), MainData.MB);
 
 		var targetKey2 = "testMultipartCopyMany2";
@@ -587,7 +588,7 @@ public class Multipart extends TestBase {
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(targetKey2).uploadId(copyData2.uploadId)
 				.multipartUpload(p -> p.parts(copyData2.parts)));
 
-		body.append(copyData2.body);
+		body.append(copyData2.getBody());
 		checkContentUsingRange(bucketName, targetKey2, body.toString(), MainData.MB);
 
 	}
@@ -919,14 +920,15 @@ public class Multipart extends TestBase {
 
 		for (var Part : parts) {
 			uploadData.appendBody(Part);
+			var sent = MultiChecksum.of(checksum);
 			var partResponse = client.uploadPart(u -> u
 					.bucket(bucketName)
 					.key(key)
 					.uploadId(uploadData.uploadId)
 					.checksumAlgorithm(checksum)
 					.partNumber(uploadData.nextPartNumber()),
-					RequestBody.fromString(Part));
-			checksumCompare(checksum, Part, partResponse);
+					sent.wrap(RequestBody.fromString(Part)));
+			checksumCompare(checksum, sent, partResponse);
 			uploadData.addPart(checksum, partResponse);
 		}
 
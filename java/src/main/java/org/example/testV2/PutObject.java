@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.hc.core5.http.HttpStatus;
 import org.example.Data.MainData;
 import org.example.Utility.CheckSum;
+import org.example.Utility.MultiChecksum;
 import org.example.Utility.Utils;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
@@ -602,15 +603,17 @@ public class PutObject extends TestBase {
 				var key = prefix + "/sync/" + checksum.name();
 				var asyncKey = prefix + "/async/" + checksum.name();
 
+				var sent = MultiChecksum.of(checksum);
 				var response = client.putObject(
 						p -> CheckSum.applyChecksum(p.bucket(bucketName).key(key), checksum, key),
-						RequestBody.fromString(key));
-				checksumCompare(checksum, key, response);
+						sent.wrap(RequestBody.fromString(key)));
+				checksumCompare(checksum, sent, response);
 
+				var asyncSent = MultiChecksum.of(checksum);
 				var asyncResponse = asyncClient.putObject(
 						p -> CheckSum.applyChecksum(p.bucket(bucketName).key(asyncKey), checksum, asyncKey),
-						AsyncRequestBody.fromString(asyncKey));
-				checksumCompare(checksum, asyncKey, asyncResponse.join());
+						asyncSent.wrap(AsyncRequestBody.fromString(asyncKey)));
+				checksumCompare(checksum, asyncSent, asyncResponse.join());
 			}
 		}
 	}
@@ -650,16 +653,18 @@ public class PutObject extends TestBase {
 				var asyncKey = prefix + "/async/" + checksum.name();
 
 				// 동기 클라이언트 체크섬 확인
+				var sent = MultiChecksum.of(checksum);
 				var response = client.putObject(
 						p -> CheckSum.applyChecksum(p.bucket(bucketName).key(key), checksum, key),
-						RequestBody.fromString(key));
-				checksumCompare(checksum, key, response);
+						sent.wrap(RequestBody.fromString(key)));
+				checksumCompare(checksum, sent, response);
 
 				// 비동기 클라이언트 체크섬 확인
+				var asyncSent = MultiChecksum.of(checksum);
 				var asyncResponse = asyncClient.putObject(
 						p -> CheckSum.applyChecksum(p.bucket(bucketName).key(asyncKey), checksum, asyncKey),
-						AsyncRequestBody.fromString(asyncKey));
-				checksumCompare(checksum, asyncKey, asyncResponse.join());
+						asyncSent.wrap(AsyncRequestBody.fromString(asyncKey)));
+				checksumCompare(checksum, asyncSent, asyncResponse.join());
 			}
 		}
 	}
@@ -675,11 +680,12 @@ public class PutObject extends TestBase {
 			var key = "precomputed/" + checksum.name();
 			var value = CheckSum.calculateChecksum(checksum, key);
 
+			var sent = MultiChecksum.of(checksum);
 			var response = client.putObject(p -> {
 				p.bucket(bucketName).key(key);
 				CheckSum.setChecksum(p, checksum, value);
-			}, RequestBody.fromString(key));
-			checksumCompare(checksum, key, response);
+			}, sent.wrap(RequestBody.fromString(key)));
+			checksumCompare(checksum, sent, response);
 		}
 	}
 
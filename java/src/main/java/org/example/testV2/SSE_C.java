@@ -448,7 +448,7 @@ public class SSE_C extends TestBase { // NOSONAR
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(sourceKey).uploadId(uploadData.uploadId)
 				.multipartUpload(p -> p.parts(uploadData.parts)));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, sourceKey, body.toString(), MainData.MB);
 
 		var targetKey1 = "my_multipart1";
@@ -457,7 +457,7 @@ public class SSE_C extends TestBase { // NOSONAR
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(targetKey1).uploadId(copyData1.uploadId)
 				.multipartUpload(p -> p.parts(copyData1.parts)));
 
-		body.append(copyData1.body);
+		body.append(copyData1.getBody());
 		checkContentUsingRange(bucketName, targetKey1, body.toString(), MainData.MB);
 
 		var targetKey2 = "my_multipart2";
@@ -466,7 +466,7 @@ public class SSE_C extends TestBase { // NOSONAR
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(targetKey2).uploadId(copyData2.uploadId)
 				.multipartUpload(p -> p.parts(copyData2.parts)));
 
-		body.append(copyData2.body);
+		body.append(copyData2.getBody());
 		checkContentUsingRange(bucketName, targetKey2, body.toString(), MainData.MB);
 	}
 
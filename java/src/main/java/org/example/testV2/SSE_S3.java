@@ -410,7 +410,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		assertEquals(metadata, getResponse.metadata());
 		assertEquals(ServerSideEncryption.AES256.toString(), getResponse.serverSideEncryptionAsString());
 
-		checkContentUsingRange(bucketName, sourceKey, uploadData.getBody(), MainData.MB);
+		checkContentUsingRange(bucketName, sourceKey, uploadData, MainData.MB);
 
 		var targetKey = "multipartEncCopy";
 		var copyData = multipartCopy(client, bucketName, sourceKey, bucketName, targetKey, size, metadata);
@@ -433,7 +433,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(sourceKey).uploadId(uploadData.uploadId)
 				.multipartUpload(m -> m.parts(uploadData.parts)));
 
-		body.append(uploadData.body);
+		body.append(uploadData.getBody());
 		checkContentUsingRange(bucketName, sourceKey, body.toString(), MainData.MB);
 
 		var targetKey1 = "my_multipart1";
@@ -442,7 +442,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(targetKey1).uploadId(copyData1.uploadId)
 				.multipartUpload(m -> m.parts(copyData1.parts)));
 
-		body.append(uploadData2.body);
+		body.append(uploadData2.getBody());
 
 		checkContentUsingRange(bucketName, targetKey1, body.toString(), MainData.MB);
 
@@ -452,7 +452,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		client.completeMultipartUpload(c -> c.bucket(bucketName).key(targetKey2).uploadId(copyData2.uploadId)
 				.multipartUpload(m -> m.parts(copyData2.parts)));
 
-		body.append(uploadData3.body);
+		body.append(uploadData3.getBody());
 
 		checkContentUsingRange(bucketName, targetKey2, body.toString(), MainData.MB);
 	}
@@ -495,7 +495,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		assertEquals(data.length(), body.length());
 		assertTrue(data.equals(body), MainData.NOT_MATCHED);
 
-		checkContentUsingRange(bucketName, multiKey, uploadData.body.toString(), MainData.MB);
+		checkContentUsingRange(bucketName, multiKey, uploadData, MainData.MB);
 
 		var putKey2 = "put2";
 		var copyKey2 = "copy2";
@@ -526,7 +526,7 @@ public class SSE_S3 extends TestBase { // NOSONAR
 		assertEquals(ServerSideEncryption.AES256.toString(),
 				getResponse.response().serverSideEncryptionAsString());
 
-		checkContentUsingRange(bucketName, multiKey2, uploadData2.body.toString(), MainData.MB);
+		checkContentUsingRange(bucketName, multiKey2, uploadData2, MainData.MB);
 	}
 
 	@Test
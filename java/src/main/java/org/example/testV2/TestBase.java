@@ -17,7 +17,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -41,8 +40,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.http.HttpResponse;
@@ -60,10 +61,27 @@ import org.example.Data.BackendHeaders;
 import org.example.Data.MainData;
 import org.example.Data.MultipartUploadV2Data;
 import org.example.Data.ObjectDataV2;
+import org.example.Data.PartDescriptor;
 import org.example.Data.RangeSet;
 import org.example.Data.UserData;
+import org.example.Utility.BucketReaper;
 import org.example.Utility.CheckSum;
+import org.example.Utility.ClientRegistry;
+import org.example.Utility.ClientRegistry.ClientKey;
+import org.example.Utility.ClientRegistry.PoolMetricPublisher;
+import org.example.Utility.ConnectionCounter;
+import org.example.Utility.ContentVerifier;
+import org.example.Utility.ContentVerifier.Expected;
+import org.example.Utility.FixtureCache;
+import org.example.Utility.MultiChecksum;
 import org.example.Utility.NetUtils;
+import org.example.Utility.ParallelCrc;
+import org.example.Utility.PartCopier;
+import org.example.Utility.PartUploader;
+import org.example.Utility.RandomPayload;
+import org.example.Utility.RangeVerifier;
+import org.example.Utility.RequestMetrics;
+import org.example.Utility.RequestMetricsInterceptor;
 import org.example.Utility.Utils;
 import org.example.auth.AWS4SignerBase;
 import org.example.s3tests.S3Config;
@@ -119,7 +137,6 @@ import software.amazon.awssdk.services.s3.model.Grant;
 import software.amazon.awssdk.services.s3.model.Grantee;
 import software.amazon.awssdk.services.s3.model.LifecycleRule;
 import software.amazon.awssdk.services.s3.model.ListBucketsResponse;
-import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.MetadataDirective;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
@@ -162,7 +179,7 @@ public class TestBase {
 	static final Random rand = new Random();// NOSONAR
 	/************************************************************************************************************/
 
-	private final ArrayList<String> buckets = new ArrayList<>();
+	private final Set<String> buckets = ConcurrentHashMap.newKeySet();
 	protected final S3Config config;
 
 	protected TestBase() {
@@ -175,10 +192,34 @@ public class TestBase {
 
 	public S3Client createClient(boolean isSecure, UserData user, boolean useChunkEncoding,
 			RequestChecksumCalculation request, ResponseChecksumValidation response) {
-		String address = "";
+		var key = ClientKey.of("v2", createAddress(isSecure), user, useChunkEncoding, request, response);
+		return ClientRegistry.get(key,
+				metrics -> buildClient(isSecure, user, useChunkEncoding, request, response, metrics),
+				S3Client::close);
+	}
+
+	String createAddress(boolean isSecure) {
+		if (isSecure) {
+			if (config.url.isEmpty())
+				return NetUtils.createRegion2Https(config.regionName);
+			return NetUtils.createURLToHTTPS(config.url, config.sslPort);
+		}
+		if (config.url.isEmpty())
+			return NetUtils.createRegion2Http(config.regionName);
+		return NetUtils.createURLToHTTP(config.url, config.port);
+	}
+
+	S3Client buildClient(boolean isSecure, UserData user, boolean useChunkEncoding,
+			RequestChecksumCalculation request, ResponseChecksumValidation response, PoolMetricPublisher metrics) {
+		var address = createAddress(isSecure);
 		var httpClient = ApacheHttpClient.builder()
-				.connectionTimeout(Duration.ofSeconds(300))
-				.socketTimeout(Duration.ofSeconds(300));
+				.connectionTimeout(ClientRegistry.TIMEOUT)
+				.socketTimeout(ClientRegistry.TIMEOUT)
+				.maxConnections(ClientRegistry.MAX_CONNECTIONS)
+				.connectionMaxIdleTime(ClientRegistry.MAX_IDLE_TIME)
+				.tcpKeepAlive(true);
+		if (RequestMetrics.ENABLED)
+			httpClient.dnsResolver(new ConnectionCounter(isSecure));
 		if (isSecure) {
 			try {
 				SSLContextBuilder sslContextBuilder = SSLContextBuilder.create();
@@ -194,15 +235,6 @@ public class TestBase {
 				e.printStackTrace();// NOSONAR
 				return null;
 			}
-			if (config.url.isEmpty())
-				address = NetUtils.createRegion2Https(config.regionName);
-			else
-				address = NetUtils.createURLToHTTPS(config.url, config.sslPort);
-		} else {
-			if (config.url.isEmpty())
-				address = NetUtils.createRegion2Http(config.regionName);
-			else
-				address = NetUtils.createURLToHTTP(config.url, config.port);
 		}
 		AwsCredentialsProvider awsCred = null;
 		if (user == null)
@@ -225,7 +257,8 @@ public class TestBase {
 				.endpointOverride(URI.create(address));
 
 		ClientOverrideConfiguration.Builder configBuilder = ClientOverrideConfiguration.builder()
-				.retryStrategy(r -> r.maxAttempts(1));
+				.retryStrategy(r -> r.maxAttempts(1))
+				.addMetricPublisher(metrics);
 
 		// Add X-Auth-Token header if configured
 		if (user != null && StringUtils.isNotBlank(user.xAuthToken)) {
@@ -240,6 +273,9 @@ public class TestBase {
 			};
 			configBuilder.addExecutionInterceptor(authTokenInterceptor);
 		}
+		// 단계별 시간을 재므로 마지막에 추가한다
+		if (RequestMetrics.ENABLED)
+			configBuilder.addExecutionInterceptor(new RequestMetricsInterceptor());
 
 		clientBuilder.overrideConfiguration(configBuilder.build());
 		return clientBuilder.build();
@@ -247,21 +283,32 @@ public class TestBase {
 
 	public S3Client getOldClient() {
 		var url = NetUtils.createURLToHTTP(config.url, config.oldPort);
-		var credential = StaticCredentialsProvider.create(AwsBasicCredentials.create(config.mainUser.accessKey,
-				config.mainUser.secretKey));
-		var httpClient = ApacheHttpClient.builder()
-				.connectionTimeout(Duration.ofSeconds(300))
-				.socketTimeout(Duration.ofSeconds(300));
-		var s3Config = S3Configuration.builder().pathStyleAccessEnabled(true).build();
-		return S3Client.builder()
-				.region(Region.AP_NORTHEAST_2)
-				.credentialsProvider(credential).httpClientBuilder(httpClient)
-				.serviceConfiguration(s3Config)
-				.endpointOverride(URI.create(url))
-				.overrideConfiguration(ClientOverrideConfiguration.builder()
-						.retryStrategy(r -> r.maxAttempts(1))
-						.build())
-				.build();
+		return ClientRegistry.get(ClientKey.of("v2-old", url, config.mainUser), metrics -> {
+			var credential = StaticCredentialsProvider.create(AwsBasicCredentials.create(config.mainUser.accessKey,
+					config.mainUser.secretKey));
+			var httpClient = ApacheHttpClient.builder()
+					.connectionTimeout(ClientRegistry.TIMEOUT)
+					.socketTimeout(ClientRegistry.TIMEOUT)
+					.maxConnections(ClientRegistry.MAX_CONNECTIONS)
+					.connectionMaxIdleTime(ClientRegistry.MAX_IDLE_TIME)
+					.tcpKeepAlive(true);
+			if (RequestMetrics.ENABLED)
+				httpClient.dnsResolver(new ConnectionCounter(false));
+			var s3Config = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+			return S3Client.builder()
+					.region(Region.AP_NORTHEAST_2)
+					.credentialsProvider(credential).httpClientBuilder(httpClient)
+					.serviceConfiguration(s3Config)
+					.endpointOverride(URI.create(url))
+					.overrideConfiguration(ClientOverrideConfiguration.builder()
+							.retryStrategy(r -> r.maxAttempts(1))
+							.addMetricPublisher(metrics)
+							.executionInterceptors(RequestMetrics.ENABLED
+									? List.of(new RequestMetricsInterceptor())
+									: List.of())
+							.build())
+					.build();
+		}, S3Client::close);
 	}
 
 	public S3Client getClient() {
@@ -296,10 +343,21 @@ public class TestBase {
 
 	private S3AsyncClient createAsyncClient(boolean isSecure, UserData user, boolean useChunkEncoding,
 			RequestChecksumCalculation request, ResponseChecksumValidation response) {
+		var key = ClientKey.of("v2-async", createAddress(isSecure), user, useChunkEncoding, request, response);
+		return ClientRegistry.get(key,
+				metrics -> buildAsyncClient(isSecure, user, useChunkEncoding, request, response, metrics),
+				S3AsyncClient::close);
+	}
+
+	private S3AsyncClient buildAsyncClient(boolean isSecure, UserData user, boolean useChunkEncoding,
+			RequestChecksumCalculation request, ResponseChecksumValidation response, PoolMetricPublisher metrics) {
 		String address = "";
-		var httpClient = NettyNioAsyncHttpClient.builder().writeTimeout(Duration.ofSeconds(300))
-				.readTimeout(Duration.ofSeconds(300))
-				.connectionTimeout(Duration.ofSeconds(300));
+		var httpClient = NettyNioAsyncHttpClient.builder().writeTimeout(ClientRegistry.TIMEOUT)
+				.readTimeout(ClientRegistry.TIMEOUT)
+				.connectionTimeout(ClientRegistry.TIMEOUT)
+				.maxConcurrency(ClientRegistry.MAX_CONNECTIONS)
+				.connectionMaxIdleTime(ClientRegistry.MAX_IDLE_TIME)
+				.tcpKeepAlive(true);
 
 		if (isSecure) {
 			if (config.url.isEmpty())
@@ -339,7 +397,8 @@ public class TestBase {
 				.endpointOverride(URI.create(address));
 
 		ClientOverrideConfiguration.Builder configBuilder = ClientOverrideConfiguration.builder()
-				.retryStrategy(r -> r.maxAttempts(1));
+				.retryStrategy(r -> r.maxAttempts(1))
+				.addMetricPublisher(metrics);
 
 		// Add X-Auth-Token header if configured
 		if (user != null && StringUtils.isNotBlank(user.xAuthToken)) {
@@ -355,6 +414,9 @@ public class TestBase {
 			};
 			configBuilder.addExecutionInterceptor(authTokenInterceptor);
 		}
+		// 단계별 시간을 재므로 마지막에 추가한다
+		if (RequestMetrics.ENABLED)
+			configBuilder.addExecutionInterceptor(new RequestMetricsInterceptor());
 
 		clientBuilder.overrideConfiguration(configBuilder.build());
 		return clientBuilder.build();
@@ -397,20 +459,12 @@ public class TestBase {
 	}
 
 	public S3Client getBackendClient() {
-		String address = "";
-
-		if (config.isSecure) {
-			if (config.url.isEmpty())
-				address = NetUtils.createRegion2Https(config.regionName);
-			else
-				address = NetUtils.createURLToHTTPS(config.url, config.sslPort);
-		} else {
-			if (config.url.isEmpty())
-				address = NetUtils.createRegion2Http(config.regionName);
-			else
-				address = NetUtils.createURLToHTTP(config.url, config.port);
-		}
+		var address = createAddress(config.isSecure);
+		return ClientRegistry.get(ClientKey.of("v2-backend", address, config.backendUser),
+				metrics -> buildBackendClient(address, metrics), S3Client::close);
+	}
 
+	S3Client buildBackendClient(String address, PoolMetricPublisher metrics) {
 		// 공통 헤더 인터셉터
 		ClientOverrideConfiguration.Builder configBuilder = ClientOverrideConfiguration.builder();
 
@@ -428,7 +482,10 @@ public class TestBase {
 			}
 		};
 		configBuilder.addExecutionInterceptor(headerInterceptor);
+		if (RequestMetrics.ENABLED)
+			configBuilder.addExecutionInterceptor(new RequestMetricsInterceptor());
 		configBuilder.retryStrategy(r -> r.maxAttempts(1));
+		configBuilder.addMetricPublisher(metrics);
 
 		var awsCred = StaticCredentialsProvider.create(
 				AwsBasicCredentials.create(config.backendUser.accessKey, config.backendUser.secretKey));
@@ -552,6 +609,32 @@ public class TestBase {
 		return createObjects(client, testId, keys);
 	}
 
+	/**
+	 * 조회만 하는 테스트용 버킷. 같은 키 목록이면 실행 중 한 번만 만들고 v1/v2 테스트가 함께 쓰며,
+	 * 실행이 끝날 때 정리한다. 반환된 버킷의 오브젝트나 설정은 바꾸면 안 된다.
+	 * <p>
+	 * 공유 버킷을 쓰지 않도록 설정하면 {@link #createObjects(S3Client, int, List)}와 같다.
+	 *
+	 * @see FixtureCache
+	 */
+	public String readOnlyFixture(S3Client client, int testId, List<String> keys) {
+		var cache = FixtureCache.getInstance();
+		if (!cache.isShared())
+			return createObjects(client, testId, keys);
+		return cache.get(config.bucketPrefix, keys, bucketName -> {
+			client.createBucket(c -> c.bucket(bucketName));
+			createObjects(client, bucketName, keys);
+		}, new BucketCleaner(client)::clear);
+	}
+
+	public String readOnlyFixture(S3Client client, int testId, String... keys) {
+		return readOnlyFixture(client, testId, List.of(keys));
+	}
+
+	public String readOnlyFixture(int testId, List<String> keys) {
+		return readOnlyFixture(getClient(), testId, keys);
+	}
+
 	public static Grantee createPublicGrantee() {
 		return Grantee.builder().type(Type.GROUP).uri(MainData.ALL_USERS).build();
 	}
@@ -729,8 +812,7 @@ public class TestBase {
 		if (size <= 0)
 			size = 7 * MainData.MB;
 
-		var data = Utils.randomTextToLong(size);
-		client.putObject(p -> p.bucket(bucketName).key(key), RequestBody.fromString(data));
+		client.putObject(p -> p.bucket(bucketName).key(key), RandomPayload.create(size).toRequestBody());
 	}
 
 	public String createKeyWithRandomContent(S3Client client, int testId, String key, int size) {
@@ -738,8 +820,7 @@ public class TestBase {
 		if (size < 1)
 			size = 7 * MainData.MB;
 
-		var data = Utils.randomTextToLong(size);
-		client.putObject(p -> p.bucket(bucketName).key(key), RequestBody.fromString(data));
+		client.putObject(p -> p.bucket(bucketName).key(key), RandomPayload.create(size).toRequestBody());
 
 		return bucketName;
 	}
@@ -939,12 +1020,7 @@ public class TestBase {
 		var body = "";
 		if (data != null) {
 			try {
-				ByteArrayOutputStream result = new ByteArrayOutputStream();
-				byte[] buffer = new byte[1024];
-				for (int length; (length = data.read(buffer)) != -1;) {
-					result.write(buffer, 0, length);
-				}
-				return result.toString(StandardCharsets.UTF_8);
+				return new String(data.readAllBytes(), StandardCharsets.UTF_8);
 			} catch (IOException e) {
 				e.printStackTrace();// NOSONAR
 			}
@@ -952,6 +1028,19 @@ public class TestBase {
 		return body;
 	}
 
+	/**
+	 * 응답 본문을 문자열로 만들지 않고 기대값과 스트림으로 비교한 뒤 응답을 닫는다.
+	 * 다르면 처음으로 다른 위치를 실패 메시지로 보고한다.
+	 */
+	public static void checkBody(ResponseInputStream<GetObjectResponse> response, Expected expected,
+			String message) {
+		try (response) {
+			ContentVerifier.assertMatches(response, expected, message);
+		} catch (IOException e) {
+			fail(message + " : " + e.getMessage(), e);
+		}
+	}
+
 	public static ObjectDataV2 getObjectToKey(String key, List<ObjectDataV2> keyList) {
 		for (var Object : keyList) {
 			if (Object.key.equals(key))
@@ -1021,8 +1110,7 @@ public class TestBase {
 
 	public static void succeedGetObject(S3Client client, String bucketName, String key, String content) {
 		var response = client.getObject(g -> g.bucket(bucketName).key(key));
-		var body = getBody(response);
-		assertTrue(content.equals(body), MainData.NOT_MATCHED);
+		checkBody(response, Expected.of(content), bucketName + "/" + key);
 	}
 
 	public static void failedGetObject(S3Client client, String bucketName, String key, int statusCode,
@@ -1117,10 +1205,9 @@ public class TestBase {
 	public void checkObjContent(S3Client client, String bucketName, String key, String versionId, String content) {
 		var response = client
 				.getObject(g -> g.bucket(bucketName).key(key).versionId(versionId));
-		if (content != null) {
-			var body = getBody(response);
-			assertTrue(content.equals(body), MainData.NOT_MATCHED);
-		} else
+		if (content != null)
+			checkBody(response, Expected.of(content), bucketName + "/" + key + "?versionId=" + versionId);
+		else
 			assertNull(response);
 	}
 
@@ -1129,13 +1216,16 @@ public class TestBase {
 		var response = client.listObjectVersions(l -> l.bucket(bucketName));
 		var versions = new ArrayList<>(response.versions());
 
+		var indexes = new ArrayList<Integer>();
 		var index = 0;
 		for (var version : versions.reversed()) {
 			assertEquals(version.versionId(), versionIds.get(index));
 			if (StringUtils.isNotBlank(key))
 				assertEquals(key, version.key());
-			checkObjContent(client, bucketName, key, version.versionId(), contents.get(index++));
+			indexes.add(index++);
 		}
+		RangeVerifier.run(indexes,
+				i -> checkObjContent(client, bucketName, key, versionIds.get(i), contents.get(i)));
 	}
 
 	public String validateListObject(String bucketName, String prefix, String delimiter, String marker, int maxKeys,
@@ -1210,18 +1300,17 @@ public class TestBase {
 				.key(key));
 		uploadData.uploadId = createResponse.uploadId();
 
-		var parts = Utils.generateRandomString(size, partSize);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-			var partResponse = client.uploadPart(u -> u
-					.bucket(bucketName)
-					.key(key)
-					.uploadId(uploadData.uploadId)
-					.partNumber(uploadData.nextPartNumber()),
-					RequestBody.fromString(Part));
-			uploadData.addPart(partResponse.eTag());
-		}
+		var base = uploadData.nextPartNumber();
+		var parts = PartUploader.split(size, partSize).stream().map(uploadData::appendPart).toList();
+		var eTags = PartUploader.upload(parts.stream().map(PartDescriptor::length).toList(),
+				i -> client.uploadPart(u -> u
+						.bucket(bucketName)
+						.key(key)
+						.uploadId(uploadData.uploadId)
+						.partNumber(base + i),
+						parts.get(i).payload().toRequestBody()).eTag());
+		for (int i = 0; i < eTags.size(); i++)
+			uploadData.addPart(base + i, eTags.get(i));
 
 		client.completeMultipartUpload(c -> c
 				.bucket(bucketName)
@@ -1245,18 +1334,23 @@ public class TestBase {
 		uploadData.uploadId = createResponse.uploadId();
 
 		var parts = Utils.generateRandomString(size, partSize);
+		parts.forEach(uploadData::appendBody);
 
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
+		var base = uploadData.nextPartNumber();
+		var responses = PartUploader.upload(parts.stream().map(part -> (long) part.length()).toList(), i -> {
+			var part = parts.get(i);
+			var sent = MultiChecksum.of(checksum);
 			var partResponse = client.uploadPart(u -> CheckSum.applyChecksum(u
 					.bucket(bucketName)
 					.key(key)
 					.uploadId(uploadData.uploadId)
-					.partNumber(uploadData.nextPartNumber()), checksum, Part),
-					RequestBody.fromString(Part));
-			checksumCompare(checksum, Part, partResponse);
-			uploadData.addPart(checksum, partResponse);
-		}
+					.partNumber(base + i), checksum, part),
+					sent.wrap(RequestBody.fromString(part)));
+			checksumCompare(checksum, sent, partResponse);
+			return partResponse;
+		});
+		for (int i = 0; i < responses.size(); i++)
+			uploadData.addPart(base + i, checksum, responses.get(i));
 
 		var completeResponse = client.completeMultipartUpload(c -> c
 				.bucket(bucketName)
@@ -1283,18 +1377,25 @@ public class TestBase {
 		uploadData.uploadId = createResponse.uploadId();
 
 		var parts = Utils.generateRandomString(size, partSize);
+		parts.forEach(uploadData::appendBody);
 
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-			var partResponse = client.uploadPart(u -> CheckSum.applyChecksum(u
+		var base = uploadData.nextPartNumber();
+		var responses = PartUploader.uploadAsync(parts.stream().map(part -> (long) part.length()).toList(), i -> {
+			var part = parts.get(i);
+			var sent = MultiChecksum.of(checksum);
+			return client.uploadPart(u -> CheckSum.applyChecksum(u
 					.bucket(bucketName)
 					.key(key)
 					.uploadId(uploadData.uploadId)
-					.partNumber(uploadData.nextPartNumber()), checksum, Part),
-					AsyncRequestBody.fromString(Part)).join();
-			checksumCompare(checksum, Part, partResponse);
-			uploadData.addPart(checksum, partResponse);
-		}
+					.partNumber(base + i), checksum, part),
+					sent.wrap(AsyncRequestBody.fromString(part)))
+					.thenApply(partResponse -> {
+						checksumCompare(checksum, sent, partResponse);
+						return partResponse;
+					});
+		});
+		for (int i = 0; i < responses.size(); i++)
+			uploadData.addPart(base + i, checksum, responses.get(i));
 
 		var completeResponse = client.completeMultipartUpload(c -> c
 				.bucket(bucketName)
@@ -1310,7 +1411,7 @@ public class TestBase {
 	public void multipartCopy(S3Client client, String sourceBucketName, String sourceKey, String targetBucketName,
 			String targetKey, ChecksumAlgorithm checksum) {
 		var size = 10 * MainData.MB;
-		var partSize = 5 * MainData.MB;
+		var partSize = PartCopier.getPartSize(0);
 		var uploadData = new MultipartUploadV2Data();
 
 		var createResponse = client.createMultipartUpload(c -> c
@@ -1319,19 +1420,14 @@ public class TestBase {
 				.checksumAlgorithm(checksum));
 		uploadData.uploadId = createResponse.uploadId();
 
-		long index = 0;
-		while (index < size) {
-			var partNumber = uploadData.nextPartNumber();
-			var start = index;
-			var end = Math.min(index + partSize, size) - 1;
-
-			var partResponse = client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
-					.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
-					.uploadId(uploadData.uploadId).partNumber(partNumber)
-					.copySourceRange("bytes=" + start + "-" + end));
-			uploadData.addPart(checksum, partResponse);
-			index = end + 1;
-		}
+		var parts = PartCopier.split(size, partSize, uploadData.nextPartNumber());
+		var result = PartCopier.copy(targetBucketName + "/" + targetKey, parts,
+				part -> client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
+						.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
+						.uploadId(uploadData.uploadId).partNumber(part.partNumber())
+						.copySourceRange(part.toRange())));
+		for (int i = 0; i < parts.size(); i++)
+			uploadData.addPart(parts.get(i).partNumber(), checksum, result.responses().get(i));
 
 		var completeResponse = client.completeMultipartUpload(c -> c
 				.bucket(targetBucketName)
@@ -1344,7 +1440,7 @@ public class TestBase {
 	public void multipartCopy(S3AsyncClient client, String sourceBucketName, String sourceKey, String targetBucketName,
 			String targetKey, ChecksumAlgorithm checksum) {
 		var size = 10 * MainData.MB;
-		var partSize = 5 * MainData.MB;
+		var partSize = PartCopier.getPartSize(0);
 		var uploadData = new MultipartUploadV2Data();
 
 		var createResponse = client.createMultipartUpload(c -> c
@@ -1353,19 +1449,14 @@ public class TestBase {
 				.checksumAlgorithm(checksum)).join();
 		uploadData.uploadId = createResponse.uploadId();
 
-		long index = 0;
-		while (index < size) {
-			var partNumber = uploadData.nextPartNumber();
-			var start = index;
-			var end = Math.min(index + partSize, size) - 1;
-
-			var partResponse = client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
-					.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
-					.uploadId(uploadData.uploadId).partNumber(partNumber)
-					.copySourceRange("bytes=" + start + "-" + end)).join();
-			uploadData.addPart(checksum, partResponse);
-			index = end + 1;
-		}
+		var parts = PartCopier.split(size, partSize, uploadData.nextPartNumber());
+		var result = PartCopier.copyAsync(targetBucketName + "/" + targetKey, parts,
+				part -> client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
+						.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
+						.uploadId(uploadData.uploadId).partNumber(part.partNumber())
+						.copySourceRange(part.toRange())));
+		for (int i = 0; i < parts.size(); i++)
+			uploadData.addPart(parts.get(i).partNumber(), checksum, result.responses().get(i));
 
 		var completeResponse = client.completeMultipartUpload(c -> c
 				.bucket(targetBucketName)
@@ -1377,19 +1468,20 @@ public class TestBase {
 
 	static MultipartUploadV2Data multipartUpload(S3Client client, String bucketName, String key,
 			int size, int partSize, MultipartUploadV2Data uploadData) {
-		var parts = Utils.generateRandomString(size, partSize);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-			var partResponse = client.uploadPart(u -> u
+		var base = uploadData.nextPartNumber();
+		var parts = PartUploader.split(size, partSize).stream().map(uploadData::appendPart).toList();
+		var eTags = PartUploader.upload(parts.stream().map(PartDescriptor::length).toList(), i -> {
+			var part = parts.get(i);
+			return client.uploadPart(u -> u
 					.bucket(bucketName)
 					.key(key)
 					.uploadId(uploadData.uploadId)
-					.partNumber(uploadData.nextPartNumber())
-					.contentMD5(Utils.getMD5(Part)),
-					RequestBody.fromString(Part));
-			uploadData.addPart(partResponse.eTag());
-		}
+					.partNumber(base + i)
+					.contentMD5(part.md5()),
+					part.payload().toRequestBody()).eTag();
+		});
+		for (int i = 0; i < eTags.size(); i++)
+			uploadData.addPart(base + i, eTags.get(i));
 
 		return uploadData;
 	}
@@ -1442,22 +1534,20 @@ public class TestBase {
 
 		uploadData.uploadId = createResponse.uploadId();
 
-		var parts = Utils.generateRandomString(size, partSize);
-
-		for (var Part : parts) {
-			uploadData.appendBody(Part);
-
-			var response = client.uploadPart(u -> u
-					.bucket(bucketName)
-					.key(key)
-					.uploadId(uploadData.uploadId)
-					.partNumber(uploadData.nextPartNumber())
-					.sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
-					.sseCustomerKey(SSE_KEY)
-					.sseCustomerKeyMD5(SSE_KEY_MD5),
-					RequestBody.fromString(Part));
-			uploadData.addPart(response.eTag());
-		}
+		var base = uploadData.nextPartNumber();
+		var parts = PartUploader.split(size, partSize).stream().map(uploadData::appendPart).toList();
+		var eTags = PartUploader.upload(parts.stream().map(PartDescriptor::length).toList(),
+				i -> client.uploadPart(u -> u
+						.bucket(bucketName)
+						.key(key)
+						.uploadId(uploadData.uploadId)
+						.partNumber(base + i)
+						.sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
+						.sseCustomerKey(SSE_KEY)
+						.sseCustomerKeyMD5(SSE_KEY_MD5),
+						parts.get(i).payload().toRequestBody()).eTag());
+		for (int i = 0; i < eTags.size(); i++)
+			uploadData.addPart(base + i, eTags.get(i));
 		return uploadData;
 	}
 
@@ -1641,29 +1731,19 @@ public class TestBase {
 	public MultipartUploadV2Data multipartCopy(String sourceBucketName, String sourceKey, String targetBucketName,
 			String targetKey, int size, S3Client client, int partSize, String versionId) {
 		var data = new MultipartUploadV2Data();
-		if (client == null)
-			client = getClient();
-		if (partSize <= 0)
-			partSize = 5 * MainData.MB;
+		var s3 = client == null ? getClient() : client;
 
-		var response = client.createMultipartUpload(c -> c.bucket(targetBucketName).key(targetKey));
+		var response = s3.createMultipartUpload(c -> c.bucket(targetBucketName).key(targetKey));
 		data.uploadId = response.uploadId();
 
-		int count = 1;
-		long index = 0;
-		while (index < size) {
-			var partNumber = count;
-			var start = index;
-			var end = Math.min(index + partSize, size) - 1;
-
-			var partResponse = client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
-					.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
-					.uploadId(data.uploadId).partNumber(partNumber).copySourceRange("bytes=" + start + "-" + end)
-					.sourceVersionId(versionId));
-			data.addPart(count++, partResponse.copyPartResult().eTag());
-
-			index = end + 1;
-		}
+		var parts = PartCopier.split(size, PartCopier.getPartSize(partSize), 1);
+		var result = PartCopier.copy(targetBucketName + "/" + targetKey, parts,
+				part -> s3.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
+						.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
+						.uploadId(data.uploadId).partNumber(part.partNumber()).copySourceRange(part.toRange())
+						.sourceVersionId(versionId)));
+		for (int i = 0; i < parts.size(); i++)
+			data.addPart(parts.get(i).partNumber(), result.responses().get(i).copyPartResult().eTag());
 
 		return data;
 	}
@@ -1671,7 +1751,7 @@ public class TestBase {
 	public MultipartUploadV2Data multipartCopy(S3Client client, String sourceBucketName, String sourceKey,
 			String targetBucketName, String targetKey, int size, Map<String, String> metadata) {
 		var data = new MultipartUploadV2Data();
-		var partSize = 5 * MainData.MB;
+		var partSize = PartCopier.getPartSize(0);
 		var request = CreateMultipartUploadRequest.builder().bucket(targetBucketName).key(targetKey);
 		if (metadata != null)
 			request.metadata(metadata);
@@ -1680,19 +1760,13 @@ public class TestBase {
 
 		data.uploadId = response.uploadId();
 
-		var count = 1;
-		var index = 0L;
-		while (index < size) {
-			var partNumber = count;
-			var start = index;
-			long end = Math.min(start + partSize, size) - 1;
-
-			var partResponse = client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
-					.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
-					.uploadId(data.uploadId).partNumber(partNumber).copySourceRange("bytes=" + start + "-" + end));
-			data.addPart(count++, partResponse.copyPartResult().eTag());
-			index = end + 1;
-		}
+		var parts = PartCopier.split(size, partSize, 1);
+		var result = PartCopier.copy(targetBucketName + "/" + targetKey, parts,
+				part -> client.uploadPartCopy(c -> c.sourceBucket(sourceBucketName)
+						.sourceKey(sourceKey).destinationBucket(targetBucketName).destinationKey(targetKey)
+						.uploadId(data.uploadId).partNumber(part.partNumber()).copySourceRange(part.toRange())));
+		for (int i = 0; i < parts.size(); i++)
+			data.addPart(parts.get(i).partNumber(), result.responses().get(i).copyPartResult().eTag());
 
 		return data;
 	}
@@ -1700,7 +1774,7 @@ public class TestBase {
 	public MultipartUploadV2Data multipartCopySseC(S3Client client, String sourceBucketName, String sourceKey,
 			String targetBucketName, String targetKey, int size) {
 		var data = new MultipartUploadV2Data();
-		var partSize = 5 * MainData.MB;
+		var partSize = PartCopier.getPartSize(0);
 
 		var request = CreateMultipartUploadRequest.builder().bucket(targetBucketName).key(targetKey)
 				.sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM).sseCustomerKey(SSE_KEY).sseCustomerKeyMD5(SSE_KEY_MD5);
@@ -1708,31 +1782,24 @@ public class TestBase {
 		var response = client.createMultipartUpload(request.build());
 		data.uploadId = response.uploadId();
 
-		int count = 1;
-		long index = 0;
-		while (index < size) {
-			var partNumber = count;
-			var start = index;
-			long end = Math.min(start + partSize, size) - 1;
-
-			var partResponse = client.uploadPartCopy(c -> c
-					.sourceBucket(sourceBucketName)
-					.sourceKey(sourceKey)
-					.destinationBucket(targetBucketName)
-					.destinationKey(targetKey)
-					.copySourceSSECustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
-					.copySourceSSECustomerKey(SSE_KEY)
-					.copySourceSSECustomerKeyMD5(SSE_KEY_MD5)
-					.sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
-					.sseCustomerKey(SSE_KEY)
-					.sseCustomerKeyMD5(SSE_KEY_MD5)
-					.uploadId(data.uploadId)
-					.partNumber(partNumber)
-					.copySourceRange("bytes=" + start + "-" + end));
-			data.addPart(count++, partResponse.copyPartResult().eTag());
-
-			index = end + 1;
-		}
+		var parts = PartCopier.split(size, partSize, 1);
+		var result = PartCopier.copy(targetBucketName + "/" + targetKey, parts,
+				part -> client.uploadPartCopy(c -> c
+						.sourceBucket(sourceBucketName)
+						.sourceKey(sourceKey)
+						.destinationBucket(targetBucketName)
+						.destinationKey(targetKey)
+						.copySourceSSECustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
+						.copySourceSSECustomerKey(SSE_KEY)
+						.copySourceSSECustomerKeyMD5(SSE_KEY_MD5)
+						.sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
+						.sseCustomerKey(SSE_KEY)
+						.sseCustomerKeyMD5(SSE_KEY_MD5)
+						.uploadId(data.uploadId)
+						.partNumber(part.partNumber())
+						.copySourceRange(part.toRange())));
+		for (int i = 0; i < parts.size(); i++)
+			data.addPart(parts.get(i).partNumber(), result.responses().get(i).copyPartResult().eTag());
 
 		return data;
 	}
@@ -1754,22 +1821,14 @@ public class TestBase {
 		var size = headResponse.contentLength();
 		assertEquals(data.length(), size, bucketName + "/" + key + " : " + data.length() + " != " + size);
 
-		var index = 0L;
-		while (index < size) {
-			var start = index;
-			var end = Math.min(start + step, size - 1L);
+		var expected = Expected.of(data);
+		RangeVerifier.run(RangeVerifier.split(size, step, size - 1L), range -> {
+			var response = client.getObject(g -> g.bucket(bucketName).key(key).range(range.toHeader()));
 
-			var response = client.getObject(
-					g -> g.bucket(bucketName).key(key).range("bytes=" + start + "-" + (end - 1)));
-			var body = getBody(response);
-			var length = end - start;
-			var partBody = data.substring((int) start, (int) end);
-
-			assertEquals(length, response.response().contentLength(),
-					bucketName + "/" + key + " : " + length + " != " + response.response().contentLength());
-			assertTrue(partBody.equals(body), MainData.NOT_MATCHED);
-			index += step;
-		}
+			assertEquals(range.length(), response.response().contentLength(),
+					bucketName + "/" + key + " : " + range.length() + " != " + response.response().contentLength());
+			checkBody(response, expected.slice(range.start(), range.length()), bucketName + "/" + key + " " + range);
+		});
 	}
 
 	public void checkContentUsingRange(String bucketName, String key, String versionId, String data, long step) {
@@ -1778,53 +1837,76 @@ public class TestBase {
 		var size = headResponse.contentLength();
 		assertEquals(data.length(), size, bucketName + "/" + key + " : " + data.length() + " != " + size);
 
-		var index = 0L;
-		while (index < size) {
-			var start = index;
-			var end = Math.min(start + step, size - 1L);
+		var expected = Expected.of(data);
+		RangeVerifier.run(RangeVerifier.split(size, step, size - 1L), range -> {
+			var response = client
+					.getObject(g -> g.bucket(bucketName).key(key).range(range.toHeader()).versionId(versionId));
 
-			var response = client.getObject(
-					g -> g.bucket(bucketName).key(key).range("bytes=" + start + "-" + (end - 1)).versionId(versionId));
-			var body = getBody(response);
-			var length = end - start;
-			var partBody = data.substring((int) start, (int) end);
-
-			assertEquals(length, response.response().contentLength(),
-					bucketName + "/" + key + " : " + length + " != " + response.response().contentLength());
-			assertTrue(partBody.equals(body), MainData.NOT_MATCHED);
-			index += step;
-		}
+			assertEquals(range.length(), response.response().contentLength(),
+					bucketName + "/" + key + " : " + range.length() + " != " + response.response().contentLength());
+			checkBody(response, expected.slice(range.start(), range.length()), bucketName + "/" + key + " " + range);
+		});
+	}
+
+	/**
+	 * 멀티파트 업로드 기록과 오브젝트 내용을 Range 요청으로 비교한다.
+	 * 파트 정보만 기록한 경우 전체 내용을 만들지 않고 구간별로 생성하여 비교한다.
+	 */
+	public void checkContentUsingRange(String bucketName, String key, MultipartUploadV2Data uploadData, long step) {
+		checkContentUsingRange(bucketName, key, null, uploadData, step);
+	}
+
+	public void checkContentUsingRange(String bucketName, String key, String versionId,
+			MultipartUploadV2Data uploadData, long step) {
+		if (uploadData.isTracking())
+			checkContentUsingRange(bucketName, key, versionId, uploadData.payloadParts.getPayload(), step);
+		else
+			checkContentUsingRange(bucketName, key, versionId, uploadData.getBody(), step);
+	}
+
+	public void checkContentUsingRange(String bucketName, String key, String versionId, RandomPayload payload,
+			long step) {
+		var client = getClient();
+		var headResponse = client.headObject(h -> h.bucket(bucketName).key(key).versionId(versionId));
+		long size = headResponse.contentLength();
+		assertEquals(payload.getLength(), size, bucketName + "/" + key + " : " + payload.getLength() + " != " + size);
+
+		var expected = Expected.of(payload);
+		RangeVerifier.run(RangeVerifier.split(size, step, size), range -> {
+			var response = client
+					.getObject(g -> g.bucket(bucketName).key(key).range(range.toHeader()).versionId(versionId));
+
+			assertEquals(range.length(), response.response().contentLength(),
+					bucketName + "/" + key + " : " + range.length() + " != " + response.response().contentLength());
+			checkBody(response, expected.slice(range.start(), range.length()), bucketName + "/" + key + " " + range);
+		});
 	}
 
 	public void checkContentUsingRangeEnc(S3Client client, String bucketName, String key, String data, long step) {
-		if (client == null)
-			client = getClient();
-		var headResponse = client
+		var s3 = client == null ? getClient() : client;
+		var headResponse = s3
 				.headObject(h -> h.bucket(bucketName).key(key).sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
 						.sseCustomerKey(SSE_KEY));
 		var size = headResponse.contentLength();
 
-		var index = 0L;
-		while (index < size) {
-			long start = index;
-			var end = Math.min(index + step, size - 1);
-
-			var response = client.getObject(g -> g.bucket(bucketName).key(key)
-					.range("bytes=" + start + "-" + (end - 1))
+		var expected = Expected.of(data);
+		RangeVerifier.run(RangeVerifier.split(size, step, size - 1), range -> {
+			var response = s3.getObject(g -> g.bucket(bucketName).key(key)
+					.range(range.toHeader())
 					.sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
 					.sseCustomerKey(SSE_KEY));
 			assertNotNull(response);
-			var body = getBody(response);
-			var length = end - start;
-			var partBody = data.substring((int) start, (int) end);
 
-			assertEquals(length, response.response().contentLength());
-			assertTrue(partBody.equals(body), MainData.NOT_MATCHED);
-			index += step;
-		}
+			assertEquals(range.length(), response.response().contentLength());
+			checkBody(response, expected.slice(range.start(), range.length()), bucketName + "/" + key + " " + range);
+		});
 	}
 
 	public RangeSet getRandomRange(int fileSize) {
+		return getRandomRange(rand, fileSize);
+	}
+
+	public RangeSet getRandomRange(Random rand, int fileSize) {
 		int maxSize = 500;
 
 		var start = rand.nextInt(fileSize - maxSize * 2);
@@ -1842,57 +1924,62 @@ public class TestBase {
 
 	public void checkContent(String bucketName, String key, String data, int loopCount) {
 		var client = getClient();
+		var expected = Expected.of(data);
 
 		for (int i = 0; i < loopCount; i++) {
 			var response = client.getObject(g -> g.bucket(bucketName).key(key));
-			var body = getBody(response);
-			assertTrue(data.equals(body), MainData.NOT_MATCHED);
+			checkBody(response, expected, bucketName + "/" + key);
 		}
 	}
 
 	public void checkContentEnc(String bucketName, String key, String data, int loopCount) {
 		var client = getClientHttps(false);
+		var expected = Expected.of(data);
 
 		for (int i = 0; i < loopCount; i++) {
 			var response = client
 					.getObject(g -> g.bucket(bucketName).key(key).sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
 							.sseCustomerKey(SSE_KEY));
-			var body = getBody(response);
-			assertTrue(data.equals(body), MainData.NOT_MATCHED);
+			checkBody(response, expected, bucketName + "/" + key);
 		}
 	}
 
 	public void checkContentUsingRandomRange(String bucketName, String key, String data, int loopCount) {
 		var client = getClient();
 		int fileSize = data.length();
+		var expected = Expected.of(data);
+		var random = RangeVerifier.newRandom(bucketName + "/" + key);
+		var ranges = new ArrayList<RangeSet>();
+		for (int i = 0; i < loopCount; i++)
+			ranges.add(getRandomRange(random, fileSize));
 
-		for (int i = 0; i < loopCount; i++) {
-			var range = getRandomRange(fileSize);
-			var rangeBody = data.substring(range.start, range.end + 1);
-
+		RangeVerifier.run(ranges, range -> {
 			var response = client.getObject(
 					g -> g.bucket(bucketName).key(key).range("bytes=" + range.start + "-" + (range.end)));
-			var body = getBody(response);
 
 			assertEquals(range.length, response.response().contentLength() - 1);
-			assertTrue(rangeBody.equals(body), MainData.NOT_MATCHED);
-		}
+			checkBody(response, expected.slice(range.start, range.length + 1L), String.format(
+					"%s/%s bytes=%d-%d (seed : %d)", bucketName, key, range.start, range.end, random.getSeed()));
+		});
 	}
 
 	public void checkContentUsingRandomRangeEnc(S3Client client, String bucketName, String key, String data,
 			int fileSize, int loopCount) {
-		for (int i = 0; i < loopCount; i++) {
-			var range = getRandomRange(fileSize);
+		var expected = Expected.of(data);
+		var random = RangeVerifier.newRandom(bucketName + "/" + key);
+		var ranges = new ArrayList<RangeSet>();
+		for (int i = 0; i < loopCount; i++)
+			ranges.add(getRandomRange(random, fileSize));
 
+		RangeVerifier.run(ranges, range -> {
 			var response = client.getObject(g -> g.bucket(bucketName).key(key)
 					.range("bytes=" + range.start + "-" + (range.end - 1)).sseCustomerAlgorithm(SSE_CUSTOMER_ALGORITHM)
 					.sseCustomerKey(SSE_KEY));
-			var body = getBody(response);
-			var rangeBody = data.substring(range.start, range.end);
 
 			assertEquals(range.length, response.response().contentLength());
-			assertTrue(rangeBody.equals(body), MainData.NOT_MATCHED);
-		}
+			checkBody(response, expected.slice(range.start, range.length), String.format(
+					"%s/%s bytes=%d-%d (seed : %d)", bucketName, key, range.start, range.end - 1, random.getSeed()));
+		});
 	}
 
 	public boolean errorCheck(Integer statusCode) {
@@ -2580,21 +2667,21 @@ public class TestBase {
 		}
 	}
 
-	public static void checksumCompare(ChecksumAlgorithm algorithm, String content, PutObjectResponse response) {
-		String expected = CheckSum.calculateChecksum(algorithm, content);
-		assertEquals(expected, CheckSum.getChecksum(response, algorithm));
+	/**
+	 * 업로드하면서 계산한 체크섬({@link MultiChecksum#wrap(RequestBody)})과 응답의 체크섬을 비교한다.
+	 */
+	public static void checksumCompare(ChecksumAlgorithm algorithm, MultiChecksum sent, PutObjectResponse response) {
+		assertEquals(sent.get(algorithm), CheckSum.getChecksum(response, algorithm));
 		// PutObject는 항상 FULL_OBJECT 타입
 		assertEquals(ChecksumType.FULL_OBJECT, response.checksumType());
 	}
 
-	public static void checksumCompare(ChecksumAlgorithm algorithm, String content, CopyObjectResponse response) {
-		String expected = CheckSum.calculateChecksum(algorithm, content);
-		assertEquals(expected, CheckSum.getChecksum(response.copyObjectResult(), algorithm));
+	public static void checksumCompare(ChecksumAlgorithm algorithm, MultiChecksum sent, CopyObjectResponse response) {
+		assertEquals(sent.get(algorithm), CheckSum.getChecksum(response.copyObjectResult(), algorithm));
 	}
 
-	public static void checksumCompare(ChecksumAlgorithm algorithm, String content, UploadPartResponse response) {
-		String expected = CheckSum.calculateChecksum(algorithm, content);
-		assertEquals(expected, CheckSum.getChecksum(response, algorithm));
+	public static void checksumCompare(ChecksumAlgorithm algorithm, MultiChecksum sent, UploadPartResponse response) {
+		assertEquals(sent.get(algorithm), CheckSum.getChecksum(response, algorithm));
 	}
 
 	public static void checksumCompare(ChecksumAlgorithm algorithm, MultipartUploadV2Data uploadData,
@@ -2603,9 +2690,15 @@ public class TestBase {
 				.map(part -> CheckSum.getChecksum(part, algorithm))
 				.toList();
 
-		String expected = response.checksumType() == ChecksumType.COMPOSITE
-				? CheckSum.calculateChecksumByBase64(algorithm, contents)
-				: CheckSum.combineChecksumByBase64(algorithm, uploadData.partSize, contents);
+		String expected;
+		if (response.checksumType() == ChecksumType.COMPOSITE) {
+			expected = CheckSum.calculateChecksumByBase64(algorithm, contents);
+		} else if (uploadData.hasBody()) {
+			// 보낸 내용을 알면 서버가 준 파트 체크섬 대신 내용으로 직접 계산 (큰 내용은 여러 코어로 나누어 계산)
+			expected = ParallelCrc.toBase64(ParallelCrc.crc(uploadData.getExpected(), algorithm), algorithm);
+		} else {
+			expected = CheckSum.combineChecksumByBase64(algorithm, uploadData.getPartLengths(), contents);
+		}
 
 		String actual = CheckSum.getChecksum(response, algorithm);
 
@@ -2875,82 +2968,28 @@ public class TestBase {
 	}
 
 	public void abortBucketMultipartUploads(S3Client client, String bucketName) {
-		try {
-			var isTruncated = true;
-			String keyMarker = null;
-			String uploadIdMarker = null;
-			while (isTruncated) {
-				var listRequestBuilder = ListMultipartUploadsRequest.builder().bucket(bucketName);
-				if (keyMarker != null)
-					listRequestBuilder.keyMarker(keyMarker);
-				if (uploadIdMarker != null)
-					listRequestBuilder.uploadIdMarker(uploadIdMarker);
-				var listResponse = client.listMultipartUploads(listRequestBuilder.build());
-				for (var upload : listResponse.uploads())
-					client.abortMultipartUpload(
-							a -> a.bucket(bucketName).key(upload.key()).uploadId(upload.uploadId()));
-				isTruncated = Boolean.TRUE.equals(listResponse.isTruncated());
-				if (isTruncated) {
-					keyMarker = listResponse.nextKeyMarker();
-					uploadIdMarker = listResponse.nextUploadIdMarker();
-				}
-			}
-		} catch (AwsServiceException e) {
-			System.out.printf("Error : Bucket(%s) Abort Multipart Uploads Failed(%s, %d)%n", bucketName,
-					e.awsErrorDetails().errorCode(), e.statusCode());
-		}
+		new BucketCleaner(client).abortMultipartUploads(bucketName);
 	}
 
 	public void clearBucketObjectVersions(S3Client client, String bucketName) {
-		try {
-			var isTruncated = true;
-			while (isTruncated) {
-				var response = client.listObjectVersions(l -> l.bucket(bucketName));
-
-				for (var version : response.versions())
-					client.deleteObject(d -> d.bucket(bucketName).key(version.key()).versionId(version.versionId()));
-
-				for (var marker : response.deleteMarkers())
-					client.deleteObject(d -> d.bucket(bucketName).key(marker.key()).versionId(marker.versionId()));
-
-				isTruncated = response.isTruncated();
-			}
-		} catch (AwsServiceException e) {
-			System.out.printf("Error : Bucket(%s) Clear Failed(%s, %d)%n", bucketName, e.awsErrorDetails().errorCode(),
-					e.statusCode());
-		}
+		new BucketCleaner(client).deleteObjectVersions(bucketName);
 	}
 
 	public void bucketClear(S3Client client, String bucketName) {
 		if (client == null)
 			return;
-		if (StringUtils.isBlank(bucketName))
-			return;
-
-		abortBucketMultipartUploads(client, bucketName);
-		clearBucketObjectVersions(client, bucketName);
-
-		try {
-			client.deleteBucket(d -> d.bucket(bucketName));
-		} catch (AwsServiceException e) {
-			System.out.printf("Error : Bucket(%s) Delete Failed(%s, %d)%n", bucketName, e.awsErrorDetails().errorCode(),
-					e.statusCode());
-		}
+		new BucketCleaner(client).clear(bucketName);
 	}
 
 	public void bucketClear() {
 		var client = getClient();
-		if (client == null)
+		if (client == null || buckets.isEmpty())
 			return;
 
-		var iter = buckets.iterator();
-		while (iter.hasNext()) {
-			String bucketName = iter.next();
-			if (StringUtils.isNotBlank(bucketName))
-				bucketClear(client, bucketName);
-			iter.remove();
-		}
-
+		// 정리는 BucketReaper가 다음 테스트와 동시에 진행한다
+		var bucketNames = new ArrayList<>(buckets);
+		buckets.removeAll(bucketNames);
+		BucketReaper.getInstance().enqueue(bucketNames, new BucketCleaner(client)::clear);
 	}
 	// endregion
 
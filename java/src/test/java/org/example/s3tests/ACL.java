@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 class ACL {
 	@org.junit.jupiter.api.BeforeAll
@@ -43,477 +42,569 @@ class ACL {
 	/**
 	 * [Bucket = private, Object = private] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketAndObject() {
-		test.testPrivateBucketAndObject();
-		testV2.testPrivateBucketAndObject();
+	void testPrivateBucketAndObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketAndObject();
+			case V2 -> testV2.testPrivateBucketAndObject();
+		}
 	}
 
 	/**
 	 * [Bucket = private, Object = public-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketPublicReadObject() {
-		test.testPrivateBucketPublicReadObject();
-		testV2.testPrivateBucketPublicReadObject();
+	void testPrivateBucketPublicReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketPublicReadObject();
+			case V2 -> testV2.testPrivateBucketPublicReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = private, Object = public-read-write] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketPublicRWObject() {
-		test.testPrivateBucketPublicRWObject();
-		testV2.testPrivateBucketPublicRWObject();
+	void testPrivateBucketPublicRWObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketPublicRWObject();
+			case V2 -> testV2.testPrivateBucketPublicRWObject();
+		}
 	}
 
 	/**
 	 * [Bucket = private, Object = authenticated-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketAuthenticatedReadObject() {
-		test.testPrivateBucketAuthenticatedReadObject();
-		testV2.testPrivateBucketAuthenticatedReadObject();
+	void testPrivateBucketAuthenticatedReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketAuthenticatedReadObject();
+			case V2 -> testV2.testPrivateBucketAuthenticatedReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = private, Object = bucket-owner-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketBucketOwnerReadObject() {
-		test.testPrivateBucketBucketOwnerReadObject();
-		testV2.testPrivateBucketBucketOwnerReadObject();
+	void testPrivateBucketBucketOwnerReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketBucketOwnerReadObject();
+			case V2 -> testV2.testPrivateBucketBucketOwnerReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = private, Object = bucket-owner-read] Alt 사용자가 업로드한 오브젝트에 접근 가능한지
 	 * 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketBucketOwnerReadObjectUploadAltUser() {
-		test.testPrivateBucketBucketOwnerReadObjectUploadAltUser();
-		testV2.testPrivateBucketBucketOwnerReadObjectUploadAltUser();
+	void testPrivateBucketBucketOwnerReadObjectUploadAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketBucketOwnerReadObjectUploadAltUser();
+			case V2 -> testV2.testPrivateBucketBucketOwnerReadObjectUploadAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = private, Object = bucket-owner-full-control] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPrivateBucketBucketOwnerFullControlObject() {
-		test.testPrivateBucketBucketOwnerFullControlObject();
-		testV2.testPrivateBucketBucketOwnerFullControlObject();
+	void testPrivateBucketBucketOwnerFullControlObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketBucketOwnerFullControlObject();
+			case V2 -> testV2.testPrivateBucketBucketOwnerFullControlObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read, Object = private] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicReadBucketPrivateObject() {
-		test.testPublicReadBucketPrivateObject();
-		testV2.testPublicReadBucketPrivateObject();
+	void testPublicReadBucketPrivateObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketPrivateObject();
+			case V2 -> testV2.testPublicReadBucketPrivateObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read, Object = public-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicReadBucketAndObject() {
-		test.testPublicReadBucketAndObject();
-		testV2.testPublicReadBucketAndObject();
+	void testPublicReadBucketAndObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketAndObject();
+			case V2 -> testV2.testPublicReadBucketAndObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read, Object = public-read-write] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicReadBucketPublicRWObject() {
-		test.testPublicReadBucketPublicRWObject();
-		testV2.testPublicReadBucketPublicRWObject();
+	void testPublicReadBucketPublicRWObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketPublicRWObject();
+			case V2 -> testV2.testPublicReadBucketPublicRWObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read, Object = authenticated-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicReadBucketAuthenticatedReadObject() {
-		test.testPublicReadBucketAuthenticatedReadObject();
-		testV2.testPublicReadBucketAuthenticatedReadObject();
+	void testPublicReadBucketAuthenticatedReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketAuthenticatedReadObject();
+			case V2 -> testV2.testPublicReadBucketAuthenticatedReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read, Object = bucket-owner-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicReadBucketBucketOwnerReadObject() {
-		test.testPublicReadBucketBucketOwnerReadObject();
-		testV2.testPublicReadBucketBucketOwnerReadObject();
+	void testPublicReadBucketBucketOwnerReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketBucketOwnerReadObject();
+			case V2 -> testV2.testPublicReadBucketBucketOwnerReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read, Object = bucket-owner-full-control] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicReadBucketBucketOwnerFullControlObject() {
-		test.testPublicReadBucketBucketOwnerFullControlObject();
-		testV2.testPublicReadBucketBucketOwnerFullControlObject();
+	void testPublicReadBucketBucketOwnerFullControlObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketBucketOwnerFullControlObject();
+			case V2 -> testV2.testPublicReadBucketBucketOwnerFullControlObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = private] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketPrivateObject() {
-		test.testPublicRWBucketPrivateObject();
-		testV2.testPublicRWBucketPrivateObject();
+	void testPublicRWBucketPrivateObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketPrivateObject();
+			case V2 -> testV2.testPublicRWBucketPrivateObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = private, AltUser] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketPrivateObjectByAltUser() {
-		test.testPublicRWBucketPrivateObjectByAltUser();
-		testV2.testPublicRWBucketPrivateObjectByAltUser();
+	void testPublicRWBucketPrivateObjectByAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketPrivateObjectByAltUser();
+			case V2 -> testV2.testPublicRWBucketPrivateObjectByAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = public-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketPublicReadObject() {
-		test.testPublicRWBucketPublicReadObject();
-		testV2.testPublicRWBucketPublicReadObject();
+	void testPublicRWBucketPublicReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketPublicReadObject();
+			case V2 -> testV2.testPublicRWBucketPublicReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = public-read, AltUser] 오브젝트에 접근 가능한지
 	 * 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketPublicReadObjectByAltUser() {
-		test.testPublicRWBucketPublicReadObjectByAltUser();
-		testV2.testPublicRWBucketPublicReadObjectByAltUser();
+	void testPublicRWBucketPublicReadObjectByAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketPublicReadObjectByAltUser();
+			case V2 -> testV2.testPublicRWBucketPublicReadObjectByAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = public-read-write] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketPublicRWObject() {
-		test.testPublicRWBucketPublicRWObject();
-		testV2.testPublicRWBucketPublicRWObject();
+	void testPublicRWBucketPublicRWObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketPublicRWObject();
+			case V2 -> testV2.testPublicRWBucketPublicRWObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = public-read-write, AltUser] 오브젝트에 접근
 	 * 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketPublicRWObjectByAltUser() {
-		test.testPublicRWBucketPublicRWObjectByAltUser();
-		testV2.testPublicRWBucketPublicRWObjectByAltUser();
+	void testPublicRWBucketPublicRWObjectByAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketPublicRWObjectByAltUser();
+			case V2 -> testV2.testPublicRWBucketPublicRWObjectByAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = authenticated-read] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketAuthenticatedReadObject() {
-		test.testPublicRWBucketAuthenticatedReadObject();
-		testV2.testPublicRWBucketAuthenticatedReadObject();
+	void testPublicRWBucketAuthenticatedReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketAuthenticatedReadObject();
+			case V2 -> testV2.testPublicRWBucketAuthenticatedReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = authenticated-read, AltUser] 오브젝트에 접근
 	 * 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketAuthenticatedReadObjectByAltUser() {
-		test.testPublicRWBucketAuthenticatedReadObjectByAltUser();
-		testV2.testPublicRWBucketAuthenticatedReadObjectByAltUser();
+	void testPublicRWBucketAuthenticatedReadObjectByAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketAuthenticatedReadObjectByAltUser();
+			case V2 -> testV2.testPublicRWBucketAuthenticatedReadObjectByAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = bucket-owner-read] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketBucketOwnerReadObject() {
-		test.testPublicRWBucketBucketOwnerReadObject();
-		testV2.testPublicRWBucketBucketOwnerReadObject();
+	void testPublicRWBucketBucketOwnerReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketBucketOwnerReadObject();
+			case V2 -> testV2.testPublicRWBucketBucketOwnerReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = bucket-owner-read, AltUser] 오브젝트에 접근
 	 * 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketBucketOwnerReadObjectByAltUser() {
-		test.testPublicRWBucketBucketOwnerReadObjectByAltUser();
-		testV2.testPublicRWBucketBucketOwnerReadObjectByAltUser();
+	void testPublicRWBucketBucketOwnerReadObjectByAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketBucketOwnerReadObjectByAltUser();
+			case V2 -> testV2.testPublicRWBucketBucketOwnerReadObjectByAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = bucket-owner-full-control] 오브젝트에 접근
 	 * 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketBucketOwnerFullControlObject() {
-		test.testPublicRWBucketBucketOwnerFullControlObject();
-		testV2.testPublicRWBucketBucketOwnerFullControlObject();
+	void testPublicRWBucketBucketOwnerFullControlObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketBucketOwnerFullControlObject();
+			case V2 -> testV2.testPublicRWBucketBucketOwnerFullControlObject();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, Object = bucket-owner-full-control, AltUser]
 	 * 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketBucketOwnerFullControlObjectByAltUser() {
-		test.testPublicRWBucketBucketOwnerFullControlObjectByAltUser();
-		testV2.testPublicRWBucketBucketOwnerFullControlObjectByAltUser();
+	void testPublicRWBucketBucketOwnerFullControlObjectByAltUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketBucketOwnerFullControlObjectByAltUser();
+			case V2 -> testV2.testPublicRWBucketBucketOwnerFullControlObjectByAltUser();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write, BucketOwnerPreferred, Object =
 	 * bucket-owner-full-control, AltUser] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testPublicRWBucketBucketOwnerFullControlObjectByAltUserBucketOwnerPreferred() {
-		test.testPublicRWBucketBucketOwnerFullControlObjectByAltUserBucketOwnerPreferred();
-		testV2.testPublicRWBucketBucketOwnerFullControlObjectByAltUserBucketOwnerPreferred();
+	void testPublicRWBucketBucketOwnerFullControlObjectByAltUserBucketOwnerPreferred(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketBucketOwnerFullControlObjectByAltUserBucketOwnerPreferred();
+			case V2 -> testV2.testPublicRWBucketBucketOwnerFullControlObjectByAltUserBucketOwnerPreferred();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read, Object = private] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testAuthenticatedReadBucketPrivateObject() {
-		test.testAuthenticatedReadBucketPrivateObject();
-		testV2.testAuthenticatedReadBucketPrivateObject();
+	void testAuthenticatedReadBucketPrivateObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketPrivateObject();
+			case V2 -> testV2.testAuthenticatedReadBucketPrivateObject();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read, Object = public-read] 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testAuthenticatedReadBucketPublicReadObject() {
-		test.testAuthenticatedReadBucketPublicReadObject();
-		testV2.testAuthenticatedReadBucketPublicReadObject();
+	void testAuthenticatedReadBucketPublicReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketPublicReadObject();
+			case V2 -> testV2.testAuthenticatedReadBucketPublicReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read, Object = public-read-write] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testAuthenticatedReadBucketPublicRWObject() {
-		test.testAuthenticatedReadBucketPublicRWObject();
-		testV2.testAuthenticatedReadBucketPublicRWObject();
+	void testAuthenticatedReadBucketPublicRWObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketPublicRWObject();
+			case V2 -> testV2.testAuthenticatedReadBucketPublicRWObject();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read, Object = authenticated-read] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testAuthenticatedReadBucketAndObject() {
-		test.testAuthenticatedReadBucketAndObject();
-		testV2.testAuthenticatedReadBucketAndObject();
+	void testAuthenticatedReadBucketAndObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketAndObject();
+			case V2 -> testV2.testAuthenticatedReadBucketAndObject();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read, Object = bucket-owner-read] 오브젝트에 접근 가능한지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testAuthenticatedReadBucketBucketOwnerReadObject() {
-		test.testAuthenticatedReadBucketBucketOwnerReadObject();
-		testV2.testAuthenticatedReadBucketBucketOwnerReadObject();
+	void testAuthenticatedReadBucketBucketOwnerReadObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketBucketOwnerReadObject();
+			case V2 -> testV2.testAuthenticatedReadBucketBucketOwnerReadObject();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read, Object = bucket-owner-full-control] 오브젝트에 접근
 	 * 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Access")
-	void testAuthenticatedReadBucketBucketOwnerFullControlObject() {
-		test.testAuthenticatedReadBucketBucketOwnerFullControlObject();
-		testV2.testAuthenticatedReadBucketBucketOwnerFullControlObject();
+	void testAuthenticatedReadBucketBucketOwnerFullControlObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketBucketOwnerFullControlObject();
+			case V2 -> testV2.testAuthenticatedReadBucketBucketOwnerFullControlObject();
+		}
 	}
 
 	/**
 	 * [Bucket = private] 오브젝트 목록 조회가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testPrivateBucketList() {
-		test.testPrivateBucketList();
-		testV2.testPrivateBucketList();
+	void testPrivateBucketList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPrivateBucketList();
+			case V2 -> testV2.testPrivateBucketList();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read] 오브젝트 목록 조회가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testPublicReadBucketList() {
-		test.testPublicReadBucketList();
-		testV2.testPublicReadBucketList();
+	void testPublicReadBucketList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicReadBucketList();
+			case V2 -> testV2.testPublicReadBucketList();
+		}
 	}
 
 	/**
 	 * [Bucket = public-read-write] 오브젝트 목록 조회가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testPublicRWBucketList() {
-		test.testPublicRWBucketList();
-		testV2.testPublicRWBucketList();
+	void testPublicRWBucketList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPublicRWBucketList();
+			case V2 -> testV2.testPublicRWBucketList();
+		}
 	}
 
 	/**
 	 * [Bucket = authenticated-read] 오브젝트 목록 조회가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testAuthenticatedReadBucketList() {
-		test.testAuthenticatedReadBucketList();
-		testV2.testAuthenticatedReadBucketList();
+	void testAuthenticatedReadBucketList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAuthenticatedReadBucketList();
+			case V2 -> testV2.testAuthenticatedReadBucketList();
+		}
 	}
 
 	/**
 	 * [Bucket = FullControl] 설정한 acl정보대로 서브유저가 해당 버킷에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionAltUserFullControl() {
-		test.testBucketPermissionAltUserFullControl();
-		testV2.testBucketPermissionAltUserFullControl();
+	void testBucketPermissionAltUserFullControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionAltUserFullControl();
+			case V2 -> testV2.testBucketPermissionAltUserFullControl();
+		}
 	}
 
 	/**
 	 * [Bucket = Read] 설정한 acl정보대로 서브유저가 해당 버킷에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionAltUserRead() {
-		test.testBucketPermissionAltUserRead();
-		testV2.testBucketPermissionAltUserRead();
+	void testBucketPermissionAltUserRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionAltUserRead();
+			case V2 -> testV2.testBucketPermissionAltUserRead();
+		}
 	}
 
 	/**
 	 * [Bucket = ReadAcp] 설정한 acl정보대로 서브유저가 해당 버킷에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionAltUserReadAcp() {
-		test.testBucketPermissionAltUserReadAcp();
-		testV2.testBucketPermissionAltUserReadAcp();
+	void testBucketPermissionAltUserReadAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionAltUserReadAcp();
+			case V2 -> testV2.testBucketPermissionAltUserReadAcp();
+		}
 	}
 
 	/**
 	 * [Bucket = Write] 설정한 acl정보대로 서브유저가 해당 버킷에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionAltUserWrite() {
-		test.testBucketPermissionAltUserWrite();
-		testV2.testBucketPermissionAltUserWrite();
+	void testBucketPermissionAltUserWrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionAltUserWrite();
+			case V2 -> testV2.testBucketPermissionAltUserWrite();
+		}
 	}
 
 	/**
 	 * [Bucket = WriteAcp] 설정한 acl정보대로 서브유저가 해당 버킷에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionAltUserWriteAcp() {
-		test.testBucketPermissionAltUserWriteAcp();
-		testV2.testBucketPermissionAltUserWriteAcp();
+	void testBucketPermissionAltUserWriteAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionAltUserWriteAcp();
+			case V2 -> testV2.testBucketPermissionAltUserWriteAcp();
+		}
 	}
 
 	/**
 	 * [Object = FullControl] 설정한 acl정보대로 서브유저가 해당 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionAltUserFullControl() {
-		test.testObjectPermissionAltUserFullControl();
-		testV2.testObjectPermissionAltUserFullControl();
+	void testObjectPermissionAltUserFullControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionAltUserFullControl();
+			case V2 -> testV2.testObjectPermissionAltUserFullControl();
+		}
 	}
 
 	/**
 	 * [Object = Read] 설정한 acl정보대로 서브유저가 해당 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionAltUserRead() {
-		test.testObjectPermissionAltUserRead();
-		testV2.testObjectPermissionAltUserRead();
+	void testObjectPermissionAltUserRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionAltUserRead();
+			case V2 -> testV2.testObjectPermissionAltUserRead();
+		}
 	}
 
 	/**
 	 * [Object = ReadAcp] 설정한 acl정보대로 서브유저가 해당 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionAltUserReadAcp() {
-		test.testObjectPermissionAltUserReadAcp();
-		testV2.testObjectPermissionAltUserReadAcp();
+	void testObjectPermissionAltUserReadAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionAltUserReadAcp();
+			case V2 -> testV2.testObjectPermissionAltUserReadAcp();
+		}
 	}
 
 	/**
 	 * [Object = Write] 설정한 acl정보대로 서브유저가 해당 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionAltUserWrite() {
-		test.testObjectPermissionAltUserWrite();
-		testV2.testObjectPermissionAltUserWrite();
+	void testObjectPermissionAltUserWrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionAltUserWrite();
+			case V2 -> testV2.testObjectPermissionAltUserWrite();
+		}
 	}
 
 	/**
 	 * [Object = WriteAcp] 설정한 acl정보대로 서브유저가 해당 오브젝트에 접근 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionAltUserWriteAcp() {
-		test.testObjectPermissionAltUserWriteAcp();
-		testV2.testObjectPermissionAltUserWriteAcp();
+	void testObjectPermissionAltUserWriteAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionAltUserWriteAcp();
+			case V2 -> testV2.testObjectPermissionAltUserWriteAcp();
+		}
 	}
 }
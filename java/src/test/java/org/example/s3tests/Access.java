@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 class Access {
 	@org.junit.jupiter.api.BeforeAll
@@ -43,60 +42,72 @@ class Access {
 	/**
 	 * BlockPublicAcls와 BlockPublicPolicy 접근 권한 블록이 정상적으로 동작하는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Denied")
-	void testBlockPublicAclAndPolicy() {
-		test.testBlockPublicAclAndPolicy();
-		testV2.testBlockPublicAclAndPolicy();
+	void testBlockPublicAclAndPolicy(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBlockPublicAclAndPolicy();
+			case V2 -> testV2.testBlockPublicAclAndPolicy();
+		}
 	}
 
 	/**
 	 * BlockPublicAcls 접근 권한 블록이 정상적으로 동작하는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Denied")
-	void testBlockPublicAcls() {
-		test.testBlockPublicAcls();
-		testV2.testBlockPublicAcls();
+	void testBlockPublicAcls(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBlockPublicAcls();
+			case V2 -> testV2.testBlockPublicAcls();
+		}
 	}
 
 	/**
 	 * BlockPublicPolicy 접근 권한 블록이 정상적으로 동작하는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Denied")
-	void testBlockPublicPolicy() {
-		test.testBlockPublicPolicy();
-		testV2.testBlockPublicPolicy();
+	void testBlockPublicPolicy(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBlockPublicPolicy();
+			case V2 -> testV2.testBlockPublicPolicy();
+		}
 	}
 
 	/**
 	 * 버킷의 접근 권한 블록 삭제 기능을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testDeletePublicBlock() {
-		test.testDeletePublicBlock();
-		testV2.testDeletePublicBlock();
+	void testDeletePublicBlock(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeletePublicBlock();
+			case V2 -> testV2.testDeletePublicBlock();
+		}
 	}
 
 	/**
 	 * IgnorePublicAcls 접근 권한 블록이 정상적으로 동작하는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Denied")
-	void testIgnorePublicAcls() {
-		test.testIgnorePublicAcls();
-		testV2.testIgnorePublicAcls();
+	void testIgnorePublicAcls(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testIgnorePublicAcls();
+			case V2 -> testV2.testIgnorePublicAcls();
+		}
 	}
 
 	/**
 	 * 버킷의 접근 권한 블록 설정 기능을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testPutPublicBlock() {
-		test.testPutPublicBlock();
-		testV2.testPutPublicBlock();
+	void testPutPublicBlock(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutPublicBlock();
+			case V2 -> testV2.testPutPublicBlock();
+		}
 	}
 }
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 public class Backend {
 	@org.junit.jupiter.api.BeforeAll
@@ -140,7 +139,7 @@ public class Backend {
 	/**
 	 * [Versioning] PutObject가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("PUT")
 	void testPutObjectVersioning() {
 		testV2.testPutObjectVersioning();
@@ -149,7 +148,7 @@ public class Backend {
 	/**
 	 * [Versioning] PutObject 버전 정보 추가시 정상 동작 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("PUT")
 	void testPutObjectVersioningWithVersionId() {
 		testV2.testPutObjectVersioningWithVersionId();
@@ -158,7 +157,7 @@ public class Backend {
 	/**
 	 * [Versioning] GetObject가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("GET")
 	void testGetObjectVersioning() {
 		testV2.testGetObjectVersioning();
@@ -167,7 +166,7 @@ public class Backend {
 	/**
 	 * [Versioning] DeleteObject가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("DELETE")
 	void testDeleteObjectVersioning() {
 		testV2.testDeleteObjectVersioning();
@@ -176,7 +175,7 @@ public class Backend {
 	/**
 	 * [Versioning] DeleteObjects가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("DELETE")
 	void testDeleteObjectsVersioning() {
 		testV2.testDeleteObjectsVersioning();
@@ -185,7 +184,7 @@ public class Backend {
 	/**
 	 * [Versioning] HeadObject가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("HEAD")
 	void testHeadObjectVersioning() {
 		testV2.testHeadObjectVersioning();
@@ -194,7 +193,7 @@ public class Backend {
 	/**
 	 * [Versioning] CopyObject가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("COPY")
 	void testCopyObjectVersioning() {
 		testV2.testCopyObjectVersioning();
@@ -203,7 +202,7 @@ public class Backend {
 	/**
 	 * [Versioning] MultipartUpload가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("MULTIPART")
 	void testMultipartUploadVersioning() {
 		testV2.testMultipartUploadVersioning();
@@ -212,7 +211,7 @@ public class Backend {
 	/**
 	 * [Versioning] PutObjectAcl가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ACL")
 	void testPutObjectAclVersioning() {
 		testV2.testPutObjectAclVersioning();
@@ -221,7 +220,7 @@ public class Backend {
 	/**
 	 * [Versioning] GetObjectAcl가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ACL")
 	void testGetObjectAclVersioning() {
 		testV2.testGetObjectAclVersioning();
@@ -230,7 +229,7 @@ public class Backend {
 	/**
 	 * [Versioning] PutObjectTagging가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("TAGGING")
 	void testPutObjectTaggingVersioning() {
 		testV2.testPutObjectTaggingVersioning();
@@ -239,7 +238,7 @@ public class Backend {
 	/**
 	 * [Versioning] GetObjectTagging가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("TAGGING")
 	void testGetObjectTaggingVersioning() {
 		testV2.testGetObjectTaggingVersioning();
@@ -248,7 +247,7 @@ public class Backend {
 	/**
 	 * [Versioning] DeleteObjectTagging가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("TAGGING")
 	void testDeleteObjectTaggingVersioning() {
 		testV2.testDeleteObjectTaggingVersioning();
@@ -257,7 +256,7 @@ public class Backend {
 	/**
 	 * [Versioning] PutObjectRetention가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("RETENTION")
 	void testPutObjectRetentionVersioning() {
 		testV2.testPutObjectRetentionVersioning();
@@ -266,7 +265,7 @@ public class Backend {
 	/**
 	 * [Versioning] GetObjectRetention가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("RETENTION")
 	void testGetObjectRetentionVersioning() {
 		testV2.testGetObjectRetentionVersioning();
@@ -275,7 +274,7 @@ public class Backend {
 	/**
 	 * [Versioning] PutObjectRetention 후 GetObjectRetention으로 조회가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("RETENTION")
 	void testPutAndGetObjectRetentionVersioning() {
 		testV2.testPutAndGetObjectRetentionVersioning();
@@ -284,7 +283,7 @@ public class Backend {
 	/**
 	 * PutObject 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testPutObjectReplication() {
 		testV2.testPutObjectReplication();
@@ -293,7 +292,7 @@ public class Backend {
 	/**
 	 * PutObject 태그가 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testPutObjectWithTaggingReplication() {
 		testV2.testPutObjectWithTaggingReplication();
@@ -302,7 +301,7 @@ public class Backend {
 	/**
 	 * PutObject 헤더와 메타데이터가 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testPutObjectWithMetadataReplication() {
 		testV2.testPutObjectWithMetadataReplication();
@@ -311,7 +310,7 @@ public class Backend {
 	/**
 	 * CopyObject 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testCopyObjectReplication() {
 		testV2.testCopyObjectReplication();
@@ -320,7 +319,7 @@ public class Backend {
 	/**
 	 * CopyObject 태그가 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testCopyObjectWithTaggingReplication() {
 		testV2.testCopyObjectWithTaggingReplication();
@@ -329,7 +328,7 @@ public class Backend {
 	/**
 	 * CopyObject 헤더와 메타데이터가 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testCopyObjectWithMetadataReplication() {
 		testV2.testCopyObjectWithMetadataReplication();
@@ -338,7 +337,7 @@ public class Backend {
 	/**
 	 * CopyObject 메타데이터가 Replace되었을 경우 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testCopyObjectMetadataReplaceReplication() {
 		testV2.testCopyObjectMetadataReplaceReplication();
@@ -347,7 +346,7 @@ public class Backend {
 	/**
 	 * MultipartUpload 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testMultipartUploadReplication() {
 		testV2.testMultipartUploadReplication();
@@ -356,7 +355,7 @@ public class Backend {
 	/**
 	 * MultipartUpload 태그가 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testMultipartUploadWithTaggingReplication() {
 		testV2.testMultipartUploadWithTaggingReplication();
@@ -365,7 +364,7 @@ public class Backend {
 	/**
 	 * MultipartUpload 헤더와 메타데이터가 복제되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testMultipartUploadWithMetadataReplication() {
 		testV2.testMultipartUploadWithMetadataReplication();
@@ -374,7 +373,7 @@ public class Backend {
 	/**
 	 * PutObjectAcl 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testPutObjectAclReplication() {
 		testV2.testPutObjectAclReplication();
@@ -383,7 +382,7 @@ public class Backend {
 	/**
 	 * putObjectTagging 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testPutObjectTaggingReplication() {
 		testV2.testPutObjectTaggingReplication();
@@ -392,7 +391,7 @@ public class Backend {
 	/**
 	 * deleteObject 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testDeleteObjectReplication() {
 		testV2.testDeleteObjectReplication();
@@ -401,7 +400,7 @@ public class Backend {
 	/**
 	 * deleteObjectTagging 복제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Replication")
 	void testDeleteObjectTaggingReplication() {
 		testV2.testDeleteObjectTaggingReplication();
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * CSE(Client-Side Encryption) 테스트
@@ -45,110 +44,132 @@ class CSE {
 	/**
 	 * [AES256] 1Byte 오브젝트를 암호화 하여 업로드한뒤, 다운로드하여 복호화 했을 경우 일치하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testCseEncryptedTransfer1b() {
-		test.testCseEncryptedTransfer1b();
-		testV2.testCseEncryptedTransfer1b();
+	void testCseEncryptedTransfer1b(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptedTransfer1b();
+			case V2 -> testV2.testCseEncryptedTransfer1b();
+		}
 	}
 
 	/**
 	 * [AES256] 1KB 오브젝트를 암호화 하여 업로드한뒤, 다운로드하여 복호화 했을 경우 일치하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testCseEncryptedTransfer1kb() {
-		test.testCseEncryptedTransfer1kb();
-		testV2.testCseEncryptedTransfer1kb();
+	void testCseEncryptedTransfer1kb(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptedTransfer1kb();
+			case V2 -> testV2.testCseEncryptedTransfer1kb();
+		}
 	}
 
 	/**
 	 * [AES256] 1MB 오브젝트를 암호화 하여 업로드한뒤, 다운로드하여 복호화 했을 경우 일치하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testCseEncryptedTransfer1MB() {
-		test.testCseEncryptedTransfer1MB();
-		testV2.testCseEncryptedTransfer1MB();
+	void testCseEncryptedTransfer1MB(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptedTransfer1MB();
+			case V2 -> testV2.testCseEncryptedTransfer1MB();
+		}
 	}
 
 	/**
 	 * [AES256] 13Byte 오브젝트를 암호화 하여 업로드한뒤, 다운로드하여 복호화 했을 경우 일치하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testCseEncryptedTransfer13b() {
-		test.testCseEncryptedTransfer13b();
-		testV2.testCseEncryptedTransfer13b();
+	void testCseEncryptedTransfer13b(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptedTransfer13b();
+			case V2 -> testV2.testCseEncryptedTransfer13b();
+		}
 	}
 
 	/**
 	 * [AES256] 암호화하고 메타데이터에 키값을 추가하여 업로드한 오브젝트가 올바르게 반영되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Metadata")
-	void testCseEncryptionMethodHead() {
-		test.testCseEncryptionMethodHead();
-		testV2.testCseEncryptionMethodHead();
+	void testCseEncryptionMethodHead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptionMethodHead();
+			case V2 -> testV2.testCseEncryptionMethodHead();
+		}
 	}
 
 	/**
 	 * [AES256] 암호화 하여 업로드한 오브젝트를 다운로드하여 비교할경우 불일치
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testCseEncryptionNonDecryption() {
-		test.testCseEncryptionNonDecryption();
-		testV2.testCseEncryptionNonDecryption();
+	void testCseEncryptionNonDecryption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptionNonDecryption();
+			case V2 -> testV2.testCseEncryptionNonDecryption();
+		}
 	}
 
 	/**
 	 * [AES256] 암호화 없이 업로드한 오브젝트를 다운로드하여 복호화할 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testCseNonEncryptionDecryption() {
-		test.testCseNonEncryptionDecryption();
-		testV2.testCseNonEncryptionDecryption();
+	void testCseNonEncryptionDecryption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseNonEncryptionDecryption();
+			case V2 -> testV2.testCseNonEncryptionDecryption();
+		}
 	}
 
 	/**
 	 * [AES256] 암호화 하여 업로드한 오브젝트에 대해 범위를 지정하여 읽기 성공
 	 */
-	@Test
+	@SdkTest
 	@Tag("RangeRead")
-	void testCseEncryptionRangeRead() {
-		test.testCseEncryptionRangeRead();
-		testV2.testCseEncryptionRangeRead();
+	void testCseEncryptionRangeRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptionRangeRead();
+			case V2 -> testV2.testCseEncryptionRangeRead();
+		}
 	}
 
 	/**
 	 * [AES256] 암호화된 오브젝트 멀티파트 업로드 / 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testCseEncryptionMultipartUpload() {
-		test.testCseEncryptionMultipartUpload();
-		testV2.testCseEncryptionMultipartUpload();
+	void testCseEncryptionMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseEncryptionMultipartUpload();
+			case V2 -> testV2.testCseEncryptionMultipartUpload();
+		}
 	}
 
 	/**
 	 * CSE설정한 오브젝트를 여러번 반복하여 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testCseGetObjectMany() {
-		test.testCseGetObjectMany();
-		testV2.testCseGetObjectMany();
+	void testCseGetObjectMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseGetObjectMany();
+			case V2 -> testV2.testCseGetObjectMany();
+		}
 	}
 
 	/**
 	 * CSE설정한 오브젝트를 여러번 반복하여 Range 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testCseRangeObjectMany() {
-		test.testCseRangeObjectMany();
-		testV2.testCseRangeObjectMany();
+	void testCseRangeObjectMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCseRangeObjectMany();
+			case V2 -> testV2.testCseRangeObjectMany();
+		}
 	}
 }
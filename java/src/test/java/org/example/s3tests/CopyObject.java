@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
@@ -46,62 +45,74 @@ class CopyObject {
 	/**
 	 * 오브젝트의 크기가 0일때 복사가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopyZeroSize() {
-		test.testObjectCopyZeroSize();
-		testV2.testObjectCopyZeroSize();
+	void testObjectCopyZeroSize(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyZeroSize();
+			case V2 -> testV2.testObjectCopyZeroSize();
+		}
 	}
 
 	/**
 	 * 동일한 버킷에서 오브젝트 복사가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopySameBucket() {
-		test.testObjectCopySameBucket();
-		testV2.testObjectCopySameBucket();
+	void testObjectCopySameBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopySameBucket();
+			case V2 -> testV2.testObjectCopySameBucket();
+		}
 	}
 
 	/**
 	 * ContentType을 설정한 오브젝트를 복사할 경우 복사된 오브젝트도 ContentType값이 일치하는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("ContentType")
-	void testObjectCopyVerifyContentType() {
-		test.testObjectCopyVerifyContentType();
-		testV2.testObjectCopyVerifyContentType();
+	void testObjectCopyVerifyContentType(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyVerifyContentType();
+			case V2 -> testV2.testObjectCopyVerifyContentType();
+		}
 	}
 
 	/**
 	 * 복사할 오브젝트와 복사될 오브젝트의 경로가 같을 경우 에러를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testObjectCopyToItself() {
-		test.testObjectCopyToItself();
-		testV2.testObjectCopyToItself();
+	void testObjectCopyToItself(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyToItself();
+			case V2 -> testV2.testObjectCopyToItself();
+		}
 	}
 
 	/**
 	 * 복사할 오브젝트와 복사될 오브젝트의 경로가 같지만 메타데이터를 덮어쓰기 모드로 추가하면 해당 오브젝트의 메타데이터가 업데이트되는지 확인하는
 	 * 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testObjectCopyToItselfWithMetadata() {
-		test.testObjectCopyToItselfWithMetadata();
-		testV2.testObjectCopyToItselfWithMetadata();
+	void testObjectCopyToItselfWithMetadata(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyToItselfWithMetadata();
+			case V2 -> testV2.testObjectCopyToItselfWithMetadata();
+		}
 	}
 
 	/**
 	 * 다른 버킷으로 오브젝트 복사가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopyDiffBucket() {
-		test.testObjectCopyDiffBucket();
-		testV2.testObjectCopyDiffBucket();
+	void testObjectCopyDiffBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyDiffBucket();
+			case V2 -> testV2.testObjectCopyDiffBucket();
+		}
 	}
 
 	/**
@@ -109,127 +120,151 @@ class CopyObject {
 	 * user]
 	 * 메인유저가 만든 버킷, 오브젝트를 서브유저가 만든 버킷으로 오브젝트 복사가 불가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopyNotOwnedBucket() {
-		test.testObjectCopyNotOwnedBucket();
-		testV2.testObjectCopyNotOwnedBucket();
+	void testObjectCopyNotOwnedBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyNotOwnedBucket();
+			case V2 -> testV2.testObjectCopyNotOwnedBucket();
+		}
 	}
 
 	/**
 	 * 다른유저의 버킷의 오브젝트를 권한이 충분할 경우 복사 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopyNotOwnedObjectBucket() {
-		test.testObjectCopyNotOwnedObjectBucket();
-		testV2.testObjectCopyNotOwnedObjectBucket();
+	void testObjectCopyNotOwnedObjectBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyNotOwnedObjectBucket();
+			case V2 -> testV2.testObjectCopyNotOwnedObjectBucket();
+		}
 	}
 
 	/**
 	 * 권한정보를 포함하여 복사할때 올바르게 적용되는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testObjectCopyCannedAcl() {
-		test.testObjectCopyCannedAcl();
-		testV2.testObjectCopyCannedAcl();
+	void testObjectCopyCannedAcl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyCannedAcl();
+			case V2 -> testV2.testObjectCopyCannedAcl();
+		}
 	}
 
 	/**
 	 * 크고 작은 용량의 오브젝트가 복사되는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopyRetainingMetadata() {
-		test.testObjectCopyRetainingMetadata();
-		testV2.testObjectCopyRetainingMetadata();
+	void testObjectCopyRetainingMetadata(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyRetainingMetadata();
+			case V2 -> testV2.testObjectCopyRetainingMetadata();
+		}
 	}
 
 	/**
 	 * 크고 작은 용량의 오브젝트및 메타데이터가 복사되는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectCopyReplacingMetadata() {
-		test.testObjectCopyReplacingMetadata();
-		testV2.testObjectCopyReplacingMetadata();
+	void testObjectCopyReplacingMetadata(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyReplacingMetadata();
+			case V2 -> testV2.testObjectCopyReplacingMetadata();
+		}
 	}
 
 	/**
 	 * 존재하지 않는 버킷에서 존재하지 않는 오브젝트 복사 실패를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectCopyBucketNotFound() {
-		test.testObjectCopyBucketNotFound();
-		testV2.testObjectCopyBucketNotFound();
+	void testObjectCopyBucketNotFound(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyBucketNotFound();
+			case V2 -> testV2.testObjectCopyBucketNotFound();
+		}
 	}
 
 	/**
 	 * 존재하지않는 오브젝트 복사 실패를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectCopyKeyNotFound() {
-		test.testObjectCopyKeyNotFound();
-		testV2.testObjectCopyKeyNotFound();
+	void testObjectCopyKeyNotFound(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyKeyNotFound();
+			case V2 -> testV2.testObjectCopyKeyNotFound();
+		}
 	}
 
 	/**
 	 * 버저닝된 오브젝트 복사를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Version")
-	void testObjectCopyVersioningBucket() {
-		test.testObjectCopyVersioningBucket();
-		testV2.testObjectCopyVersioningBucket();
+	void testObjectCopyVersioningBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyVersioningBucket();
+			case V2 -> testV2.testObjectCopyVersioningBucket();
+		}
 	}
 
 	/**
 	 * [버킷이 버저닝 가능하고 오브젝트이름에 특수문자가 들어갔을 경우] 오브젝트 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Version")
-	void testObjectCopyVersioningUrlEncoding() {
-		test.testObjectCopyVersioningUrlEncoding();
-		testV2.testObjectCopyVersioningUrlEncoding();
+	void testObjectCopyVersioningUrlEncoding(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyVersioningUrlEncoding();
+			case V2 -> testV2.testObjectCopyVersioningUrlEncoding();
+		}
 	}
 
 	/**
 	 * [버킷에 버저닝 설정] 멀티파트로 업로드된 오브젝트 복사를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testObjectCopyVersioningMultipartUpload() {
-		test.testObjectCopyVersioningMultipartUpload();
-		testV2.testObjectCopyVersioningMultipartUpload();
+	void testObjectCopyVersioningMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyVersioningMultipartUpload();
+			case V2 -> testV2.testObjectCopyVersioningMultipartUpload();
+		}
 	}
 
 	/**
 	 * ifMatch 값을 추가하여 오브젝트를 복사할 경우 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfMatch")
-	void testCopyObjectIfMatchGood() {
-		test.testCopyObjectIfMatchGood();
-		testV2.testCopyObjectIfMatchGood();
+	void testCopyObjectIfMatchGood(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyObjectIfMatchGood();
+			case V2 -> testV2.testCopyObjectIfMatchGood();
+		}
 	}
 
 	/**
 	 * ifMatch에 잘못된 값을 입력하여 오브젝트를 복사할 경우 실패를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfMatch")
-	void testCopyObjectIfMatchFailed() {
-		test.testCopyObjectIfMatchFailed();
-		testV2.testCopyObjectIfMatchFailed();
+	void testCopyObjectIfMatchFailed(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyObjectIfMatchFailed();
+			case V2 -> testV2.testCopyObjectIfMatchFailed();
+		}
 	}
 
 	/**
 	 * 소스 오브젝트와 일치하지 않는 copy-source-if-none-match 조건으로 복사 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCopyObjectIfNoneMatchGood() {
 		testV2.testCopyObjectIfNoneMatchGood();
@@ -238,7 +273,7 @@ class CopyObject {
 	/**
 	 * 소스 오브젝트와 일치하는 copy-source-if-none-match 조건으로 복사 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCopyObjectIfNoneMatchFailed() {
 		testV2.testCopyObjectIfNoneMatchFailed();
@@ -247,7 +282,7 @@ class CopyObject {
 	/**
 	 * 소스 오브젝트 업로드 이전 시간의 copy-source-if-modified-since 조건으로 복사 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfModifiedSince")
 	void testCopyObjectIfModifiedSinceGood() {
 		testV2.testCopyObjectIfModifiedSinceGood();
@@ -256,7 +291,7 @@ class CopyObject {
 	/**
 	 * 소스 오브젝트 업로드 이후 시간의 copy-source-if-modified-since 조건으로 복사 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfModifiedSince")
 	void testCopyObjectIfModifiedSinceFailed() {
 		testV2.testCopyObjectIfModifiedSinceFailed();
@@ -265,7 +300,7 @@ class CopyObject {
 	/**
 	 * 소스 오브젝트 업로드 이후 시간의 copy-source-if-unmodified-since 조건으로 복사 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfUnmodifiedSince")
 	void testCopyObjectIfUnmodifiedSinceGood() {
 		testV2.testCopyObjectIfUnmodifiedSinceGood();
@@ -274,7 +309,7 @@ class CopyObject {
 	/**
 	 * 소스 오브젝트 업로드 이전 시간의 copy-source-if-unmodified-since 조건으로 복사 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfUnmodifiedSince")
 	void testCopyObjectIfUnmodifiedSinceFailed() {
 		testV2.testCopyObjectIfUnmodifiedSinceFailed();
@@ -284,7 +319,7 @@ class CopyObject {
 	 * copy-source-if-match(일치)와 copy-source-if-unmodified-since(불일치)를 함께 사용할 경우
 	 * ETag 조건이 우선되어 복사에 성공하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testCopyObjectIfMatchWithIfUnmodifiedSince() {
 		testV2.testCopyObjectIfMatchWithIfUnmodifiedSince();
@@ -294,7 +329,7 @@ class CopyObject {
 	 * copy-source-if-none-match(불일치)와 copy-source-if-modified-since(일치)를 함께 사용할 경우
 	 * ETag 조건이 우선되어 412가 반환되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCopyObjectIfNoneMatchWithIfModifiedSince() {
 		testV2.testCopyObjectIfNoneMatchWithIfModifiedSince();
@@ -303,7 +338,7 @@ class CopyObject {
 	/**
 	 * copy-source-if-match와 copy-source-if-none-match에 동일한 ETag를 지정하면 412가 반환되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCopyObjectIfMatchAndIfNoneMatch() {
@@ -313,7 +348,7 @@ class CopyObject {
 	/**
 	 * copy-source-if-match와 copy-source-if-none-match: * 를 함께 지정하면 412가 반환되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCopyObjectIfMatchAndIfNoneMatchAny() {
@@ -323,7 +358,7 @@ class CopyObject {
 	/**
 	 * 대상 오브젝트와 일치하는 If-Match 조건으로 덮어쓰기 복사 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testCopyObjectDestinationIfMatchGood() {
 		testV2.testCopyObjectDestinationIfMatchGood();
@@ -332,7 +367,7 @@ class CopyObject {
 	/**
 	 * 대상 오브젝트와 일치하지 않는 If-Match 조건으로 덮어쓰기 복사 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testCopyObjectDestinationIfMatchFailed() {
 		testV2.testCopyObjectDestinationIfMatchFailed();
@@ -341,7 +376,7 @@ class CopyObject {
 	/**
 	 * 존재하지 않는 대상 키에 If-None-Match: * 조건으로 복사 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCopyObjectDestinationIfNoneMatchGood() {
 		testV2.testCopyObjectDestinationIfNoneMatchGood();
@@ -350,7 +385,7 @@ class CopyObject {
 	/**
 	 * 이미 존재하는 대상 키에 If-None-Match: * 조건으로 복사 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCopyObjectDestinationIfNoneMatchFailed() {
 		testV2.testCopyObjectDestinationIfNoneMatchFailed();
@@ -359,7 +394,7 @@ class CopyObject {
 	/**
 	 * 대상에 If-Match와 If-None-Match를 함께 지정하면 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCopyObjectDestinationIfMatchAndIfNoneMatch() {
@@ -369,7 +404,7 @@ class CopyObject {
 	/**
 	 * 대상에 If-Match와 If-None-Match: * 를 함께 지정하면 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCopyObjectDestinationIfMatchAndIfNoneMatchAny() {
@@ -379,7 +414,7 @@ class CopyObject {
 	/**
 	 * 소스 If-Match와 대상 If-None-Match: * 를 함께 사용해 복사 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCopyObjectSourceIfMatchWithDestinationIfNoneMatch() {
@@ -390,203 +425,239 @@ class CopyObject {
 	 * [source obj : normal, dest bucket : normal, dest obj : normal] 오브젝트 복사 성공을
 	 * 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyNorSrcToNorBucketAndObj() {
-		test.testCopyNorSrcToNorBucketAndObj();
-		testV2.testCopyNorSrcToNorBucketAndObj();
+	void testCopyNorSrcToNorBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyNorSrcToNorBucketAndObj();
+			case V2 -> testV2.testCopyNorSrcToNorBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source obj : normal, dest bucket : normal, dest obj : encryption] 오브젝트 복사
 	 * 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyNorSrcToNorBucketEncryptionObj() {
-		test.testCopyNorSrcToNorBucketEncryptionObj();
-		testV2.testCopyNorSrcToNorBucketEncryptionObj();
+	void testCopyNorSrcToNorBucketEncryptionObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyNorSrcToNorBucketEncryptionObj();
+			case V2 -> testV2.testCopyNorSrcToNorBucketEncryptionObj();
+		}
 	}
 
 	/**
 	 * [source obj : normal, dest bucket : encryption, dest obj : normal] 오브젝트 복사
 	 * 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyNorSrcToEncryptionBucketNorObj() {
-		test.testCopyNorSrcToEncryptionBucketNorObj();
-		testV2.testCopyNorSrcToEncryptionBucketNorObj();
+	void testCopyNorSrcToEncryptionBucketNorObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyNorSrcToEncryptionBucketNorObj();
+			case V2 -> testV2.testCopyNorSrcToEncryptionBucketNorObj();
+		}
 	}
 
 	/**
 	 * [source obj : normal, dest bucket : encryption, dest obj : encryption] 오브젝트
 	 * 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyNorSrcToEncryptionBucketAndObj() {
-		test.testCopyNorSrcToEncryptionBucketAndObj();
-		testV2.testCopyNorSrcToEncryptionBucketAndObj();
+	void testCopyNorSrcToEncryptionBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyNorSrcToEncryptionBucketAndObj();
+			case V2 -> testV2.testCopyNorSrcToEncryptionBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : normal, dest obj : normal] 오브젝트 복사
 	 * 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionSrcToNorBucketAndObj() {
-		test.testCopyEncryptionSrcToNorBucketAndObj();
-		testV2.testCopyEncryptionSrcToNorBucketAndObj();
+	void testCopyEncryptionSrcToNorBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionSrcToNorBucketAndObj();
+			case V2 -> testV2.testCopyEncryptionSrcToNorBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : normal, dest obj : encryption] 오브젝트
 	 * 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionSrcToNorBucketEncryptionObj() {
-		test.testCopyEncryptionSrcToNorBucketEncryptionObj();
-		testV2.testCopyEncryptionSrcToNorBucketEncryptionObj();
+	void testCopyEncryptionSrcToNorBucketEncryptionObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionSrcToNorBucketEncryptionObj();
+			case V2 -> testV2.testCopyEncryptionSrcToNorBucketEncryptionObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : encryption, dest obj : normal] 오브젝트
 	 * 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionSrcToEncryptionBucketNorObj() {
-		test.testCopyEncryptionSrcToEncryptionBucketNorObj();
-		testV2.testCopyEncryptionSrcToEncryptionBucketNorObj();
+	void testCopyEncryptionSrcToEncryptionBucketNorObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionSrcToEncryptionBucketNorObj();
+			case V2 -> testV2.testCopyEncryptionSrcToEncryptionBucketNorObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : encryption, dest obj : encryption]
 	 * 오브젝트 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionSrcToEncryptionBucketAndObj() {
-		test.testCopyEncryptionSrcToEncryptionBucketAndObj();
-		testV2.testCopyEncryptionSrcToEncryptionBucketAndObj();
+	void testCopyEncryptionSrcToEncryptionBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionSrcToEncryptionBucketAndObj();
+			case V2 -> testV2.testCopyEncryptionSrcToEncryptionBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source bucket : encryption, source obj : normal, dest bucket : normal, dest
 	 * obj : normal] 오브젝트 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketNorObjToNorBucketAndObj() {
-		test.testCopyEncryptionBucketNorObjToNorBucketAndObj();
-		testV2.testCopyEncryptionBucketNorObjToNorBucketAndObj();
+	void testCopyEncryptionBucketNorObjToNorBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketNorObjToNorBucketAndObj();
+			case V2 -> testV2.testCopyEncryptionBucketNorObjToNorBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source obj : normal, dest bucket : normal, dest obj : encryption] 오브젝트 복사
 	 * 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketNorObjToNorBucketEncryptionObj() {
-		test.testCopyEncryptionBucketNorObjToNorBucketEncryptionObj();
-		testV2.testCopyEncryptionBucketNorObjToNorBucketEncryptionObj();
+	void testCopyEncryptionBucketNorObjToNorBucketEncryptionObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketNorObjToNorBucketEncryptionObj();
+			case V2 -> testV2.testCopyEncryptionBucketNorObjToNorBucketEncryptionObj();
+		}
 	}
 
 	/**
 	 * [source obj : normal, dest bucket : encryption, dest obj : normal] 오브젝트 복사
 	 * 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketNorObjToEncryptionBucketNorObj() {
-		test.testCopyEncryptionBucketNorObjToEncryptionBucketNorObj();
-		testV2.testCopyEncryptionBucketNorObjToEncryptionBucketNorObj();
+	void testCopyEncryptionBucketNorObjToEncryptionBucketNorObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketNorObjToEncryptionBucketNorObj();
+			case V2 -> testV2.testCopyEncryptionBucketNorObjToEncryptionBucketNorObj();
+		}
 	}
 
 	/**
 	 * [source obj : normal, dest bucket : encryption, dest obj : encryption] 오브젝트
 	 * 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketNorObjToEncryptionBucketAndObj() {
-		test.testCopyEncryptionBucketNorObjToEncryptionBucketAndObj();
-		testV2.testCopyEncryptionBucketNorObjToEncryptionBucketAndObj();
+	void testCopyEncryptionBucketNorObjToEncryptionBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketNorObjToEncryptionBucketAndObj();
+			case V2 -> testV2.testCopyEncryptionBucketNorObjToEncryptionBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : normal, dest obj : normal] 오브젝트 복사
 	 * 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketAndObjToNorBucketAndObj() {
-		test.testCopyEncryptionBucketAndObjToNorBucketAndObj();
-		testV2.testCopyEncryptionBucketAndObjToNorBucketAndObj();
+	void testCopyEncryptionBucketAndObjToNorBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketAndObjToNorBucketAndObj();
+			case V2 -> testV2.testCopyEncryptionBucketAndObjToNorBucketAndObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : normal, dest obj : encryption] 오브젝트
 	 * 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketAndObjToNorBucketEncryptionObj() {
-		test.testCopyEncryptionBucketAndObjToNorBucketEncryptionObj();
-		testV2.testCopyEncryptionBucketAndObjToNorBucketEncryptionObj();
+	void testCopyEncryptionBucketAndObjToNorBucketEncryptionObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketAndObjToNorBucketEncryptionObj();
+			case V2 -> testV2.testCopyEncryptionBucketAndObjToNorBucketEncryptionObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : encryption, dest obj : normal] 오브젝트
 	 * 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketAndObjToEncryptionBucketNorObj() {
-		test.testCopyEncryptionBucketAndObjToEncryptionBucketNorObj();
-		testV2.testCopyEncryptionBucketAndObjToEncryptionBucketNorObj();
+	void testCopyEncryptionBucketAndObjToEncryptionBucketNorObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketAndObjToEncryptionBucketNorObj();
+			case V2 -> testV2.testCopyEncryptionBucketAndObjToEncryptionBucketNorObj();
+		}
 	}
 
 	/**
 	 * [source obj : encryption, dest bucket : encryption, dest obj : encryption]
 	 * 오브젝트 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyEncryptionBucketAndObjToEncryptionBucketAndObj() {
-		test.testCopyEncryptionBucketAndObjToEncryptionBucketAndObj();
-		testV2.testCopyEncryptionBucketAndObjToEncryptionBucketAndObj();
+	void testCopyEncryptionBucketAndObjToEncryptionBucketAndObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyEncryptionBucketAndObjToEncryptionBucketAndObj();
+			case V2 -> testV2.testCopyEncryptionBucketAndObjToEncryptionBucketAndObj();
+		}
 	}
 
 	/**
 	 * 일반 오브젝트에서 다양한 방식으로 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyToNormalSource() {
-		test.testCopyToNormalSource();
-		testV2.testCopyToNormalSource();
+	void testCopyToNormalSource(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyToNormalSource();
+			case V2 -> testV2.testCopyToNormalSource();
+		}
 	}
 
 	/**
 	 * SSE-S3암호화 된 오브젝트에서 다양한 방식으로 복사 성공을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testCopyToSseS3Source() {
-		test.testCopyToSseS3Source();
-		testV2.testCopyToSseS3Source();
+	void testCopyToSseS3Source(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyToSseS3Source();
+			case V2 -> testV2.testCopyToSseS3Source();
+		}
 	}
 
 	/**
 	 * SSE-C암호화 된 오브젝트에서 다양한 방식으로 복사 성공을 확인하는 테스트
 	 * SDK V1은 SSE-C 차단 해제(BlockedEncryptionTypes)를 지원하지 않아 V2만 테스트한다.
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("encryption")
 	void testCopyToSseCSource() {
 		testV2.testCopyToSseCSource();
@@ -595,58 +666,68 @@ class CopyObject {
 	/**
 	 * 삭제된 오브젝트 복사 실패를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testCopyToDeletedObject() {
-		test.testCopyToDeletedObject();
-		testV2.testCopyToDeletedObject();
+	void testCopyToDeletedObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyToDeletedObject();
+			case V2 -> testV2.testCopyToDeletedObject();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 삭제된 오브젝트 복사 실패를 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testCopyToDeleteMarkerObject() {
-		test.testCopyToDeleteMarkerObject();
-		testV2.testCopyToDeleteMarkerObject();
+	void testCopyToDeleteMarkerObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyToDeleteMarkerObject();
+			case V2 -> testV2.testCopyToDeleteMarkerObject();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 copyObject로 덮어쓰기할 경우 메타데이터 덮어쓰기 모드로 메타데이터를 추가 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testObjectVersioningCopyToItselfWithMetadata() {
-		test.testObjectVersioningCopyToItselfWithMetadata();
-		testV2.testObjectVersioningCopyToItselfWithMetadata();
+	void testObjectVersioningCopyToItselfWithMetadata(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectVersioningCopyToItselfWithMetadata();
+			case V2 -> testV2.testObjectVersioningCopyToItselfWithMetadata();
+		}
 	}
 
 	/**
 	 * copyObject로 덮어쓰기할 경우 메타데이터 덮어쓰기 모드로 메타데이터를 변경 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testObjectCopyToItselfWithMetadataOverwrite() {
-		test.testObjectCopyToItselfWithMetadataOverwrite();
-		testV2.testObjectCopyToItselfWithMetadataOverwrite();
+	void testObjectCopyToItselfWithMetadataOverwrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectCopyToItselfWithMetadataOverwrite();
+			case V2 -> testV2.testObjectCopyToItselfWithMetadataOverwrite();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 copyObject로 덮어쓰기할 경우 메타데이터 덮어쓰기 모드로 메타데이터를 변경 가능한지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testObjectVersioningCopyToItselfWithMetadataOverwrite() {
-		test.testObjectVersioningCopyToItselfWithMetadataOverwrite();
-		testV2.testObjectVersioningCopyToItselfWithMetadataOverwrite();
+	void testObjectVersioningCopyToItselfWithMetadataOverwrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectVersioningCopyToItselfWithMetadataOverwrite();
+			case V2 -> testV2.testObjectVersioningCopyToItselfWithMetadataOverwrite();
+		}
 	}
 
 	/**
 	 * sse-c로 암호화된 오브젝트를 복사할때 Algorithm을 누락하면 오류가 발생하는지 확인하는 테스트
 	 * SDK V1은 SSE-C 차단 해제(BlockedEncryptionTypes)를 지원하지 않아 V2만 테스트한다.
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testCopyRevokeSseAlgorithm() {
 		testV2.testCopyRevokeSseAlgorithm();
@@ -655,7 +736,7 @@ class CopyObject {
 	/**
 	 * UseChunkEncoding을 사용하는 오브젝트 복사 시 체크섬 계산 및 검증을 확인하는 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	void testCopyObjectChecksumUseChunkEncoding() {
 		testV2.testCopyObjectChecksumUseChunkEncoding();
@@ -664,10 +745,12 @@ class CopyObject {
 	/**
 	 * 메타데이터와 태그가 복사되는지 확인하는 테스트
 	 */
-	@Test
+	@SdkTest
 	@Tag("metadata")
-	void testCopyObjectMetadataAndTags() {
-		test.testCopyObjectMetadataAndTags();
-		testV2.testCopyObjectMetadataAndTags();
+	void testCopyObjectMetadataAndTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyObjectMetadataAndTags();
+			case V2 -> testV2.testCopyObjectMetadataAndTags();
+		}
 	}
 }
@@ -16,7 +16,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * CORS 테스트
@@ -47,40 +46,48 @@ class Cors {
 	/**
 	 * 버킷의 cors정보 세팅 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testSetCors() {
-		test.testSetCors();
-		testV2.testSetCors();
+	void testSetCors(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSetCors();
+			case V2 -> testV2.testSetCors();
+		}
 	}
 
 	/**
 	 * 버킷의 cors정보를 URL로 읽고 쓰기 성공/실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Post")
-	void testCorsOriginResponse() {
-		test.testCorsOriginResponse();
-		testV2.testCorsOriginResponse();
+	void testCorsOriginResponse(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCorsOriginResponse();
+			case V2 -> testV2.testCorsOriginResponse();
+		}
 	}
 
 	/**
 	 * 와일드카드 문자만 입력하여 cors설정을 하였을때 정상적으로 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Post")
-	void testCorsOriginWildcard() {
-		test.testCorsOriginWildcard();
-		testV2.testCorsOriginWildcard();
+	void testCorsOriginWildcard(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCorsOriginWildcard();
+			case V2 -> testV2.testCorsOriginWildcard();
+		}
 	}
 
 	/**
 	 * cors옵션에서 사용자 추가 헤더를 설정하고 존재하지 않는 헤더를 request 설정한 채로 cors호출하면 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Post")
-	void testCorsHeaderOption() {
-		test.testCorsHeaderOption();
-		testV2.testCorsHeaderOption();
+	void testCorsHeaderOption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCorsHeaderOption();
+			case V2 -> testV2.testCorsHeaderOption();
+		}
 	}
 }
\ No newline at end of file
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷 삭제 기능 테스트
@@ -45,30 +44,36 @@ class DeleteBucket {
 	/**
 	 * 존재하지 않는 버킷을 삭제하려 했을 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketDeleteNotExist() {
-		test.testBucketDeleteNotExist();
-		testV2.testBucketDeleteNotExist();
+	void testBucketDeleteNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketDeleteNotExist();
+			case V2 -> testV2.testBucketDeleteNotExist();
+		}
 	}
 
 	/**
 	 * 내용이 비어있지 않은 버킷을 삭제하려 했을 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketDeleteNonempty() {
-		test.testBucketDeleteNonempty();
-		testV2.testBucketDeleteNonempty();
+	void testBucketDeleteNonempty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketDeleteNonempty();
+			case V2 -> testV2.testBucketDeleteNonempty();
+		}
 	}
 
 	/**
 	 * 이미 삭제된 버킷을 다시 삭제 시도할 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketCreateDelete() {
-		test.testBucketCreateDelete();
-		testV2.testBucketCreateDelete();
+	void testBucketCreateDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateDelete();
+			case V2 -> testV2.testBucketCreateDelete();
+		}
 	}
 }
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 오브젝트 삭제 기능 테스트
@@ -45,127 +44,151 @@ class DeleteObjects {
 	/**
 	 * 버킷에 존재하는 오브젝트 여러개를 한번에 삭제
 	 */
-	@Test
+	@SdkTest
 	@Tag("ListObject")
-	void testMultiObjectDelete() {
-		test.testMultiObjectDelete();
-		testV2.testMultiObjectDelete();
+	void testMultiObjectDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultiObjectDelete();
+			case V2 -> testV2.testMultiObjectDelete();
+		}
 	}
 
 	/**
 	 * 버킷에 존재하는 오브젝트 여러개를 한번에 삭제(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("ListObjectsV2")
-	void testMultiObjectV2Delete() {
-		test.testMultiObjectV2Delete();
-		testV2.testMultiObjectV2Delete();
+	void testMultiObjectV2Delete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultiObjectV2Delete();
+			case V2 -> testV2.testMultiObjectV2Delete();
+		}
 	}
 
 	/**
 	 * 버킷에 존재하는 버저닝 오브젝트 여러개를 한번에 삭제
 	 */
-	@Test
+	@SdkTest
 	@Tag("Versioning")
-	void testMultiObjectDeleteVersions() {
-		test.testMultiObjectDeleteVersions();
-		testV2.testMultiObjectDeleteVersions();
+	void testMultiObjectDeleteVersions(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultiObjectDeleteVersions();
+			case V2 -> testV2.testMultiObjectDeleteVersions();
+		}
 	}
 
 	/**
 	 * quiet옵션을 설정한 상태에서 버킷에 존재하는 오브젝트 여러개를 한번에 삭제
 	 */
-	@Test
+	@SdkTest
 	@Tag("quiet")
-	void testMultiObjectDeleteQuiet() {
-		test.testMultiObjectDeleteQuiet();
-		testV2.testMultiObjectDeleteQuiet();
+	void testMultiObjectDeleteQuiet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultiObjectDeleteQuiet();
+			case V2 -> testV2.testMultiObjectDeleteQuiet();
+		}
 	}
 
 	/**
 	 * 업로드한 디렉토리를 삭제해도 해당 디렉토리에 오브젝트가 보이는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Directory")
-	void testDirectoryDelete() {
-		test.testDirectoryDelete();
-		testV2.testDirectoryDelete();
+	void testDirectoryDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDirectoryDelete();
+			case V2 -> testV2.testDirectoryDelete();
+		}
 	}
 
 	/**
 	 * 버저닝 된 버킷에 업로드한 디렉토리를 삭제해도 해당 디렉토리에 오브젝트가 보이는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("versioning")
-	void testDirectoryDeleteVersions() {
-		test.testDirectoryDeleteVersions();
-		testV2.testDirectoryDeleteVersions();
+	void testDirectoryDeleteVersions(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDirectoryDeleteVersions();
+			case V2 -> testV2.testDirectoryDeleteVersions();
+		}
 	}
 
 	/**
 	 * 삭제한 오브젝트가 재대로 삭제 되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("DeleteObjects")
-	void testDeleteObjects() {
-		test.testDeleteObjects();
-		testV2.testDeleteObjects();
+	void testDeleteObjects(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteObjects();
+			case V2 -> testV2.testDeleteObjects();
+		}
 	}
 
 	/**
 	 * 버저닝 된 버켓에서 버전 정보를 포함한 삭제가 정상 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("versioning")
-	void testDeleteObjectsWithVersioning() {
-		test.testDeleteObjectsWithVersioning();
-		testV2.testDeleteObjectsWithVersioning();
+	void testDeleteObjectsWithVersioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteObjectsWithVersioning();
+			case V2 -> testV2.testDeleteObjectsWithVersioning();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 오브젝트를 삭제할 경우 DeleteMarker가 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("versioning")
-	void testDeleteObjectsWithVersioningDeleteMarker() {
-		test.testDeleteObjectsWithVersioningDeleteMarker();
-		testV2.testDeleteObjectsWithVersioningDeleteMarker();
+	void testDeleteObjectsWithVersioningDeleteMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteObjectsWithVersioningDeleteMarker();
+			case V2 -> testV2.testDeleteObjectsWithVersioningDeleteMarker();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 여러 오브젝트를 삭제할 경우 DeleteMarker가 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("versioning")
-	void testVersioningMultiObjectDeleteWithMarker() {
-		test.testVersioningMultiObjectDeleteWithMarker();
-		testV2.testVersioningMultiObjectDeleteWithMarker();
+	void testVersioningMultiObjectDeleteWithMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningMultiObjectDeleteWithMarker();
+			case V2 -> testV2.testVersioningMultiObjectDeleteWithMarker();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 존재하지 않는 오브젝트를 반복 삭제할 경우 DeleteMarker가 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("versioning")
-	void testVersioningMultiObjectDeleteWithMarkerCreate() {
-		test.testVersioningMultiObjectDeleteWithMarkerCreate();
-		testV2.testVersioningMultiObjectDeleteWithMarkerCreate();
+	void testVersioningMultiObjectDeleteWithMarkerCreate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningMultiObjectDeleteWithMarkerCreate();
+			case V2 -> testV2.testVersioningMultiObjectDeleteWithMarkerCreate();
+		}
 	}
 
 	/**
 	 * 버저닝된 버킷에서 존재하지 않는 여러개의 오브젝트를 삭제할 경우 DeleteMarker가 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("versioning")
-	void testVersioningMultiObjectDeleteWithMarkerCreateObjects() {
-		test.testVersioningMultiObjectDeleteWithMarkerCreateObjects();
-		testV2.testVersioningMultiObjectDeleteWithMarkerCreateObjects();
+	void testVersioningMultiObjectDeleteWithMarkerCreateObjects(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningMultiObjectDeleteWithMarkerCreateObjects();
+			case V2 -> testV2.testVersioningMultiObjectDeleteWithMarkerCreateObjects();
+		}
 	}
 
 	/**
 	 * 일치하는 If-Match 조건으로 오브젝트 삭제 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testDeleteObjectIfMatchGood() {
 		testV2.testDeleteObjectIfMatchGood();
@@ -174,7 +197,7 @@ class DeleteObjects {
 	/**
 	 * 일치하지 않는 If-Match 조건으로 오브젝트 삭제 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testDeleteObjectIfMatchFailed() {
 		testV2.testDeleteObjectIfMatchFailed();
@@ -183,7 +206,7 @@ class DeleteObjects {
 	/**
 	 * If-Match: * 조건으로 존재하는 오브젝트 삭제 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testDeleteObjectIfMatchAny() {
 		testV2.testDeleteObjectIfMatchAny();
@@ -192,7 +215,7 @@ class DeleteObjects {
 	/**
 	 * If-Match와 If-None-Match를 함께 지정하면 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testDeleteObjectIfMatchAndIfNoneMatch() {
@@ -202,7 +225,7 @@ class DeleteObjects {
 	/**
 	 * If-Match와 If-None-Match: * 를 함께 지정하면 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testDeleteObjectIfMatchAndIfNoneMatchAny() {
@@ -212,7 +235,7 @@ class DeleteObjects {
 	/**
 	 * 모든 오브젝트의 ETag 조건이 일치하는 DeleteObjects 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testDeleteObjectsIfMatchGood() {
 		testV2.testDeleteObjectsIfMatchGood();
@@ -221,7 +244,7 @@ class DeleteObjects {
 	/**
 	 * ETag 조건이 일치하지 않는 오브젝트만 삭제에 실패(PreconditionFailed)하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testDeleteObjectsIfMatchMixed() {
 		testV2.testDeleteObjectsIfMatchMixed();
@@ -230,7 +253,7 @@ class DeleteObjects {
 	/**
 	 * If-Match와 If-None-Match를 함께 지정하면 DeleteObjects가 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testDeleteObjectsIfMatchAndIfNoneMatch() {
@@ -240,7 +263,7 @@ class DeleteObjects {
 	/**
 	 * If-Match와 If-None-Match: * 를 함께 지정하면 DeleteObjects가 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testDeleteObjectsIfMatchAndIfNoneMatchAny() {
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 오브젝트 다운로드 기능 테스트
@@ -45,97 +44,115 @@ class GetObject {
 	/**
 	 * 버킷에 존재하지 않는 오브젝트 다운로드를 할 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectReadNotExist() {
-		test.testObjectReadNotExist();
-		testV2.testObjectReadNotExist();
+	void testObjectReadNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectReadNotExist();
+			case V2 -> testV2.testObjectReadNotExist();
+		}
 	}
 
 	/**
 	 * 존재하는 오브젝트 이름과 ETag 값으로 오브젝트를 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfMatch")
-	void testGetObjectIfMatchGood() {
-		test.testGetObjectIfMatchGood();
-		testV2.testGetObjectIfMatchGood();
+	void testGetObjectIfMatchGood(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfMatchGood();
+			case V2 -> testV2.testGetObjectIfMatchGood();
+		}
 	}
 
 	/**
 	 * 오브젝트와 일치하지 않는 ETag 값을 설정하여 오브젝트 조회 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfMatch")
-	void testGetObjectIfMatchFailed() {
-		test.testGetObjectIfMatchFailed();
-		testV2.testGetObjectIfMatchFailed();
+	void testGetObjectIfMatchFailed(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfMatchFailed();
+			case V2 -> testV2.testGetObjectIfMatchFailed();
+		}
 	}
 
 	/**
 	 * 오브젝트와 일치하는 ETag 값을 IfsNoneMatch에 설정하여 오브젝트 조회 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfNoneMatch")
-	void testGetObjectIfNoneMatchGood() {
-		test.testGetObjectIfNoneMatchGood();
-		testV2.testGetObjectIfNoneMatchGood();
+	void testGetObjectIfNoneMatchGood(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfNoneMatchGood();
+			case V2 -> testV2.testGetObjectIfNoneMatchGood();
+		}
 	}
 
 	/**
 	 * 오브젝트와 일치하지 않는 ETag 값을 IfsNoneMatch에 설정하여 오브젝트 조회 성공
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfNoneMatch")
-	void testGetObjectIfNoneMatchFailed() {
-		test.testGetObjectIfNoneMatchFailed();
-		testV2.testGetObjectIfNoneMatchFailed();
+	void testGetObjectIfNoneMatchFailed(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfNoneMatchFailed();
+			case V2 -> testV2.testGetObjectIfNoneMatchFailed();
+		}
 	}
 
 	/**
 	 * [지정일을 오브젝트 업로드 시간 이전으로 설정] 지정일(ifModifiedSince)보다 이후에 수정된 오브젝트를 조회 성공
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfModifiedSince")
-	void testGetObjectIfModifiedSinceGood() {
-		test.testGetObjectIfModifiedSinceGood();
-		testV2.testGetObjectIfModifiedSinceGood();
+	void testGetObjectIfModifiedSinceGood(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfModifiedSinceGood();
+			case V2 -> testV2.testGetObjectIfModifiedSinceGood();
+		}
 	}
 
 	/**
 	 * [지정일을 오브젝트 업로드 시간 이후로 설정] 지정일(ifModifiedSince)보다 이전에 수정된 오브젝트 조회 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfModifiedSince")
-	void testGetObjectIfModifiedSinceFailed() {
-		test.testGetObjectIfModifiedSinceFailed();
-		testV2.testGetObjectIfModifiedSinceFailed();
+	void testGetObjectIfModifiedSinceFailed(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfModifiedSinceFailed();
+			case V2 -> testV2.testGetObjectIfModifiedSinceFailed();
+		}
 	}
 
 	/**
 	 * [지정일을 오브젝트 업로드 시간 이전으로 설정] 지정일(ifUnmodifiedSince) 이후 수정되지 않은 오브젝트 조회 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfUnmodifiedSince")
-	void testGetObjectIfUnmodifiedSinceGood() {
-		test.testGetObjectIfUnmodifiedSinceGood();
-		testV2.testGetObjectIfUnmodifiedSinceGood();
+	void testGetObjectIfUnmodifiedSinceGood(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfUnmodifiedSinceGood();
+			case V2 -> testV2.testGetObjectIfUnmodifiedSinceGood();
+		}
 	}
 
 	/**
 	 * [지정일을 오브젝트 업로드 시간 이후으로 설정] 지정일(ifUnmodifiedSince) 이후 수정되지 않은 오브젝트 조회 성공
 	 */
-	@Test
+	@SdkTest
 	@Tag("IfUnmodifiedSince")
-	void testGetObjectIfUnmodifiedSinceFailed() {
-		test.testGetObjectIfUnmodifiedSinceFailed();
-		testV2.testGetObjectIfUnmodifiedSinceFailed();
+	void testGetObjectIfUnmodifiedSinceFailed(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIfUnmodifiedSinceFailed();
+			case V2 -> testV2.testGetObjectIfUnmodifiedSinceFailed();
+		}
 	}
 
 	/**
 	 * If-Match(일치)와 If-Unmodified-Since(불일치)를 함께 사용할 경우 ETag 조건이 우선되어 성공하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testGetObjectIfMatchWithIfUnmodifiedSince() {
 		testV2.testGetObjectIfMatchWithIfUnmodifiedSince();
@@ -145,7 +162,7 @@ class GetObject {
 	 * If-None-Match(불일치)와 If-Modified-Since(일치)를 함께 사용할 경우 ETag 조건이 우선되어 304가 반환되는지
 	 * 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testGetObjectIfNoneMatchWithIfModifiedSince() {
 		testV2.testGetObjectIfNoneMatchWithIfModifiedSince();
@@ -154,7 +171,7 @@ class GetObject {
 	/**
 	 * If-Match와 If-None-Match에 동일한 ETag를 지정하면 304가 반환되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testGetObjectIfMatchAndIfNoneMatch() {
@@ -164,7 +181,7 @@ class GetObject {
 	/**
 	 * If-Match와 If-None-Match: * 를 함께 지정하면 304가 반환되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testGetObjectIfMatchAndIfNoneMatchAny() {
@@ -174,7 +191,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 일치하는 If-Match 조건으로 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testHeadObjectIfMatchGood() {
 		testV2.testHeadObjectIfMatchGood();
@@ -183,7 +200,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 일치하지 않는 If-Match 조건으로 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testHeadObjectIfMatchFailed() {
 		testV2.testHeadObjectIfMatchFailed();
@@ -192,7 +209,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 일치하는 If-None-Match 조건으로 304 반환 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testHeadObjectIfNoneMatchGood() {
 		testV2.testHeadObjectIfNoneMatchGood();
@@ -201,7 +218,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 일치하지 않는 If-None-Match 조건으로 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testHeadObjectIfNoneMatchFailed() {
 		testV2.testHeadObjectIfNoneMatchFailed();
@@ -210,7 +227,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 오브젝트 업로드 이전 시간의 If-Modified-Since 조건으로 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfModifiedSince")
 	void testHeadObjectIfModifiedSinceGood() {
 		testV2.testHeadObjectIfModifiedSinceGood();
@@ -219,7 +236,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 오브젝트 업로드 이후 시간의 If-Modified-Since 조건으로 304 반환 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfModifiedSince")
 	void testHeadObjectIfModifiedSinceFailed() {
 		testV2.testHeadObjectIfModifiedSinceFailed();
@@ -228,7 +245,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 오브젝트 업로드 이전 시간의 If-Unmodified-Since 조건으로 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfUnmodifiedSince")
 	void testHeadObjectIfUnmodifiedSinceGood() {
 		testV2.testHeadObjectIfUnmodifiedSinceGood();
@@ -237,7 +254,7 @@ class GetObject {
 	/**
 	 * HeadObject에서 오브젝트 업로드 이후 시간의 If-Unmodified-Since 조건으로 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfUnmodifiedSince")
 	void testHeadObjectIfUnmodifiedSinceFailed() {
 		testV2.testHeadObjectIfUnmodifiedSinceFailed();
@@ -246,37 +263,43 @@ class GetObject {
 	/**
 	 * 지정한 범위로 오브젝트 다운로드가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Range")
-	void testRangedRequestResponseCode() {
-		test.testRangedRequestResponseCode();
-		testV2.testRangedRequestResponseCode();
+	void testRangedRequestResponseCode(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testRangedRequestResponseCode();
+			case V2 -> testV2.testRangedRequestResponseCode();
+		}
 	}
 
 	/**
 	 * 지정한 범위로 대용량인 오브젝트 다운로드가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Range")
-	void testRangedBigRequestResponseCode() {
-		test.testRangedBigRequestResponseCode();
-		testV2.testRangedBigRequestResponseCode();
+	void testRangedBigRequestResponseCode(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testRangedBigRequestResponseCode();
+			case V2 -> testV2.testRangedBigRequestResponseCode();
+		}
 	}
 
 	/**
 	 * 특정지점부터 끝까지 오브젝트 다운로드 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Range")
-	void testRangedRequestSkipLeadingBytesResponseCode() {
-		test.testRangedRequestSkipLeadingBytesResponseCode();
-		testV2.testRangedRequestSkipLeadingBytesResponseCode();
+	void testRangedRequestSkipLeadingBytesResponseCode(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testRangedRequestSkipLeadingBytesResponseCode();
+			case V2 -> testV2.testRangedRequestSkipLeadingBytesResponseCode();
+		}
 	}
 
 	/**
 	 * 끝에서 부터 특정 길이까지 오브젝트 다운로드 가능한지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Range")
 	void testRangedRequestReturnTrailingBytesResponseCode() {
 		testV2.testRangedRequestReturnTrailingBytesResponseCode();
@@ -285,47 +308,55 @@ class GetObject {
 	/**
 	 * 오브젝트의 크기를 초과한 범위를 설정하여 다운로드 할경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Range")
-	void testRangedRequestInvalidRange() {
-		test.testRangedRequestInvalidRange();
-		testV2.testRangedRequestInvalidRange();
+	void testRangedRequestInvalidRange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testRangedRequestInvalidRange();
+			case V2 -> testV2.testRangedRequestInvalidRange();
+		}
 	}
 
 	/**
 	 * 비어있는 오브젝트를 범위를 지정하여 다운로드 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Range")
-	void testRangedRequestEmptyObject() {
-		test.testRangedRequestEmptyObject();
-		testV2.testRangedRequestEmptyObject();
+	void testRangedRequestEmptyObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testRangedRequestEmptyObject();
+			case V2 -> testV2.testRangedRequestEmptyObject();
+		}
 	}
 
 	/**
 	 * 같은 오브젝트를 여러번 반복하여 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testGetObjectMany() {
-		test.testGetObjectMany();
-		testV2.testGetObjectMany();
+	void testGetObjectMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectMany();
+			case V2 -> testV2.testGetObjectMany();
+		}
 	}
 
 	/**
 	 * 같은 오브젝트를 여러번 반복하여 Range 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testRangeObjectMany() {
-		test.testRangeObjectMany();
-		testV2.testRangeObjectMany();
+	void testRangeObjectMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testRangeObjectMany();
+			case V2 -> testV2.testRangeObjectMany();
+		}
 	}
 
 	/**
 	 * 모든 체크섬 알고리즘으로 업로드한 오브젝트의 Range 다운로드 내용 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Range")
 	@Tag("checksum")
 	void testRangeGetChecksum() {
@@ -335,17 +366,19 @@ class GetObject {
 	/**
 	 * GetObject의 반환헤더값을 설정하여 업로드 할 경우 적용되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Header")
-	void testObjectResponseHeaders() {
-		test.testObjectResponseHeaders();
-		testV2.testObjectResponseHeaders();
+	void testObjectResponseHeaders(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectResponseHeaders();
+			case V2 -> testV2.testObjectResponseHeaders();
+		}
 	}
 
 	/**
 	 * 멀티파트로 업로드 된 오브젝트를 다운로드 할때 파트 번호를 지정하여 다운로드 가능한지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Range")
 	void testMultipartObjectRange() {
 		testV2.testMultipartObjectRange();
@@ -354,40 +387,48 @@ class GetObject {
 	/**
 	 * GetObject에서 파일을 읽지 않고 버려도 무시되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testGetObjectIgnore() {
-		test.testGetObjectIgnore();
-		testV2.testGetObjectIgnore();
+	void testGetObjectIgnore(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectIgnore();
+			case V2 -> testV2.testGetObjectIgnore();
+		}
 	}
 
 	/**
 	 * 삭제한 파일 GetObject 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testGetObjectAfterDelete() {
-		test.testGetObjectAfterDelete();
-		testV2.testGetObjectAfterDelete();
+	void testGetObjectAfterDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectAfterDelete();
+			case V2 -> testV2.testGetObjectAfterDelete();
+		}
 	}
 
 	/**
 	 * 버저닝한 버킷에서 삭제한 파일 GetObject 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testGetObjectAfterDeleteVersioning() {
-		test.testGetObjectAfterDeleteVersioning();
-		testV2.testGetObjectAfterDeleteVersioning();
+	void testGetObjectAfterDeleteVersioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectAfterDeleteVersioning();
+			case V2 -> testV2.testGetObjectAfterDeleteVersioning();
+		}
 	}
 
 	/**
 	 * 버저닝한 버킷에서 DeleteMarker로 GetObject 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Versioning")
-	void testGetObjectDeleteMarker() {
-		test.testGetObjectDeleteMarker();
-		testV2.testGetObjectDeleteMarker();
+	void testGetObjectDeleteMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjectDeleteMarker();
+			case V2 -> testV2.testGetObjectDeleteMarker();
+		}
 	}
 }
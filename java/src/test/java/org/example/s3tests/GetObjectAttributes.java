@@ -12,7 +12,6 @@ package org.example.s3tests;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
 class GetObjectAttributes {
@@ -37,7 +36,7 @@ class GetObjectAttributes {
 	 * 기본 GetObjectAttributes 테스트
 	 * 모든 속성을 요청하고 응답이 올바른지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Basic")
 	void testGetObjectAttributesBasic() {
 		testV2.testGetObjectAttributesBasic();
@@ -46,7 +45,7 @@ class GetObjectAttributes {
 	/**
 	 * 특정 속성만 요청하는 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("SpecificAttributes")
 	void testGetObjectAttributesSpecificAttributes() {
 		testV2.testGetObjectAttributesSpecificAttributes();
@@ -55,7 +54,7 @@ class GetObjectAttributes {
 	/**
 	 * 멀티파트 업로드된 객체에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Multipart")
 	void testGetObjectAttributesMultipart() {
 		testV2.testGetObjectAttributesMultipart();
@@ -64,7 +63,7 @@ class GetObjectAttributes {
 	/**
 	 * 체크섬 알고리즘을 사용한 객체에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Checksum")
 	void testGetObjectAttributesWithChecksum() {
 		testV2.testGetObjectAttributesWithChecksum();
@@ -73,7 +72,7 @@ class GetObjectAttributes {
 	/**
 	 * 존재하지 않는 객체에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testGetObjectAttributesNonExistentObject() {
 		testV2.testGetObjectAttributesNonExistentObject();
@@ -82,7 +81,7 @@ class GetObjectAttributes {
 	/**
 	 * 존재하지 않는 버킷에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testGetObjectAttributesNonExistentBucket() {
 		testV2.testGetObjectAttributesNonExistentBucket();
@@ -91,7 +90,7 @@ class GetObjectAttributes {
 	/**
 	 * 속성을 지정하지 않은 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testGetObjectAttributesNoAttributes() {
 		testV2.testGetObjectAttributesNoAttributes();
@@ -100,7 +99,7 @@ class GetObjectAttributes {
 	/**
 	 * 버전 ID를 사용한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Versioning")
 	void testGetObjectAttributesWithVersionId() {
 		testV2.testGetObjectAttributesWithVersionId();
@@ -109,7 +108,7 @@ class GetObjectAttributes {
 	/**
 	 * 잘못된 버전 ID를 사용한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testGetObjectAttributesInvalidVersionId() {
 		testV2.testGetObjectAttributesInvalidVersionId();
@@ -118,7 +117,7 @@ class GetObjectAttributes {
 	/**
 	 * 대용량 멀티파트 업로드 객체에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("LargeMultipart")
 	void testGetObjectAttributesLargeMultipart() {
 		testV2.testGetObjectAttributesLargeMultipart();
@@ -127,7 +126,7 @@ class GetObjectAttributes {
 	/**
 	 * 메타데이터가 있는 객체에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Metadata")
 	void testGetObjectAttributesWithMetadata() {
 		testV2.testGetObjectAttributesWithMetadata();
@@ -136,7 +135,7 @@ class GetObjectAttributes {
 	/**
 	 * SSE-S3 암호화된 객체에 대한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Encryption")
 	void testGetObjectAttributesWithSSES3() {
 		testV2.testGetObjectAttributesWithSSES3();
@@ -145,7 +144,7 @@ class GetObjectAttributes {
 	/**
 	 * 비동기 클라이언트를 사용한 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Async")
 	void testGetObjectAttributesAsync() {
 		testV2.testGetObjectAttributesAsync();
@@ -154,7 +153,7 @@ class GetObjectAttributes {
 	/**
 	 * 비동기 클라이언트를 사용한 GetObjectAttributes 에러 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testGetObjectAttributesAsyncError() {
 		testV2.testGetObjectAttributesAsyncError();
@@ -163,7 +162,7 @@ class GetObjectAttributes {
 	/**
 	 * 모든 가능한 속성을 요청하는 GetObjectAttributes 테스트
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("AllAttributes")
 	void testGetObjectAttributesAllAttributes() {
 		testV2.testGetObjectAttributesAllAttributes();
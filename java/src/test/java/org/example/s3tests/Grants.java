@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷과 오브젝트의 권한 관리 테스트
@@ -45,350 +44,420 @@ class Grants {
 	/**
 	 * 권한을 설정하지 않고 생성한 버킷의 default acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Bucket")
-	void testBucketAclDefault() {
-		test.testBucketAclDefault();
-		testV2.testBucketAclDefault();
+	void testBucketAclDefault(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclDefault();
+			case V2 -> testV2.testBucketAclDefault();
+		}
 	}
 
 	/**
 	 * [bucket : public-read => private] 권한을 변경할경우 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Bucket")
-	void testBucketAclChanged() {
-		test.testBucketAclChanged();
-		testV2.testBucketAclChanged();
+	void testBucketAclChanged(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclChanged();
+			case V2 -> testV2.testBucketAclChanged();
+		}
 	}
 
 	/**
 	 * [bucket : private] 생성한 버킷의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Bucket")
-	void testBucketAclPrivate() {
-		test.testBucketAclPrivate();
-		testV2.testBucketAclPrivate();
+	void testBucketAclPrivate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclPrivate();
+			case V2 -> testV2.testBucketAclPrivate();
+		}
 	}
 
 	/**
 	 * [bucket : public-read] 생성한 버킷의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Bucket")
-	void testBucketAclPublicRead() {
-		test.testBucketAclPublicRead();
-		testV2.testBucketAclPublicRead();
+	void testBucketAclPublicRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclPublicRead();
+			case V2 -> testV2.testBucketAclPublicRead();
+		}
 	}
 
 	/**
 	 * [bucket : public-read-write] 생성한 버킷의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Bucket")
-	void testBucketAclPublicRW() {
-		test.testBucketAclPublicRW();
-		testV2.testBucketAclPublicRW();
+	void testBucketAclPublicRW(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclPublicRW();
+			case V2 -> testV2.testBucketAclPublicRW();
+		}
 	}
 
 	/**
 	 * [bucket : authenticated-read] 생성한 버킷의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Bucket")
-	void testBucketAclAuthenticatedRead() {
-		test.testBucketAclAuthenticatedRead();
-		testV2.testBucketAclAuthenticatedRead();
+	void testBucketAclAuthenticatedRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclAuthenticatedRead();
+			case V2 -> testV2.testBucketAclAuthenticatedRead();
+		}
 	}
 
 	/**
 	 * 권한을 설정하지 않고 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclDefault() {
-		test.testObjectAclDefault();
-		testV2.testObjectAclDefault();
+	void testObjectAclDefault(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclDefault();
+			case V2 -> testV2.testObjectAclDefault();
+		}
 	}
 
 	/**
 	 * [object:public-read => private] 오브젝트의 권한을 변경할경우 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclChange() {
-		test.testObjectAclChange();
-		testV2.testObjectAclChange();
+	void testObjectAclChange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclChange();
+			case V2 -> testV2.testObjectAclChange();
+		}
 	}
 
 	/**
 	 * [object:private] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclPrivate() {
-		test.testObjectAclPrivate();
-		testV2.testObjectAclPrivate();
+	void testObjectAclPrivate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclPrivate();
+			case V2 -> testV2.testObjectAclPrivate();
+		}
 	}
 
 	/**
 	 * [object:public-read] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclPublicRead() {
-		test.testObjectAclPublicRead();
-		testV2.testObjectAclPublicRead();
+	void testObjectAclPublicRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclPublicRead();
+			case V2 -> testV2.testObjectAclPublicRead();
+		}
 	}
 
 	/**
 	 * [object:public-read-write] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclPublicRW() {
-		test.testObjectAclPublicRW();
-		testV2.testObjectAclPublicRW();
+	void testObjectAclPublicRW(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclPublicRW();
+			case V2 -> testV2.testObjectAclPublicRW();
+		}
 	}
 
 	/**
 	 * [object:authenticated-read] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclAuthenticatedRead() {
-		test.testObjectAclAuthenticatedRead();
-		testV2.testObjectAclAuthenticatedRead();
+	void testObjectAclAuthenticatedRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclAuthenticatedRead();
+			case V2 -> testV2.testObjectAclAuthenticatedRead();
+		}
 	}
 
 	/**
 	 * [object:bucket-owner-read] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclBucketOwnerRead() {
-		test.testObjectAclBucketOwnerRead();
-		testV2.testObjectAclBucketOwnerRead();
+	void testObjectAclBucketOwnerRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclBucketOwnerRead();
+			case V2 -> testV2.testObjectAclBucketOwnerRead();
+		}
 	}
 
 	/**
 	 * [ObjectWriter][object:bucket-owner-full-control] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testBucketObjectWriterObjectOwnerFullControl() {
-		test.testBucketObjectWriterObjectOwnerFullControl();
-		testV2.testBucketObjectWriterObjectOwnerFullControl();
+	void testBucketObjectWriterObjectOwnerFullControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketObjectWriterObjectOwnerFullControl();
+			case V2 -> testV2.testBucketObjectWriterObjectOwnerFullControl();
+		}
 	}
 
 	/**
 	 * [BucketOwnerEnforced][object:bucket-owner-full-control] 생성한 오브젝트의 acl정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testBucketOwnerEnforcedObjectOwnerFullControl() {
-		test.testBucketOwnerEnforcedObjectOwnerFullControl();
-		testV2.testBucketOwnerEnforcedObjectOwnerFullControl();
+	void testBucketOwnerEnforcedObjectOwnerFullControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketOwnerEnforcedObjectOwnerFullControl();
+			case V2 -> testV2.testBucketOwnerEnforcedObjectOwnerFullControl();
+		}
 	}
 
 	/**
 	 * [object: public-read-write => alt-user-full-control => alt-user-read-acl] 권한을 변경해도 소유주가 변경되지 않는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testObjectAclOwnerNotChange() {
-		test.testObjectAclOwnerNotChange();
-		testV2.testObjectAclOwnerNotChange();
+	void testObjectAclOwnerNotChange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclOwnerNotChange();
+			case V2 -> testV2.testObjectAclOwnerNotChange();
+		}
 	}
 
 	/**
 	 * 권한을 변경해도 오브젝트에 영향을 주지 않는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Effect")
-	void testBucketAclChangeNotEffect() {
-		test.testBucketAclChangeNotEffect();
-		testV2.testBucketAclChangeNotEffect();
+	void testBucketAclChangeNotEffect(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclChangeNotEffect();
+			case V2 -> testV2.testBucketAclChangeNotEffect();
+		}
 	}
 
 	/**
 	 * [bucket:private] 버킷에 ACL 중복 설정이 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testBucketAclDuplicated() {
-		test.testBucketAclDuplicated();
-		testV2.testBucketAclDuplicated();
+	void testBucketAclDuplicated(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclDuplicated();
+			case V2 -> testV2.testBucketAclDuplicated();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 acl정보가 올바르게 적용되었는지 확인 : FULL_CONTROL
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionFullControl() {
-		test.testBucketPermissionFullControl();
-		testV2.testBucketPermissionFullControl();
+	void testBucketPermissionFullControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionFullControl();
+			case V2 -> testV2.testBucketPermissionFullControl();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 acl정보가 올바르게 적용되었는지 확인 : WRITE
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionWrite() {
-		test.testBucketPermissionWrite();
-		testV2.testBucketPermissionWrite();
+	void testBucketPermissionWrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionWrite();
+			case V2 -> testV2.testBucketPermissionWrite();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 acl정보가 올바르게 적용되었는지 확인 : WRITE_ACP
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionWriteAcp() {
-		test.testBucketPermissionWriteAcp();
-		testV2.testBucketPermissionWriteAcp();
+	void testBucketPermissionWriteAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionWriteAcp();
+			case V2 -> testV2.testBucketPermissionWriteAcp();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 acl정보가 올바르게 적용되었는지 확인 : READ
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionRead() {
-		test.testBucketPermissionRead();
-		testV2.testBucketPermissionRead();
+	void testBucketPermissionRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionRead();
+			case V2 -> testV2.testBucketPermissionRead();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 acl정보가 올바르게 적용되었는지 확인 : READ_ACP
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testBucketPermissionReadAcp() {
-		test.testBucketPermissionReadAcp();
-		testV2.testBucketPermissionReadAcp();
+	void testBucketPermissionReadAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPermissionReadAcp();
+			case V2 -> testV2.testBucketPermissionReadAcp();
+		}
 	}
 
 	/**
 	 * 오브젝트에 설정한 acl정보가 올바르게 적용되었는지 확인 : FULL_CONTROL
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionFullControl() {
-		test.testObjectPermissionFullControl();
-		testV2.testObjectPermissionFullControl();
+	void testObjectPermissionFullControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionFullControl();
+			case V2 -> testV2.testObjectPermissionFullControl();
+		}
 	}
 
 	/**
 	 * 오브젝트에 설정한 acl정보가 올바르게 적용되었는지 확인 : WRITE
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionWrite() {
-		test.testObjectPermissionWrite();
-		testV2.testObjectPermissionWrite();
+	void testObjectPermissionWrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionWrite();
+			case V2 -> testV2.testObjectPermissionWrite();
+		}
 	}
 
 	/**
 	 * 오브젝트에 설정한 acl정보가 올바르게 적용되었는지 확인 : WRITE_ACP
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionWriteAcp() {
-		test.testObjectPermissionWriteAcp();
-		testV2.testObjectPermissionWriteAcp();
+	void testObjectPermissionWriteAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionWriteAcp();
+			case V2 -> testV2.testObjectPermissionWriteAcp();
+		}
 	}
 
 	/**
 	 * 오브젝트에 설정한 acl정보가 올바르게 적용되었는지 확인 : READ
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectPermissionRead() {
-		test.testObjectPermissionRead();
-		testV2.testObjectPermissionRead();
+	void testObjectPermissionRead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionRead();
+			case V2 -> testV2.testObjectPermissionRead();
+		}
 	}
 
 	/**
 	 * 오브젝트에 설정한 acl정보가 올바르게 적용되었는지 확인 : READ_ACP
 	 */
-	@Test
+	@SdkTest
 	@Tag("Permission")
-	void testObjectAclPermissionReadAcp() {
-		test.testObjectPermissionReadAcp();
-		testV2.testObjectPermissionReadAcp();
+	void testObjectAclPermissionReadAcp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectPermissionReadAcp();
+			case V2 -> testV2.testObjectPermissionReadAcp();
+		}
 	}
 
 	/**
 	 * 버킷에 존재하지 않는 유저를 추가하려고 하면 에러 발생 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketAclGrantNonExistUser() {
-		test.testBucketAclGrantNonExistUser();
-		testV2.testBucketAclGrantNonExistUser();
+	void testBucketAclGrantNonExistUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclGrantNonExistUser();
+			case V2 -> testV2.testBucketAclGrantNonExistUser();
+		}
 	}
 
 	/**
 	 * 버킷에 권한정보를 모두 제거했을때 오브젝트를 업데이트 하면 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketAclNoGrants() {
-		test.testBucketAclNoGrants();
-		testV2.testBucketAclNoGrants();
+	void testBucketAclNoGrants(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclNoGrants();
+			case V2 -> testV2.testBucketAclNoGrants();
+		}
 	}
 
 	/**
 	 * 버킷 생성하면서 권한정보를 여러개 보낼때 모두 올바르게 적용되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Grant")
-	void testBucketAclMultiGrants() {
-		test.testBucketAclMultiGrants();
-		testV2.testBucketAclMultiGrants();
+	void testBucketAclMultiGrants(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclMultiGrants();
+			case V2 -> testV2.testBucketAclMultiGrants();
+		}
 	}
 
 	/**
 	 * 오브젝트를 생성하면서 권한정보를 여러개보낼때 모두 올바르게 적용되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Grant")
-	void testObjectAclMultiGrants() {
-		test.testObjectAclMultiGrants();
-		testV2.testObjectAclMultiGrants();
+	void testObjectAclMultiGrants(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclMultiGrants();
+			case V2 -> testV2.testObjectAclMultiGrants();
+		}
 	}
 
 	/**
 	 * 버킷의 acl 설정이 누락될 경우 실패함을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testBucketAclRevokeAll() {
-		test.testBucketAclRevokeAll();
-		testV2.testBucketAclRevokeAll();
+	void testBucketAclRevokeAll(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclRevokeAll();
+			case V2 -> testV2.testBucketAclRevokeAll();
+		}
 	}
 
 	/**
 	 * 오브젝트의 acl 설정이 누락될 경우 실패함을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testObjectAclRevokeAll() {
-		test.testObjectAclRevokeAll();
-		testV2.testObjectAclRevokeAll();
+	void testObjectAclRevokeAll(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectAclRevokeAll();
+			case V2 -> testV2.testObjectAclRevokeAll();
+		}
 	}
 
 	/**
 	 * 버킷의 acl 설정에 Id가 누락될 경우 실패함을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testBucketAclRevokeAllId() {
-		test.testBucketAclRevokeAllId();
-		testV2.testBucketAclRevokeAllId();
+	void testBucketAclRevokeAllId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketAclRevokeAllId();
+			case V2 -> testV2.testBucketAclRevokeAllId();
+		}
 	}
 }
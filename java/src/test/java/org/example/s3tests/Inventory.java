@@ -14,7 +14,6 @@ import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷 인벤토리 기능 테스트
@@ -45,171 +44,205 @@ class Inventory {
 	/**
 	 * 버킷에 인벤토리를 설정하지 않은 상태에서 조회가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testListBucketInventory() {
-		test.testListBucketInventory();
-		testV2.testListBucketInventory();
+	void testListBucketInventory(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListBucketInventory();
+			case V2 -> testV2.testListBucketInventory();
+		}
 	}
 
 	/**
 	 * 버킷에 인벤토리를 설정할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testPutBucketInventory() {
-		test.testPutBucketInventory();
-		testV2.testPutBucketInventory();
+	void testPutBucketInventory(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventory();
+			case V2 -> testV2.testPutBucketInventory();
+		}
 	}
 
 	/**
 	 * 버킷에 인벤토리 설정이 되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testCheckBucketInventory() {
-		test.testCheckBucketInventory();
-		testV2.testCheckBucketInventory();
+	void testCheckBucketInventory(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCheckBucketInventory();
+			case V2 -> testV2.testCheckBucketInventory();
+		}
 	}
 
 	/**
 	 * 버킷에 설정된 인벤토리를 조회할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testGetBucketInventory() {
-		test.testGetBucketInventory();
-		testV2.testGetBucketInventory();
+	void testGetBucketInventory(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetBucketInventory();
+			case V2 -> testV2.testGetBucketInventory();
+		}
 	}
 
 	/**
 	 * 버킷에 설정된 인벤토리를 삭제할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testDeleteBucketInventory() {
-		test.testDeleteBucketInventory();
-		testV2.testDeleteBucketInventory();
+	void testDeleteBucketInventory(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteBucketInventory();
+			case V2 -> testV2.testDeleteBucketInventory();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 인벤토리를 가져오려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testGetBucketInventoryNotExist() {
-		test.testGetBucketInventoryNotExist();
-		testV2.testGetBucketInventoryNotExist();
+	void testGetBucketInventoryNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetBucketInventoryNotExist();
+			case V2 -> testV2.testGetBucketInventoryNotExist();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 인벤토리를 삭제하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testDeleteBucketInventoryNotExist() {
-		test.testDeleteBucketInventoryNotExist();
-		testV2.testDeleteBucketInventoryNotExist();
+	void testDeleteBucketInventoryNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteBucketInventoryNotExist();
+			case V2 -> testV2.testDeleteBucketInventoryNotExist();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 버킷에 인벤토리를 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryNotExist() {
-		test.testPutBucketInventoryNotExist();
-		testV2.testPutBucketInventoryNotExist();
+	void testPutBucketInventoryNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryNotExist();
+			case V2 -> testV2.testPutBucketInventoryNotExist();
+		}
 	}
 
 	/**
 	 * 인벤토리 아이디를 빈값으로 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryIdNotExist() {
-		test.testPutBucketInventoryIdNotExist();
-		testV2.testPutBucketInventoryIdNotExist();
+	void testPutBucketInventoryIdNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryIdNotExist();
+			case V2 -> testV2.testPutBucketInventoryIdNotExist();
+		}
 	}
 
 	/**
 	 * 인벤토리 아이디가 중복되는 경우 덮어쓰기 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testPutBucketInventoryIdDuplicate(){
-		test.testPutBucketInventoryIdDuplicate();
-		testV2.testPutBucketInventoryIdDuplicate();
+	void testPutBucketInventoryIdDuplicate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryIdDuplicate();
+			case V2 -> testV2.testPutBucketInventoryIdDuplicate();
+		}
 	}
 
 	/**
 	 * 타깃 버킷이 존재하지 않을 경우 실패하는지 확인
 	 */
 	@Disabled("aws에서 타깃 버킷이 존재하는지 확인하지 않음")
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryTargetNotExist() {
-		test.testPutBucketInventoryTargetNotExist();
-		testV2.testPutBucketInventoryTargetNotExist();
+	void testPutBucketInventoryTargetNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryTargetNotExist();
+			case V2 -> testV2.testPutBucketInventoryTargetNotExist();
+		}
 	}
 
 	/**
 	 * 지원하지 않는 파일 형식의 인벤토리를 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryInvalidFormat() {
-		test.testPutBucketInventoryInvalidFormat();
-		testV2.testPutBucketInventoryInvalidFormat();
+	void testPutBucketInventoryInvalidFormat(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryInvalidFormat();
+			case V2 -> testV2.testPutBucketInventoryInvalidFormat();
+		}
 	}
 
 	/**
 	 * 올바르지 않은 주기의 인벤토리를 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryInvalidFrequency() {
-		test.testPutBucketInventoryInvalidFrequency();
-		testV2.testPutBucketInventoryInvalidFrequency();
+	void testPutBucketInventoryInvalidFrequency(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryInvalidFrequency();
+			case V2 -> testV2.testPutBucketInventoryInvalidFrequency();
+		}
 	}
 
 	/**
 	 * 대소문자를 잘못 입력하여 인벤토리를 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryInvalidCase() {
-		test.testPutBucketInventoryInvalidCase();
-		testV2.testPutBucketInventoryInvalidCase();
+	void testPutBucketInventoryInvalidCase(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryInvalidCase();
+			case V2 -> testV2.testPutBucketInventoryInvalidCase();
+		}
 	}
 
 	/**
 	 * 접두어를 포함한 인벤토리 설정이 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testPutBucketInventoryPrefix() {
-		test.testPutBucketInventoryPrefix();
-		testV2.testPutBucketInventoryPrefix();
+	void testPutBucketInventoryPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryPrefix();
+			case V2 -> testV2.testPutBucketInventoryPrefix();
+		}
 	}
 
 	/**
 	 * 옵션을 포함한 인벤토리 설정이 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testPutBucketInventoryOptional() {
-		test.testPutBucketInventoryOptional();
-		testV2.testPutBucketInventoryOptional();
+	void testPutBucketInventoryOptional(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryOptional();
+			case V2 -> testV2.testPutBucketInventoryOptional();
+		}
 	}
 
 	/**
 	 * 올바르지 않은 옵션을 포함한 인벤토리를 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutBucketInventoryInvalidOptional() {
-		test.testPutBucketInventoryInvalidOptional();
-		testV2.testPutBucketInventoryInvalidOptional();
+	void testPutBucketInventoryInvalidOptional(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketInventoryInvalidOptional();
+			case V2 -> testV2.testPutBucketInventoryInvalidOptional();
+		}
 	}
 }
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷의 수명 주기(Lifecycle) 관리 기능을 테스트하는 클래스
@@ -46,197 +45,235 @@ class LifeCycle {
 	/**
 	 * 버킷의 Lifecycle 규칙을 추가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testLifecycleSet() {
-		test.testLifecycleSet();
-		testV2.testLifecycleSet();
+	void testLifecycleSet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSet();
+			case V2 -> testV2.testLifecycleSet();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 Lifecycle 규칙을 가져올 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testLifecycleGet() {
-		test.testLifecycleGet();
-		testV2.testLifecycleGet();
+	void testLifecycleGet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleGet();
+			case V2 -> testV2.testLifecycleGet();
+		}
 	}
 
 	/**
 	 * ID 없이 버킷에 Lifecycle 규칙을 설정 할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testLifecycleGetNoId() {
-		test.testLifecycleGetNoId();
-		testV2.testLifecycleGetNoId();
+	void testLifecycleGetNoId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleGetNoId();
+			case V2 -> testV2.testLifecycleGetNoId();
+		}
 	}
 
 	/**
 	 * 버킷에 버저닝 설정이 되어있는 상태에서 Lifecycle 규칙을 추가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Version")
-	void testLifecycleExpirationVersioningEnabled() {
-		test.testLifecycleExpirationVersioningEnabled();
-		testV2.testLifecycleExpirationVersioningEnabled();
+	void testLifecycleExpirationVersioningEnabled(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleExpirationVersioningEnabled();
+			case V2 -> testV2.testLifecycleExpirationVersioningEnabled();
+		}
 	}
 
 	/**
 	 * 버킷에 Lifecycle 규칙을 설정할때 ID의 길이가 너무 길면 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testLifecycleIdTooLong() {
-		test.testLifecycleIdTooLong();
-		testV2.testLifecycleIdTooLong();
+	void testLifecycleIdTooLong(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleIdTooLong();
+			case V2 -> testV2.testLifecycleIdTooLong();
+		}
 	}
 
 	/**
 	 * 버킷에 Lifecycle 규칙을 설정할때 같은 ID로 규칙을 여러개 설정할경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Duplicate")
-	void testLifecycleSameId() {
-		test.testLifecycleSameId();
-		testV2.testLifecycleSameId();
+	void testLifecycleSameId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSameId();
+			case V2 -> testV2.testLifecycleSameId();
+		}
 	}
 
 	/**
 	 * 버킷에 Lifecycle 규칙중 status를 잘못 설정할때 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testLifecycleInvalidStatus() {
-		test.testLifecycleInvalidStatus();
-		testV2.testLifecycleInvalidStatus();
+	void testLifecycleInvalidStatus(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleInvalidStatus();
+			case V2 -> testV2.testLifecycleInvalidStatus();
+		}
 	}
 
 	/**
 	 * 버킷의 Lifecycle규칙에 날짜를 입력가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Date")
-	void testLifecycleSetDate() {
-		test.testLifecycleSetDate();
-		testV2.testLifecycleSetDate();
+	void testLifecycleSetDate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetDate();
+			case V2 -> testV2.testLifecycleSetDate();
+		}
 	}
 
 	/**
 	 * 버킷의 Lifecycle규칙에 날짜를 올바르지 않은 형식으로 입력했을때 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testLifecycleSetInvalidDate() {
-		test.testLifecycleSetInvalidDate();
-		testV2.testLifecycleSetInvalidDate();
+	void testLifecycleSetInvalidDate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetInvalidDate();
+			case V2 -> testV2.testLifecycleSetInvalidDate();
+		}
 	}
 
 	/**
 	 * 버킷의 버저닝설정이 없는 환경에서 버전관리용 Lifecycle이 올바르게 설정되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Version")
-	void testLifecycleSetNoncurrent() {
-		test.testLifecycleSetNoncurrent();
-		testV2.testLifecycleSetNoncurrent();
+	void testLifecycleSetNoncurrent(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetNoncurrent();
+			case V2 -> testV2.testLifecycleSetNoncurrent();
+		}
 	}
 
 	/**
 	 * 버킷의 버저닝설정이 되어있는 환경에서 Lifecycle 이 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Version")
-	void testLifecycleNoncurrentExpiration() {
-		test.testLifecycleNoncurrentExpiration();
-		testV2.testLifecycleNoncurrentExpiration();
+	void testLifecycleNoncurrentExpiration(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleNoncurrentExpiration();
+			case V2 -> testV2.testLifecycleNoncurrentExpiration();
+		}
 	}
 
 	/**
 	 * DeleteMarker에 대한 Lifecycle 규칙을 설정 할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("DeleteMarker")
-	void testLifecycleSetDeleteMarker() {
-		test.testLifecycleSetDeleteMarker();
-		testV2.testLifecycleSetDeleteMarker();
+	void testLifecycleSetDeleteMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetDeleteMarker();
+			case V2 -> testV2.testLifecycleSetDeleteMarker();
+		}
 	}
 
 	/**
 	 * Lifecycle 규칙에 필터링값을 설정 할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filter")
-	void testLifecycleSetFilter() {
-		test.testLifecycleSetFilter();
-		testV2.testLifecycleSetFilter();
+	void testLifecycleSetFilter(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetFilter();
+			case V2 -> testV2.testLifecycleSetFilter();
+		}
 	}
 
 	/**
 	 * Lifecycle 규칙에 필터링에 비어있는 값을 설정 할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filter")
-	void testLifecycleSetEmptyFilter() {
-		test.testLifecycleSetEmptyFilter();
-		testV2.testLifecycleSetEmptyFilter();
+	void testLifecycleSetEmptyFilter(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetEmptyFilter();
+			case V2 -> testV2.testLifecycleSetEmptyFilter();
+		}
 	}
 
 	/**
 	 * DeleteMarker에 대한 Lifecycle 규칙이 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("DeleteMarker")
-	void testLifecycleDeleteMarkerExpiration() {
-		test.testLifecycleDeleteMarkerExpiration();
-		testV2.testLifecycleDeleteMarkerExpiration();
+	void testLifecycleDeleteMarkerExpiration(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleDeleteMarkerExpiration();
+			case V2 -> testV2.testLifecycleDeleteMarkerExpiration();
+		}
 	}
 
 	/**
 	 * AbortIncompleteMultipartUpload에 대한 Lifecycle 규칙을 설정 할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testLifecycleSetMultipart() {
-		test.testLifecycleSetMultipart();
-		testV2.testLifecycleSetMultipart();
+	void testLifecycleSetMultipart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetMultipart();
+			case V2 -> testV2.testLifecycleSetMultipart();
+		}
 	}
 
 	/**
 	 * AbortIncompleteMultipartUpload에 대한 Lifecycle 규칙이 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testLifecycleMultipartExpiration() {
-		test.testLifecycleMultipartExpiration();
-		testV2.testLifecycleMultipartExpiration();
+	void testLifecycleMultipartExpiration(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleMultipartExpiration();
+			case V2 -> testV2.testLifecycleMultipartExpiration();
+		}
 	}
 
 	/**
 	 * 버킷의 Lifecycle 규칙을 삭제 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testLifecycleDelete() {
-		test.testLifecycleDelete();
-		testV2.testLifecycleDelete();
+	void testLifecycleDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleDelete();
+			case V2 -> testV2.testLifecycleDelete();
+		}
 	}
 
 	/**
 	 * Lifecycle 규칙에 0일을 설정할때 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testLifecycleSetExpirationZero() {
-		test.testLifecycleSetExpirationZero();
-		testV2.testLifecycleSetExpirationZero();
+	void testLifecycleSetExpirationZero(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLifecycleSetExpirationZero();
+			case V2 -> testV2.testLifecycleSetExpirationZero();
+		}
 	}
 
 	/**
 	 * Lifecycle 규칙을 적용할 경우 오브젝트의 만료기한이 설정되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("metadata")
 	void testLifecycleSetExpiration() {
 		test.testLifecycleSetExpiration();
@@ -13,8 +13,13 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
+/**
+ * 버킷 목록 조회 기능을 테스트하는 클래스.
+ * 사용자의 전체 버킷 목록을 조회하므로 병렬 실행 시 서로 겹치지 않도록 잠금을 건다.
+ */
+@ResourceLock(ResourceLocks.BUCKET_LIST)
 class ListBuckets {
 	@org.junit.jupiter.api.BeforeAll
 	static void beforeAll() {
@@ -39,70 +44,84 @@ class ListBuckets {
 	/**
 	 * 여러개의 버킷 생성해서 목록 조회 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testBucketsCreateThenList() {
-		test.testBucketsCreateThenList();
-		testV2.testBucketsCreateThenList();
+	void testBucketsCreateThenList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketsCreateThenList();
+			case V2 -> testV2.testBucketsCreateThenList();
+		}
 	}
 
 	/**
 	 * 존재하지 않는 사용자가 버킷목록 조회시 에러 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testListBucketsInvalidAuth() {
-		test.testListBucketsInvalidAuth();
-		testV2.testListBucketsInvalidAuth();
+	void testListBucketsInvalidAuth(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListBucketsInvalidAuth();
+			case V2 -> testV2.testListBucketsInvalidAuth();
+		}
 	}
 
 	/**
 	 * 로그인정보를 잘못입력한 사용자가 버킷목록 조회시 에러 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testListBucketsBadAuth() {
-		test.testListBucketsBadAuth();
-		testV2.testListBucketsBadAuth();
+	void testListBucketsBadAuth(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListBucketsBadAuth();
+			case V2 -> testV2.testListBucketsBadAuth();
+		}
 	}
 
 	/**
 	 * 버킷의 메타데이터를 가져올 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Metadata")
-	void testHeadBucket() {
-		test.testHeadBucket();
-		testV2.testHeadBucket();
+	void testHeadBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testHeadBucket();
+			case V2 -> testV2.testHeadBucket();
+		}
 	}
 
 	/**
 	 * 버킷 목록 조회시 Prefix를 이용한 필터링 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testListBucketsPrefix() {
-		test.testListBucketsPrefix();
-		testV2.testListBucketsPrefix();
+	void testListBucketsPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListBucketsPrefix();
+			case V2 -> testV2.testListBucketsPrefix();
+		}
 	}
 
 	/**
 	 * 버킷 목록 조회시 MaxBuckets를 이용한 필터링 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxBuckets")
-	void testListBucketsMaxBuckets() {
-		test.testListBucketsMaxBuckets();
-		testV2.testListBucketsMaxBuckets();
+	void testListBucketsMaxBuckets(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListBucketsMaxBuckets();
+			case V2 -> testV2.testListBucketsMaxBuckets();
+		}
 	}
 
 	/**
 	 * 버킷 목록 조회시 ContinuationToken를 이용한 필터링 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ContinuationToken")
-	void testListBucketsContinuationToken() {
-		test.testListBucketsContinuationToken();
-		testV2.testListBucketsContinuationToken();
+	void testListBucketsContinuationToken(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListBucketsContinuationToken();
+			case V2 -> testV2.testListBucketsContinuationToken();
+		}
 	}
 }
\ No newline at end of file
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷의 오브젝트 목록 조회 기능을 테스트하는 클래스 (ListObjectsV2)
@@ -47,423 +46,507 @@ class ListObjectsV2 {
 	/**
 	 * 버킷의 오브젝트 목록을 올바르게 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testBucketListV2Many() {
-		test.testBucketListV2Many();
-		testV2.testBucketListV2Many();
+	void testBucketListV2Many(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2Many();
+			case V2 -> testV2.testBucketListV2Many();
+		}
 	}
 
 	/**
 	 * ListObjectsV2로 오브젝트 목록을 가져올때 Key Count 값을 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("KeyCount")
-	void testBasicKeyCount() {
-		test.testBasicKeyCount();
-		testV2.testBasicKeyCount();
+	void testBasicKeyCount(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBasicKeyCount();
+			case V2 -> testV2.testBasicKeyCount();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 폴더 구분자[/]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterBasic() {
-		test.testBucketListV2DelimiterBasic();
-		testV2.testBucketListV2DelimiterBasic();
+	void testBucketListV2DelimiterBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterBasic();
+			case V2 -> testV2.testBucketListV2DelimiterBasic();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 인코딩이 올바르게 동작하는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Encoding")
-	void testBucketListV2EncodingBasic() {
-		test.testBucketListV2EncodingBasic();
-		testV2.testBucketListV2EncodingBasic();
+	void testBucketListV2EncodingBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2EncodingBasic();
+			case V2 -> testV2.testBucketListV2EncodingBasic();
+		}
 	}
 
 	/**
 	 * 조건에 맞는 오브젝트 목록을 가져올 수 있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListV2DelimiterPrefix() {
-		test.testBucketListV2DelimiterPrefix();
-		testV2.testBucketListV2DelimiterPrefix();
+	void testBucketListV2DelimiterPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterPrefix();
+			case V2 -> testV2.testBucketListV2DelimiterPrefix();
+		}
 	}
 
 	/**
 	 * 비어있는 폴더의 오브젝트 목록을 가져올 수 있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListV2DelimiterPrefixEndsWithDelimiter() {
-		test.testBucketListV2DelimiterPrefixEndsWithDelimiter();
-		testV2.testBucketListV2DelimiterPrefixEndsWithDelimiter();
+	void testBucketListV2DelimiterPrefixEndsWithDelimiter(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterPrefixEndsWithDelimiter();
+			case V2 -> testV2.testBucketListV2DelimiterPrefixEndsWithDelimiter();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 문자 구분자[a]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterAlt() {
-		test.testBucketListV2DelimiterAlt();
-		testV2.testBucketListV2DelimiterAlt();
+	void testBucketListV2DelimiterAlt(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterAlt();
+			case V2 -> testV2.testBucketListV2DelimiterAlt();
+		}
 	}
 
 	/**
 	 * [폴더명 앞에 _가 포함되어 있는 환경] 조건에 맞는 오브젝트 목록을 가져올 수 있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListV2DelimiterPrefixUnderscore() {
-		test.testBucketListV2DelimiterPrefixUnderscore();
-		testV2.testBucketListV2DelimiterPrefixUnderscore();
+	void testBucketListV2DelimiterPrefixUnderscore(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterPrefixUnderscore();
+			case V2 -> testV2.testBucketListV2DelimiterPrefixUnderscore();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 특수문자 구분자[%]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterPercentage() {
-		test.testBucketListV2DelimiterPercentage();
-		testV2.testBucketListV2DelimiterPercentage();
+	void testBucketListV2DelimiterPercentage(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterPercentage();
+			case V2 -> testV2.testBucketListV2DelimiterPercentage();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 공백문자 구분자[ ]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterWhitespace() {
-		test.testBucketListV2DelimiterWhitespace();
-		testV2.testBucketListV2DelimiterWhitespace();
+	void testBucketListV2DelimiterWhitespace(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterWhitespace();
+			case V2 -> testV2.testBucketListV2DelimiterWhitespace();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 구분자[.]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterDot() {
-		test.testBucketListV2DelimiterDot();
-		testV2.testBucketListV2DelimiterDot();
+	void testBucketListV2DelimiterDot(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterDot();
+			case V2 -> testV2.testBucketListV2DelimiterDot();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 읽을수 없는 구분자[\n]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterUnreadable() {
-		test.testBucketListV2DelimiterUnreadable();
-		testV2.testBucketListV2DelimiterUnreadable();
+	void testBucketListV2DelimiterUnreadable(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterUnreadable();
+			case V2 -> testV2.testBucketListV2DelimiterUnreadable();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 구분자가 빈문자일때 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterEmpty() {
-		test.testBucketListV2DelimiterEmpty();
-		testV2.testBucketListV2DelimiterEmpty();
+	void testBucketListV2DelimiterEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterEmpty();
+			case V2 -> testV2.testBucketListV2DelimiterEmpty();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 구분자를 입력하지 않아도 문제없는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterNone() {
-		test.testBucketListV2DelimiterNone();
-		testV2.testBucketListV2DelimiterNone();
+	void testBucketListV2DelimiterNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterNone();
+			case V2 -> testV2.testBucketListV2DelimiterNone();
+		}
 	}
 
 	/**
 	 * [권한정보를 가져오도록 설정] 오브젝트 목록을 가져올때 권한정보를를 올바르게 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("FetchOwner")
-	void testBucketListV2FetchOwnerNotEmpty() {
-		test.testBucketListV2FetchOwnerNotEmpty();
-		testV2.testBucketListV2FetchOwnerNotEmpty();
+	void testBucketListV2FetchOwnerNotEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2FetchOwnerNotEmpty();
+			case V2 -> testV2.testBucketListV2FetchOwnerNotEmpty();
+		}
 	}
 
 	/**
 	 * [default = 권한정보를 가져오지 않음] 오브젝트 목록을 가져올때 권한정보를를 올바르게 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("FetchOwner")
-	void testBucketListV2FetchOwnerDefaultEmpty() {
-		test.testBucketListV2FetchOwnerDefaultEmpty();
-		testV2.testBucketListV2FetchOwnerDefaultEmpty();
+	void testBucketListV2FetchOwnerDefaultEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2FetchOwnerDefaultEmpty();
+			case V2 -> testV2.testBucketListV2FetchOwnerDefaultEmpty();
+		}
 	}
 
 	/**
 	 * [권한정보를 가져오지 않도록 설정] 오브젝트 목록을 가져올때 권한정보를를 올바르게 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("FetchOwner")
-	void testBucketListV2FetchOwnerEmpty() {
-		test.testBucketListV2FetchOwnerEmpty();
-		testV2.testBucketListV2FetchOwnerEmpty();
+	void testBucketListV2FetchOwnerEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2FetchOwnerEmpty();
+			case V2 -> testV2.testBucketListV2FetchOwnerEmpty();
+		}
 	}
 
 	/**
 	 * [폴더가 존재하지 않는 환경] 오브젝트 목록을 가져올때 폴더 구분자[/]로 필터링 되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListV2DelimiterNotExist() {
-		test.testBucketListV2DelimiterNotExist();
-		testV2.testBucketListV2DelimiterNotExist();
+	void testBucketListV2DelimiterNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2DelimiterNotExist();
+			case V2 -> testV2.testBucketListV2DelimiterNotExist();
+		}
 	}
 
 	/**
 	 * [접두어에 '/'가 포함] 오브젝트 목록을 가져올때 선택한 폴더 목록만 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListV2PrefixBasic() {
-		test.testBucketListV2PrefixBasic();
-		testV2.testBucketListV2PrefixBasic();
+	void testBucketListV2PrefixBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixBasic();
+			case V2 -> testV2.testBucketListV2PrefixBasic();
+		}
 	}
 
 	/**
 	 * 접두어가 [/]가 아닌 경우 구분기호와 접두사 논리를 수행할 수 있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListV2PrefixAlt() {
-		test.testBucketListV2PrefixAlt();
-		testV2.testBucketListV2PrefixAlt();
+	void testBucketListV2PrefixAlt(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixAlt();
+			case V2 -> testV2.testBucketListV2PrefixAlt();
+		}
 	}
 
 	/**
 	 * 접두어를 빈문자로 입력할 경우 모든 오브젝트 목록을 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListV2PrefixEmpty() {
-		test.testBucketListV2PrefixEmpty();
-		testV2.testBucketListV2PrefixEmpty();
+	void testBucketListV2PrefixEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixEmpty();
+			case V2 -> testV2.testBucketListV2PrefixEmpty();
+		}
 	}
 
 	/**
 	 * 접두어를 입력하지 않을 경우 모든 오브젝트 목록을 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListV2PrefixNone() {
-		test.testBucketListV2PrefixNone();
-		testV2.testBucketListV2PrefixNone();
+	void testBucketListV2PrefixNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixNone();
+			case V2 -> testV2.testBucketListV2PrefixNone();
+		}
 	}
 
 	/**
 	 * [접두어와 일치하는 오브젝트가 없는 경우] 접두어를 입력할 경우 빈 오브젝트 목록을 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListV2PrefixNotExist() {
-		test.testBucketListV2PrefixNotExist();
-		testV2.testBucketListV2PrefixNotExist();
+	void testBucketListV2PrefixNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixNotExist();
+			case V2 -> testV2.testBucketListV2PrefixNotExist();
+		}
 	}
 
 	/**
 	 * 읽을수 없는 접두어를 입력할 경우 빈 오브젝트 목록을 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListV2PrefixUnreadable() {
-		test.testBucketListV2PrefixUnreadable();
-		testV2.testBucketListV2PrefixUnreadable();
+	void testBucketListV2PrefixUnreadable(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixUnreadable();
+			case V2 -> testV2.testBucketListV2PrefixUnreadable();
+		}
 	}
 
 	/**
 	 * 접두어와 구분자를 입력할 경우 오브젝트 목록을 올바르게 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListV2PrefixDelimiterBasic() {
-		test.testBucketListV2PrefixDelimiterBasic();
-		testV2.testBucketListV2PrefixDelimiterBasic();
+	void testBucketListV2PrefixDelimiterBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixDelimiterBasic();
+			case V2 -> testV2.testBucketListV2PrefixDelimiterBasic();
+		}
 	}
 
 	/**
 	 * [구분자가 '/' 아닐 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록을 올바르게 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListV2PrefixDelimiterAlt() {
-		test.testBucketListV2PrefixDelimiterAlt();
-		testV2.testBucketListV2PrefixDelimiterAlt();
+	void testBucketListV2PrefixDelimiterAlt(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixDelimiterAlt();
+			case V2 -> testV2.testBucketListV2PrefixDelimiterAlt();
+		}
 	}
 
 	/**
 	 * [입력한 접두어와 일치하는 오브젝트가 없을 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록이 비어있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListV2PrefixDelimiterPrefixNotExist() {
-		test.testBucketListV2PrefixDelimiterPrefixNotExist();
-		testV2.testBucketListV2PrefixDelimiterPrefixNotExist();
+	void testBucketListV2PrefixDelimiterPrefixNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixDelimiterPrefixNotExist();
+			case V2 -> testV2.testBucketListV2PrefixDelimiterPrefixNotExist();
+		}
 	}
 
 	/**
 	 * [구분자가 '/'가 아닐 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록을 올바르게 받아오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListV2PrefixDelimiterDelimiterNotExist() {
-		test.testBucketListV2PrefixDelimiterDelimiterNotExist();
-		testV2.testBucketListV2PrefixDelimiterDelimiterNotExist();
+	void testBucketListV2PrefixDelimiterDelimiterNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixDelimiterDelimiterNotExist();
+			case V2 -> testV2.testBucketListV2PrefixDelimiterDelimiterNotExist();
+		}
 	}
 
 	/**
 	 * [구분자가 '/'가 아니며, 접두어와 일치하는 오브젝트가 존재하지 않는 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록이 비어있는지
 	 * 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListV2PrefixDelimiterPrefixDelimiterNotExist() {
-		test.testBucketListV2PrefixDelimiterPrefixDelimiterNotExist();
-		testV2.testBucketListV2PrefixDelimiterPrefixDelimiterNotExist();
+	void testBucketListV2PrefixDelimiterPrefixDelimiterNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2PrefixDelimiterPrefixDelimiterNotExist();
+			case V2 -> testV2.testBucketListV2PrefixDelimiterPrefixDelimiterNotExist();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록의 최대갯수를 1로 지정하고 불러올때 올바르게 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxKeys")
-	void testBucketListV2MaxKeysOne() {
-		test.testBucketListV2MaxKeysOne();
-		testV2.testBucketListV2MaxKeysOne();
+	void testBucketListV2MaxKeysOne(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2MaxKeysOne();
+			case V2 -> testV2.testBucketListV2MaxKeysOne();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록의 최대갯수를 0으로 지정하고 불러올때 목록이 비어있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxKeys")
-	void testBucketListV2MaxKeysZero() {
-		test.testBucketListV2MaxKeysZero();
-		testV2.testBucketListV2MaxKeysZero();
+	void testBucketListV2MaxKeysZero(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2MaxKeysZero();
+			case V2 -> testV2.testBucketListV2MaxKeysZero();
+		}
 	}
 
 	/**
 	 * [default = 1000] 오브젝트 목록의 최대갯수를 지정하지않고 불러올때 올바르게 가져오는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxKeys")
-	void testBucketListV2MaxKeysNone() {
-		test.testBucketListV2MaxKeysNone();
-		testV2.testBucketListV2MaxKeysNone();
+	void testBucketListV2MaxKeysNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2MaxKeysNone();
+			case V2 -> testV2.testBucketListV2MaxKeysNone();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 다음 토큰값을 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ContinuationToken")
-	void testBucketListV2ContinuationToken() {
-		test.testBucketListV2ContinuationToken();
-		testV2.testBucketListV2ContinuationToken();
+	void testBucketListV2ContinuationToken(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2ContinuationToken();
+			case V2 -> testV2.testBucketListV2ContinuationToken();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 StartAfter와 토큰이 재대로 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ContinuationTokenAndStartAfter")
-	void testBucketListV2BothContinuationTokenStartAfter() {
-		test.testBucketListV2BothContinuationTokenStartAfter();
-		testV2.testBucketListV2BothContinuationTokenStartAfter();
+	void testBucketListV2BothContinuationTokenStartAfter(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2BothContinuationTokenStartAfter();
+			case V2 -> testV2.testBucketListV2BothContinuationTokenStartAfter();
+		}
 	}
 
 	/**
 	 * startAfter에 읽을수 없는 값[\n]을 설정한 경우 오브젝트 목록을 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("StartAfter")
-	void testBucketListV2StartAfterUnreadable() {
-		test.testBucketListV2StartAfterUnreadable();
-		testV2.testBucketListV2StartAfterUnreadable();
+	void testBucketListV2StartAfterUnreadable(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2StartAfterUnreadable();
+			case V2 -> testV2.testBucketListV2StartAfterUnreadable();
+		}
 	}
 
 	/**
 	 * [startAfter와 일치하는 오브젝트가 존재하지 않는 환경 해당 startAfter보다 정렬순서가 낮은 오브젝트는 존재하는 환경]
 	 * startAfter를 설정하고 오브젝트 목록을 불러올때 재대로 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("StartAfter")
-	void testBucketListV2StartAfterNotInList() {
-		test.testBucketListV2StartAfterNotInList();
-		testV2.testBucketListV2StartAfterNotInList();
+	void testBucketListV2StartAfterNotInList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2StartAfterNotInList();
+			case V2 -> testV2.testBucketListV2StartAfterNotInList();
+		}
 	}
 
 	/**
 	 * [startAfter와 일치하는 오브젝트도 정렬순서가 같은 오브젝트도 존재하지 않는 환경] startAfter를 설정하고 오브젝트 목록을
 	 * 불러올때 재대로 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("StartAfter")
-	void testBucketListV2StartAfterAfterList() {
-		test.testBucketListV2StartAfterAfterList();
-		testV2.testBucketListV2StartAfterAfterList();
+	void testBucketListV2StartAfterAfterList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2StartAfterAfterList();
+			case V2 -> testV2.testBucketListV2StartAfterAfterList();
+		}
 	}
 
 	/**
 	 * 권한없는 사용자가 공용읽기설정된 버킷의 오브젝트 목록을 읽을수 있는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACL")
-	void testBucketListV2ObjectsAnonymous() {
-		test.testBucketListV2ObjectsAnonymous();
-		testV2.testBucketListV2ObjectsAnonymous();
+	void testBucketListV2ObjectsAnonymous(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2ObjectsAnonymous();
+			case V2 -> testV2.testBucketListV2ObjectsAnonymous();
+		}
 	}
 
 	/**
 	 * 권한없는 사용자가 버킷의 오브젝트 목록을 읽지 못하는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACL")
-	void testBucketListV2ObjectsAnonymousFail() {
-		test.testBucketListV2ObjectsAnonymousFail();
-		testV2.testBucketListV2ObjectsAnonymousFail();
+	void testBucketListV2ObjectsAnonymousFail(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2ObjectsAnonymousFail();
+			case V2 -> testV2.testBucketListV2ObjectsAnonymousFail();
+		}
 	}
 
 	/**
 	 * 존재하지 않는 버킷 내 오브젝트들을 가져오려 했을 경우 실패 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketV2NotExist() {
-		test.testBucketV2NotExist();
-		testV2.testBucketV2NotExist();
+	void testBucketV2NotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketV2NotExist();
+			case V2 -> testV2.testBucketV2NotExist();
+		}
 	}
 
 	/**
 	 * delimiter, prefix, max-keys, marker를 조합하여 오브젝트 목록을 가져올때 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListV2FilteringAll() {
-		test.testBucketListV2FilteringAll();
-		testV2.testBucketListV2FilteringAll();
+	void testBucketListV2FilteringAll(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2FilteringAll();
+			case V2 -> testV2.testBucketListV2FilteringAll();
+		}
 	}
 
 	/**
 	 * versioning 활성화 버킷에서 오브젝트 목록을 가져올때 버전정보가 포함되어 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Versioning")
-	void testBucketListV2Versioning() {
-		test.testBucketListV2Versioning();
-		testV2.testBucketListV2Versioning();
+	void testBucketListV2Versioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListV2Versioning();
+			case V2 -> testV2.testBucketListV2Versioning();
+		}
 	}
 }
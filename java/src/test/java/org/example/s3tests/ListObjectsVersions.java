@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷의 버전 관리된 오브젝트 목록 조회 기능을 테스트하는 클래스
@@ -46,401 +45,481 @@ class ListObjectsVersions {
 	/**
 	 * 버킷의 오브젝트 목록을 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testBucketListVersionsMany() {
-		test.testBucketListVersionsMany();
-		testV2.testBucketListVersionsMany();
+	void testBucketListVersionsMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMany();
+			case V2 -> testV2.testBucketListVersionsMany();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 폴더 구분자[/]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterBasic() {
-		test.testBucketListVersionsDelimiterBasic();
-		testV2.testBucketListVersionsDelimiterBasic();
+	void testBucketListVersionsDelimiterBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterBasic();
+			case V2 -> testV2.testBucketListVersionsDelimiterBasic();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 인코딩이 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Encoding")
-	void testBucketListVersionsEncodingBasic() {
-		test.testBucketListVersionsEncodingBasic();
-		testV2.testBucketListVersionsEncodingBasic();
+	void testBucketListVersionsEncodingBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsEncodingBasic();
+			case V2 -> testV2.testBucketListVersionsEncodingBasic();
+		}
 	}
 
 	/**
 	 * 조건에 맞는 오브젝트 목록을 가져올 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListVersionsDelimiterPrefix() {
-		test.testBucketListVersionsDelimiterPrefix();
-		testV2.testBucketListVersionsDelimiterPrefix();
+	void testBucketListVersionsDelimiterPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterPrefix();
+			case V2 -> testV2.testBucketListVersionsDelimiterPrefix();
+		}
 	}
 
 	/**
 	 * 비어있는 폴더의 오브젝트 목록을 가져올 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListVersionsDelimiterPrefixEndsWithDelimiter() {
-		test.testBucketListVersionsDelimiterPrefixEndsWithDelimiter();
-		testV2.testBucketListVersionsDelimiterPrefixEndsWithDelimiter();
+	void testBucketListVersionsDelimiterPrefixEndsWithDelimiter(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterPrefixEndsWithDelimiter();
+			case V2 -> testV2.testBucketListVersionsDelimiterPrefixEndsWithDelimiter();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 문자 구분자[a]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterAlt() {
-		test.testBucketListVersionsDelimiterAlt();
-		testV2.testBucketListVersionsDelimiterAlt();
+	void testBucketListVersionsDelimiterAlt(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterAlt();
+			case V2 -> testV2.testBucketListVersionsDelimiterAlt();
+		}
 	}
 
 	/**
 	 * [폴더명 앞에 _가 포함되어 있는 환경] 조건에 맞는 오브젝트 목록을 가져올 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testBucketListVersionsDelimiterPrefixUnderscore() {
-		test.testBucketListVersionsDelimiterPrefixUnderscore();
-		testV2.testBucketListVersionsDelimiterPrefixUnderscore();
+	void testBucketListVersionsDelimiterPrefixUnderscore(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterPrefixUnderscore();
+			case V2 -> testV2.testBucketListVersionsDelimiterPrefixUnderscore();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 특수문자 구분자[%]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterPercentage() {
-		test.testBucketListVersionsDelimiterPercentage();
-		testV2.testBucketListVersionsDelimiterPercentage();
+	void testBucketListVersionsDelimiterPercentage(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterPercentage();
+			case V2 -> testV2.testBucketListVersionsDelimiterPercentage();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 공백문자 구분자[ ]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterWhitespace() {
-		test.testBucketListVersionsDelimiterWhitespace();
-		testV2.testBucketListVersionsDelimiterWhitespace();
+	void testBucketListVersionsDelimiterWhitespace(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterWhitespace();
+			case V2 -> testV2.testBucketListVersionsDelimiterWhitespace();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 구분자[.]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterDot() {
-		test.testBucketListVersionsDelimiterDot();
-		testV2.testBucketListVersionsDelimiterDot();
+	void testBucketListVersionsDelimiterDot(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterDot();
+			case V2 -> testV2.testBucketListVersionsDelimiterDot();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 읽을수 없는 구분자[\n]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterUnreadable() {
-		test.testBucketListVersionsDelimiterUnreadable();
-		testV2.testBucketListVersionsDelimiterUnreadable();
+	void testBucketListVersionsDelimiterUnreadable(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterUnreadable();
+			case V2 -> testV2.testBucketListVersionsDelimiterUnreadable();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 구분자가 빈문자일때 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterEmpty() {
-		test.testBucketListVersionsDelimiterEmpty();
-		testV2.testBucketListVersionsDelimiterEmpty();
+	void testBucketListVersionsDelimiterEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterEmpty();
+			case V2 -> testV2.testBucketListVersionsDelimiterEmpty();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 구분자를 입력하지 않아도 문제없는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterNone() {
-		test.testBucketListVersionsDelimiterNone();
-		testV2.testBucketListVersionsDelimiterNone();
+	void testBucketListVersionsDelimiterNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterNone();
+			case V2 -> testV2.testBucketListVersionsDelimiterNone();
+		}
 	}
 
 	/**
 	 * [폴더가 존재하지 않는 환경] 오브젝트 목록을 가져올때 폴더 구분자[/]로 필터링 되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterNotExist() {
-		test.testBucketListVersionsDelimiterNotExist();
-		testV2.testBucketListVersionsDelimiterNotExist();
+	void testBucketListVersionsDelimiterNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterNotExist();
+			case V2 -> testV2.testBucketListVersionsDelimiterNotExist();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 특수문자가 생략되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delimiter")
-	void testBucketListVersionsDelimiterNotSkipSpecial() {
-		test.testBucketListVersionsDelimiterNotSkipSpecial();
-		testV2.testBucketListVersionsDelimiterNotSkipSpecial();
+	void testBucketListVersionsDelimiterNotSkipSpecial(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsDelimiterNotSkipSpecial();
+			case V2 -> testV2.testBucketListVersionsDelimiterNotSkipSpecial();
+		}
 	}
 
 	/**
 	 * [접두어에 '/'가 포함] 오브젝트 목록을 가져올때 선택한 폴더 목록만 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListVersionsPrefixBasic() {
-		test.testBucketListVersionsPrefixBasic();
-		testV2.testBucketListVersionsPrefixBasic();
+	void testBucketListVersionsPrefixBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixBasic();
+			case V2 -> testV2.testBucketListVersionsPrefixBasic();
+		}
 	}
 
 	/**
 	 * 접두어가 [/]가 아닌 경우 구분기호와 접두사 논리를 수행할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListVersionsPrefixAlt() {
-		test.testBucketListVersionsPrefixAlt();
-		testV2.testBucketListVersionsPrefixAlt();
+	void testBucketListVersionsPrefixAlt(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixAlt();
+			case V2 -> testV2.testBucketListVersionsPrefixAlt();
+		}
 	}
 
 	/**
 	 * 접두어를 빈문자로 입력할 경우 모든 오브젝트 목록을 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListVersionsPrefixEmpty() {
-		test.testBucketListVersionsPrefixEmpty();
-		testV2.testBucketListVersionsPrefixEmpty();
+	void testBucketListVersionsPrefixEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixEmpty();
+			case V2 -> testV2.testBucketListVersionsPrefixEmpty();
+		}
 	}
 
 	/**
 	 * 접두어를 입력하지 않을 경우 모든 오브젝트 목록을 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListVersionsPrefixNone() {
-		test.testBucketListVersionsPrefixNone();
-		testV2.testBucketListVersionsPrefixNone();
+	void testBucketListVersionsPrefixNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixNone();
+			case V2 -> testV2.testBucketListVersionsPrefixNone();
+		}
 	}
 
 	/**
 	 * [접두어와 일치하는 오브젝트가 없는 경우] 접두어를 입력할 경우 빈 오브젝트 목록을 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListVersionsPrefixNotExist() {
-		test.testBucketListVersionsPrefixNotExist();
-		testV2.testBucketListVersionsPrefixNotExist();
+	void testBucketListVersionsPrefixNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixNotExist();
+			case V2 -> testV2.testBucketListVersionsPrefixNotExist();
+		}
 	}
 
 	/**
 	 * 읽을수 없는 접두어를 입력할 경우 빈 오브젝트 목록을 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Prefix")
-	void testBucketListVersionsPrefixUnreadable() {
-		test.testBucketListVersionsPrefixUnreadable();
-		testV2.testBucketListVersionsPrefixUnreadable();
+	void testBucketListVersionsPrefixUnreadable(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixUnreadable();
+			case V2 -> testV2.testBucketListVersionsPrefixUnreadable();
+		}
 	}
 
 	/**
 	 * 접두어와 구분자를 입력할 경우 오브젝트 목록을 올바르게 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListVersionsPrefixDelimiterBasic() {
-		test.testBucketListVersionsPrefixDelimiterBasic();
-		testV2.testBucketListVersionsPrefixDelimiterBasic();
+	void testBucketListVersionsPrefixDelimiterBasic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixDelimiterBasic();
+			case V2 -> testV2.testBucketListVersionsPrefixDelimiterBasic();
+		}
 	}
 
 	/**
 	 * [구분자가 '/' 아닐 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록을 올바르게 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListVersionsPrefixDelimiterAlt() {
-		test.testBucketListVersionsPrefixDelimiterAlt();
-		testV2.testBucketListVersionsPrefixDelimiterAlt();
+	void testBucketListVersionsPrefixDelimiterAlt(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixDelimiterAlt();
+			case V2 -> testV2.testBucketListVersionsPrefixDelimiterAlt();
+		}
 	}
 
 	/**
 	 * [입력한 접두어와 일치하는 오브젝트가 없을 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록이 비어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListVersionsPrefixDelimiterPrefixNotExist() {
-		test.testBucketListVersionsPrefixDelimiterPrefixNotExist();
-		testV2.testBucketListVersionsPrefixDelimiterPrefixNotExist();
+	void testBucketListVersionsPrefixDelimiterPrefixNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixDelimiterPrefixNotExist();
+			case V2 -> testV2.testBucketListVersionsPrefixDelimiterPrefixNotExist();
+		}
 	}
 
 	/**
 	 * [구분자가 '/'가 아닐 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록을 올바르게 받아오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListVersionsPrefixDelimiterDelimiterNotExist() {
-		test.testBucketListVersionsPrefixDelimiterDelimiterNotExist();
-		testV2.testBucketListVersionsPrefixDelimiterDelimiterNotExist();
+	void testBucketListVersionsPrefixDelimiterDelimiterNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixDelimiterDelimiterNotExist();
+			case V2 -> testV2.testBucketListVersionsPrefixDelimiterDelimiterNotExist();
+		}
 	}
 
 	/**
 	 * [구분자가 '/'가 아니며, 접두어와 일치하는 오브젝트가 존재하지 않는 경우] 접두어와 구분자를 입력할 경우 오브젝트 목록이 비어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PrefixAndDelimiter")
-	void testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist() {
-		test.testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist();
-		testV2.testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist();
+	void testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist();
+			case V2 -> testV2.testBucketListVersionsPrefixDelimiterPrefixDelimiterNotExist();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록의 최대갯수를 1로 지정하고 불러올때 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxKeys")
-	void testBucketListVersionsMaxKeysOne() {
-		test.testBucketListVersionsMaxKeysOne();
-		testV2.testBucketListVersionsMaxKeysOne();
+	void testBucketListVersionsMaxKeysOne(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMaxKeysOne();
+			case V2 -> testV2.testBucketListVersionsMaxKeysOne();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록의 최대갯수를 0으로 지정하고 불러올때 목록이 비어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxKeys")
-	void testBucketListVersionsMaxKeysZero() {
-		test.testBucketListVersionsMaxKeysZero();
-		testV2.testBucketListVersionsMaxKeysZero();
+	void testBucketListVersionsMaxKeysZero(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMaxKeysZero();
+			case V2 -> testV2.testBucketListVersionsMaxKeysZero();
+		}
 	}
 
 	/**
 	 * [default = 1000] 오브젝트 목록의 최대갯수를 지정하지않고 불러올때 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("MaxKeys")
-	void testBucketListVersionsMaxKeysNone() {
-		test.testBucketListVersionsMaxKeysNone();
-		testV2.testBucketListVersionsMaxKeysNone();
+	void testBucketListVersionsMaxKeysNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMaxKeysNone();
+			case V2 -> testV2.testBucketListVersionsMaxKeysNone();
+		}
 	}
 
 	/**
 	 * 오브젝트 목록을 가져올때 모든 목록을 가져왓을 경우 마커가 비어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Marker")
-	void testBucketListVersionsMarkerNone() {
-		test.testBucketListVersionsMarkerNone();
-		testV2.testBucketListVersionsMarkerNone();
+	void testBucketListVersionsMarkerNone(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMarkerNone();
+			case V2 -> testV2.testBucketListVersionsMarkerNone();
+		}
 	}
 
 	/**
 	 * 빈 마커를 입력하고 오브젝트 목록을 불러올때 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Marker")
-	void testBucketListVersionsMarkerEmpty() {
-		test.testBucketListVersionsMarkerEmpty();
-		testV2.testBucketListVersionsMarkerEmpty();
+	void testBucketListVersionsMarkerEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMarkerEmpty();
+			case V2 -> testV2.testBucketListVersionsMarkerEmpty();
+		}
 	}
 
 	/**
 	 * 마커에 읽을수 없는 값[\n]을 설정한 경우 오브젝트 목록을 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Marker")
-	void testBucketListVersionsMarkerUnreadable() {
-		test.testBucketListVersionsMarkerUnreadable();
-		testV2.testBucketListVersionsMarkerUnreadable();
+	void testBucketListVersionsMarkerUnreadable(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMarkerUnreadable();
+			case V2 -> testV2.testBucketListVersionsMarkerUnreadable();
+		}
 	}
 
 	/**
 	 * [마커와 일치하는 오브젝트가 존재하지 않지만 해당 마커보다 정렬순서가 낮은 오브젝트는 존재하는 환경] 마커를 설정하고 오브젝트 목록을 불러올때 재대로 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Marker")
-	void testBucketListVersionsMarkerNotInList() {
-		test.testBucketListVersionsMarkerNotInList();
-		testV2.testBucketListVersionsMarkerNotInList();
+	void testBucketListVersionsMarkerNotInList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMarkerNotInList();
+			case V2 -> testV2.testBucketListVersionsMarkerNotInList();
+		}
 	}
 
 	/**
 	 * [마커와 일치하는 오브젝트도 정렬순서가 같은 오브젝트도 존재하지 않는 환경] 마커를 설정하고 오브젝트 목록을 불러올때 재대로 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Marker")
-	void testBucketListVersionsMarkerAfterList() {
-		test.testBucketListVersionsMarkerAfterList();
-		testV2.testBucketListVersionsMarkerAfterList();
+	void testBucketListVersionsMarkerAfterList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsMarkerAfterList();
+			case V2 -> testV2.testBucketListVersionsMarkerAfterList();
+		}
 	}
 
 	/**
 	 * ListObjects으로 가져온 Metadata와 HeadObject, GetObjectAcl로 가져온 Metadata 일치 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Metadata")
-	void testBucketListVersionsReturnData() {
-		test.testBucketListVersionsReturnData();
-		testV2.testBucketListVersionsReturnData();
+	void testBucketListVersionsReturnData(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsReturnData();
+			case V2 -> testV2.testBucketListVersionsReturnData();
+		}
 	}
 
 	/**
 	 * 권한없는 사용자가 공용읽기설정된 버킷의 오브젝트 목록을 읽을수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACL")
-	void testBucketListVersionsObjectsAnonymous() {
-		test.testBucketListVersionsObjectsAnonymous();
-		testV2.testBucketListVersionsObjectsAnonymous();
+	void testBucketListVersionsObjectsAnonymous(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsObjectsAnonymous();
+			case V2 -> testV2.testBucketListVersionsObjectsAnonymous();
+		}
 	}
 
 	/**
 	 * 권한없는 사용자가 버킷의 오브젝트 목록을 읽지 못하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACL")
-	void testBucketListVersionsObjectsAnonymousFail() {
-		test.testBucketListVersionsObjectsAnonymousFail();
-		testV2.testBucketListVersionsObjectsAnonymousFail();
+	void testBucketListVersionsObjectsAnonymousFail(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsObjectsAnonymousFail();
+			case V2 -> testV2.testBucketListVersionsObjectsAnonymousFail();
+		}
 	}
 
 	/**
 	 * 존재하지 않는 버킷 내 오브젝트들을 가져오려 했을 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testBucketListVersionsNotExist() {
-		test.testBucketListVersionsNotExist();
-		testV2.testBucketListVersionsNotExist();
+	void testBucketListVersionsNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListVersionsNotExist();
+			case V2 -> testV2.testBucketListVersionsNotExist();
+		}
 	}
 
 	/**
 	 * delimiter, prefix, max-keys, marker를 조합하여 오브젝트 목록을 가져올때 올바르게 가져오는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testVersioningBucketListFilteringAll() {
-		test.testVersioningBucketListFilteringAll();
-		testV2.testVersioningBucketListFilteringAll();
+	void testVersioningBucketListFilteringAll(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningBucketListFilteringAll();
+			case V2 -> testV2.testVersioningBucketListFilteringAll();
+		}
 	}
 
 	/**
 	 * 버전 목록이 VersionId 기준으로 올바르게 정렬되어 반환되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjListMarker() {
-		test.testVersioningObjListMarker();
-		testV2.testVersioningObjListMarker();
+	void testVersioningObjListMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjListMarker();
+			case V2 -> testV2.testVersioningObjListMarker();
+		}
 	}
 
 }
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷과 오브젝트의 잠금 기능을 테스트하는 클래스
@@ -47,360 +46,432 @@ class Lock {
 	/**
 	 * 버킷을 생성한 후 오브젝트의 잠금 설정을 활성화 할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testCreatedBucketEnableObjectLock() {
-		test.testCreatedBucketEnableObjectLock();
-		testV2.testCreatedBucketEnableObjectLock();
+	void testCreatedBucketEnableObjectLock(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCreatedBucketEnableObjectLock();
+			case V2 -> testV2.testCreatedBucketEnableObjectLock();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 잠금 설정이 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectLockPutObjLock() {
-		test.testObjectLockPutObjLock();
-		testV2.testObjectLockPutObjLock();
+	void testObjectLockPutObjLock(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLock();
+			case V2 -> testV2.testObjectLockPutObjLock();
+		}
 	}
 
 	/**
 	 * 버킷을 Lock옵션을 활성화 하지않을 경우 lock 설정이 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockPutObjLockInvalidBucket() {
-		test.testObjectLockPutObjLockInvalidBucket();
-		testV2.testObjectLockPutObjLockInvalidBucket();
+	void testObjectLockPutObjLockInvalidBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLockInvalidBucket();
+			case V2 -> testV2.testObjectLockPutObjLockInvalidBucket();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] Days, Years값 모두 입력하여 Lock 설정할경우 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockPutObjLockWithDaysAndYears() {
-		test.testObjectLockPutObjLockWithDaysAndYears();
-		testV2.testObjectLockPutObjLockWithDaysAndYears();
+	void testObjectLockPutObjLockWithDaysAndYears(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLockWithDaysAndYears();
+			case V2 -> testV2.testObjectLockPutObjLockWithDaysAndYears();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] Days값을 0이하로 입력하여 Lock 설정할경우 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockPutObjLockInvalidDays() {
-		test.testObjectLockPutObjLockInvalidDays();
-		testV2.testObjectLockPutObjLockInvalidDays();
+	void testObjectLockPutObjLockInvalidDays(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLockInvalidDays();
+			case V2 -> testV2.testObjectLockPutObjLockInvalidDays();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] Years값을 0이하로 입력하여 Lock 설정할경우 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockPutObjLockInvalidYears() {
-		test.testObjectLockPutObjLockInvalidYears();
-		testV2.testObjectLockPutObjLockInvalidYears();
+	void testObjectLockPutObjLockInvalidYears(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLockInvalidYears();
+			case V2 -> testV2.testObjectLockPutObjLockInvalidYears();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] mode값이 올바르지 않은상태에서 Lock 설정할 경우 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockPutObjLockInvalidMode() {
-		test.testObjectLockPutObjLockInvalidMode();
-		testV2.testObjectLockPutObjLockInvalidMode();
+	void testObjectLockPutObjLockInvalidMode(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLockInvalidMode();
+			case V2 -> testV2.testObjectLockPutObjLockInvalidMode();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] status값이 올바르지 않은상태에서 Lock 설정할 경우 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockPutObjLockInvalidStatus() {
-		test.testObjectLockPutObjLockInvalidStatus();
-		testV2.testObjectLockPutObjLockInvalidStatus();
+	void testObjectLockPutObjLockInvalidStatus(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjLockInvalidStatus();
+			case V2 -> testV2.testObjectLockPutObjLockInvalidStatus();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷의 버저닝을 일시중단하려고 할경우 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("Version")
-	void testObjectLockSuspendVersioning() {
-		test.testObjectLockSuspendVersioning();
-		testV2.testObjectLockSuspendVersioning();
+	void testObjectLockSuspendVersioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockSuspendVersioning();
+			case V2 -> testV2.testObjectLockSuspendVersioning();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷의 lock설정이 올바르게 되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectLockGetObjLock() {
-		test.testObjectLockGetObjLock();
-		testV2.testObjectLockGetObjLock();
+	void testObjectLockGetObjLock(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetObjLock();
+			case V2 -> testV2.testObjectLockGetObjLock();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷의 lock설정이 있을때 오브젝트 업로드가 정상적으로 이루어지는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectLockPutObject() {
-		test.testObjectLockPutObject();
-		testV2.testObjectLockPutObject();
+	void testObjectLockPutObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObject();
+			case V2 -> testV2.testObjectLockPutObject();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷의 lock설정이 있을때 오브젝트 복제가 정상적으로 이루어지는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectLockCopyObject() {
-		test.testObjectLockCopyObject();
-		testV2.testObjectLockCopyObject();
+	void testObjectLockCopyObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockCopyObject();
+			case V2 -> testV2.testObjectLockCopyObject();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷의 lock설정이 있을때 멀티파트 업로드가 정상적으로 이루어지는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectLockMultipart() {
-		test.testObjectLockMultipart();
-		testV2.testObjectLockMultipart();
+	void testObjectLockMultipart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockMultipart();
+			case V2 -> testV2.testObjectLockMultipart();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷의 lock설정이 있을때 오브젝트 업로드시 md5 값이 없을 경우 업로드 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockMD5() {
-		test.testObjectLockMD5();
-		testV2.testObjectLockMD5();
+	void testObjectLockMD5(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockMD5();
+			case V2 -> testV2.testObjectLockMD5();
+		}
 	}
 
 	/**
 	 * 버킷을 Lock옵션을 활성화 하지않을 경우 lock 설정 조회 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockGetObjLockInvalidBucket() {
-		test.testObjectLockGetObjLockInvalidBucket();
-		testV2.testObjectLockGetObjLockInvalidBucket();
+	void testObjectLockGetObjLockInvalidBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetObjLockInvalidBucket();
+			case V2 -> testV2.testObjectLockGetObjLockInvalidBucket();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트에 Lock 유지기한 설정이 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockPutObjRetention() {
-		test.testObjectLockPutObjRetention();
-		testV2.testObjectLockPutObjRetention();
+	void testObjectLockPutObjRetention(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetention();
+			case V2 -> testV2.testObjectLockPutObjRetention();
+		}
 	}
 
 	/**
 	 * 버킷을 Lock옵션을 활성화 하지않을 경우 오브젝트에 Lock 유지기한 설정 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockPutObjRetentionInvalidBucket() {
-		test.testObjectLockPutObjRetentionInvalidBucket();
-		testV2.testObjectLockPutObjRetentionInvalidBucket();
+	void testObjectLockPutObjRetentionInvalidBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionInvalidBucket();
+			case V2 -> testV2.testObjectLockPutObjRetentionInvalidBucket();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트에 Lock 유지기한 설정할때 Mode값이 올바르지 않을 경우 설정 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockPutObjRetentionInvalidMode() {
-		test.testObjectLockPutObjRetentionInvalidMode();
-		testV2.testObjectLockPutObjRetentionInvalidMode();
+	void testObjectLockPutObjRetentionInvalidMode(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionInvalidMode();
+			case V2 -> testV2.testObjectLockPutObjRetentionInvalidMode();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트에 Lock 유지기한 설정이 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockGetObjRetention() {
-		test.testObjectLockGetObjRetention();
-		testV2.testObjectLockGetObjRetention();
+	void testObjectLockGetObjRetention(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetObjRetention();
+			case V2 -> testV2.testObjectLockGetObjRetention();
+		}
 	}
 
 	/**
 	 * 버킷을 Lock옵션을 활성화 하지않을 경우 오브젝트에 Lock 유지기한 조회 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockGetObjRetentionInvalidBucket() {
-		test.testObjectLockGetObjRetentionInvalidBucket();
-		testV2.testObjectLockGetObjRetentionInvalidBucket();
+	void testObjectLockGetObjRetentionInvalidBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetObjRetentionInvalidBucket();
+			case V2 -> testV2.testObjectLockGetObjRetentionInvalidBucket();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 특정 버전에 Lock 유지기한을 설정할 경우 올바르게 적용되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockPutObjRetentionVersionid() {
-		test.testObjectLockPutObjRetentionVersionid();
-		testV2.testObjectLockPutObjRetentionVersionid();
+	void testObjectLockPutObjRetentionVersionid(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionVersionid();
+			case V2 -> testV2.testObjectLockPutObjRetentionVersionid();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 버킷에 설정한 Lock설정보다 오브젝트에 Lock설정한 값이 우선 적용됨을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Priority")
-	void testObjectLockPutObjRetentionOverrideDefaultRetention() {
-		test.testObjectLockPutObjRetentionOverrideDefaultRetention();
-		testV2.testObjectLockPutObjRetentionOverrideDefaultRetention();
+	void testObjectLockPutObjRetentionOverrideDefaultRetention(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionOverrideDefaultRetention();
+			case V2 -> testV2.testObjectLockPutObjRetentionOverrideDefaultRetention();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 lock 유지기한을 늘렸을때 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testObjectLockPutObjRetentionIncreasePeriod() {
-		test.testObjectLockPutObjRetentionIncreasePeriod();
-		testV2.testObjectLockPutObjRetentionIncreasePeriod();
+	void testObjectLockPutObjRetentionIncreasePeriod(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionIncreasePeriod();
+			case V2 -> testV2.testObjectLockPutObjRetentionIncreasePeriod();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 lock 유지기한을 줄였을때 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testObjectLockPutObjRetentionShortenPeriod() {
-		test.testObjectLockPutObjRetentionShortenPeriod();
-		testV2.testObjectLockPutObjRetentionShortenPeriod();
+	void testObjectLockPutObjRetentionShortenPeriod(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionShortenPeriod();
+			case V2 -> testV2.testObjectLockPutObjRetentionShortenPeriod();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 바이패스를 True로 설정하고 오브젝트의 lock 유지기한을 줄였을때 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testObjectLockPutObjRetentionShortenPeriodBypass() {
-		test.testObjectLockPutObjRetentionShortenPeriodBypass();
-		testV2.testObjectLockPutObjRetentionShortenPeriodBypass();
+	void testObjectLockPutObjRetentionShortenPeriodBypass(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutObjRetentionShortenPeriodBypass();
+			case V2 -> testV2.testObjectLockPutObjRetentionShortenPeriodBypass();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 lock 유지기한내에 삭제를 시도할 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testObjectLockDeleteObjectWithRetention() {
-		test.testObjectLockDeleteObjectWithRetention();
-		testV2.testObjectLockDeleteObjectWithRetention();
+	void testObjectLockDeleteObjectWithRetention(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockDeleteObjectWithRetention();
+			case V2 -> testV2.testObjectLockDeleteObjectWithRetention();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 Lock 유지기한이 있어도 바이패스를 통해 삭제가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockDeleteObjectWithRetentionBypass() {
-		test.testObjectLockDeleteObjectWithRetentionBypass();
-		testV2.testObjectLockDeleteObjectWithRetentionBypass();
+	void testObjectLockDeleteObjectWithRetentionBypass(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockDeleteObjectWithRetentionBypass();
+			case V2 -> testV2.testObjectLockDeleteObjectWithRetentionBypass();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 Lock 유지기한이 있어도 바이패스를 통해 삭제가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Retention")
-	void testObjectLockDeleteObjectsWithRetentionBypass() {
-		test.testObjectLockDeleteObjectsWithRetentionBypass();
-		testV2.testObjectLockDeleteObjectsWithRetentionBypass();
+	void testObjectLockDeleteObjectsWithRetentionBypass(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockDeleteObjectsWithRetentionBypass();
+			case V2 -> testV2.testObjectLockDeleteObjectsWithRetentionBypass();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 LegalHold를 활성화 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockPutLegalHold() {
-		test.testObjectLockPutLegalHold();
-		testV2.testObjectLockPutLegalHold();
+	void testObjectLockPutLegalHold(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutLegalHold();
+			case V2 -> testV2.testObjectLockPutLegalHold();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 비활성화] 오브젝트의 LegalHold를 활성화 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockPutLegalHoldInvalidBucket() {
-		test.testObjectLockPutLegalHoldInvalidBucket();
-		testV2.testObjectLockPutLegalHoldInvalidBucket();
+	void testObjectLockPutLegalHoldInvalidBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutLegalHoldInvalidBucket();
+			case V2 -> testV2.testObjectLockPutLegalHoldInvalidBucket();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 LegalHold에 잘못된 값을 넣을 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockPutLegalHoldInvalidStatus() {
-		test.testObjectLockPutLegalHoldInvalidStatus();
-		testV2.testObjectLockPutLegalHoldInvalidStatus();
+	void testObjectLockPutLegalHoldInvalidStatus(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockPutLegalHoldInvalidStatus();
+			case V2 -> testV2.testObjectLockPutLegalHoldInvalidStatus();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 LegalHold가 올바르게 적용되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockGetLegalHold() {
-		test.testObjectLockGetLegalHold();
-		testV2.testObjectLockGetLegalHold();
+	void testObjectLockGetLegalHold(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetLegalHold();
+			case V2 -> testV2.testObjectLockGetLegalHold();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 비활성화] 오브젝트의 LegalHold설정 조회 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockGetLegalHoldInvalidBucket() {
-		test.testObjectLockGetLegalHoldInvalidBucket();
-		testV2.testObjectLockGetLegalHoldInvalidBucket();
+	void testObjectLockGetLegalHoldInvalidBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetLegalHoldInvalidBucket();
+			case V2 -> testV2.testObjectLockGetLegalHoldInvalidBucket();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 LegalHold가 활성화되어 있을 경우 오브젝트 삭제 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockDeleteObjectWithLegalHoldOn() {
-		test.testObjectLockDeleteObjectWithLegalHoldOn();
-		testV2.testObjectLockDeleteObjectWithLegalHoldOn();
+	void testObjectLockDeleteObjectWithLegalHoldOn(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockDeleteObjectWithLegalHoldOn();
+			case V2 -> testV2.testObjectLockDeleteObjectWithLegalHoldOn();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 LegalHold가 비활성화되어 있을 경우 오브젝트 삭제 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockDeleteObjectWithLegalHoldOff() {
-		test.testObjectLockDeleteObjectWithLegalHoldOff();
-		testV2.testObjectLockDeleteObjectWithLegalHoldOff();
+	void testObjectLockDeleteObjectWithLegalHoldOff(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockDeleteObjectWithLegalHoldOff();
+			case V2 -> testV2.testObjectLockDeleteObjectWithLegalHoldOff();
+		}
 	}
 
 	/**
 	 * [버킷의 Lock옵션을 활성화] 오브젝트의 LegalHold와 Lock유지기한 설정이 모두 적용되는지 메타데이터를 통해 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("LegalHold")
-	void testObjectLockGetObjMetadata() {
-		test.testObjectLockGetObjMetadata();
-		testV2.testObjectLockGetObjMetadata();
+	void testObjectLockGetObjMetadata(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockGetObjMetadata();
+			case V2 -> testV2.testObjectLockGetObjMetadata();
+		}
 	}
 }
@@ -12,7 +12,6 @@ package org.example.s3tests;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
 /**
@@ -45,80 +44,96 @@ class Logging {
 	/**
 	 * 버킷에 로깅 설정 조회 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put/Get")
-	void testLoggingGet() {
-		test.testLoggingGet();
-		testV2.testLoggingGet();
+	void testLoggingGet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingGet();
+			case V2 -> testV2.testLoggingGet();
+		}
 	}
 
 	/**
 	 * 버킷에 로깅 설정 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put/Get")
-	void testLoggingSet() {
-		test.testLoggingSet();
-		testV2.testLoggingSet();
+	void testLoggingSet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingSet();
+			case V2 -> testV2.testLoggingSet();
+		}
 	}
 
 	/**
 	 * 버킷에 설정한 로깅 정보 조회가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put/Get")
-	void testLoggingSetGet() {
-		test.testLoggingSetGet();
-		testV2.testLoggingSetGet();
+	void testLoggingSetGet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingSetGet();
+			case V2 -> testV2.testLoggingSetGet();
+		}
 	}
 
 	/**
 	 * 버킷의 로깅에 Prefix가 설정되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put/Get")
-	void testLoggingPrefix() {
-		test.testLoggingPrefix();
-		testV2.testLoggingPrefix();
+	void testLoggingPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingPrefix();
+			case V2 -> testV2.testLoggingPrefix();
+		}
 	}
 
 	/**
 	 * 버저닝 설정된 버킷의 로깅이 설정되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Versioning")
-	void testLoggingVersioning() {
-		test.testLoggingVersioning();
-		testV2.testLoggingVersioning();
+	void testLoggingVersioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingVersioning();
+			case V2 -> testV2.testLoggingVersioning();
+		}
 	}
 
 	/**
 	 * SSE-s3설정된 버킷의 로깅이 설정되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Encryption")
-	void testLoggingEncryption() {
-		test.testLoggingEncryption();
-		testV2.testLoggingEncryption();
+	void testLoggingEncryption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingEncryption();
+			case V2 -> testV2.testLoggingEncryption();
+		}
 	}
 
 	/**
 	 * 존재하지 않는 버킷에 로깅 설정 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testLoggingBucketNotFound() {
-		test.testLoggingBucketNotFound();
-		testV2.testLoggingBucketNotFound();
+	void testLoggingBucketNotFound(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingBucketNotFound();
+			case V2 -> testV2.testLoggingBucketNotFound();
+		}
 	}
 
 	/**
 	 * 타깃 버킷이 존재하지 않을때 로깅 설정 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testLoggingTargetBucketNotFound() {
-		test.testLoggingTargetBucketNotFound();
-		testV2.testLoggingTargetBucketNotFound();
+	void testLoggingTargetBucketNotFound(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testLoggingTargetBucketNotFound();
+			case V2 -> testV2.testLoggingTargetBucketNotFound();
+		}
 	}
 }
@@ -2,7 +2,6 @@ package org.example.s3tests;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
 /**
@@ -35,140 +34,168 @@ class Metrics {
 	/**
 	 * 버킷에 Metrics를 설정하지 않은 상태에서 조회가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testMetrics() {
-		test.testMetrics();
-		testV2.testMetrics();
+	void testMetrics(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMetrics();
+			case V2 -> testV2.testMetrics();
+		}
 	}
 
 	/**
 	 * 버킷에 Metrics를 설정할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testPutMetrics() {
-		test.testPutMetrics();
-		testV2.testPutMetrics();
+	void testPutMetrics(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMetrics();
+			case V2 -> testV2.testPutMetrics();
+		}
 	}
 
 	/**
 	 * 버킷에 Metrics 설정이 되었는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testCheckMetrics() {
-		test.testCheckMetrics();
-		testV2.testCheckMetrics();
+	void testCheckMetrics(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCheckMetrics();
+			case V2 -> testV2.testCheckMetrics();
+		}
 	}
 
 	/**
 	 * 버킷에 설정된 Metrics를 조회할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testGetMetrics() {
-		test.testGetMetrics();
-		testV2.testGetMetrics();
+	void testGetMetrics(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetMetrics();
+			case V2 -> testV2.testGetMetrics();
+		}
 	}
 
 	/**
 	 * 버킷에 설정된 Metrics를 삭제할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testDeleteMetrics() {
-		test.testDeleteMetrics();
-		testV2.testDeleteMetrics();
+	void testDeleteMetrics(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteMetrics();
+			case V2 -> testV2.testDeleteMetrics();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 Metrics를 가져오려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testGetMetricsNotExist() {
-		test.testGetMetricsNotExist();
-		testV2.testGetMetricsNotExist();
+	void testGetMetricsNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetMetricsNotExist();
+			case V2 -> testV2.testGetMetricsNotExist();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 Metrics를 삭제하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testDeleteMetricsNotExist() {
-		test.testDeleteMetricsNotExist();
-		testV2.testDeleteMetricsNotExist();
+	void testDeleteMetricsNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteMetricsNotExist();
+			case V2 -> testV2.testDeleteMetricsNotExist();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 Metrics를 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutMetricsNotExist() {
-		test.testPutMetricsNotExist();
-		testV2.testPutMetricsNotExist();
+	void testPutMetricsNotExist(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMetricsNotExist();
+			case V2 -> testV2.testPutMetricsNotExist();
+		}
 	}
 
 	/**
 	 * Metrics 아이디를 빈값으로 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutMetricsEmptyId() {
-		test.testPutMetricsEmptyId();
-		testV2.testPutMetricsEmptyId();
+	void testPutMetricsEmptyId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMetricsEmptyId();
+			case V2 -> testV2.testPutMetricsEmptyId();
+		}
 	}
 
 	/**
 	 * Metrics 아이디를 설정하지 않고 설정하려고 할 경우 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testPutMetricsNoId() {
-		test.testPutMetricsNoId();
-		testV2.testPutMetricsNoId();
+	void testPutMetricsNoId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMetricsNoId();
+			case V2 -> testV2.testPutMetricsNoId();
+		}
 	}
 
 	/**
 	 * Metrics 아이디를 중복으로 설정하려고 할 경우 덮어쓰기 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testPutMetricsDuplicateId() {
-		test.testPutMetricsDuplicateId();
-		testV2.testPutMetricsDuplicateId();
+	void testPutMetricsDuplicateId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMetricsDuplicateId();
+			case V2 -> testV2.testPutMetricsDuplicateId();
+		}
 	}
 
 	/**
 	 * 접두어를 포함한 Metrics 설정이 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testMetricsPrefix() {
-		test.testMetricsPrefix();
-		testV2.testMetricsPrefix();
+	void testMetricsPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMetricsPrefix();
+			case V2 -> testV2.testMetricsPrefix();
+		}
 	}
 
 	/**
 	 * Metrics 설정에 태그를 적용할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testMetricsTag() {
-		test.testMetricsTag();
-		testV2.testMetricsTag();
+	void testMetricsTag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMetricsTag();
+			case V2 -> testV2.testMetricsTag();
+		}
 	}
 
 	/**
 	 * Metrics 설정에 필터를 적용할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Filtering")
-	void testMetricsFilter() {
-		test.testMetricsFilter();
-		testV2.testMetricsFilter();
+	void testMetricsFilter(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMetricsFilter();
+			case V2 -> testV2.testMetricsFilter();
+		}
 	}
 }
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 멀티파트 업로드 기능을 테스트하는 클래스
@@ -47,257 +46,307 @@ class Multipart {
 	/**
 	 * 비어있는 오브젝트를 멀티파트로 업로드 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testMultipartUploadEmpty() {
-		test.testMultipartUploadEmpty();
-		testV2.testMultipartUploadEmpty();
+	void testMultipartUploadEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadEmpty();
+			case V2 -> testV2.testMultipartUploadEmpty();
+		}
 	}
 
 	/**
 	 * 파트 크기보다 작은 오브젝트를 멀티파트 업로드시 성공확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testMultipartUploadSmall() {
-		test.testMultipartUploadSmall();
-		testV2.testMultipartUploadSmall();
+	void testMultipartUploadSmall(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadSmall();
+			case V2 -> testV2.testMultipartUploadSmall();
+		}
 	}
 
 	/**
 	 * 버킷a에서 버킷b로 멀티파트 복사 성공확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Copy")
-	void testMultipartCopySmall() {
-		test.testMultipartCopySmall();
-		testV2.testMultipartCopySmall();
+	void testMultipartCopySmall(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopySmall();
+			case V2 -> testV2.testMultipartCopySmall();
+		}
 	}
 
 	/**
 	 * 범위설정을 잘못한 멀티파트 복사 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testMultipartCopyInvalidRange() {
-		test.testMultipartCopyInvalidRange();
-		testV2.testMultipartCopyInvalidRange();
+	void testMultipartCopyInvalidRange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopyInvalidRange();
+			case V2 -> testV2.testMultipartCopyInvalidRange();
+		}
 	}
 
 	/**
 	 * 범위를 지정한 멀티파트 복사 성공확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Range")
-	void testMultipartCopyWithoutRange() {
-		test.testMultipartCopyWithoutRange();
-		testV2.testMultipartCopyWithoutRange();
+	void testMultipartCopyWithoutRange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopyWithoutRange();
+			case V2 -> testV2.testMultipartCopyWithoutRange();
+		}
 	}
 
 	/**
 	 * 특수문자로 오브젝트 이름을 만들어 업로드한 오브젝트를 멀티파트 복사 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("SpecialNames")
-	void testMultipartCopySpecialNames() {
-		test.testMultipartCopySpecialNames();
-		testV2.testMultipartCopySpecialNames();
+	void testMultipartCopySpecialNames(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopySpecialNames();
+			case V2 -> testV2.testMultipartCopySpecialNames();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testMultipartUpload() {
-		test.testMultipartUpload();
-		testV2.testMultipartUpload();
+	void testMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUpload();
+			case V2 -> testV2.testMultipartUpload();
+		}
 	}
 
 	/**
 	 * 버저닝되어있는 버킷에서 오브젝트를 멀티파트로 복사 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Copy")
-	void testMultipartCopyVersioned() {
-		test.testMultipartCopyVersioned();
-		testV2.testMultipartCopyVersioned();
+	void testMultipartCopyVersioned(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopyVersioned();
+			case V2 -> testV2.testMultipartCopyVersioned();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드중 같은 파츠를 여러번 업로드시 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Duplicate")
-	void testMultipartUploadResendPart() {
-		test.testMultipartUploadResendPart();
-		testV2.testMultipartUploadResendPart();
+	void testMultipartUploadResendPart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadResendPart();
+			case V2 -> testV2.testMultipartUploadResendPart();
+		}
 	}
 
 	/**
 	 * 한 오브젝트에 대해 다양한 크기의 멀티파트 업로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testMultipartUploadMultipleSizes() {
-		test.testMultipartUploadMultipleSizes();
-		testV2.testMultipartUploadMultipleSizes();
+	void testMultipartUploadMultipleSizes(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadMultipleSizes();
+			case V2 -> testV2.testMultipartUploadMultipleSizes();
+		}
 	}
 
 	/**
 	 * 한 오브젝트에 대해 다양한 크기의 오브젝트 멀티파트 복사 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Copy")
-	void testMultipartCopyMultipleSizes() {
-		test.testMultipartCopyMultipleSizes();
-		testV2.testMultipartCopyMultipleSizes();
+	void testMultipartCopyMultipleSizes(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopyMultipleSizes();
+			case V2 -> testV2.testMultipartCopyMultipleSizes();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드시에 파츠의 크기가 너무 작을 경우 업로드 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testMultipartUploadSizeTooSmall() {
-		test.testMultipartUploadSizeTooSmall();
-		testV2.testMultipartUploadSizeTooSmall();
+	void testMultipartUploadSizeTooSmall(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadSizeTooSmall();
+			case V2 -> testV2.testMultipartUploadSizeTooSmall();
+		}
 	}
 
 	/**
 	 * 내용물을 채운 멀티파트 업로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testMultipartUploadContents() {
-		test.testMultipartUploadContents();
-		testV2.testMultipartUploadContents();
+	void testMultipartUploadContents(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadContents();
+			case V2 -> testV2.testMultipartUploadContents();
+		}
 	}
 
 	/**
 	 * 업로드한 오브젝트를 멀티파트 업로드로 덮어쓰기 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testMultipartUploadOverwriteExistingObject() {
-		test.testMultipartUploadOverwriteExistingObject();
-		testV2.testMultipartUploadOverwriteExistingObject();
+	void testMultipartUploadOverwriteExistingObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadOverwriteExistingObject();
+			case V2 -> testV2.testMultipartUploadOverwriteExistingObject();
+		}
 	}
 
 	/**
 	 * 멀티파트로 업로드된 오브젝트를 putObject로 덮어쓴 뒤 파일이 정상인지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testPutObjectOverwriteMultipartUpload() {
-		test.testPutObjectOverwriteMultipartUpload();
-		testV2.testPutObjectOverwriteMultipartUpload();
+	void testPutObjectOverwriteMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectOverwriteMultipartUpload();
+			case V2 -> testV2.testPutObjectOverwriteMultipartUpload();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드하는 도중 중단 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Cancel")
-	void testAbortMultipartUpload() {
-		test.testAbortMultipartUpload();
-		testV2.testAbortMultipartUpload();
+	void testAbortMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAbortMultipartUpload();
+			case V2 -> testV2.testAbortMultipartUpload();
+		}
 	}
 
 	/**
 	 * 존재하지 않은 멀티파트 업로드 중단 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testAbortMultipartUploadNotFound() {
-		test.testAbortMultipartUploadNotFound();
-		testV2.testAbortMultipartUploadNotFound();
+	void testAbortMultipartUploadNotFound(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAbortMultipartUploadNotFound();
+			case V2 -> testV2.testAbortMultipartUploadNotFound();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드 중인 목록 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testListMultipartUpload() {
-		test.testListMultipartUpload();
-		testV2.testListMultipartUpload();
+	void testListMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testListMultipartUpload();
+			case V2 -> testV2.testListMultipartUpload();
+		}
 	}
 
 	/**
 	 * 업로드 하지 않은 파츠가 있는 상태에서 멀티파트 완료 함수 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testMultipartUploadMissingPart() {
-		test.testMultipartUploadMissingPart();
-		testV2.testMultipartUploadMissingPart();
+	void testMultipartUploadMissingPart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadMissingPart();
+			case V2 -> testV2.testMultipartUploadMissingPart();
+		}
 	}
 
 	/**
 	 * 잘못된 eTag값을 입력한 멀티파트 완료 함수 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testMultipartUploadIncorrectEtag() {
-		test.testMultipartUploadIncorrectEtag();
-		testV2.testMultipartUploadIncorrectEtag();
+	void testMultipartUploadIncorrectEtag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadIncorrectEtag();
+			case V2 -> testV2.testMultipartUploadIncorrectEtag();
+		}
 	}
 
 	/**
 	 * 버킷에 존재하는 오브젝트와 동일한 이름으로 멀티파트 업로드를 시작 또는 중단했을때 오브젝트에 영향이 없음을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testAtomicMultipartUploadWrite() {
-		test.testAtomicMultipartUploadWrite();
-		testV2.testAtomicMultipartUploadWrite();
+	void testAtomicMultipartUploadWrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAtomicMultipartUploadWrite();
+			case V2 -> testV2.testAtomicMultipartUploadWrite();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드 목록 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testMultipartUploadList() {
-		test.testMultipartUploadList();
-		testV2.testMultipartUploadList();
+	void testMultipartUploadList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadList();
+			case V2 -> testV2.testMultipartUploadList();
+		}
 	}
 
 	/**
 	 * 멀티파트 업로드하는 도중 중단 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Cancel")
-	void testAbortMultipartUploadList() {
-		test.testAbortMultipartUploadList();
-		testV2.testAbortMultipartUploadList();
+	void testAbortMultipartUploadList(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testAbortMultipartUploadList();
+			case V2 -> testV2.testAbortMultipartUploadList();
+		}
 	}
 
 	/**
 	 * 멀티파트업로드와 멀티파티 카피로 오브젝트가 업로드 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Copy")
-	void testMultipartCopyMany() {
-		test.testMultipartCopyMany();
-		testV2.testMultipartCopyMany();
+	void testMultipartCopyMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartCopyMany();
+			case V2 -> testV2.testMultipartCopyMany();
+		}
 	}
 
 	/**
 	 * 멀티파트 목록 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("List")
-	void testMultipartListParts() {
-		test.testMultipartListParts();
-		testV2.testMultipartListParts();
+	void testMultipartListParts(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartListParts();
+			case V2 -> testV2.testMultipartListParts();
+		}
 	}
 
 	/**
 	 * UseChunkEncoding을 사용하는 멀티파트 업로드 시 체크섬 계산 및 검증 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	void testMultipartUploadChecksumUseChunkEncoding() {
 		testV2.testMultipartUploadChecksumUseChunkEncoding();
@@ -306,7 +355,7 @@ class Multipart {
 	/**
 	 * UseChunkEncoding을 사용하지 않는 멀티파트 업로드 시 체크섬 계산 및 검증 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	void testMultipartUploadChecksum() {
 		testV2.testMultipartUploadChecksum();
@@ -315,7 +364,7 @@ class Multipart {
 	/**
 	 * 멀티파트 업로드 시 체크섬 계산 및 검증 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum-failure")
 	void testMultipartUploadChecksumFailure() {
 		testV2.testMultipartUploadChecksumFailure();
@@ -324,7 +373,7 @@ class Multipart {
 	/**
 	 * 멀티파트 업로드 시 체크섬 계산 및 검증 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	void testMultipartCopyChecksum() {
 		testV2.testMultipartCopyChecksum();
@@ -333,7 +382,7 @@ class Multipart {
 	/**
 	 * 멀티파트 업로드 시 체크섬 알고리즘이 누락될 경우 에러 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("error")
 	void testcreateMultipartUploadEmptyChecksumAlgorithm() {
 		testV2.testcreateMultipartUploadEmptyChecksumAlgorithm();
@@ -342,7 +391,7 @@ class Multipart {
 	/**
 	 * 멀티파트 업로드 시 체크섬 타입이 누락될 경우 에러 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("error")
 	void testcreateMultipartUploadEmptyChecksumType() {
 		testV2.testcreateMultipartUploadEmptyChecksumType();
@@ -351,17 +400,19 @@ class Multipart {
 	/**
 	 * 멀티파티 업로드 abort 이후 uploadPart가 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Cancel")
-	void testMultipartUploadAbortDuringUpload() {
-		test.testMultipartUploadAbortDuringUpload();
-		testV2.testMultipartUploadAbortDuringUpload();
+	void testMultipartUploadAbortDuringUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testMultipartUploadAbortDuringUpload();
+			case V2 -> testV2.testMultipartUploadAbortDuringUpload();
+		}
 	}
 
 	/**
 	 * 소스 오브젝트와 일치하는 copy-source-if-match 조건으로 UploadPartCopy 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testUploadPartCopyIfMatchGood() {
 		testV2.testUploadPartCopyIfMatchGood();
@@ -370,7 +421,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트와 일치하지 않는 copy-source-if-match 조건으로 UploadPartCopy 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testUploadPartCopyIfMatchFailed() {
 		testV2.testUploadPartCopyIfMatchFailed();
@@ -379,7 +430,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트와 일치하지 않는 copy-source-if-none-match 조건으로 UploadPartCopy 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testUploadPartCopyIfNoneMatchGood() {
 		testV2.testUploadPartCopyIfNoneMatchGood();
@@ -388,7 +439,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트와 일치하는 copy-source-if-none-match 조건으로 UploadPartCopy 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testUploadPartCopyIfNoneMatchFailed() {
 		testV2.testUploadPartCopyIfNoneMatchFailed();
@@ -397,7 +448,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트 업로드 이전 시간의 copy-source-if-modified-since 조건으로 UploadPartCopy 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfModifiedSince")
 	void testUploadPartCopyIfModifiedSinceGood() {
 		testV2.testUploadPartCopyIfModifiedSinceGood();
@@ -406,7 +457,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트 업로드 이후 시간의 copy-source-if-modified-since 조건으로 UploadPartCopy 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfModifiedSince")
 	void testUploadPartCopyIfModifiedSinceFailed() {
 		testV2.testUploadPartCopyIfModifiedSinceFailed();
@@ -415,7 +466,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트 업로드 이후 시간의 copy-source-if-unmodified-since 조건으로 UploadPartCopy 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfUnmodifiedSince")
 	void testUploadPartCopyIfUnmodifiedSinceGood() {
 		testV2.testUploadPartCopyIfUnmodifiedSinceGood();
@@ -424,7 +475,7 @@ class Multipart {
 	/**
 	 * 소스 오브젝트 업로드 이전 시간의 copy-source-if-unmodified-since 조건으로 UploadPartCopy 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfUnmodifiedSince")
 	void testUploadPartCopyIfUnmodifiedSinceFailed() {
 		testV2.testUploadPartCopyIfUnmodifiedSinceFailed();
@@ -433,7 +484,7 @@ class Multipart {
 	/**
 	 * If-Match와 If-None-Match를 함께 지정하면 UploadPartCopy가 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testUploadPartCopyIfMatchAndIfNoneMatch() {
@@ -443,7 +494,7 @@ class Multipart {
 	/**
 	 * If-Match와 If-None-Match: * 를 함께 지정하면 UploadPartCopy가 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testUploadPartCopyIfMatchAndIfNoneMatchAny() {
@@ -453,7 +504,7 @@ class Multipart {
 	/**
 	 * 대상 오브젝트와 일치하는 If-Match 조건으로 CompleteMultipartUpload 덮어쓰기 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testCompleteMultipartUploadIfMatchGood() {
 		testV2.testCompleteMultipartUploadIfMatchGood();
@@ -462,7 +513,7 @@ class Multipart {
 	/**
 	 * 대상 오브젝트와 일치하지 않는 If-Match 조건으로 CompleteMultipartUpload 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	void testCompleteMultipartUploadIfMatchFailed() {
 		testV2.testCompleteMultipartUploadIfMatchFailed();
@@ -471,7 +522,7 @@ class Multipart {
 	/**
 	 * 존재하지 않는 키에 If-None-Match: * 조건으로 CompleteMultipartUpload 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCompleteMultipartUploadIfNoneMatchGood() {
 		testV2.testCompleteMultipartUploadIfNoneMatchGood();
@@ -480,7 +531,7 @@ class Multipart {
 	/**
 	 * 이미 존재하는 키에 If-None-Match: * 조건으로 CompleteMultipartUpload 시 412 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	void testCompleteMultipartUploadIfNoneMatchFailed() {
 		testV2.testCompleteMultipartUploadIfNoneMatchFailed();
@@ -489,7 +540,7 @@ class Multipart {
 	/**
 	 * If-Match와 If-None-Match를 함께 지정하면 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCompleteMultipartUploadIfMatchAndIfNoneMatch() {
@@ -499,7 +550,7 @@ class Multipart {
 	/**
 	 * If-Match와 If-None-Match: * 를 함께 지정하면 501로 거부되는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	void testCompleteMultipartUploadIfMatchAndIfNoneMatchAny() {
@@ -1,7 +1,6 @@
 package org.example.s3tests;
 
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.TestInfo;
 
@@ -36,40 +35,48 @@ class Notification {
 	/**
 	 * 버킷에 알람 설정이 없는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testNotificationGetEmpty() {
-		test.testNotificationGetEmpty();
-		testV2.testNotificationGetEmpty();
+	void testNotificationGetEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testNotificationGetEmpty();
+			case V2 -> testV2.testNotificationGetEmpty();
+		}
 	}
 
 	/**
 	 * 버킷에 알람 설정이 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testNotificationPut() {
-		test.testNotificationPut();
-		testV2.testNotificationPut();
+	void testNotificationPut(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testNotificationPut();
+			case V2 -> testV2.testNotificationPut();
+		}
 	}
 
 	/**
 	 * 버킷에 알람 설정이 되어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testNotificationGet() {
-		test.testNotificationGet();
-		testV2.testNotificationGet();
+	void testNotificationGet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testNotificationGet();
+			case V2 -> testV2.testNotificationGet();
+		}
 	}
 
 	/**
 	 * 버킷에 알람 설정이 삭제되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testNotificationDelete() {
-		test.testNotificationDelete();
-		testV2.testNotificationDelete();
+	void testNotificationDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testNotificationDelete();
+			case V2 -> testV2.testNotificationDelete();
+		}
 	}
 }
@@ -2,7 +2,6 @@ package org.example.s3tests;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 
 /**
@@ -36,70 +35,84 @@ class Ownership {
 	/**
 	 * 버킷의 소유권 조회 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testGetBucketOwnership() {
-		test.testGetBucketOwnership();
-		testV2.testGetBucketOwnership();
+	void testGetBucketOwnership(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetBucketOwnership();
+			case V2 -> testV2.testGetBucketOwnership();
+		}
 	}
 
 	/**
 	 * 버킷을 생성할때 소유권 설정 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testCreateBucketWithOwnership() {
-		test.testCreateBucketWithOwnership();
-		testV2.testCreateBucketWithOwnership();
+	void testCreateBucketWithOwnership(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCreateBucketWithOwnership();
+			case V2 -> testV2.testCreateBucketWithOwnership();
+		}
 	}
 
 	/**
 	 * 버킷의 소유권 변경 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Put")
-	void testChangeBucketOwnership() {
-		test.testChangeBucketOwnership();
-		testV2.testChangeBucketOwnership();
+	void testChangeBucketOwnership(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testChangeBucketOwnership();
+			case V2 -> testV2.testChangeBucketOwnership();
+		}
 	}
 
 	/**
 	 * [BucketOwnerEnforced] 버킷 ACL 설정이 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testBucketOwnershipDenyACL() {
-		test.testBucketOwnershipDenyACL();
-		testV2.testBucketOwnershipDenyACL();
+	void testBucketOwnershipDenyACL(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketOwnershipDenyACL();
+			case V2 -> testV2.testBucketOwnershipDenyACL();
+		}
 	}
 
 	/**
 	 * [BucketOwnerEnforced] 오브젝트 ACL 설정이 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testBucketOwnershipDenyObjectACL() {
-		test.testBucketOwnershipDenyObjectACL();
-		testV2.testBucketOwnershipDenyObjectACL();
+	void testBucketOwnershipDenyObjectACL(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketOwnershipDenyObjectACL();
+			case V2 -> testV2.testBucketOwnershipDenyObjectACL();
+		}
 	}
 
 	/**
 	 * ACL 설정된 오브젝트에 소유권을 BucketOwnerEnforced로 변경해도 접근 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testObjectOwnershipDenyChange() {
-		test.testObjectOwnershipDenyChange();
-		testV2.testObjectOwnershipDenyChange();
+	void testObjectOwnershipDenyChange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectOwnershipDenyChange();
+			case V2 -> testV2.testObjectOwnershipDenyChange();
+		}
 	}
 
 	/**
 	 * ACL 설정된 오브젝트에 소유권을 BucketOwnerEnforced로 변경할경우 ACL 설정이 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Error")
-	void testObjectOwnershipDenyACL() {
-		test.testObjectOwnershipDenyACL();
-		testV2.testObjectOwnershipDenyACL();
+	void testObjectOwnershipDenyACL(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectOwnershipDenyACL();
+			case V2 -> testV2.testObjectOwnershipDenyACL();
+		}
 	}
 }
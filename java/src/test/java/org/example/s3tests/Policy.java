@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷의 정책 기능을 테스트하는 클래스
@@ -47,219 +46,261 @@ class Policy {
 	/**
 	 * 버킷에 정책 설정이 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testBucketPolicy() {
-		test.testBucketPolicy();
-		testV2.testBucketPolicy();
+	void testBucketPolicy(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicy();
+			case V2 -> testV2.testBucketPolicy();
+		}
 	}
 
 	/**
 	 * 버킷에 정책 설정이 올바르게 적용되는지 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testBucketV2Policy() {
-		test.testBucketV2Policy();
-		testV2.testBucketV2Policy();
+	void testBucketV2Policy(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketV2Policy();
+			case V2 -> testV2.testBucketV2Policy();
+		}
 	}
 
 	/**
 	 * 버킷에 정책과 acl설정을 할 경우 정책 설정이 우선시됨을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Priority")
-	void testBucketPolicyAcl() {
-		test.testBucketPolicyAcl();
-		testV2.testBucketPolicyAcl();
+	void testBucketPolicyAcl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyAcl();
+			case V2 -> testV2.testBucketPolicyAcl();
+		}
 	}
 
 	/**
 	 * 버킷에 정책과 acl설정을 할 경우 정책 설정이 우선시됨을 확인(ListObjectsV2)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Priority")
-	void testBucketV2PolicyAcl() {
-		test.testBucketV2PolicyAcl();
-		testV2.testBucketV2PolicyAcl();
+	void testBucketV2PolicyAcl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketV2PolicyAcl();
+			case V2 -> testV2.testBucketV2PolicyAcl();
+		}
 	}
 
 	/**
 	 * 정책설정으로 오브젝트의 태그목록 읽기를 public-read로 설정했을때 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Tagging")
-	void testGetTagsAclPublic() {
-		test.testGetTagsAclPublic();
-		testV2.testGetTagsAclPublic();
+	void testGetTagsAclPublic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetTagsAclPublic();
+			case V2 -> testV2.testGetTagsAclPublic();
+		}
 	}
 
 	/**
 	 * 정책설정으로 오브젝트의 태그 입력을 public-read로 설정했을때 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Tagging")
-	void testPutTagsAclPublic() {
-		test.testPutTagsAclPublic();
-		testV2.testPutTagsAclPublic();
+	void testPutTagsAclPublic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutTagsAclPublic();
+			case V2 -> testV2.testPutTagsAclPublic();
+		}
 	}
 
 	/**
 	 * 정책설정으로 오브젝트의 태그 삭제를 public-read로 설정했을때 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Tagging")
-	void testDeleteTagsObjPublic() {
-		test.testDeleteTagsObjPublic();
-		testV2.testDeleteTagsObjPublic();
+	void testDeleteTagsObjPublic(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteTagsObjPublic();
+			case V2 -> testV2.testDeleteTagsObjPublic();
+		}
 	}
 
 	/**
 	 * [오브젝트의 태그에 'security'키 이름이 존재하며 키값이 public 일때만 모든유저에게 GetObject허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("TagOptions")
-	void testBucketPolicyGetObjExistingTag() {
-		test.testBucketPolicyGetObjExistingTag();
-		testV2.testBucketPolicyGetObjExistingTag();
+	void testBucketPolicyGetObjExistingTag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyGetObjExistingTag();
+			case V2 -> testV2.testBucketPolicyGetObjExistingTag();
+		}
 	}
 
 	/**
 	 * [오브젝트의 태그에 'security'키 이름이 존재하며 키값이 public 일때만 모든유저에게 GetObjectTagging허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("TagOptions")
-	void testBucketPolicyGetObjTaggingExistingTag() {
-		test.testBucketPolicyGetObjTaggingExistingTag();
-		testV2.testBucketPolicyGetObjTaggingExistingTag();
+	void testBucketPolicyGetObjTaggingExistingTag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyGetObjTaggingExistingTag();
+			case V2 -> testV2.testBucketPolicyGetObjTaggingExistingTag();
+		}
 	}
 
 	/**
 	 * [오브젝트의 태그에 'security'키 이름이 존재하며 키값이 public 일때만 모든유저에게 PutObjectTagging허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("TagOptions")
-	void testBucketPolicyPutObjTaggingExistingTag() {
-		test.testBucketPolicyPutObjTaggingExistingTag();
-		testV2.testBucketPolicyPutObjTaggingExistingTag();
+	void testBucketPolicyPutObjTaggingExistingTag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyPutObjTaggingExistingTag();
+			case V2 -> testV2.testBucketPolicyPutObjTaggingExistingTag();
+		}
 	}
 
 	/**
 	 * [복사하려는 경로명이 'bucketName/public/*'에 해당할 경우에만 모든유저에게 PutObject허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PathOptions")
-	void testBucketPolicyPutObjCopySource() {
-		test.testBucketPolicyPutObjCopySource();
-		testV2.testBucketPolicyPutObjCopySource();
+	void testBucketPolicyPutObjCopySource(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyPutObjCopySource();
+			case V2 -> testV2.testBucketPolicyPutObjCopySource();
+		}
 	}
 
 	/**
 	 * [오브젝트의 메타데이터값이 'x-amz-metadata-directive=COPY'일 경우에만 모든유저에게 PutObject허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("MetadataOptions")
-	void testBucketPolicyPutObjCopySourceMeta() {
-		test.testBucketPolicyPutObjCopySourceMeta();
-		testV2.testBucketPolicyPutObjCopySourceMeta();
+	void testBucketPolicyPutObjCopySourceMeta(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyPutObjCopySourceMeta();
+			case V2 -> testV2.testBucketPolicyPutObjCopySourceMeta();
+		}
 	}
 
 	/**
 	 * [PutObject는 모든유저에게 허용하지만 권한설정에 'public*'이 포함되면 업로드허용하지 않음]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACLOptions")
-	void testBucketPolicyPutObjAcl() {
-		test.testBucketPolicyPutObjAcl();
-		testV2.testBucketPolicyPutObjAcl();
+	void testBucketPolicyPutObjAcl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyPutObjAcl();
+			case V2 -> testV2.testBucketPolicyPutObjAcl();
+		}
 	}
 
 	/**
 	 * [오브젝트의 grant-full-control이 메인유저일 경우에만 모든유저에게 PutObject허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("GrantOptions")
-	void testBucketPolicyPutObjGrant() {
-		test.testBucketPolicyPutObjGrant();
-		testV2.testBucketPolicyPutObjGrant();
+	void testBucketPolicyPutObjGrant(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyPutObjGrant();
+			case V2 -> testV2.testBucketPolicyPutObjGrant();
+		}
 	}
 
 	/**
 	 * [오브젝트의 태그에 'security'키 이름이 존재하며 키값이 public 일때만 모든유저에게 GetObjectACL허용]
 	 * 조건부 정책설정시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("TagOptions")
-	void testBucketPolicyGetObjAclExistingTag() {
-		test.testBucketPolicyGetObjAclExistingTag();
-		testV2.testBucketPolicyGetObjAclExistingTag();
+	void testBucketPolicyGetObjAclExistingTag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyGetObjAclExistingTag();
+			case V2 -> testV2.testBucketPolicyGetObjAclExistingTag();
+		}
 	}
 
 	/**
 	 * 모든 사용자가 버킷에 접근 가능(public으으로 간주)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Status")
-	void testBucketPolicyStatusWithAllUser() {
-		test.testBucketPolicyStatusWithAllUser();
-		testV2.testBucketPolicyStatusWithAllUser();
+	void testBucketPolicyStatusWithAllUser(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyStatusWithAllUser();
+			case V2 -> testV2.testBucketPolicyStatusWithAllUser();
+		}
 	}
 
 	/**
 	 * 특정 사용자만 버킷에 접근 가능(private)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Status")
-	void testBucketPolicyStatusWithSpecificUserAccess() {
-		test.testBucketPolicyStatusWithSpecificUserAccess();
-		testV2.testBucketPolicyStatusWithSpecificUserAccess();
+	void testBucketPolicyStatusWithSpecificUserAccess(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyStatusWithSpecificUserAccess();
+			case V2 -> testV2.testBucketPolicyStatusWithSpecificUserAccess();
+		}
 	}
 
 	/**
 	 * 너무 넓은 IP 범위를 가진 정책 (public으으로 간주)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Status")
-	void testBucketPolicyStatusWithWideIPRange() {
-		test.testBucketPolicyStatusWithWideIPRange();
-		testV2.testBucketPolicyStatusWithWideIPRange();
+	void testBucketPolicyStatusWithWideIPRange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyStatusWithWideIPRange();
+			case V2 -> testV2.testBucketPolicyStatusWithWideIPRange();
+		}
 	}
 
 	/**
 	 * 특정 IP 범위를 가진 정책 (private)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Status")
-	void testBucketPolicyStatusWithIPRange() {
-		test.testBucketPolicyStatusWithIPRange();
-		testV2.testBucketPolicyStatusWithIPRange();
+	void testBucketPolicyStatusWithIPRange(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyStatusWithIPRange();
+			case V2 -> testV2.testBucketPolicyStatusWithIPRange();
+		}
 	}
 
 	/**
 	 * 매우 제한적인 시간에 대한 접근 허용 정책 (public으로 간주)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Status")
-	void testBucketPolicyStatusWithTimeCondition() {
-		test.testBucketPolicyStatusWithTimeCondition();
-		testV2.testBucketPolicyStatusWithTimeCondition();
+	void testBucketPolicyStatusWithTimeCondition(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyStatusWithTimeCondition();
+			case V2 -> testV2.testBucketPolicyStatusWithTimeCondition();
+		}
 	}
 
 	/**
 	 * 특정 태그를 가진 오브젝트에 대한 접근 허용용 정책 (public으로 간주)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Status")
-	void testBucketPolicyStatusWithTagCondition() {
-		test.testBucketPolicyStatusWithTagCondition();
-		testV2.testBucketPolicyStatusWithTagCondition();
+	void testBucketPolicyStatusWithTagCondition(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketPolicyStatusWithTagCondition();
+			case V2 -> testV2.testBucketPolicyStatusWithTagCondition();
+		}
 	}
 
 }
@@ -15,7 +15,6 @@ import java.net.MalformedURLException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * POST 방식의 오브젝트 업로드 기능을 테스트하는 클래스
@@ -51,11 +50,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectAnonymousRequest() throws MalformedURLException {
-		test.testPostObjectAnonymousRequest();
-		testV2.testPostObjectAnonymousRequest();
+	void testPostObjectAnonymousRequest(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectAnonymousRequest();
+			case V2 -> testV2.testPostObjectAnonymousRequest();
+		}
 	}
 
 	/**
@@ -63,11 +64,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectAuthenticatedRequest() throws MalformedURLException {
-		test.testPostObjectAuthenticatedRequest();
-		testV2.testPostObjectAuthenticatedRequest();
+	void testPostObjectAuthenticatedRequest(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectAuthenticatedRequest();
+			case V2 -> testV2.testPostObjectAuthenticatedRequest();
+		}
 	}
 
 	/**
@@ -75,11 +78,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectAuthenticatedNoContentType() throws MalformedURLException {
-		test.testPostObjectAuthenticatedNoContentType();
-		testV2.testPostObjectAuthenticatedNoContentType();
+	void testPostObjectAuthenticatedNoContentType(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectAuthenticatedNoContentType();
+			case V2 -> testV2.testPostObjectAuthenticatedNoContentType();
+		}
 	}
 
 	/**
@@ -87,11 +92,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectAuthenticatedRequestBadAccessKey() throws MalformedURLException {
-		test.testPostObjectAuthenticatedRequestBadAccessKey();
-		testV2.testPostObjectAuthenticatedRequestBadAccessKey();
+	void testPostObjectAuthenticatedRequestBadAccessKey(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectAuthenticatedRequestBadAccessKey();
+			case V2 -> testV2.testPostObjectAuthenticatedRequestBadAccessKey();
+		}
 	}
 
 	/**
@@ -99,11 +106,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("StatusCode")
-	void testPostObjectSetSuccessCode() throws MalformedURLException {
-		test.testPostObjectSetSuccessCode();
-		testV2.testPostObjectSetSuccessCode();
+	void testPostObjectSetSuccessCode(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectSetSuccessCode();
+			case V2 -> testV2.testPostObjectSetSuccessCode();
+		}
 	}
 
 	/**
@@ -111,11 +120,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("StatusCode")
-	void testPostObjectSetInvalidSuccessCode() throws MalformedURLException {
-		test.testPostObjectSetInvalidSuccessCode();
-		testV2.testPostObjectSetInvalidSuccessCode();
+	void testPostObjectSetInvalidSuccessCode(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectSetInvalidSuccessCode();
+			case V2 -> testV2.testPostObjectSetInvalidSuccessCode();
+		}
 	}
 
 	/**
@@ -123,11 +134,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectUploadLargerThanChunk() throws MalformedURLException {
-		test.testPostObjectUploadLargerThanChunk();
-		testV2.testPostObjectUploadLargerThanChunk();
+	void testPostObjectUploadLargerThanChunk(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectUploadLargerThanChunk();
+			case V2 -> testV2.testPostObjectUploadLargerThanChunk();
+		}
 	}
 
 	/**
@@ -136,11 +149,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectSetKeyFromFilename() throws MalformedURLException {
-		test.testPostObjectSetKeyFromFilename();
-		testV2.testPostObjectSetKeyFromFilename();
+	void testPostObjectSetKeyFromFilename(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectSetKeyFromFilename();
+			case V2 -> testV2.testPostObjectSetKeyFromFilename();
+		}
 	}
 
 	/**
@@ -148,11 +163,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectIgnoredHeader() throws MalformedURLException {
-		test.testPostObjectIgnoredHeader();
-		testV2.testPostObjectIgnoredHeader();
+	void testPostObjectIgnoredHeader(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectIgnoredHeader();
+			case V2 -> testV2.testPostObjectIgnoredHeader();
+		}
 	}
 
 	/**
@@ -160,11 +177,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectCaseInsensitiveConditionFields() throws MalformedURLException {
-		test.testPostObjectCaseInsensitiveConditionFields();
-		testV2.testPostObjectCaseInsensitiveConditionFields();
+	void testPostObjectCaseInsensitiveConditionFields(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectCaseInsensitiveConditionFields();
+			case V2 -> testV2.testPostObjectCaseInsensitiveConditionFields();
+		}
 	}
 
 	/**
@@ -172,11 +191,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectEscapedFieldValues() throws MalformedURLException {
-		test.testPostObjectEscapedFieldValues();
-		testV2.testPostObjectEscapedFieldValues();
+	void testPostObjectEscapedFieldValues(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectEscapedFieldValues();
+			case V2 -> testV2.testPostObjectEscapedFieldValues();
+		}
 	}
 
 	/**
@@ -184,11 +205,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Upload")
-	void testPostObjectSuccessRedirectAction() throws MalformedURLException {
-		test.testPostObjectSuccessRedirectAction();
-		testV2.testPostObjectSuccessRedirectAction();
+	void testPostObjectSuccessRedirectAction(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectSuccessRedirectAction();
+			case V2 -> testV2.testPostObjectSuccessRedirectAction();
+		}
 	}
 
 	/**
@@ -196,11 +219,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectInvalidSignature() throws MalformedURLException {
-		test.testPostObjectInvalidSignature();
-		testV2.testPostObjectInvalidSignature();
+	void testPostObjectInvalidSignature(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectInvalidSignature();
+			case V2 -> testV2.testPostObjectInvalidSignature();
+		}
 	}
 
 	/**
@@ -208,11 +233,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectInvalidAccessKey() throws MalformedURLException {
-		test.testPostObjectInvalidAccessKey();
-		testV2.testPostObjectInvalidAccessKey();
+	void testPostObjectInvalidAccessKey(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectInvalidAccessKey();
+			case V2 -> testV2.testPostObjectInvalidAccessKey();
+		}
 	}
 
 	/**
@@ -220,11 +247,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectInvalidDateFormat() throws MalformedURLException {
-		test.testPostObjectInvalidDateFormat();
-		testV2.testPostObjectInvalidDateFormat();
+	void testPostObjectInvalidDateFormat(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectInvalidDateFormat();
+			case V2 -> testV2.testPostObjectInvalidDateFormat();
+		}
 	}
 
 	/**
@@ -232,11 +261,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectNoKeySpecified() throws MalformedURLException {
-		test.testPostObjectNoKeySpecified();
-		testV2.testPostObjectNoKeySpecified();
+	void testPostObjectNoKeySpecified(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectNoKeySpecified();
+			case V2 -> testV2.testPostObjectNoKeySpecified();
+		}
 	}
 
 	/**
@@ -244,11 +275,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectMissingSignature() throws MalformedURLException {
-		test.testPostObjectMissingSignature();
-		testV2.testPostObjectMissingSignature();
+	void testPostObjectMissingSignature(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectMissingSignature();
+			case V2 -> testV2.testPostObjectMissingSignature();
+		}
 	}
 
 	/**
@@ -256,11 +289,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectMissingPolicyCondition() throws MalformedURLException {
-		test.testPostObjectMissingPolicyCondition();
-		testV2.testPostObjectMissingPolicyCondition();
+	void testPostObjectMissingPolicyCondition(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectMissingPolicyCondition();
+			case V2 -> testV2.testPostObjectMissingPolicyCondition();
+		}
 	}
 
 	/**
@@ -268,11 +303,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Metadata")
-	void testPostObjectUserSpecifiedHeader() throws MalformedURLException {
-		test.testPostObjectUserSpecifiedHeader();
-		testV2.testPostObjectUserSpecifiedHeader();
+	void testPostObjectUserSpecifiedHeader(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectUserSpecifiedHeader();
+			case V2 -> testV2.testPostObjectUserSpecifiedHeader();
+		}
 	}
 
 	/**
@@ -281,11 +318,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectRequestMissingPolicySpecifiedField() throws MalformedURLException {
-		test.testPostObjectRequestMissingPolicySpecifiedField();
-		testV2.testPostObjectRequestMissingPolicySpecifiedField();
+	void testPostObjectRequestMissingPolicySpecifiedField(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectRequestMissingPolicySpecifiedField();
+			case V2 -> testV2.testPostObjectRequestMissingPolicySpecifiedField();
+		}
 	}
 
 	/**
@@ -294,11 +333,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectConditionIsCaseSensitive() throws MalformedURLException {
-		test.testPostObjectConditionIsCaseSensitive();
-		testV2.testPostObjectConditionIsCaseSensitive();
+	void testPostObjectConditionIsCaseSensitive(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectConditionIsCaseSensitive();
+			case V2 -> testV2.testPostObjectConditionIsCaseSensitive();
+		}
 	}
 
 	/**
@@ -307,11 +348,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectExpiresIsCaseSensitive() throws MalformedURLException {
-		test.testPostObjectExpiresIsCaseSensitive();
-		testV2.testPostObjectExpiresIsCaseSensitive();
+	void testPostObjectExpiresIsCaseSensitive(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectExpiresIsCaseSensitive();
+			case V2 -> testV2.testPostObjectExpiresIsCaseSensitive();
+		}
 	}
 
 	/**
@@ -319,11 +362,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectExpiredPolicy() throws MalformedURLException {
-		test.testPostObjectExpiredPolicy();
-		testV2.testPostObjectExpiredPolicy();
+	void testPostObjectExpiredPolicy(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectExpiredPolicy();
+			case V2 -> testV2.testPostObjectExpiredPolicy();
+		}
 	}
 
 	/**
@@ -332,11 +377,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectInvalidRequestFieldValue() throws MalformedURLException {
-		test.testPostObjectInvalidRequestFieldValue();
-		testV2.testPostObjectInvalidRequestFieldValue();
+	void testPostObjectInvalidRequestFieldValue(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectInvalidRequestFieldValue();
+			case V2 -> testV2.testPostObjectInvalidRequestFieldValue();
+		}
 	}
 
 	/**
@@ -344,11 +391,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectMissingExpiresCondition() throws MalformedURLException {
-		test.testPostObjectMissingExpiresCondition();
-		testV2.testPostObjectMissingExpiresCondition();
+	void testPostObjectMissingExpiresCondition(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectMissingExpiresCondition();
+			case V2 -> testV2.testPostObjectMissingExpiresCondition();
+		}
 	}
 
 	/**
@@ -356,11 +405,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectMissingConditionsList() throws MalformedURLException {
-		test.testPostObjectMissingConditionsList();
-		testV2.testPostObjectMissingConditionsList();
+	void testPostObjectMissingConditionsList(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectMissingConditionsList();
+			case V2 -> testV2.testPostObjectMissingConditionsList();
+		}
 	}
 
 	/**
@@ -368,11 +419,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectUploadSizeLimitExceeded() throws MalformedURLException {
-		test.testPostObjectUploadSizeLimitExceeded();
-		testV2.testPostObjectUploadSizeLimitExceeded();
+	void testPostObjectUploadSizeLimitExceeded(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectUploadSizeLimitExceeded();
+			case V2 -> testV2.testPostObjectUploadSizeLimitExceeded();
+		}
 	}
 
 	/**
@@ -380,11 +433,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectMissingContentLengthArgument() throws MalformedURLException {
-		test.testPostObjectMissingContentLengthArgument();
-		testV2.testPostObjectMissingContentLengthArgument();
+	void testPostObjectMissingContentLengthArgument(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectMissingContentLengthArgument();
+			case V2 -> testV2.testPostObjectMissingContentLengthArgument();
+		}
 	}
 
 	/**
@@ -392,11 +447,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectInvalidContentLengthArgument() throws MalformedURLException {
-		test.testPostObjectInvalidContentLengthArgument();
-		testV2.testPostObjectInvalidContentLengthArgument();
+	void testPostObjectInvalidContentLengthArgument(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectInvalidContentLengthArgument();
+			case V2 -> testV2.testPostObjectInvalidContentLengthArgument();
+		}
 	}
 
 	/**
@@ -404,11 +461,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectUploadSizeBelowMinimum() throws MalformedURLException {
-		test.testPostObjectUploadSizeBelowMinimum();
-		testV2.testPostObjectUploadSizeBelowMinimum();
+	void testPostObjectUploadSizeBelowMinimum(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectUploadSizeBelowMinimum();
+			case V2 -> testV2.testPostObjectUploadSizeBelowMinimum();
+		}
 	}
 
 	/**
@@ -416,11 +475,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectEmptyConditions() throws MalformedURLException {
-		test.testPostObjectEmptyConditions();
-		testV2.testPostObjectEmptyConditions();
+	void testPostObjectEmptyConditions(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectEmptyConditions();
+			case V2 -> testV2.testPostObjectEmptyConditions();
+		}
 	}
 
 	/**
@@ -428,11 +489,13 @@ class Post {
 	 *
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testPostObjectWrongBucket() throws MalformedURLException {
-		test.testPostObjectWrongBucket();
-		testV2.testPostObjectWrongBucket();
+	void testPostObjectWrongBucket(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectWrongBucket();
+			case V2 -> testV2.testPostObjectWrongBucket();
+		}
 	}
 
 	/**
@@ -440,17 +503,19 @@ class Post {
 	 * 
 	 * @throws UnsupportedOperationException 지원하지 않는 작업을 수행할 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("PresignedURL")
-	void testPresignedUrlPutGet() throws UnsupportedOperationException {
-		test.testPresignedUrlPutGet();
-		testV2.testPresignedUrlPutGet();
+	void testPresignedUrlPutGet(Sdk sdk) throws UnsupportedOperationException {
+		switch (sdk) {
+			case V1 -> test.testPresignedUrlPutGet();
+			case V2 -> testV2.testPresignedUrlPutGet();
+		}
 	}
 
 	/**
 	 * [AWS SDK V1 전용][SignatureVersion4]PresignedURL로 오브젝트 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("PresignedURL")
 	void testPresignedUrlPutGetV4() {
 		test.testPresignedUrlPutGetV4();
@@ -461,11 +526,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("signV4")
-	void testPutObjectV4() throws MalformedURLException {
-		test.testPutObjectV4();
-		testV2.testPutObjectV4();
+	void testPutObjectV4(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPutObjectV4();
+			case V2 -> testV2.testPutObjectV4();
+		}
 	}
 
 	/**
@@ -473,11 +540,13 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("signV4")
-	void testPutObjectChunkedV4() throws MalformedURLException {
-		test.testPutObjectChunkedV4();
-		testV2.testPutObjectChunkedV4();
+	void testPutObjectChunkedV4(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPutObjectChunkedV4();
+			case V2 -> testV2.testPutObjectChunkedV4();
+		}
 	}
 
 	/**
@@ -485,10 +554,12 @@ class Post {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("signV4")
-	void testGetObjectV4() throws MalformedURLException {
-		test.testGetObjectV4();
-		testV2.testGetObjectV4();
+	void testGetObjectV4(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testGetObjectV4();
+			case V2 -> testV2.testGetObjectV4();
+		}
 	}
 }
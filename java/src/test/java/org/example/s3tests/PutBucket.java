@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷 생성 기능을 테스트하는 클래스
@@ -47,240 +46,288 @@ class PutBucket {
 	/**
 	 * 생성한 버킷이 비어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PUT")
-	void testBucketListEmpty() {
-		test.testBucketListEmpty();
-		testV2.testBucketListEmpty();
+	void testBucketListEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListEmpty();
+			case V2 -> testV2.testBucketListEmpty();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름의 맨앞에 [_]가 있을 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingBadStartsNonAlpha() {
-		test.testBucketCreateNamingBadStartsNonAlpha();
-		testV2.testBucketCreateNamingBadStartsNonAlpha();
+	void testBucketCreateNamingBadStartsNonAlpha(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingBadStartsNonAlpha();
+			case V2 -> testV2.testBucketCreateNamingBadStartsNonAlpha();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 한글자인 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingBadShortOne() {
-		test.testBucketCreateNamingBadShortOne();
-		testV2.testBucketCreateNamingBadShortOne();
+	void testBucketCreateNamingBadShortOne(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingBadShortOne();
+			case V2 -> testV2.testBucketCreateNamingBadShortOne();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 두글자인 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingBadShortTwo() {
-		test.testBucketCreateNamingBadShortTwo();
-		testV2.testBucketCreateNamingBadShortTwo();
+	void testBucketCreateNamingBadShortTwo(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingBadShortTwo();
+			case V2 -> testV2.testBucketCreateNamingBadShortTwo();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 60자인 경우 버킷 생성 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodLong60() {
-		test.testBucketCreateNamingGoodLong60();
-		testV2.testBucketCreateNamingGoodLong60();
+	void testBucketCreateNamingGoodLong60(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodLong60();
+			case V2 -> testV2.testBucketCreateNamingGoodLong60();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 61자인 경우 버킷 생성 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodLong61() {
-		test.testBucketCreateNamingGoodLong61();
-		testV2.testBucketCreateNamingGoodLong61();
+	void testBucketCreateNamingGoodLong61(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodLong61();
+			case V2 -> testV2.testBucketCreateNamingGoodLong61();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 62자인 경우 버킷 생성 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodLong62() {
-		test.testBucketCreateNamingGoodLong62();
-		testV2.testBucketCreateNamingGoodLong62();
+	void testBucketCreateNamingGoodLong62(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodLong62();
+			case V2 -> testV2.testBucketCreateNamingGoodLong62();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 63자인 경우 버킷 생성 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodLong63() {
-		test.testBucketCreateNamingGoodLong63();
-		testV2.testBucketCreateNamingGoodLong63();
+	void testBucketCreateNamingGoodLong63(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodLong63();
+			case V2 -> testV2.testBucketCreateNamingGoodLong63();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 64자인 경우 버킷 생성 실패
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodLong64() {
-		test.testBucketCreateNamingGoodLong64();
-		testV2.testBucketCreateNamingGoodLong64();
+	void testBucketCreateNamingGoodLong64(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodLong64();
+			case V2 -> testV2.testBucketCreateNamingGoodLong64();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 IP 주소로 되어 있을 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingBadIp() {
-		test.testBucketCreateNamingBadIp();
-		testV2.testBucketCreateNamingBadIp();
+	void testBucketCreateNamingBadIp(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingBadIp();
+			case V2 -> testV2.testBucketCreateNamingBadIp();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름에 문자와 [_]가 포함되어 있을 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingDnsUnderscore() {
-		test.testBucketCreateNamingDnsUnderscore();
-		testV2.testBucketCreateNamingDnsUnderscore();
+	void testBucketCreateNamingDnsUnderscore(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingDnsUnderscore();
+			case V2 -> testV2.testBucketCreateNamingDnsUnderscore();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름이 랜덤 알파벳 63자로 구성된 경우 버킷 생성 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingDnsLong() {
-		test.testBucketCreateNamingDnsLong();
-		testV2.testBucketCreateNamingDnsLong();
+	void testBucketCreateNamingDnsLong(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingDnsLong();
+			case V2 -> testV2.testBucketCreateNamingDnsLong();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름의 끝이 [-]로 끝날 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingDnsDashAtEnd() {
-		test.testBucketCreateNamingDnsDashAtEnd();
-		testV2.testBucketCreateNamingDnsDashAtEnd();
+	void testBucketCreateNamingDnsDashAtEnd(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingDnsDashAtEnd();
+			case V2 -> testV2.testBucketCreateNamingDnsDashAtEnd();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름에 문자와 [..]가 포함되어 있을 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingDnsDotDot() {
-		test.testBucketCreateNamingDnsDotDot();
-		testV2.testBucketCreateNamingDnsDotDot();
+	void testBucketCreateNamingDnsDotDot(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingDnsDotDot();
+			case V2 -> testV2.testBucketCreateNamingDnsDotDot();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름의 사이에 [.-]가 포함되어 있을 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingDnsDotDash() {
-		test.testBucketCreateNamingDnsDotDash();
-		testV2.testBucketCreateNamingDnsDotDash();
+	void testBucketCreateNamingDnsDotDash(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingDnsDotDash();
+			case V2 -> testV2.testBucketCreateNamingDnsDotDash();
+		}
 	}
 
 	/**
 	 * 생성할 버킷이름의 사이에 [-.]가 포함되어 있을 경우 버킷 생성 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingDnsDashDot() {
-		test.testBucketCreateNamingDnsDashDot();
-		testV2.testBucketCreateNamingDnsDashDot();
+	void testBucketCreateNamingDnsDashDot(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingDnsDashDot();
+			case V2 -> testV2.testBucketCreateNamingDnsDashDot();
+		}
 	}
 
 	/**
 	 * 버킷 중복 생성시 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Duplicate")
-	void testBucketCreateExists() {
-		test.testBucketCreateExists();
-		testV2.testBucketCreateExists();
+	void testBucketCreateExists(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateExists();
+			case V2 -> testV2.testBucketCreateExists();
+		}
 	}
 
 	/**
 	 * [다른 2명의 사용자가 버킷 생성하려고 할 경우] 메인유저가 버킷을 생성하고 서브유저가가 같은 이름으로 버킷 생성하려고 할 경우 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Duplicate")
-	void testBucketCreateExistsNonowner() {
-		test.testBucketCreateExistsNonowner();
-		testV2.testBucketCreateExistsNonowner();
+	void testBucketCreateExistsNonowner(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateExistsNonowner();
+			case V2 -> testV2.testBucketCreateExistsNonowner();
+		}
 	}
 
 	/**
 	 * 생성할 버킷의 이름이 알파벳으로 시작할 경우 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodStartsAlpha() {
-		test.testBucketCreateNamingGoodStartsAlpha();
-		testV2.testBucketCreateNamingGoodStartsAlpha();
+	void testBucketCreateNamingGoodStartsAlpha(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodStartsAlpha();
+			case V2 -> testV2.testBucketCreateNamingGoodStartsAlpha();
+		}
 	}
 
 	/**
 	 * 생성할 버킷의 이름이 숫자로 시작할 경우 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodStartsDigit() {
-		test.testBucketCreateNamingGoodStartsDigit();
-		testV2.testBucketCreateNamingGoodStartsDigit();
+	void testBucketCreateNamingGoodStartsDigit(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodStartsDigit();
+			case V2 -> testV2.testBucketCreateNamingGoodStartsDigit();
+		}
 	}
 
 	/**
 	 * 생성할 버킷의 이름 중간에 [.]이 포함된 이름일 경우 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodContainsPeriod() {
-		test.testBucketCreateNamingGoodContainsPeriod();
-		testV2.testBucketCreateNamingGoodContainsPeriod();
+	void testBucketCreateNamingGoodContainsPeriod(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodContainsPeriod();
+			case V2 -> testV2.testBucketCreateNamingGoodContainsPeriod();
+		}
 	}
 
 	/**
 	 * 생성할 버킷의 이름 중간에 [-]이 포함된 이름일 경우 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CreationRules")
-	void testBucketCreateNamingGoodContainsHyphen() {
-		test.testBucketCreateNamingGoodContainsHyphen();
-		testV2.testBucketCreateNamingGoodContainsHyphen();
+	void testBucketCreateNamingGoodContainsHyphen(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateNamingGoodContainsHyphen();
+			case V2 -> testV2.testBucketCreateNamingGoodContainsHyphen();
+		}
 	}
 
 	/**
 	 * 버킷 생성하고 오브젝트를 업로드한뒤 같은 이름의 버킷 생성하면 기존정보가 그대로 유지되는지 확인 (버킷은 중복 생성 할 수 없음을 확인)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Duplicate")
-	void testBucketRecreateNotOverriding() {
-		test.testBucketRecreateNotOverriding();
-		testV2.testBucketRecreateNotOverriding();
+	void testBucketRecreateNotOverriding(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketRecreateNotOverriding();
+			case V2 -> testV2.testBucketRecreateNotOverriding();
+		}
 	}
 
 	/**
 	 * 버킷의 location 정보 조회
 	 */
-	@Test
+	@SdkTest
 	@Tag("location")
-	void testGetBucketLocation() {
-		test.testGetBucketLocation();
-		testV2.testGetBucketLocation();
+	void testGetBucketLocation(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetBucketLocation();
+			case V2 -> testV2.testGetBucketLocation();
+		}
 	}
 }
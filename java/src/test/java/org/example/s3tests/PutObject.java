@@ -14,7 +14,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 class PutObject {
 	@org.junit.jupiter.api.BeforeAll
@@ -37,208 +36,248 @@ class PutObject {
 		testV2.clear(testInfo);
 	}
 
-	@Test
+	@SdkTest
 	@Tag("PUT")
 	// 오브젝트가 올바르게 생성되는지 확인
-	void testBucketListDistinct() {
-		test.testBucketListDistinct();
-		testV2.testBucketListDistinct();
+	void testBucketListDistinct(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListDistinct();
+			case V2 -> testV2.testBucketListDistinct();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("ERROR")
 	// 존재하지 않는 버킷에 오브젝트 업로드할 경우 실패 확인
-	void testObjectWriteToNonExistBucket() {
-		test.testObjectWriteToNonExistBucket();
-		testV2.testObjectWriteToNonExistBucket();
+	void testObjectWriteToNonExistBucket(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectWriteToNonExistBucket();
+			case V2 -> testV2.testObjectWriteToNonExistBucket();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 0바이트로 업로드한 오브젝트가 실제로 0바이트인지 확인
-	void testObjectHeadZeroBytes() {
-		test.testObjectHeadZeroBytes();
-		testV2.testObjectHeadZeroBytes();
+	void testObjectHeadZeroBytes(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectHeadZeroBytes();
+			case V2 -> testV2.testObjectHeadZeroBytes();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 업로드한 오브젝트의 ETag가 올바른지 확인
-	void testObjectWriteCheckEtag() {
-		test.testObjectWriteCheckEtag();
-		testV2.testObjectWriteCheckEtag();
+	void testObjectWriteCheckEtag(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectWriteCheckEtag();
+			case V2 -> testV2.testObjectWriteCheckEtag();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("CacheControl")
 	// 캐시(시간)를 설정하고 업로드한 오브젝트가 올바르게 반영되었는지 확인
-	void testObjectWriteCacheControl() {
-		test.testObjectWriteCacheControl();
-		testV2.testObjectWriteCacheControl();
+	void testObjectWriteCacheControl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectWriteCacheControl();
+			case V2 -> testV2.testObjectWriteCacheControl();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Disabled("JAVA에서는 헤더만료일시 설정이 내부전용으로 되어있어 설정되지 않음")
 	@Tag("Expires")
 	// 캐시(날짜)를 설정하고 업로드한 오브젝트가 올바르게 반영되었는지 확인
-	void testObjectWriteExpires() {
-		test.testObjectWriteExpires();
-		testV2.testObjectWriteExpires();
+	void testObjectWriteExpires(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectWriteExpires();
+			case V2 -> testV2.testObjectWriteExpires();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Update")
 	// 오브젝트의 기본 작업을 모드 올바르게 할 수 있는지 확인(read, write, update, delete)
-	void testObjectWriteReadUpdateReadDelete() {
-		test.testObjectWriteReadUpdateReadDelete();
-		testV2.testObjectWriteReadUpdateReadDelete();
+	void testObjectWriteReadUpdateReadDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectWriteReadUpdateReadDelete();
+			case V2 -> testV2.testObjectWriteReadUpdateReadDelete();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 오브젝트에 메타데이터를 추가하여 업로드 할 경우 올바르게 적용되었는지 확인
-	void testObjectSetGetMetadataNoneToGood() {
-		test.testObjectSetGetMetadataNoneToGood();
-		testV2.testObjectSetGetMetadataNoneToGood();
+	void testObjectSetGetMetadataNoneToGood(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataNoneToGood();
+			case V2 -> testV2.testObjectSetGetMetadataNoneToGood();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 오브젝트에 빈 메타데이터를 추가하여 업로드 할 경우 올바르게 적용되었는지 확인
-	void testObjectSetGetMetadataNoneToEmpty() {
-		test.testObjectSetGetMetadataNoneToEmpty();
-		testV2.testObjectSetGetMetadataNoneToEmpty();
+	void testObjectSetGetMetadataNoneToEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataNoneToEmpty();
+			case V2 -> testV2.testObjectSetGetMetadataNoneToEmpty();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 메타 데이터 업데이트가 올바르게 적용되었는지 확인
-	void testObjectSetGetMetadataOverwriteToEmpty() {
-		test.testObjectSetGetMetadataOverwriteToEmpty();
-		testV2.testObjectSetGetMetadataOverwriteToEmpty();
+	void testObjectSetGetMetadataOverwriteToEmpty(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataOverwriteToEmpty();
+			case V2 -> testV2.testObjectSetGetMetadataOverwriteToEmpty();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Disabled("JAVA에서는 메타데이터에 특수문자 사용시 예외처리되어 에러가 발생하지 않음")
 	@Tag("Metadata")
 	// 메타데이터에 올바르지 않는 문자열[EOF(\x04)를 사용할 경우 실패 확인
-	void testObjectSetGetNonUtf8Metadata() {
-		test.testObjectSetGetNonUtf8Metadata();
-		testV2.testObjectSetGetNonUtf8Metadata();
+	void testObjectSetGetNonUtf8Metadata(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetNonUtf8Metadata();
+			case V2 -> testV2.testObjectSetGetNonUtf8Metadata();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Disabled("JAVA에서는 메타데이터에 특수문자 사용시 예외처리되어 에러가 발생하지 않음")
 	@Tag("Metadata")
 	// 메타데이터에 올바르지 않는 문자[EOF(\x04)를 문자열 맨앞에 사용할 경우 실패 확인
-	void testObjectSetGetMetadataEmptyToUnreadablePrefix() {
-		test.testObjectSetGetMetadataEmptyToUnreadablePrefix();
-		testV2.testObjectSetGetMetadataEmptyToUnreadablePrefix();
+	void testObjectSetGetMetadataEmptyToUnreadablePrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataEmptyToUnreadablePrefix();
+			case V2 -> testV2.testObjectSetGetMetadataEmptyToUnreadablePrefix();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Disabled("JAVA에서는 메타데이터에 특수문자 사용시 예외처리되어 에러가 발생하지 않음")
 	@Tag("Metadata")
 	// 메타데이터에 올바르지 않는 문자[EOF(\x04)를 문자열 맨뒤에 사용할 경우 실패 확인
-	void testObjectSetGetMetadataEmptyToUnreadableSuffix() {
-		test.testObjectSetGetMetadataEmptyToUnreadableSuffix();
-		testV2.testObjectSetGetMetadataEmptyToUnreadableSuffix();
+	void testObjectSetGetMetadataEmptyToUnreadableSuffix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataEmptyToUnreadableSuffix();
+			case V2 -> testV2.testObjectSetGetMetadataEmptyToUnreadableSuffix();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 오브젝트를 메타데이타 없이 덮어쓰기 했을 때, 메타데이타 값이 비어있는지 확인
-	void testObjectMetadataReplacedOnPut() {
-		test.testObjectMetadataReplacedOnPut();
-		testV2.testObjectMetadataReplacedOnPut();
+	void testObjectMetadataReplacedOnPut(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectMetadataReplacedOnPut();
+			case V2 -> testV2.testObjectMetadataReplacedOnPut();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Encoding")
 	// body의 내용을utf-8로 인코딩한 오브젝트를 업로드 했을때 올바르게 업로드 되었는지 확인
-	void testObjectWriteFile() {
-		test.testObjectWriteFile();
-		testV2.testObjectWriteFile();
+	void testObjectWriteFile(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectWriteFile();
+			case V2 -> testV2.testObjectWriteFile();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("SpecialKeyName")
 	// 오브젝트 이름과 내용이 모두 특수문자인 오브젝트 여러개를 업로드 할 경우 모두 재대로 업로드 되는지 확인
-	void testBucketCreateSpecialKeyNames() {
-		test.testBucketCreateSpecialKeyNames();
-		testV2.testBucketCreateSpecialKeyNames();
+	void testBucketCreateSpecialKeyNames(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketCreateSpecialKeyNames();
+			case V2 -> testV2.testBucketCreateSpecialKeyNames();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("SpecialKeyName")
 	// [_], [/]가 포함된 이름을 가진 오브젝트를 업로드 한뒤 prefix정보를 설정한 GetObjectList가 가능한지
 	// 확인
-	void testBucketListSpecialPrefix() {
-		test.testBucketListSpecialPrefix();
-		testV2.testBucketListSpecialPrefix();
+	void testBucketListSpecialPrefix(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testBucketListSpecialPrefix();
+			case V2 -> testV2.testBucketListSpecialPrefix();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Lock")
 	// [버킷의 Lock옵션을 활성화] LegalHold와 Lock유지기한을 설정하여 오브젝트 업로드할 경우 설정이 적용되는지
 	// 메타데이터를 통해 확인
-	void testObjectLockUploadingObj() {
-		test.testObjectLockUploadingObj();
-		testV2.testObjectLockUploadingObj();
+	void testObjectLockUploadingObj(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectLockUploadingObj();
+			case V2 -> testV2.testObjectLockUploadingObj();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Space")
 	// 오브젝트의 중간에 공백문자가 들어갔을 경우 올바르게 동작하는지 확인
-	void testObjectInfixSpace() {
-		test.testObjectInfixSpace();
-		testV2.testObjectInfixSpace();
+	void testObjectInfixSpace(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectInfixSpace();
+			case V2 -> testV2.testObjectInfixSpace();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Space")
 	// 오브젝트의 마지막에 공백문자가 들어갔을 경우 올바르게 동작하는지 확인
-	void testObjectSuffixSpace() {
-		test.testObjectSuffixSpace();
-		testV2.testObjectSuffixSpace();
+	void testObjectSuffixSpace(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSuffixSpace();
+			case V2 -> testV2.testObjectSuffixSpace();
+		}
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("SpecialCharacters")
 	// [AWS SDK V1 전용][SignatureVersion2] 특수문자를 포함한 비어있는 오브젝트 업로드 성공 확인
 	void testPutEmptyObjectSignatureVersion_2() {
 		test.testPutEmptyObjectSignatureV2();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("SpecialCharacters")
 	// [AWS SDK V1 전용][SignatureVersion4] 특수문자를 포함한 비어있는 오브젝트 업로드 성공 확인
 	void testPutEmptyObjectSignatureVersion_4() {
 		test.testPutEmptyObjectSignatureV4();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("SpecialCharacters")
 	// [AWS SDK V1 전용][SignatureVersion2] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectSignatureVersion_2() {
 		test.testPutObjectSignatureV2();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("SpecialCharacters")
 	// [AWS SDK V1 전용][SignatureVersion4] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectSignatureVersion_4() {
 		test.testPutObjectSignatureV4();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("Encoding")
 	// [AWS SDK V1 전용][SignatureVersion4, UseChunkEncoding = true] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectUseChunkEncoding() {
 		test.testPutObjectUseChunkEncoding();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("Encoding")
 	// [AWS SDK V1 전용][SignatureVersion4, UseChunkEncoding = true, DisablePayloadSigning =
 	// true] 특수문자를 포함한 오브젝트 업로드 성공 확인
@@ -246,14 +285,14 @@ class PutObject {
 		test.testPutObjectUseChunkEncodingAndDisablePayloadSigning();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("Encoding")
 	// [AWS SDK V1 전용][SignatureVersion4, UseChunkEncoding = false] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectNotChunkEncoding() {
 		test.testPutObjectNotChunkEncoding();
 	}
 
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("Encoding")
 	// [AWS SDK V1 전용][SignatureVersion4, UseChunkEncoding = false, DisablePayloadSigning =
 	// true] 특수문자를 포함한 오브젝트 업로드 성공 확인
@@ -261,138 +300,148 @@ class PutObject {
 		test.testPutObjectNotChunkEncodingAndDisablePayloadSigning();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("SpecialCharacters")
 	// [AWS SDK V2] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectSpecialCharacters() {
 		testV2.testPutObjectSpecialCharacters();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Encoding")
 	// [AWS SDK V2, UseChunkEncoding = true] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectSpecialCharactersUseChunkEncoding() {
 		testV2.testPutObjectSpecialCharactersUseChunkEncoding();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Encoding")
 	// [AWS SDK V2, UseChunkEncoding = true, DisablePayloadSigning = true] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectUseSpecialCharactersChunkEncodingAndDisablePayloadSigning() {
 		testV2.testPutObjectUseSpecialCharactersChunkEncodingAndDisablePayloadSigning();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Encoding")
 	// [AWS SDK V2, UseChunkEncoding = false] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectSpecialCharactersNotChunkEncoding() {
 		testV2.testPutObjectSpecialCharactersNotChunkEncoding();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Encoding")
 	// [AWS SDK V2, UseChunkEncoding = false, DisablePayloadSigning = true] 특수문자를 포함한 오브젝트 업로드 성공 확인
 	void testPutObjectSpecialCharactersNotChunkEncodingAndDisablePayloadSigning() {
 		testV2.testPutObjectSpecialCharactersNotChunkEncodingAndDisablePayloadSigning();
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Directory")
 	// 폴더의 이름과 동일한 오브젝트 업로드가 가능한지 확인
-	void testPutObjectDirAndFile() {
-		test.testPutObjectDirAndFile();
-		testV2.testPutObjectDirAndFile();
+	void testPutObjectDirAndFile(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectDirAndFile();
+			case V2 -> testV2.testPutObjectDirAndFile();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
 	// 오브젝트를 여러번 업로드 했을때 올바르게 반영되는지 확인
-	void testObjectOverwrite() {
-		test.testObjectOverwrite();
-		testV2.testObjectOverwrite();
+	void testObjectOverwrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectOverwrite();
+			case V2 -> testV2.testObjectOverwrite();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("PUT")
 	// 오브젝트 이름에 이모지가 포함될 경우 올바르게 업로드 되는지 확인
-	void testObjectEmoji() {
-		test.testObjectEmoji();
-		testV2.testObjectEmoji();
+	void testObjectEmoji(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectEmoji();
+			case V2 -> testV2.testObjectEmoji();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("metadata")
 	// 메타데이터에 utf-8이 포함될 경우 올바르게 업로드 되는지 확인
-	void testObjectSetGetMetadataUtf8() {
-		test.testObjectSetGetMetadataUtf8();
-		testV2.testObjectSetGetMetadataUtf8();
+	void testObjectSetGetMetadataUtf8(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataUtf8();
+			case V2 -> testV2.testObjectSetGetMetadataUtf8();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("Metadata")
 	// 유저 메타데이터 키가 대소문자가 섞여 있어도 소문자로 반환되는지 확인
-	void testObjectSetGetMetadataMixedCaseKey() {
-		test.testObjectSetGetMetadataMixedCaseKey();
-		testV2.testObjectSetGetMetadataMixedCaseKey();
+	void testObjectSetGetMetadataMixedCaseKey(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testObjectSetGetMetadataMixedCaseKey();
+			case V2 -> testV2.testObjectSetGetMetadataMixedCaseKey();
+		}
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	// useChunkEncoding을 사용하는 오브젝트 업로드 시 체크섬 계산 및 검증 확인
 	void testPutObjectChecksumUseChunkEncoding() {
 		testV2.testPutObjectChecksumUseChunkEncoding();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	// useChunkEncoding을 사용하지 않는 오브젝트 업로드 시 체크섬 계산 및 검증 확인
 	void testPutObjectChecksum() {
 		testV2.testPutObjectChecksum();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum")
 	// 사전 계산한 체크섬 값을 직접 지정하여 오브젝트 업로드 시 검증 성공 확인
 	void testPutObjectChecksumWithValue() {
 		testV2.testPutObjectChecksumWithValue();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("checksum-failure")
 	// 잘못된 체크섬 값을 지정하여 오브젝트 업로드 시 BadDigest 실패 확인
 	void testPutObjectChecksumFailure() {
 		testV2.testPutObjectChecksumFailure();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	// 일치하는 If-Match 조건으로 오브젝트 덮어쓰기 성공 확인
 	void testPutObjectIfMatchGood() {
 		testV2.testPutObjectIfMatchGood();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	// 일치하지 않는 If-Match 조건으로 오브젝트 덮어쓰기 시 412 실패 확인
 	void testPutObjectIfMatchFailed() {
 		testV2.testPutObjectIfMatchFailed();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	// 존재하지 않는 키에 If-None-Match: * 조건으로 업로드 성공 확인
 	void testPutObjectIfNoneMatchGood() {
 		testV2.testPutObjectIfNoneMatchGood();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfNoneMatch")
 	// 이미 존재하는 키에 If-None-Match: * 조건으로 업로드 시 412 실패 확인
 	void testPutObjectIfNoneMatchFailed() {
 		testV2.testPutObjectIfNoneMatchFailed();
 	}
 
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("IfMatch")
 	@Tag("IfNoneMatch")
 	// If-Match와 If-None-Match를 함께 지정하면 501로 거부되는지 확인
@@ -400,83 +449,103 @@ class PutObject {
 		testV2.testPutObjectIfMatchAndIfNoneMatch();
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 최대 길이(1024자)의 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeyMaxLength() {
-		test.testPutObjectKeyMaxLength();
-		testV2.testPutObjectKeyMaxLength();
+	void testPutObjectKeyMaxLength(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyMaxLength();
+			case V2 -> testV2.testPutObjectKeyMaxLength();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 최소 길이(1자)의 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeyMinLength() {
-		test.testPutObjectKeyMinLength();
-		testV2.testPutObjectKeyMinLength();
+	void testPutObjectKeyMinLength(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyMinLength();
+			case V2 -> testV2.testPutObjectKeyMinLength();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 최대 길이(1024자)를 초과하는 오브젝트 키로 업로드 실패 확인
-	void testPutObjectKeyTooLong() {
-		test.testPutObjectKeyTooLong();
-		testV2.testPutObjectKeyTooLong();
+	void testPutObjectKeyTooLong(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyTooLong();
+			case V2 -> testV2.testPutObjectKeyTooLong();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 특수문자로 시작하는 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeySpecialCharactersAtStart() {
-		test.testPutObjectKeySpecialCharactersAtStart();
-		testV2.testPutObjectKeySpecialCharactersAtStart();
+	void testPutObjectKeySpecialCharactersAtStart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeySpecialCharactersAtStart();
+			case V2 -> testV2.testPutObjectKeySpecialCharactersAtStart();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 특수문자로 끝나는 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeySpecialCharactersAtEnd() {
-		test.testPutObjectKeySpecialCharactersAtEnd();
-		testV2.testPutObjectKeySpecialCharactersAtEnd();
+	void testPutObjectKeySpecialCharactersAtEnd(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeySpecialCharactersAtEnd();
+			case V2 -> testV2.testPutObjectKeySpecialCharactersAtEnd();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 유니코드 문자를 포함한 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeyUnicodeCharacters() {
-		test.testPutObjectKeyUnicodeCharacters();
-		testV2.testPutObjectKeyUnicodeCharacters();
+	void testPutObjectKeyUnicodeCharacters(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyUnicodeCharacters();
+			case V2 -> testV2.testPutObjectKeyUnicodeCharacters();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 1024바이트를 초과하는 키로 업로드 실패 확인
-	void testPutObjectKeyUnicodeCharactersTooLong() {
-		test.testPutObjectKeyUnicodeCharactersTooLong();
-		testV2.testPutObjectKeyUnicodeCharactersTooLong();
+	void testPutObjectKeyUnicodeCharactersTooLong(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyUnicodeCharactersTooLong();
+			case V2 -> testV2.testPutObjectKeyUnicodeCharactersTooLong();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 앞뒤 공백문자를 포함한 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeyWithLeadingAndTrailingSpaces() {
-		test.testPutObjectKeyWithLeadingAndTrailingSpaces();
-		testV2.testPutObjectKeyWithLeadingAndTrailingSpaces();
+	void testPutObjectKeyWithLeadingAndTrailingSpaces(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyWithLeadingAndTrailingSpaces();
+			case V2 -> testV2.testPutObjectKeyWithLeadingAndTrailingSpaces();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 연속된 슬래시를 포함한 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeyWithConsecutiveSlashes() {
-		test.testPutObjectKeyWithConsecutiveSlashes();
-		testV2.testPutObjectKeyWithConsecutiveSlashes();
+	void testPutObjectKeyWithConsecutiveSlashes(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyWithConsecutiveSlashes();
+			case V2 -> testV2.testPutObjectKeyWithConsecutiveSlashes();
+		}
 	}
 
-	@Test
+	@SdkTest
 	@Tag("KeyLength")
 	// 다양한 경계 길이의 오브젝트 키로 업로드 성공 확인
-	void testPutObjectKeyBoundaryLengths() {
-		test.testPutObjectKeyBoundaryLengths();
-		testV2.testPutObjectKeyBoundaryLengths();
+	void testPutObjectKeyBoundaryLengths(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjectKeyBoundaryLengths();
+			case V2 -> testV2.testPutObjectKeyBoundaryLengths();
+		}
 	}
 }
@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷의 복제 기능을 테스트하는 클래스
@@ -47,61 +46,73 @@ class Replication {
 	/**
 	 * 버킷의 Replication 설정이 되는지 확인(put/get/delete)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testReplicationSet() {
-		test.testReplicationSet();
-		testV2.testReplicationSet();
+	void testReplicationSet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testReplicationSet();
+			case V2 -> testV2.testReplicationSet();
+		}
 	}
 
 	/**
 	 * 원본 버킷이 존재하지 않을때 버킷 복제 설정이 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testReplicationInvalidSourceBucketName() {
-		test.testReplicationInvalidSourceBucketName();
-		testV2.testReplicationInvalidSourceBucketName();
+	void testReplicationInvalidSourceBucketName(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testReplicationInvalidSourceBucketName();
+			case V2 -> testV2.testReplicationInvalidSourceBucketName();
+		}
 	}
 
 	/**
 	 * 원본 버킷의 버저닝 설정이 되어있지 않을때 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testReplicationInvalidSourceBucketVersioning() {
-		test.testReplicationInvalidSourceBucketVersioning();
-		testV2.testReplicationInvalidSourceBucketVersioning();
+	void testReplicationInvalidSourceBucketVersioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testReplicationInvalidSourceBucketVersioning();
+			case V2 -> testV2.testReplicationInvalidSourceBucketVersioning();
+		}
 	}
 
 	/**
 	 * 대상 버킷이 존재하지 않을때 버킷 복제 설정이 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testReplicationInvalidTargetBucketName() {
-		test.testReplicationInvalidTargetBucketName();
-		testV2.testReplicationInvalidTargetBucketName();
+	void testReplicationInvalidTargetBucketName(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testReplicationInvalidTargetBucketName();
+			case V2 -> testV2.testReplicationInvalidTargetBucketName();
+		}
 	}
 
 	/**
 	 * 대상 버킷의 버저닝 설정이 되어있지 않을때 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testReplicationInvalidTargetBucketVersioning() {
-		test.testReplicationInvalidTargetBucketVersioning();
-		testV2.testReplicationInvalidTargetBucketVersioning();
+	void testReplicationInvalidTargetBucketVersioning(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testReplicationInvalidTargetBucketVersioning();
+			case V2 -> testV2.testReplicationInvalidTargetBucketVersioning();
+		}
 	}
 
 	/**
 	 * 버킷에 복제 설정을 하고 버저닝 설정을 중단 했을 때 실패하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testReplicationBucketVersioningSuspend() {
-		test.testReplicationBucketVersioningSuspend();
-		testV2.testReplicationBucketVersioningSuspend();
+	void testReplicationBucketVersioningSuspend(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testReplicationBucketVersioningSuspend();
+			case V2 -> testV2.testReplicationBucketVersioningSuspend();
+		}
 	}
 
 }
\ No newline at end of file
@@ -15,7 +15,6 @@ import java.net.MalformedURLException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * SSE-C 암호화 기능을 테스트하는 클래스
@@ -47,7 +46,7 @@ class SSE_C {
 	/**
 	 * 1Byte 오브젝트를 SSE-C 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("PutGet")
 	void testEncryptedTransfer1b() {
 		testV2.testEncryptedTransfer1b();
@@ -56,7 +55,7 @@ class SSE_C {
 	/**
 	 * 1KB 오브젝트를 SSE-C 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("PutGet")
 	void testEncryptedTransfer1kb() {
 		testV2.testEncryptedTransfer1kb();
@@ -65,7 +64,7 @@ class SSE_C {
 	/**
 	 * 1MB 오브젝트를 SSE-C 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("PutGet")
 	void testEncryptedTransfer1MB() {
 		testV2.testEncryptedTransfer1MB();
@@ -74,7 +73,7 @@ class SSE_C {
 	/**
 	 * 13Byte 오브젝트를 SSE-C 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("PutGet")
 	void testEncryptedTransfer13b() {
 		testV2.testEncryptedTransfer13b();
@@ -83,7 +82,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정하여 업로드한 오브젝트를 SSE-C 설정하여 헤더정보읽기가 가능한지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Metadata")
 	void testEncryptionSseCMethodHead() {
 		testV2.testEncryptionSseCMethodHead();
@@ -92,7 +91,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정하여 업로드한 오브젝트를 SSE-C 설정없이 다운로드 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testEncryptionSseCPresent() {
 		testV2.testEncryptionSseCPresent();
@@ -101,7 +100,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정하여 업로드한 오브젝트와 다른 SSE-C 설정으로 다운로드 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testEncryptionSseCOtherKey() {
 		testV2.testEncryptionSseCOtherKey();
@@ -110,7 +109,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정값중 key-md5값이 올바르지 않을 경우 업로드 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testEncryptionSseCInvalidMd5() {
 		testV2.testEncryptionSseCInvalidMd5();
@@ -119,7 +118,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정값중 key-md5값을 누락했을 경우 업로드 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testEncryptionSseCNoMd5() {
 		testV2.testEncryptionSseCNoMd5();
@@ -128,7 +127,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정값중 key값을 누락했을 경우 업로드 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testEncryptionSseCNoKey() {
 		testV2.testEncryptionSseCNoKey();
@@ -137,7 +136,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정값중 algorithm값을 누락했을 경우 업로드 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("ERROR")
 	void testEncryptionKeyNoSseC() {
 		testV2.testEncryptionKeyNoSseC();
@@ -146,7 +145,7 @@ class SSE_C {
 	/**
 	 * 멀티파트업로드를 SSE-C 설정하여 업로드 가능 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Multipart")
 	void testEncryptionSseCMultipartUpload() {
 		testV2.testEncryptionSseCMultipartUpload();
@@ -155,7 +154,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정하여 멀티파트 업로드한 오브젝트와 다른 SSE-C 설정으로 다운로드 실패 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Multipart")
 	void testEncryptionSseCMultipartBadDownload() {
 		testV2.testEncryptionSseCMultipartBadDownload();
@@ -165,7 +164,7 @@ class SSE_C {
 	 * Post 방식으로 SSE-C 설정하여 오브젝트 업로드가 올바르게 동작하는지 확인
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Post")
 	void testEncryptionSseCPostObjectAuthenticatedRequest() throws MalformedURLException {
 		testV2.testEncryptionSseCPostObjectAuthenticatedRequest();
@@ -174,7 +173,7 @@ class SSE_C {
 	/**
 	 * SSE-C설정한 오브젝트를 여러번 반복하여 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Get")
 	void testEncryptionSseCGetObjectMany() {
 		testV2.testEncryptionSseCGetObjectMany();
@@ -183,7 +182,7 @@ class SSE_C {
 	/**
 	 * SSE-C설정한 오브젝트를 여러번 반복하여 Range 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Get")
 	void testEncryptionSseCRangeObjectMany() {
 		testV2.testEncryptionSseCRangeObjectMany();
@@ -192,7 +191,7 @@ class SSE_C {
 	/**
 	 * SSE-C 설정하여 멀티파트로 업로드한 오브젝트를 multi copy 로 복사 가능한지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Multipart")
 	void testSseCEncryptionMultipartCopyPartUpload() {
 		testV2.testSseCEncryptionMultipartCopyPartUpload();
@@ -201,7 +200,7 @@ class SSE_C {
 	/**
 	 * 멀티파트 오브젝트를 여러 번 복사하여 정상적으로 동작하는지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Multipart")
 	void testSseCEncryptionMultipartCopyMany() {
 		testV2.testSseCEncryptionMultipartCopyMany();
@@ -210,7 +209,7 @@ class SSE_C {
 	/**
 	 * SSE-C로 업로드한 오브젝트를 멀티파트 업로드로 덮어쓰기 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("OverWrite")
 	void testEncryptionSseCMultipartUploadOverwriteExistingObject() {
 		testV2.testEncryptionSseCMultipartUploadOverwriteExistingObject();
@@ -219,7 +218,7 @@ class SSE_C {
 	/**
 	 * SSE-C 멀티파트로 업로드된 오브젝트를 putObject로 덮어쓴 뒤 파일이 정상인지 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("OverWrite")
 	void testEncryptionSseCPutObjectOverwriteMultipartUpload() {
 		testV2.testEncryptionSseCPutObjectOverwriteMultipartUpload();
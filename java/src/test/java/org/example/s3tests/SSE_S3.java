@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * SSE-S3 암호화 기능을 테스트하는 클래스
@@ -46,147 +45,175 @@ class SSE_S3 {
 	/**
 	 * 1Byte 오브젝트를 SSE-S3 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3EncryptedTransfer1b() {
-		test.testSseS3EncryptedTransfer1b();
-		testV2.testSseS3EncryptedTransfer1b();
+	void testSseS3EncryptedTransfer1b(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptedTransfer1b();
+			case V2 -> testV2.testSseS3EncryptedTransfer1b();
+		}
 	}
 
 	/**
 	 * 1KB 오브젝트를 SSE-S3 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3EncryptedTransfer1kb() {
-		test.testSseS3EncryptedTransfer1kb();
-		testV2.testSseS3EncryptedTransfer1kb();
+	void testSseS3EncryptedTransfer1kb(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptedTransfer1kb();
+			case V2 -> testV2.testSseS3EncryptedTransfer1kb();
+		}
 	}
 
 	/**
 	 * 1MB 오브젝트를 SSE-S3 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3EncryptedTransfer1MB() {
-		test.testSseS3EncryptedTransfer1MB();
-		testV2.testSseS3EncryptedTransfer1MB();
+	void testSseS3EncryptedTransfer1MB(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptedTransfer1MB();
+			case V2 -> testV2.testSseS3EncryptedTransfer1MB();
+		}
 	}
 
 	/**
 	 * 13Byte 오브젝트를 SSE-S3 설정하여 업/다운로드가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3EncryptedTransfer13b() {
-		test.testSseS3EncryptedTransfer13b();
-		testV2.testSseS3EncryptedTransfer13b();
+	void testSseS3EncryptedTransfer13b(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptedTransfer13b();
+			case V2 -> testV2.testSseS3EncryptedTransfer13b();
+		}
 	}
 
 	/**
 	 * SSE-S3 설정하여 업로드한 오브젝트의 헤더정보읽기가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Metadata")
-	void testSseS3EncryptionMethodHead() {
-		test.testSseS3EncryptionMethodHead();
-		testV2.testSseS3EncryptionMethodHead();
+	void testSseS3EncryptionMethodHead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptionMethodHead();
+			case V2 -> testV2.testSseS3EncryptionMethodHead();
+		}
 	}
 
 	/**
 	 * 멀티파트업로드를 SSE-S3 설정하여 업로드 가능 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testSseS3EncryptionMultipartUpload() {
-		test.testSseS3EncryptionMultipartUpload();
-		testV2.testSseS3EncryptionMultipartUpload();
+	void testSseS3EncryptionMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptionMultipartUpload();
+			case V2 -> testV2.testSseS3EncryptionMultipartUpload();
+		}
 	}
 
 	/**
 	 * 버킷의 SSE-S3 설정 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testGetBucketEncryption() {
-		test.testGetBucketEncryption();
-		testV2.testGetBucketEncryption();
+	void testGetBucketEncryption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetBucketEncryption();
+			case V2 -> testV2.testGetBucketEncryption();
+		}
 	}
 
 	/**
 	 * 버킷의 SSE-S3 설정이 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testPutBucketEncryption() {
-		test.testPutBucketEncryption();
-		testV2.testPutBucketEncryption();
+	void testPutBucketEncryption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketEncryption();
+			case V2 -> testV2.testPutBucketEncryption();
+		}
 	}
 
 	/**
 	 * 버킷의 SSE-S3 설정 삭제가 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testDeleteBucketEncryption() {
-		test.testDeleteBucketEncryption();
-		testV2.testDeleteBucketEncryption();
+	void testDeleteBucketEncryption(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testDeleteBucketEncryption();
+			case V2 -> testV2.testDeleteBucketEncryption();
+		}
 	}
 
 	/**
 	 * 버킷의 SSE-S3 설정이 오브젝트에 반영되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("encryption")
-	void testPutBucketEncryptionAndObjectSetCheck() {
-		test.testPutBucketEncryptionAndObjectSetCheck();
-		testV2.testPutBucketEncryptionAndObjectSetCheck();
+	void testPutBucketEncryptionAndObjectSetCheck(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutBucketEncryptionAndObjectSetCheck();
+			case V2 -> testV2.testPutBucketEncryptionAndObjectSetCheck();
+		}
 	}
 
 	/**
 	 * 버킷에 SSE-S3 설정하여 업로드한 1kb 오브젝트를 복사 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CopyObject")
-	void testCopyObjectEncryption1kb() {
-		test.testCopyObjectEncryption1kb();
-		testV2.testCopyObjectEncryption1kb();
+	void testCopyObjectEncryption1kb(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyObjectEncryption1kb();
+			case V2 -> testV2.testCopyObjectEncryption1kb();
+		}
 	}
 
 	/**
 	 * 버킷에 SSE-S3 설정하여 업로드한 256kb 오브젝트를 복사 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CopyObject")
-	void testCopyObjectEncryption_256kb() {
-		test.testCopyObjectEncryption256kb();
-		testV2.testCopyObjectEncryption256kb();
+	void testCopyObjectEncryption_256kb(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyObjectEncryption256kb();
+			case V2 -> testV2.testCopyObjectEncryption256kb();
+		}
 	}
 
 	/**
 	 * 버킷에 SSE-S3 설정하여 업로드한 1mb 오브젝트를 복사 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("CopyObject")
-	void testCopyObjectEncryption1mb() {
-		test.testCopyObjectEncryption1mb();
-		testV2.testCopyObjectEncryption1mb();
+	void testCopyObjectEncryption1mb(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testCopyObjectEncryption1mb();
+			case V2 -> testV2.testCopyObjectEncryption1mb();
+		}
 	}
 
 	/**
 	 * [버킷에 SSE-S3 설정] 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3BucketPutGet() {
-		test.testSseS3BucketPutGet();
-		testV2.testSseS3BucketPutGet();
+	void testSseS3BucketPutGet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3BucketPutGet();
+			case V2 -> testV2.testSseS3BucketPutGet();
+		}
 	}
 
 	/**
 	 * [AWS SDK V1 전용][버킷에 SSE-S3 설정, SignatureVersion4] 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("PutGet")
 	void testSseS3BucketPutGetV4() {
 		test.testSseS3BucketPutGetV4();
@@ -195,17 +222,19 @@ class SSE_S3 {
 	/**
 	 * [버킷에 SSE-S3 설정, SignatureVersion4, UseChunkEncoding = true] 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3BucketPutGetUseChunkEncoding() {
-		test.testSseS3BucketPutGetUseChunkEncoding();
-		testV2.testSseS3BucketPutGetUseChunkEncoding();
+	void testSseS3BucketPutGetUseChunkEncoding(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3BucketPutGetUseChunkEncoding();
+			case V2 -> testV2.testSseS3BucketPutGetUseChunkEncoding();
+		}
 	}
 
 	/**
 	 * [AWS SDK V1 전용][버킷에 SSE-S3 설정, SignatureVersion4, UseChunkEncoding = true, DisablePayloadSigning = true] 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("PutGet")
 	void testSseS3BucketPutGetUseChunkEncodingAndDisablePayloadSigning() {
 		test.testSseS3BucketPutGetUseChunkEncodingAndDisablePayloadSigning();
@@ -214,17 +243,19 @@ class SSE_S3 {
 	/**
 	 * [버킷에 SSE-S3 설정, SignatureVersion4, UseChunkEncoding = false] 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3BucketPutGetNotChunkEncoding() {
-		test.testSseS3BucketPutGetNotChunkEncoding();
-		testV2.testSseS3BucketPutGetNotChunkEncoding();
+	void testSseS3BucketPutGetNotChunkEncoding(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3BucketPutGetNotChunkEncoding();
+			case V2 -> testV2.testSseS3BucketPutGetNotChunkEncoding();
+		}
 	}
 
 	/**
 	 * [AWS SDK V1 전용][버킷에 SSE-S3 설정, SignatureVersion4, UseChunkEncoding = false, DisablePayloadSigning = true] 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest(Sdk.V1)
 	@Tag("PutGet")
 	void testSseS3BucketPutGetNotChunkEncodingAndDisablePayloadSigning() {
 		test.testSseS3BucketPutGetNotChunkEncodingAndDisablePayloadSigning();
@@ -233,90 +264,108 @@ class SSE_S3 {
 	/**
 	 * [버킷에 SSE-S3 설정]PresignedURL로 오브젝트 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PresignedURL")
-	void testSseS3BucketPresignedUrlPutGet() {
-		test.testSseS3BucketPresignedUrlPutGet();
-		testV2.testSseS3BucketPresignedUrlPutGet();
+	void testSseS3BucketPresignedUrlPutGet(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3BucketPresignedUrlPutGet();
+			case V2 -> testV2.testSseS3BucketPresignedUrlPutGet();
+		}
 	}
 
 	/**
 	 * [버킷에 SSE-S3 설정, SignatureVersion4]PresignedURL로 오브젝트 업로드, 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PresignedURL")
-	void testSseS3BucketPresignedUrlPutGetV4() {
-		test.testSseS3BucketPresignedUrlPutGetV4();
-		testV2.testSseS3BucketPresignedUrlPutGetV4();
+	void testSseS3BucketPresignedUrlPutGetV4(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3BucketPresignedUrlPutGetV4();
+			case V2 -> testV2.testSseS3BucketPresignedUrlPutGetV4();
+		}
 	}
 
 	/**
 	 * SSE-S3설정한 오브젝트를 여러번 반복하여 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testSseS3GetObjectMany() {
-		test.testSseS3GetObjectMany();
-		testV2.testSseS3GetObjectMany();
+	void testSseS3GetObjectMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3GetObjectMany();
+			case V2 -> testV2.testSseS3GetObjectMany();
+		}
 	}
 
 	/**
 	 * SSE-S3설정한 오브젝트를 여러번 반복하여 Range 다운로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Get")
-	void testSseS3RangeObjectMany() {
-		test.testSseS3RangeObjectMany();
-		testV2.testSseS3RangeObjectMany();
+	void testSseS3RangeObjectMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3RangeObjectMany();
+			case V2 -> testV2.testSseS3RangeObjectMany();
+		}
 	}
 
 	/**
 	 * SSE-S3 설정하여 멀티파트로 업로드한 오브젝트를 multi copy 로 복사 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testSseS3EncryptionMultipartCopyPartUpload() {
-		test.testSseS3EncryptionMultipartCopyPartUpload();
-		testV2.testSseS3EncryptionMultipartCopyPartUpload();
+	void testSseS3EncryptionMultipartCopyPartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptionMultipartCopyPartUpload();
+			case V2 -> testV2.testSseS3EncryptionMultipartCopyPartUpload();
+		}
 	}
 
 	/**
 	 * SSE-S3 설정하여 Multipart와 Copy Part를 모두 사용하여 오브젝트가 업로드 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testSseS3EncryptionMultipartCopyMany() {
-		test.testSseS3EncryptionMultipartCopyMany();
-		testV2.testSseS3EncryptionMultipartCopyMany();
+	void testSseS3EncryptionMultipartCopyMany(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3EncryptionMultipartCopyMany();
+			case V2 -> testV2.testSseS3EncryptionMultipartCopyMany();
+		}
 	}
 
 	/**
 	 * sse-s3설정은 소급적용 되지 않음을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutGet")
-	void testSseS3NotRetroactive() {
-		test.testSseS3NotRetroactive();
-		testV2.testSseS3NotRetroactive();
+	void testSseS3NotRetroactive(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3NotRetroactive();
+			case V2 -> testV2.testSseS3NotRetroactive();
+		}
 	}
 
 	/**
 	 * SSE-S3로 업로드한 오브젝트를 멀티파트 업로드로 덮어쓰기 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testSseS3MultipartUploadOverwriteExistingObject() {
-		test.testSseS3MultipartUploadOverwriteExistingObject();
-		testV2.testSseS3MultipartUploadOverwriteExistingObject();
+	void testSseS3MultipartUploadOverwriteExistingObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3MultipartUploadOverwriteExistingObject();
+			case V2 -> testV2.testSseS3MultipartUploadOverwriteExistingObject();
+		}
 	}
 
 	/**
 	 * SSE-S3 멀티파트로 업로드된 오브젝트를 putObject로 덮어쓴 뒤 파일이 정상인지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("OverWrite")
-	void testSseS3PutObjectOverwriteMultipartUpload() {
-		test.testSseS3PutObjectOverwriteMultipartUpload();
-		testV2.testSseS3PutObjectOverwriteMultipartUpload();
+	void testSseS3PutObjectOverwriteMultipartUpload(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSseS3PutObjectOverwriteMultipartUpload();
+			case V2 -> testV2.testSseS3PutObjectOverwriteMultipartUpload();
+		}
 	}
 }
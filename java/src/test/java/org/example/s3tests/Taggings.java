@@ -15,7 +15,6 @@ import java.net.MalformedURLException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷과 오브젝트의 태그 기능을 테스트하는 클래스
@@ -49,111 +48,133 @@ class Taggings {
 	/**
 	 * 버킷에 사용자 추가 태그값을 설정할경우 성공확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testSetTagging() {
-		test.testSetTagging();
-		testV2.testSetTagging();
+	void testSetTagging(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testSetTagging();
+			case V2 -> testV2.testSetTagging();
+		}
 	}
 
 	/**
 	 * 오브젝트에 태그 설정이 올바르게 적용되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testGetObjTagging() {
-		test.testGetObjTagging();
-		testV2.testGetObjTagging();
+	void testGetObjTagging(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjTagging();
+			case V2 -> testV2.testGetObjTagging();
+		}
 	}
 
 	/**
 	 * 오브젝트에 태그 설정이 올바르게 적용되는지 헤더정보를 통해 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testGetObjHeadTagging() {
-		test.testGetObjHeadTagging();
-		testV2.testGetObjHeadTagging();
+	void testGetObjHeadTagging(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjHeadTagging();
+			case V2 -> testV2.testGetObjHeadTagging();
+		}
 	}
 
 	/**
 	 * 추가가능한 최대갯수까지 태그를 입력할 수 있는지 확인(max = 10)
 	 */
-	@Test
+	@SdkTest
 	@Tag("Max")
-	void testPutMaxTags() {
-		test.testPutMaxTags();
-		testV2.testPutMaxTags();
+	void testPutMaxTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMaxTags();
+			case V2 -> testV2.testPutMaxTags();
+		}
 	}
 
 	/**
 	 * 추가가능한 최대갯수를 넘겨서 태그를 입력할때 에러 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overflow")
-	void testPutExcessTags() {
-		test.testPutExcessTags();
-		testV2.testPutExcessTags();
+	void testPutExcessTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutExcessTags();
+			case V2 -> testV2.testPutExcessTags();
+		}
 	}
 
 	/**
 	 * 태그의 key값의 길이가 최대(128) value값의 길이가 최대(256)일때 태그를 입력할 수 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Max")
-	void testPutMaxSizeTags() {
-		test.testPutMaxSizeTags();
-		testV2.testPutMaxSizeTags();
+	void testPutMaxSizeTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutMaxSizeTags();
+			case V2 -> testV2.testPutMaxSizeTags();
+		}
 	}
 
 	/**
 	 * 태그의 key값의 길이가 최대(129) value값의 길이가 최대(256)일때 태그 입력 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overflow")
-	void testPutExcessKeyTags() {
-		test.testPutExcessKeyTags();
-		testV2.testPutExcessKeyTags();
+	void testPutExcessKeyTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutExcessKeyTags();
+			case V2 -> testV2.testPutExcessKeyTags();
+		}
 	}
 
 	/**
 	 * 태그의 key값의 길이가 최대(128) value값의 길이가 최대(257)일때 태그 입력 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overflow")
-	void testPutExcessValTags() {
-		test.testPutExcessValTags();
-		testV2.testPutExcessValTags();
+	void testPutExcessValTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutExcessValTags();
+			case V2 -> testV2.testPutExcessValTags();
+		}
 	}
 
 	/**
 	 * 오브젝트의 태그목록을 덮어쓰기 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Overwrite")
-	void testPutModifyTags() {
-		test.testPutModifyTags();
-		testV2.testPutModifyTags();
+	void testPutModifyTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutModifyTags();
+			case V2 -> testV2.testPutModifyTags();
+		}
 	}
 
 	/**
 	 * 오브젝트의 태그를 삭제 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testPutDeleteTags() {
-		test.testPutDeleteTags();
-		testV2.testPutDeleteTags();
+	void testPutDeleteTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutDeleteTags();
+			case V2 -> testV2.testPutDeleteTags();
+		}
 	}
 
 	/**
 	 * 헤더에 태그정보를 포함한 오브젝트 업로드 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("PutObject")
-	void testPutObjWithTags() {
-		test.testPutObjWithTags();
-		testV2.testPutObjWithTags();
+	void testPutObjWithTags(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testPutObjWithTags();
+			case V2 -> testV2.testPutObjWithTags();
+		}
 	}
 
 	/**
@@ -161,20 +182,24 @@ class Taggings {
 	 * 
 	 * @throws MalformedURLException URL 형식이 잘못된 경우 발생하는 예외
 	 */
-	@Test
+	@SdkTest
 	@Tag("Post")
-	void testPostObjectTagsAuthenticatedRequest() throws MalformedURLException {
-		test.testPostObjectTagsAuthenticatedRequest();
-		testV2.testPostObjectTagsAuthenticatedRequest();
+	void testPostObjectTagsAuthenticatedRequest(Sdk sdk) throws MalformedURLException {
+		switch (sdk) {
+			case V1 -> test.testPostObjectTagsAuthenticatedRequest();
+			case V2 -> testV2.testPostObjectTagsAuthenticatedRequest();
+		}
 	}
 
 	/**
 	 * 업로드시 오브젝트의 태그 정보를 빈 값으로 올릴 경우 성공 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testGetObjNonTagging() {
-		test.testGetObjNonTagging();
-		testV2.testGetObjNonTagging();
+	void testGetObjNonTagging(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testGetObjNonTagging();
+			case V2 -> testV2.testGetObjNonTagging();
+		}
 	}
 }
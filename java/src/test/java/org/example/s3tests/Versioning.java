@@ -13,7 +13,6 @@ package org.example.s3tests;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 
 /**
  * 버킷의 버전 관리 기능을 테스트하는 클래스
@@ -47,27 +46,31 @@ class Versioning {
 	/**
 	 * 버킷의 버저닝 옵션 변경 가능 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningBucketCreateSuspend() {
-		test.testVersioningBucketCreateSuspend();
-		testV2.testVersioningBucketCreateSuspend();
+	void testVersioningBucketCreateSuspend(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningBucketCreateSuspend();
+			case V2 -> testV2.testVersioningBucketCreateSuspend();
+		}
 	}
 
 	/**
 	 * 버저닝 오브젝트의 생성/읽기/삭제 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjCreateReadRemove() {
-		test.testVersioningObjCreateReadRemove();
-		testV2.testVersioningObjCreateReadRemove();
+	void testVersioningObjCreateReadRemove(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjCreateReadRemove();
+			case V2 -> testV2.testVersioningObjCreateReadRemove();
+		}
 	}
 
 	/**
 	 * 버저닝 오브젝트의 해더 정보를 사용하여 읽기/쓰기/삭제확인
 	 */
-	@Test
+	@SdkTest(Sdk.V2)
 	@Tag("Object")
 	void testVersioningObjCreateReadRemoveHead() {
 		testV2.testVersioningObjCreateReadRemoveHead();
@@ -76,300 +79,360 @@ class Versioning {
 	/**
 	 * 버킷에 버저닝 설정을 할 경우 소급적용되지 않음을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjPlainNullVersionRemoval() {
-		test.testVersioningObjPlainNullVersionRemoval();
-		testV2.testVersioningObjPlainNullVersionRemoval();
+	void testVersioningObjPlainNullVersionRemoval(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjPlainNullVersionRemoval();
+			case V2 -> testV2.testVersioningObjPlainNullVersionRemoval();
+		}
 	}
 
 	/**
 	 * [버킷에 버저닝 설정이 되어있는 상태] null 버전 오브젝트를 덮어쓰기 할경우 버전 정보가 추가됨을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjPlainNullVersionOverwrite() {
-		test.testVersioningObjPlainNullVersionOverwrite();
-		testV2.testVersioningObjPlainNullVersionOverwrite();
+	void testVersioningObjPlainNullVersionOverwrite(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjPlainNullVersionOverwrite();
+			case V2 -> testV2.testVersioningObjPlainNullVersionOverwrite();
+		}
 	}
 
 	/**
 	 * [버킷에 버저닝 설정이 되어있지만 중단된 상태일때] null 버전 오브젝트를 덮어쓰기 할경우 버전정보가 추가되지 않음을 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjPlainNullVersionOverwriteSuspended() {
-		test.testVersioningObjPlainNullVersionOverwriteSuspended();
-		testV2.testVersioningObjPlainNullVersionOverwriteSuspended();
+	void testVersioningObjPlainNullVersionOverwriteSuspended(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjPlainNullVersionOverwriteSuspended();
+			case V2 -> testV2.testVersioningObjPlainNullVersionOverwriteSuspended();
+		}
 	}
 
 	/**
 	 * 버전관리를 일시중단했을때 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjSuspendVersions() {
-		test.testVersioningObjSuspendVersions();
-		testV2.testVersioningObjSuspendVersions();
+	void testVersioningObjSuspendVersions(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjSuspendVersions();
+			case V2 -> testV2.testVersioningObjSuspendVersions();
+		}
 	}
 
 	/**
 	 * 오브젝트하나의 여러버전을 모두 삭제 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjCreateVersionsRemoveAll() {
-		test.testVersioningObjCreateVersionsRemoveAll();
-		testV2.testVersioningObjCreateVersionsRemoveAll();
+	void testVersioningObjCreateVersionsRemoveAll(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjCreateVersionsRemoveAll();
+			case V2 -> testV2.testVersioningObjCreateVersionsRemoveAll();
+		}
 	}
 
 	/**
 	 * 이름에 특수문자가 들어간 오브젝트에 대해 버전관리가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningObjCreateVersionsRemoveSpecialNames() {
-		test.testVersioningObjCreateVersionsRemoveSpecialNames();
-		testV2.testVersioningObjCreateVersionsRemoveSpecialNames();
+	void testVersioningObjCreateVersionsRemoveSpecialNames(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjCreateVersionsRemoveSpecialNames();
+			case V2 -> testV2.testVersioningObjCreateVersionsRemoveSpecialNames();
+		}
 	}
 
 	/**
 	 * 오브젝트를 멀티파트 업로드하였을 경우 버전관리가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testVersioningObjCreateOverwriteMultipart() {
-		test.testVersioningObjCreateOverwriteMultipart();
-		testV2.testVersioningObjCreateOverwriteMultipart();
+	void testVersioningObjCreateOverwriteMultipart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjCreateOverwriteMultipart();
+			case V2 -> testV2.testVersioningObjCreateOverwriteMultipart();
+		}
 	}
 
 	/**
 	 * 버저닝 버킷에서 PutObject와 MultipartUpload를 섞어 업로드한 뒤 버전별 조회가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Multipart")
-	void testVersioningObjMixPutAndMultipart() {
-		test.testVersioningObjMixPutAndMultipart();
-		testV2.testVersioningObjMixPutAndMultipart();
+	void testVersioningObjMixPutAndMultipart(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjMixPutAndMultipart();
+			case V2 -> testV2.testVersioningObjMixPutAndMultipart();
+		}
 	}
 
 	/**
 	 * 오브젝트의 해당 버전 정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningObjListMarker() {
-		test.testVersioningObjListMarker();
-		testV2.testVersioningObjListMarker();
+	void testVersioningObjListMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningObjListMarker();
+			case V2 -> testV2.testVersioningObjListMarker();
+		}
 	}
 
 	/**
 	 * 오브젝트의 버전별 복사가 가능한지 화인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Copy")
-	void testVersioningCopyObjVersion() {
-		test.testVersioningCopyObjVersion();
-		testV2.testVersioningCopyObjVersion();
+	void testVersioningCopyObjVersion(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningCopyObjVersion();
+			case V2 -> testV2.testVersioningCopyObjVersion();
+		}
 	}
 
 	/**
 	 * 버전이 여러개인 오브젝트에 대한 삭제가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testVersioningMultiObjectDelete() {
-		test.testVersioningMultiObjectDelete();
-		testV2.testVersioningMultiObjectDelete();
+	void testVersioningMultiObjectDelete(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningMultiObjectDelete();
+			case V2 -> testV2.testVersioningMultiObjectDelete();
+		}
 	}
 
 	/**
 	 * 버전이 여러개인 오브젝트에 대한 삭제마커가 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("DeleteMarker")
-	void testVersioningMultiObjectDeleteWithMarker() {
-		test.testVersioningMultiObjectDeleteWithMarker();
-		testV2.testVersioningMultiObjectDeleteWithMarker();
+	void testVersioningMultiObjectDeleteWithMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningMultiObjectDeleteWithMarker();
+			case V2 -> testV2.testVersioningMultiObjectDeleteWithMarker();
+		}
 	}
 
 	/**
 	 * 존재하지않는 오브젝트를 삭제할경우 삭제마커가 생성되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("DeleteMarker")
-	void testVersioningMultiObjectDeleteWithMarkerCreate() {
-		test.testVersioningMultiObjectDeleteWithMarkerCreate();
-		testV2.testVersioningMultiObjectDeleteWithMarkerCreate();
+	void testVersioningMultiObjectDeleteWithMarkerCreate(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningMultiObjectDeleteWithMarkerCreate();
+			case V2 -> testV2.testVersioningMultiObjectDeleteWithMarkerCreate();
+		}
 	}
 
 	/**
 	 * 오브젝트 버전의 acl이 올바르게 관리되고 있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACL")
-	void testVersionedObjectAcl() {
-		test.testVersionedObjectAcl();
-		testV2.testVersionedObjectAcl();
+	void testVersionedObjectAcl(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersionedObjectAcl();
+			case V2 -> testV2.testVersionedObjectAcl();
+		}
 	}
 
 	/**
 	 * 버전정보를 입력하지 않고 오브젝트의 acl정보를 수정할 경우 가장 최신 버전에 반영되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ACL")
-	void testVersionedObjectAclNoVersionSpecified() {
-		test.testVersionedObjectAclNoVersionSpecified();
-		testV2.testVersionedObjectAclNoVersionSpecified();
+	void testVersionedObjectAclNoVersionSpecified(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersionedObjectAclNoVersionSpecified();
+			case V2 -> testV2.testVersionedObjectAclNoVersionSpecified();
+		}
 	}
 
 	/**
 	 * 오브젝트 버전을 추가/삭제를 여러번 했을 경우 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersionedConcurrentObjectCreateAndRemove() {
-		test.testVersionedConcurrentObjectCreateAndRemove();
-		testV2.testVersionedConcurrentObjectCreateAndRemove();
+	void testVersionedConcurrentObjectCreateAndRemove(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersionedConcurrentObjectCreateAndRemove();
+			case V2 -> testV2.testVersionedConcurrentObjectCreateAndRemove();
+		}
 	}
 
 	/**
 	 * 버킷의 버저닝 설정이 업로드시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningBucketAtomicUploadReturnVersionId() {
-		test.testVersioningBucketAtomicUploadReturnVersionId();
-		testV2.testVersioningBucketAtomicUploadReturnVersionId();
+	void testVersioningBucketAtomicUploadReturnVersionId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningBucketAtomicUploadReturnVersionId();
+			case V2 -> testV2.testVersioningBucketAtomicUploadReturnVersionId();
+		}
 	}
 
 	/**
 	 * 버킷의 버저닝 설정이 멀티파트 업로드시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("MultiPart")
-	void testVersioningBucketMultipartUploadReturnVersionId() {
-		test.testVersioningBucketMultipartUploadReturnVersionId();
-		testV2.testVersioningBucketMultipartUploadReturnVersionId();
+	void testVersioningBucketMultipartUploadReturnVersionId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningBucketMultipartUploadReturnVersionId();
+			case V2 -> testV2.testVersioningBucketMultipartUploadReturnVersionId();
+		}
 	}
 
 	/**
 	 * 업로드한 오브젝트의 버전별 헤더 정보가 올바른지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Metadata")
-	void testVersioningGetObjectHead() {
-		test.testVersioningGetObjectHead();
-		testV2.testVersioningGetObjectHead();
+	void testVersioningGetObjectHead(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningGetObjectHead();
+			case V2 -> testV2.testVersioningGetObjectHead();
+		}
 	}
 
 	/**
 	 * 버전이 여러개인 오브젝트의 최신 버전을 삭제 했을때 이전버전이 최신버전으로 변경되는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testVersioningLatest() {
-		test.testVersioningLatest();
-		testV2.testVersioningLatest();
+	void testVersioningLatest(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningLatest();
+			case V2 -> testV2.testVersioningLatest();
+		}
 	}
 
 	/**
 	 * 잘못된 버전 정보를 사용하여 오브젝트 조회 실패 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("ERROR")
-	void testVersioningInvalidVersionId() {
-		test.testVersioningInvalidVersionId();
-		testV2.testVersioningInvalidVersionId();
+	void testVersioningInvalidVersionId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningInvalidVersionId();
+			case V2 -> testV2.testVersioningInvalidVersionId();
+		}
 	}
 
 	/**
 	 * CopyObject로 복사할 경우 버저닝이 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Copy")
-	void testVersioningCopyObject() {
-		test.testVersioningCopyObject();
-		testV2.testVersioningCopyObject();
+	void testVersioningCopyObject(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningCopyObject();
+			case V2 -> testV2.testVersioningCopyObject();
+		}
 	}
 
 	/**
 	 * 버저닝 미설정 버킷에서 Put/Head/Get/Multipart/Copy/List의 versionId가 비어있는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Object")
-	void testVersioningUnversionedAllVersionId() {
-		test.testVersioningUnversionedAllVersionId();
-		testV2.testVersioningUnversionedAllVersionId();
+	void testVersioningUnversionedAllVersionId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningUnversionedAllVersionId();
+			case V2 -> testV2.testVersioningUnversionedAllVersionId();
+		}
 	}
 
 	/**
 	 * 버저닝 ENABLED 상태에서 Put/Head/Get/Multipart/Copy/List의 versionId가 존재하고 일치하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningEnabledAllVersionId() {
-		test.testVersioningEnabledAllVersionId();
-		testV2.testVersioningEnabledAllVersionId();
+	void testVersioningEnabledAllVersionId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningEnabledAllVersionId();
+			case V2 -> testV2.testVersioningEnabledAllVersionId();
+		}
 	}
 
 	/**
 	 * 버저닝 SUSPENDED 상태에서 Put/Head/Get/Multipart/Copy/List의 versionId가 "null"인지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningSuspendedAllVersionId() {
-		test.testVersioningSuspendedAllVersionId();
-		testV2.testVersioningSuspendedAllVersionId();
+	void testVersioningSuspendedAllVersionId(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningSuspendedAllVersionId();
+			case V2 -> testV2.testVersioningSuspendedAllVersionId();
+		}
 	}
 
 	/**
 	 * OFF→ENABLED→SUSPENDED 순으로 같은 key에 put 후 listVersions가 null+versionId 2개인지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningListVersionsOffEnabledSuspended() {
-		test.testVersioningListVersionsOffEnabledSuspended();
-		testV2.testVersioningListVersionsOffEnabledSuspended();
+	void testVersioningListVersionsOffEnabledSuspended(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningListVersionsOffEnabledSuspended();
+			case V2 -> testV2.testVersioningListVersionsOffEnabledSuspended();
+		}
 	}
 
 	/**
 	 * OFF→ENABLED→SUSPENDED 순으로 서로 다른 key에 put 후 listVersions가 3개(null 2개+versionId 1개)인지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningListVersionsOffEnabledSuspendedDifferentKeys() {
-		test.testVersioningListVersionsOffEnabledSuspendedDifferentKeys();
-		testV2.testVersioningListVersionsOffEnabledSuspendedDifferentKeys();
+	void testVersioningListVersionsOffEnabledSuspendedDifferentKeys(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningListVersionsOffEnabledSuspendedDifferentKeys();
+			case V2 -> testV2.testVersioningListVersionsOffEnabledSuspendedDifferentKeys();
+		}
 	}
 
 	/**
 	 * OFF→ENABLED→SUSPENDED 후 null 버전 삭제 시 current가 ENABLED 버전으로 바뀌는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningDeleteNullVersionAfterSuspend() {
-		test.testVersioningDeleteNullVersionAfterSuspend();
-		testV2.testVersioningDeleteNullVersionAfterSuspend();
+	void testVersioningDeleteNullVersionAfterSuspend(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningDeleteNullVersionAfterSuspend();
+			case V2 -> testV2.testVersioningDeleteNullVersionAfterSuspend();
+		}
 	}
 
 	/**
 	 * ENABLED에서 여러 번 put 후 SUSPENDED put 시 listVersions가 versionId N개+null 1개인지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testVersioningListVersionsMultipleEnabledThenSuspended() {
-		test.testVersioningListVersionsMultipleEnabledThenSuspended();
-		testV2.testVersioningListVersionsMultipleEnabledThenSuspended();
+	void testVersioningListVersionsMultipleEnabledThenSuspended(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningListVersionsMultipleEnabledThenSuspended();
+			case V2 -> testV2.testVersioningListVersionsMultipleEnabledThenSuspended();
+		}
 	}
 
 	/**
 	 * Current가 DeleteMarker인 오브젝트를 HeadObject 요청 시 올바르게 동작하는지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("HeadObject")
-	void testVersioningHeadObjectDeleteMarker() {
-		test.testVersioningHeadObjectDeleteMarker();
-		testV2.testVersioningHeadObjectDeleteMarker();
+	void testVersioningHeadObjectDeleteMarker(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testVersioningHeadObjectDeleteMarker();
+			case V2 -> testV2.testVersioningHeadObjectDeleteMarker();
+		}
 	}
 }
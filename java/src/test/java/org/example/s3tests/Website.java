@@ -10,7 +10,6 @@
 */
 package org.example.s3tests;
 
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Tag;
@@ -45,30 +44,36 @@ class Website {
 	/**
 	 * 버킷의 Website 설정 조회 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testWebsiteGetBuckets() {
-		test.testWebsiteGetBuckets();
-		testV2.testWebsiteGetBuckets();
+	void testWebsiteGetBuckets(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testWebsiteGetBuckets();
+			case V2 -> testV2.testWebsiteGetBuckets();
+		}
 	}
 
 	/**
 	 * 버킷의 Website 설정이 가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Check")
-	void testWebsitePutBuckets() {
-		test.testWebsitePutBuckets();
-		testV2.testWebsitePutBuckets();
+	void testWebsitePutBuckets(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testWebsitePutBuckets();
+			case V2 -> testV2.testWebsitePutBuckets();
+		}
 	}
 
 	/**
 	 * 버킷의 Website 설정이 삭제가능한지 확인
 	 */
-	@Test
+	@SdkTest
 	@Tag("Delete")
-	void testWebsiteDeleteBuckets() {
-		test.testWebsiteDeleteBuckets();
-		testV2.testWebsiteDeleteBuckets();
+	void testWebsiteDeleteBuckets(Sdk sdk) {
+		switch (sdk) {
+			case V1 -> test.testWebsiteDeleteBuckets();
+			case V2 -> testV2.testWebsiteDeleteBuckets();
+		}
 	}
 }
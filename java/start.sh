@@ -9,5 +9,9 @@ fi
 mvn clean
 mvn test surefire-report:report "-Ds3tests.ini=$INI_FILE"
 python ../scripts/merge_junit_results.py ./target/results/*.xml > ../xunit-to-html/Result_java.xml
+if ! grep -q 's3tests.requests' ../xunit-to-html/Result_java.xml; then
+    echo "Error : Result_java.xml has no s3tests usage properties (check ./target/results/USAGE-*.json)"
+    exit 1
+fi
 cd ../xunit-to-html
 java -jar saxon9he.jar -o:Result_java.html -s:Result_java.xml -xsl:xunit_to_html.xsl
\ No newline at end of file
@@ -1,8 +1,11 @@
 #!/usr/bin/env python
 import sys
 import glob
+import json
+import os
+import re
 import xml.etree.ElementTree as ET
-from typing import List
+from typing import Dict, List, Optional, Tuple
 
 """Merge multiple JUnit XML files into a single results file.
 Output dumps to stdout.
@@ -10,6 +13,15 @@ example usage:
     $ python merge_junit_results.py results1.xml results2.xml > results.xml
 """
 
+# testcase의 properties 중 남길 이름 (요청 수, 전송량, 연결 수 등)
+KEEP_PROPERTY_PREFIX = "s3tests."
+# 결과 폴더에 RequestMetricsListener가 저장하는 테스트별 자원 사용량 (surefire XML에는 들어가지 않음)
+USAGE_FILE_PATTERN = "USAGE-*.json"
+# surefire testcase 이름: 메서드 이름, 인자 목록, 반복/파라미터 테스트의 표시 이름
+CASE_NAME = re.compile(r"^([^(\[]+)(?:\([^)]*\))?(.*)$")
+# surefire가 표시 이름 앞에 붙이는 반복 번호 ("[1] ")
+INVOCATION_INDEX = re.compile(r"^\[\d+\]\s*")
+
 
 def main():
     args = sys.argv[1:]
@@ -35,6 +47,7 @@ def merge_results(xml_files: List[str]) -> None:
     failures = 0
     time = 0.0
     cases = []
+    usages = load_usages(xml_files)
 
     for file_name in xml_files:
         try:
@@ -48,10 +61,15 @@ def merge_results(xml_files: List[str]) -> None:
             failures += int(test_suite.attrib.get("failures", 0))
             time += float(test_suite.attrib.get("time", 0.0))
 
-            # properties 요소 제거
+            # properties 요소 제거 (테스트별 자원 사용량 s3tests.* 는 유지)
             for case in test_suite:
-                for prop in case.findall("properties"):
-                    case.remove(prop)
+                for props in case.findall("properties"):
+                    for prop in props.findall("property"):
+                        if not prop.attrib.get("name", "").startswith(KEEP_PROPERTY_PREFIX):
+                            props.remove(prop)
+                    if len(props) == 0:
+                        case.remove(props)
+                add_usage(case, usages)
             cases.extend(list(test_suite))
         except ET.ParseError:
             print(f"Warning: Failed to parse {file_name}", file=sys.stderr)
@@ -77,6 +95,54 @@ def merge_results(xml_files: List[str]) -> None:
         sys.stdout.write(xml_content.decode("utf-8"))
 
 
+def load_usages(xml_files: List[str]) -> Dict[Tuple[str, str, Optional[str]], Dict[str, int]]:
+    """결과 파일과 같은 폴더의 USAGE-*.json을 (클래스, 메서드, 표시 이름) 기준으로 읽는다."""
+    usages = {}
+    directories = sorted({os.path.dirname(file_name) or "." for file_name in xml_files})
+    for directory in directories:
+        for file_name in sorted(glob.glob(os.path.join(directory, USAGE_FILE_PATTERN))):
+            try:
+                with open(file_name, encoding="utf-8") as f:
+                    for item in json.load(f):
+                        key = (item["classname"], item["method"], item.get("invocation"))
+                        usages[key] = item["properties"]
+            except (OSError, ValueError, KeyError, TypeError) as e:
+                print(f"Warning: Failed to read {file_name} ({e})", file=sys.stderr)
+    return usages
+
+
+def add_usage(case: ET.Element, usages: Dict[Tuple[str, str, Optional[str]], Dict[str, int]]) -> None:
+    """자원 사용량 속성이 없는 testcase에 같은 테스트의 사용량을 properties로 넣는다."""
+    if not usages or case.tag != "testcase":
+        return
+    for prop in case.iter("property"):
+        if prop.attrib.get("name", "").startswith(KEEP_PROPERTY_PREFIX):
+            return
+
+    match = CASE_NAME.match(case.attrib.get("name", ""))
+    if match is None:
+        return
+    class_name = case.attrib.get("classname", "")
+    method = match.group(1).strip()
+    invocation = match.group(2).strip()
+
+    # surefire는 "test(Type)[1] name", Main --reports는 "test[name]" 형식으로 표시 이름을 붙인다
+    candidates = [invocation or None]
+    if invocation.startswith("[") and invocation.endswith("]"):
+        candidates.append(invocation[1:-1])
+    if INVOCATION_INDEX.match(invocation):
+        candidates.append(INVOCATION_INDEX.sub("", invocation))
+    for candidate in candidates:
+        properties = usages.get((class_name, method, candidate))
+        if properties is None:
+            continue
+        props = ET.Element("properties")
+        for name, value in properties.items():
+            ET.SubElement(props, "property", {"name": name, "value": str(value)})
+        case.insert(0, props)
+        return
+
+
 def usage():
     print("Usage: python merge_junit_results.py <xml_file1> <xml_file2> ...")
 